@@ -0,0 +1,79 @@
+package io.github.seokhyunpark.hft.threading;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+// 대기 방식별 깨어나는 지연: 측정 스레드가 값을 넘기고, 대기 중인 소비 스레드가 받아 되돌려 줄 때까지의 왕복 시간.
+// SampleTime 모드라 백분위(p50/p99/p99.9)가 함께 출력된다.
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WaitStrategyBenchmark {
+    private static final long MAX_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    @Param({"BUSY_SPIN", "YIELD", "PARK"})
+    private WaitStrategy strategy;
+
+    private final AtomicLong request = new AtomicLong();
+    private final AtomicLong response = new AtomicLong();
+    private volatile boolean running;
+    private Thread consumer;
+    private long sequence;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        running = true;
+        consumer = new Thread(this::echo, "wait-strategy-consumer");
+        consumer.setDaemon(true);
+        consumer.start();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws InterruptedException {
+        running = false;
+        LockSupport.unpark(consumer);
+        consumer.join();
+    }
+
+    @Benchmark
+    public long handoff() {
+        long next = ++sequence;
+        request.lazySet(next);
+        strategy.signal(consumer);
+        while (response.get() != next) {
+            Thread.onSpinWait();
+        }
+        return next;
+    }
+
+    private void echo() {
+        long seen = 0L;
+        while (running) {
+            long next = request.get();
+            if (next != seen) {
+                seen = next;
+                response.lazySet(next);
+            } else {
+                strategy.idle(MAX_PARK_NANOS);
+            }
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package io.github.seokhyunpark.hft.trading.journal;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EventJournalBenchmark {
+    private static final int SEGMENT_RECORDS = 1 << 20;
+
+    private Path directory;
+    private EventJournal journal;
+
+    @State(Scope.Thread)
+    public static class Producer {
+        private long orderId;
+    }
+
+    @Setup
+    public void setup() throws IOException {
+        directory = Files.createTempDirectory("journal-bench");
+        journal = EventJournal.open(directory, SEGMENT_RECORDS);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        journal.close();
+        try (var files = Files.list(directory)) {
+            for (Path path : files.toList()) {
+                Files.delete(path);
+            }
+        }
+        Files.delete(directory);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void append(Producer producer) {
+        journal.append(JournalEventType.SELL_PLACED, ++producer.orderId, 9_000_000L, 100L, 8_999_000L);
+    }
+}
@@ -0,0 +1,97 @@
+package io.github.seokhyunpark.hft.trading.risk;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.seokhyunpark.hft.trading.book.QueuePositionTracker;
+import io.github.seokhyunpark.hft.trading.config.StateProperties;
+import io.github.seokhyunpark.hft.trading.config.TradingProperties;
+import io.github.seokhyunpark.hft.trading.eventlog.EventLog;
+import io.github.seokhyunpark.hft.trading.journal.EventJournal;
+import io.github.seokhyunpark.hft.trading.manager.OrderManager;
+import io.github.seokhyunpark.hft.trading.manager.PositionManager;
+import io.github.seokhyunpark.hft.trading.manager.QuoteAssetManager;
+import io.github.seokhyunpark.hft.trading.manager.RateLimitManager;
+
+// 목표: 매도 주문 100개가 걸린 상태에서 checkBuy 전체가 200ns 이하
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PreTradeRiskGateBenchmark {
+    private static final long BID = 9_000_000L;
+    private static final long ASK = 9_000_010L;
+    private static final int SELL_ORDERS = 100;
+
+    private Path directory;
+    private EventJournal journal;
+    private OrderManager orderManager;
+    private PreTradeRiskGate riskGate;
+
+    @Setup
+    public void setup() throws IOException {
+        TradingProperties props = new TradingProperties(
+                "BTCFDUSD", "BTC", "FDUSD", "USDT",
+                new BigDecimal("5"), new BigDecimal("0.01"), new BigDecimal("0.00001"),
+                new TradingProperties.Risk(
+                        190, 1, 100, 90,
+                        new BigDecimal("1000"), new BigDecimal("1.0001"), new BigDecimal("0.000005"),
+                        new BigDecimal("0.001"), new BigDecimal("100"), new BigDecimal("1"),
+                        10, 100
+                )
+        );
+        directory = Files.createTempDirectory("risk-bench");
+        EventLog eventLog = new EventLog(1024);
+        journal = EventJournal.open(directory.resolve("journal"), 1 << 16);
+        orderManager = new OrderManager(
+                props,
+                new StateProperties(directory.toString(), 64, 1 << 16),
+                journal,
+                new QueuePositionTracker()
+        );
+        QuoteAssetManager quoteAssetManager = new QuoteAssetManager(props, journal, eventLog);
+        riskGate = new PreTradeRiskGate(props, orderManager, new PositionManager(props, journal), quoteAssetManager,
+                new RateLimitManager(eventLog));
+
+        quoteAssetManager.syncQuoteBalance(new BigDecimal("10000"));
+        for (int i = 0; i < SELL_ORDERS; i++) {
+            orderManager.addSellOrder(i + 1, ASK + 1_000L + i * 10L, 60L, BID + 1_000L + i * 10L);
+        }
+        riskGate.updateBook(BID, ASK);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        orderManager.close();
+        journal.close();
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @Benchmark
+    public RiskCheck checkBuy() {
+        return riskGate.checkBuy(BID + 1, 60L);
+    }
+}
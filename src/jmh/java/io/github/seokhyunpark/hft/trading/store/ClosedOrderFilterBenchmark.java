@@ -0,0 +1,98 @@
+package io.github.seokhyunpark.hft.trading.store;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Group)
+public class ClosedOrderFilterBenchmark {
+    private static final int WINDOW = 1000;
+
+    private final AtomicLong nextOrderId = new AtomicLong();
+
+    private ClosedOrderFilter filter;
+    private Set<Long> synchronizedSet;
+
+    @State(Scope.Thread)
+    public static class Probe {
+        private long orderId;
+
+        long next(long latest) {
+            orderId += 7;
+            return latest - (orderId % (WINDOW * 2));
+        }
+    }
+
+    @Setup
+    public void setup() {
+        filter = new ClosedOrderFilter(WINDOW);
+        synchronizedSet = Collections.synchronizedSet(
+                Collections.newSetFromMap(new LinkedHashMap<>(WINDOW, 0.75f, true) {
+                    @Override
+                    protected boolean removeEldestEntry(Map.Entry<Long, Boolean> eldest) {
+                        return size() > WINDOW;
+                    }
+                })
+        );
+        for (int i = 0; i < WINDOW; i++) {
+            long orderId = nextOrderId.incrementAndGet();
+            filter.add(orderId);
+            synchronizedSet.add(orderId);
+        }
+    }
+
+    // ----------------------------------------------------------------------------------------------------
+    // ClosedOrderFilter (lock-free)
+    // ----------------------------------------------------------------------------------------------------
+    @Benchmark
+    @Group("filter")
+    @GroupThreads(2)
+    public void filterAdd() {
+        filter.add(nextOrderId.incrementAndGet());
+    }
+
+    @Benchmark
+    @Group("filter")
+    @GroupThreads(6)
+    public boolean filterContains(Probe probe) {
+        return filter.contains(probe.next(nextOrderId.get()));
+    }
+
+    // ----------------------------------------------------------------------------------------------------
+    // 기존 구현 (synchronizedSet + LinkedHashMap)
+    // ----------------------------------------------------------------------------------------------------
+    @Benchmark
+    @Group("synchronizedSet")
+    @GroupThreads(2)
+    public void synchronizedSetAdd() {
+        synchronizedSet.add(nextOrderId.incrementAndGet());
+    }
+
+    @Benchmark
+    @Group("synchronizedSet")
+    @GroupThreads(6)
+    public boolean synchronizedSetContains(Probe probe) {
+        return synchronizedSet.contains(probe.next(nextOrderId.get()));
+    }
+}
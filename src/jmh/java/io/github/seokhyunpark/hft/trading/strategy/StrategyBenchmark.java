@@ -0,0 +1,143 @@
+package io.github.seokhyunpark.hft.trading.strategy;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.github.seokhyunpark.hft.exchange.dto.stream.PartialBookDepth;
+import io.github.seokhyunpark.hft.trading.book.BookSignals;
+import io.github.seokhyunpark.hft.trading.book.OrderBook;
+import io.github.seokhyunpark.hft.trading.book.QueuePositionTracker;
+import io.github.seokhyunpark.hft.trading.book.TradeFlow;
+import io.github.seokhyunpark.hft.trading.config.StateProperties;
+import io.github.seokhyunpark.hft.trading.config.StrategyProperties;
+import io.github.seokhyunpark.hft.trading.config.TradingProperties;
+import io.github.seokhyunpark.hft.trading.journal.EventJournal;
+import io.github.seokhyunpark.hft.trading.manager.OrderManager;
+
+// 전략별 이벤트당 비용. -prof gc 로 콜백 안의 할당이 0 B/op 인지 함께 확인한다.
+// 새 전략을 추가하면 create() 와 @Param 에 이름을 등록한다.
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class StrategyBenchmark {
+    private static final int LEVELS = 20;
+    private static final int SELL_ORDERS = 100;
+
+    @Param({WallFollowStrategy.NAME})
+    public String strategyName;
+
+    @Param({"1", "5"})
+    public int ladderLevels;
+
+    private Path directory;
+    private EventJournal journal;
+    private OrderManager orderManager;
+    private OrderBook book;
+    private TradingStrategy strategy;
+    private final OrderIntents intents = new OrderIntents(32);
+
+    @Setup
+    public void setup() throws IOException {
+        TradingProperties props = new TradingProperties(
+                "BTCFDUSD", "BTC", "FDUSD", "USDT",
+                new BigDecimal("5"), new BigDecimal("0.01"), new BigDecimal("0.00001"),
+                new TradingProperties.Risk(
+                        190, 5, 100, 90,
+                        new BigDecimal("1000"), new BigDecimal("1.0001"), new BigDecimal("0.000005"),
+                        new BigDecimal("0.001"), new BigDecimal("100"), new BigDecimal("1"),
+                        10, 100
+                )
+        );
+        directory = Files.createTempDirectory("strategy-bench");
+        journal = EventJournal.open(directory.resolve("journal"), 1 << 16);
+        orderManager = new OrderManager(
+                props,
+                new StateProperties(directory.toString(), 64, 1 << 16),
+                journal,
+                new QueuePositionTracker()
+        );
+        for (int i = 0; i < SELL_ORDERS; i++) {
+            orderManager.addSellOrder(i + 1, 9_001_000L + i * 10L, 60L, 9_000_000L + i * 10L);
+        }
+
+        book = new OrderBook(props, new BookSignals(5, 5, 10), new TradeFlow(10_000L, 100));
+        book.update(createDepth());
+        strategy = create(strategyName, props, new StrategyProperties(
+                strategyName,
+                Map.of(),
+                new StrategyProperties.Signals(5, 5, 10, 10_000L, 100),
+                new StrategyProperties.Ladder(ladderLevels, 1),
+                new StrategyProperties.Adaptive(
+                        true, 6, new BigDecimal("4"),
+                        new BigDecimal("1.00005"), new BigDecimal("1.0005"), new BigDecimal("0.00001"),
+                        new BigDecimal("500"), new BigDecimal("5000"),
+                        3, 60_000L, new BigDecimal("0.00001")
+                )
+        ));
+    }
+
+    private static TradingStrategy create(String name, TradingProperties props, StrategyProperties strategyProps) {
+        return switch (name) {
+            case WallFollowStrategy.NAME -> new WallFollowStrategy(props, strategyProps);
+            default -> throw new IllegalArgumentException(name);
+        };
+    }
+
+    private static PartialBookDepth createDepth() {
+        List<List<String>> bids = new ArrayList<>();
+        List<List<String>> asks = new ArrayList<>();
+        for (int i = 0; i < LEVELS; i++) {
+            String qty = i == 7 ? "0.50000000" : "0.00100000";
+            bids.add(List.of(BigDecimal.valueOf(9_000_000L - i, 2).toPlainString(), qty));
+            asks.add(List.of(BigDecimal.valueOf(9_000_010L + i, 2).toPlainString(), "0.00100000"));
+        }
+        return new PartialBookDepth(1L, bids, asks);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        orderManager.close();
+        journal.close();
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @Benchmark
+    public int onBookUpdate() {
+        intents.clear();
+        strategy.onBookUpdate(book, orderManager, intents);
+        return intents.size();
+    }
+
+    @Benchmark
+    public long sellPriceTicks() {
+        return strategy.sellPriceTicks(9_000_000L, book);
+    }
+}
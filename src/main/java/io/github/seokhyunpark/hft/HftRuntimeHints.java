@@ -0,0 +1,52 @@
+package io.github.seokhyunpark.hft;
+
+import org.springframework.aot.hint.BindingReflectionHintsRegistrar;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+
+import io.github.seokhyunpark.hft.exchange.dto.rest.CancelOpenOrdersRequest;
+import io.github.seokhyunpark.hft.exchange.dto.rest.CancelOrderRequest;
+import io.github.seokhyunpark.hft.exchange.dto.rest.CancelOrderResponse;
+import io.github.seokhyunpark.hft.exchange.dto.rest.GetAccountRequest;
+import io.github.seokhyunpark.hft.exchange.dto.rest.GetAccountResponse;
+import io.github.seokhyunpark.hft.exchange.dto.rest.GetMyTradesRequest;
+import io.github.seokhyunpark.hft.exchange.dto.rest.GetOpenOrdersRequest;
+import io.github.seokhyunpark.hft.exchange.dto.rest.GetOrderRequest;
+import io.github.seokhyunpark.hft.exchange.dto.rest.GetOrderResponse;
+import io.github.seokhyunpark.hft.exchange.dto.rest.MyTradeResponse;
+import io.github.seokhyunpark.hft.exchange.dto.rest.NewOrderRequest;
+import io.github.seokhyunpark.hft.exchange.dto.rest.NewOrderResponse;
+import io.github.seokhyunpark.hft.exchange.dto.stream.AccountUpdate;
+import io.github.seokhyunpark.hft.exchange.dto.stream.BalanceUpdate;
+import io.github.seokhyunpark.hft.exchange.dto.stream.LogonRequest;
+import io.github.seokhyunpark.hft.exchange.dto.stream.OrderUpdate;
+import io.github.seokhyunpark.hft.exchange.dto.stream.PartialBookDepth;
+
+// 네이티브 이미지용 리플렉션 힌트. 스트림과 RestClient 가 빈 밖에서 Jackson 으로 직접 읽고 쓰는 DTO 는
+// AOT 처리가 찾지 못하므로 여기서 등록한다. 중첩 레코드(Balance 등)는 바인딩 힌트가 따라가며 함께 등록한다.
+class HftRuntimeHints implements RuntimeHintsRegistrar {
+    private static final Class<?>[] JSON_TYPES = {
+            CancelOpenOrdersRequest.class,
+            CancelOrderRequest.class,
+            CancelOrderResponse.class,
+            GetAccountRequest.class,
+            GetAccountResponse.class,
+            GetMyTradesRequest.class,
+            GetOpenOrdersRequest.class,
+            GetOrderRequest.class,
+            GetOrderResponse.class,
+            MyTradeResponse.class,
+            NewOrderRequest.class,
+            NewOrderResponse.class,
+            AccountUpdate.class,
+            BalanceUpdate.class,
+            LogonRequest.class,
+            OrderUpdate.class,
+            PartialBookDepth.class
+    };
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        new BindingReflectionHintsRegistrar().registerReflectionHints(hints.reflection(), JSON_TYPES);
+    }
+}
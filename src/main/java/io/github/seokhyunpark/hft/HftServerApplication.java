@@ -3,11 +3,24 @@ package io.github.seokhyunpark.hft;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.ImportRuntimeHints;
 
+import io.github.seokhyunpark.hft.trading.config.CommissionProperties;
+import io.github.seokhyunpark.hft.trading.config.DashboardProperties;
+import io.github.seokhyunpark.hft.trading.config.EventLogProperties;
+import io.github.seokhyunpark.hft.trading.config.KillSwitchProperties;
+import io.github.seokhyunpark.hft.trading.config.StateProperties;
+import io.github.seokhyunpark.hft.trading.config.StrategyProperties;
+import io.github.seokhyunpark.hft.trading.config.TapeProperties;
+import io.github.seokhyunpark.hft.trading.config.ThreadingProperties;
 import io.github.seokhyunpark.hft.trading.config.TradingProperties;
+import io.github.seokhyunpark.hft.trading.config.WarmUpProperties;
 
 @SpringBootApplication
-@EnableConfigurationProperties(TradingProperties.class)
+@EnableConfigurationProperties({TradingProperties.class, StateProperties.class, KillSwitchProperties.class,
+        StrategyProperties.class, TapeProperties.class, EventLogProperties.class, DashboardProperties.class,
+        ThreadingProperties.class, WarmUpProperties.class, CommissionProperties.class})
+@ImportRuntimeHints(HftRuntimeHints.class)
 public class HftServerApplication {
     public static void main(String[] args) {
         SpringApplication.run(HftServerApplication.class, args);
@@ -0,0 +1,43 @@
+package io.github.seokhyunpark.hft.admin;
+
+import java.io.IOException;
+import java.text.ParseException;
+import java.time.Duration;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import lombok.RequiredArgsConstructor;
+
+import io.github.seokhyunpark.hft.jfr.FlightRecordingService;
+
+@RestController
+@ConditionalOnWebApplication
+@RequestMapping("/admin/jfr")
+@RequiredArgsConstructor
+public class FlightRecorderController {
+    private final FlightRecordingService recordingService;
+
+    @GetMapping
+    public FlightRecordingService.Status status() {
+        return recordingService.status();
+    }
+
+    @PostMapping
+    public FlightRecordingService.Status start(
+            @RequestParam(defaultValue = "60") long durationSeconds,
+            @RequestParam(defaultValue = "profile") String settings
+    ) throws IOException, ParseException {
+        return recordingService.start(Duration.ofSeconds(durationSeconds), settings);
+    }
+
+    @DeleteMapping
+    public FlightRecordingService.Status stop() {
+        return recordingService.stop();
+    }
+}
@@ -0,0 +1,41 @@
+package io.github.seokhyunpark.hft.admin;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import lombok.RequiredArgsConstructor;
+
+import io.github.seokhyunpark.hft.trading.risk.KillSwitch;
+
+@RestController
+@ConditionalOnWebApplication
+@RequestMapping("/admin/kill-switch")
+@RequiredArgsConstructor
+public class KillSwitchController {
+    private final KillSwitch killSwitch;
+
+    public record Status(boolean engaged, String reason) {
+    }
+
+    @GetMapping
+    public Status status() {
+        return new Status(killSwitch.isEngaged(), killSwitch.getReason());
+    }
+
+    @PostMapping
+    public Status engage(@RequestParam(defaultValue = "API") String reason) {
+        killSwitch.engage(reason);
+        return status();
+    }
+
+    @DeleteMapping
+    public Status release() {
+        killSwitch.release();
+        return status();
+    }
+}
@@ -0,0 +1,18 @@
+package io.github.seokhyunpark.hft.backtest;
+
+import java.math.BigDecimal;
+
+// 스윕 대상 파라미터 한 조합
+public record BacktestParams(
+        BigDecimal targetMultiplier,
+        BigDecimal buyWallThresholdUsd,
+        int maxBuyOrders,
+        int maxSellOrders,
+        int minSellOrders,
+        int ladderLevels,
+        int ladderSpacingTicks
+) {
+    public boolean isValid() {
+        return ladderLevels >= 1 && ladderLevels <= maxBuyOrders && minSellOrders <= maxSellOrders;
+    }
+}
@@ -0,0 +1,27 @@
+package io.github.seokhyunpark.hft.backtest;
+
+// 한 조합의 결과. 손익은 명목 틱(가격 틱 * 수량 틱), 수량은 수량 틱 단위다.
+public record BacktestResult(
+        BacktestParams params,
+        long realizedPnlTicks,
+        long unrealizedPnlTicks,
+        long feeTicks,
+        long buyFills,
+        long sellFills,
+        long ordersPlaced,
+        long ordersFilled,
+        long ordersRejected,
+        long ordersThrottled,
+        int maxOrdersPerWindow,
+        long maxInventoryQtyTicks,
+        long avgInventoryQtyTicks,
+        long finalInventoryQtyTicks
+) {
+    public long totalPnlTicks() {
+        return realizedPnlTicks + unrealizedPnlTicks;
+    }
+
+    public double fillRate() {
+        return ordersPlaced == 0 ? 0.0 : (double) ordersFilled / ordersPlaced;
+    }
+}
@@ -0,0 +1,350 @@
+package io.github.seokhyunpark.hft.backtest;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+
+import io.github.seokhyunpark.hft.trading.book.BookSignals;
+import io.github.seokhyunpark.hft.trading.book.TradeFlow;
+import io.github.seokhyunpark.hft.trading.config.StrategyProperties;
+import io.github.seokhyunpark.hft.trading.config.TradingProperties;
+import io.github.seokhyunpark.hft.trading.dto.OrderInfo;
+import io.github.seokhyunpark.hft.trading.manager.RateLimitManager;
+import io.github.seokhyunpark.hft.trading.store.OrderStore;
+import io.github.seokhyunpark.hft.trading.strategy.OrderIntents;
+import io.github.seokhyunpark.hft.trading.strategy.OrderSide;
+import io.github.seokhyunpark.hft.trading.strategy.TradingStrategy;
+import io.github.seokhyunpark.hft.trading.strategy.WallFollowStrategy;
+
+// 파라미터 한 조합으로 테이프 전체를 재생한다. 실거래 처리 흐름(MarketEventProcessor, UserEventProcessor)을
+// 단일 스레드로 옮긴 것이며, 테이프 외의 모든 상태는 이 객체가 소유한다.
+final class BacktestRun implements SimulatedExchange.FillListener {
+    private static final int INTENT_CAPACITY = 32;
+    private static final int MAX_RESTORE_BATCH = 5;
+    private static final long BPS_SCALE = 10_000L;
+
+    private final MarketTape tape;
+    private final BacktestSettings settings;
+    private final BacktestParams params;
+
+    private final TradingStrategy strategy;
+    private final TapeBook book;
+    private final SimulatedExchange exchange;
+    private final OrderIntents intents = new OrderIntents(INTENT_CAPACITY);
+    private final long minOrderNotionalTicks;
+
+    // 매수 체결이 최소 주문 금액에 도달할 때까지 모아 두는 포지션 (PositionManager 대응)
+    private long positionQtyTicks;
+    private long positionNotionalTicks;
+
+    // 용량 초과로 취소된 매도 (CanceledLadder 대응): 가격, 수량, 평균 매수가
+    private long[] parkedPrices = new long[64];
+    private long[] parkedQtys = new long[64];
+    private long[] parkedAvgBuys = new long[64];
+    private int parkedSize;
+
+    // 주문 수 제한 (RateLimitManager 대응)
+    private long rateWindowId = -1L;
+    private int rateCount;
+
+    private long now;
+    private long realizedPnlTicks;
+    private long feeTicks;
+    private long buyFills;
+    private long sellFills;
+    private long ordersPlaced;
+    private long ordersFilled;
+    private long ordersRejected;
+    private long ordersThrottled;
+    private int maxOrdersPerWindow;
+
+    private long inventoryQtyTicks;
+    private long maxInventoryQtyTicks;
+    private long inventoryQtyTicksMillis;
+    private long firstMillis = -1L;
+    private long lastMillis;
+
+    BacktestRun(MarketTape tape, BacktestSettings settings, BacktestParams params) {
+        this.tape = tape;
+        this.settings = settings;
+        this.params = params;
+
+        TradingProperties props = settings.toTradingProperties(params);
+        StrategyProperties strategyProps = settings.toStrategyProperties(params);
+        StrategyProperties.Signals signals = strategyProps.signals();
+        this.strategy = createStrategy(settings.strategyName(), props, strategyProps);
+        this.book = new TapeBook(
+                tape,
+                new BookSignals(signals.imbalanceLevels(), signals.depthBandBps(), signals.wideSpreadTicks()),
+                new TradeFlow(signals.tradeWindowMs(), signals.tradeBuckets())
+        );
+        this.exchange = new SimulatedExchange(
+                settings.latencyMs(),
+                settings.priceConflictToleranceRate().multiply(BigDecimal.valueOf(OrderStore.RATE_SCALE)).longValue()
+        );
+        this.minOrderNotionalTicks = props.toNotionalTicks(props.minOrderSize());
+    }
+
+    static TradingStrategy createStrategy(String name, TradingProperties props, StrategyProperties strategyProps) {
+        return switch (name) {
+            case WallFollowStrategy.NAME -> new WallFollowStrategy(props, strategyProps);
+            default -> throw new IllegalArgumentException("Unknown strategy: " + name);
+        };
+    }
+
+    BacktestResult run() {
+        boolean hasBook = false;
+        long nextTimerMillis = Long.MIN_VALUE;
+        for (int event = 0; event < tape.size(); event++) {
+            advanceClock(tape.time(event));
+
+            if (tape.type(event) == MarketTape.TRADE) {
+                long price = tape.tradePriceTicks(event);
+                long qty = tape.tradeQtyTicks(event);
+                boolean buyerMaker = tape.tradeBuyerMaker(event);
+                book.trades().onTrade(now, price, qty, buyerMaker);
+                if (hasBook) {
+                    intents.clear();
+                    exchange.onTrade(now, price, qty, buyerMaker, this);
+                    execute();
+                }
+                continue;
+            }
+
+            book.trades().advance(now);
+            if (!book.moveTo(event)) {
+                continue;
+            }
+            hasBook = true;
+
+            intents.clear();
+            exchange.onBook(now, book, this);
+            execute();
+
+            manageBuyOrdersCapacity();
+            manageSellOrdersCapacity();
+
+            intents.clear();
+            strategy.onBookUpdate(book, exchange, intents);
+            execute();
+
+            if (now >= nextTimerMillis) {
+                intents.clear();
+                strategy.onTimer(now, book, exchange, intents);
+                execute();
+                nextTimerMillis = now + settings.timerIntervalMs();
+            }
+        }
+        return result();
+    }
+
+    // ----------------------------------------------------------------------------------------------------
+    // 체결 (UserEventProcessor 대응)
+    // ----------------------------------------------------------------------------------------------------
+    // 전략의 onFill 의도는 모의 거래소 순회가 끝난 뒤 실행한다.
+    @Override
+    public void onFill(
+            OrderSide side,
+            long orderId,
+            long priceTicks,
+            long qtyTicks,
+            long avgBuyPriceTicks,
+            boolean done
+    ) {
+        long notional = priceTicks * qtyTicks;
+        long fee = notional * settings.makerFeeBps() / BPS_SCALE;
+        feeTicks += fee;
+        if (done) {
+            ordersFilled++;
+            rateCount = Math.max(0, rateCount - RateLimitManager.MAKER_FILL_DECREMENT);
+        }
+
+        if (side == OrderSide.BUY) {
+            buyFills++;
+            inventoryQtyTicks += qtyTicks;
+            maxInventoryQtyTicks = Math.max(maxInventoryQtyTicks, inventoryQtyTicks);
+            realizedPnlTicks -= fee;
+            positionQtyTicks += qtyTicks;
+            positionNotionalTicks += notional;
+            if (positionNotionalTicks >= minOrderNotionalTicks) {
+                // 평균 매수가는 올림해 손익을 보수적으로 잡는다.
+                long avgBuy = (positionNotionalTicks + positionQtyTicks - 1) / positionQtyTicks;
+                placeSell(positionQtyTicks, avgBuy);
+                positionQtyTicks = 0L;
+                positionNotionalTicks = 0L;
+            }
+        } else {
+            sellFills++;
+            inventoryQtyTicks -= qtyTicks;
+            realizedPnlTicks += (priceTicks - avgBuyPriceTicks) * qtyTicks - fee;
+        }
+        strategy.onFill(side, orderId, priceTicks, qtyTicks, intents);
+    }
+
+    // 활성화 시점에 맞닿아 거부된 매도는 취소된 매도처럼 보관했다가 다시 낸다.
+    @Override
+    public void onReject(OrderSide side, long orderId, long priceTicks, long qtyTicks, long avgBuyPriceTicks) {
+        ordersRejected++;
+        if (side == OrderSide.SELL) {
+            park(priceTicks, qtyTicks, avgBuyPriceTicks);
+        }
+    }
+
+    private void placeSell(long qtyTicks, long avgBuyPriceTicks) {
+        long priceTicks = strategy.sellPriceTicks(avgBuyPriceTicks, book);
+        countOrder();
+        exchange.placeSell(now, priceTicks, qtyTicks, avgBuyPriceTicks);
+    }
+
+    // ----------------------------------------------------------------------------------------------------
+    // 전략 의도 (OrderIntentExecutor 대응)
+    // ----------------------------------------------------------------------------------------------------
+    private void execute() {
+        for (int i = 0; i < intents.size(); i++) {
+            switch (intents.type(i)) {
+                case PLACE_BUY -> placeBuy(intents.priceTicks(i), intents.qtyTicks(i));
+                case CANCEL_BUY -> exchange.cancelBuy(intents.orderId(i));
+            }
+        }
+    }
+
+    private void placeBuy(long priceTicks, long qtyTicks) {
+        if (!hasRateLimitCapacity()) {
+            ordersThrottled++;
+            return;
+        }
+        countOrder();
+        exchange.placeBuy(now, priceTicks, qtyTicks);
+    }
+
+    // ----------------------------------------------------------------------------------------------------
+    // 용량 관리 (MarketEventProcessor 대응)
+    // ----------------------------------------------------------------------------------------------------
+    private void manageBuyOrdersCapacity() {
+        if (exchange.getBuyOrderCount() > params.maxBuyOrders()) {
+            OrderInfo oldest = exchange.getOldestBuyOrder();
+            if (oldest != null) {
+                exchange.cancelBuy(oldest.orderId());
+            }
+        }
+    }
+
+    private void manageSellOrdersCapacity() {
+        if (exchange.getSellOrderCount() > params.maxSellOrders()) {
+            OrderInfo slowest = exchange.getSlowestSellOrder();
+            OrderInfo canceled = slowest == null ? null : exchange.cancelSell(slowest.orderId());
+            if (canceled != null) {
+                park(canceled.priceTicks(), canceled.qtyTicks(), canceled.avgBuyPriceTicks());
+            }
+            return;
+        }
+
+        int restoreCount = Math.min(
+                MAX_RESTORE_BATCH,
+                Math.min(params.minSellOrders() - exchange.getSellOrderCount(), remainingRateCapacity())
+        );
+        for (int i = 0; i < restoreCount && parkedSize > 0; i++) {
+            int lowest = 0;
+            for (int j = 1; j < parkedSize; j++) {
+                if (parkedPrices[j] < parkedPrices[lowest]) {
+                    lowest = j;
+                }
+            }
+            long qty = parkedQtys[lowest];
+            long avgBuy = parkedAvgBuys[lowest];
+            unpark(lowest);
+            placeSell(qty, avgBuy);
+        }
+    }
+
+    private void park(long priceTicks, long qtyTicks, long avgBuyPriceTicks) {
+        if (parkedSize == parkedPrices.length) {
+            int capacity = parkedSize * 2;
+            parkedPrices = Arrays.copyOf(parkedPrices, capacity);
+            parkedQtys = Arrays.copyOf(parkedQtys, capacity);
+            parkedAvgBuys = Arrays.copyOf(parkedAvgBuys, capacity);
+        }
+        parkedPrices[parkedSize] = priceTicks;
+        parkedQtys[parkedSize] = qtyTicks;
+        parkedAvgBuys[parkedSize] = avgBuyPriceTicks;
+        parkedSize++;
+    }
+
+    private void unpark(int index) {
+        int last = --parkedSize;
+        parkedPrices[index] = parkedPrices[last];
+        parkedQtys[index] = parkedQtys[last];
+        parkedAvgBuys[index] = parkedAvgBuys[last];
+    }
+
+    // ----------------------------------------------------------------------------------------------------
+    // 주문 수 제한
+    // ----------------------------------------------------------------------------------------------------
+    private void refreshRateWindow() {
+        long windowId = now / RateLimitManager.RESET_WINDOW_MS;
+        if (windowId != rateWindowId) {
+            rateWindowId = windowId;
+            rateCount = 0;
+        }
+    }
+
+    private boolean hasRateLimitCapacity() {
+        return remainingRateCapacity() > 0;
+    }
+
+    private int remainingRateCapacity() {
+        refreshRateWindow();
+        return Math.max(0, RateLimitManager.LIMIT - RateLimitManager.SAFETY_MARGIN - rateCount);
+    }
+
+    private void countOrder() {
+        refreshRateWindow();
+        rateCount++;
+        ordersPlaced++;
+        maxOrdersPerWindow = Math.max(maxOrdersPerWindow, rateCount);
+    }
+
+    // ----------------------------------------------------------------------------------------------------
+    // 결과
+    // ----------------------------------------------------------------------------------------------------
+    private void advanceClock(long millis) {
+        if (firstMillis < 0L) {
+            firstMillis = millis;
+        } else if (millis > lastMillis) {
+            inventoryQtyTicksMillis += inventoryQtyTicks * (millis - lastMillis);
+        }
+        lastMillis = Math.max(lastMillis, millis);
+        now = lastMillis;
+    }
+
+    // 남은 매도 주문, 취소된 매도, 모으는 중인 포지션을 마지막 최우선 매수호가로 평가한다.
+    private BacktestResult result() {
+        long markPriceTicks = book.bestBidPriceTicks();
+        long[] unrealized = {0L};
+        if (markPriceTicks > 0) {
+            exchange.forEachSellOrder(order ->
+                    unrealized[0] += (markPriceTicks - order.avgBuyPriceTicks()) * order.qtyTicks());
+            for (int i = 0; i < parkedSize; i++) {
+                unrealized[0] += (markPriceTicks - parkedAvgBuys[i]) * parkedQtys[i];
+            }
+            unrealized[0] += markPriceTicks * positionQtyTicks - positionNotionalTicks;
+        }
+
+        long elapsed = lastMillis - Math.max(firstMillis, 0L);
+        return new BacktestResult(
+                params,
+                realizedPnlTicks,
+                unrealized[0],
+                feeTicks,
+                buyFills,
+                sellFills,
+                ordersPlaced,
+                ordersFilled,
+                ordersRejected,
+                ordersThrottled,
+                maxOrdersPerWindow,
+                maxInventoryQtyTicks,
+                elapsed > 0 ? inventoryQtyTicksMillis / elapsed : inventoryQtyTicks,
+                inventoryQtyTicks
+        );
+    }
+}
@@ -0,0 +1,46 @@
+package io.github.seokhyunpark.hft.backtest;
+
+import java.math.BigDecimal;
+
+import io.github.seokhyunpark.hft.trading.config.StrategyProperties;
+import io.github.seokhyunpark.hft.trading.config.TradingProperties;
+
+// 모든 조합에 공통인 설정
+public record BacktestSettings(
+        String strategyName,
+        BigDecimal minOrderSize,
+        BigDecimal priceTickSize,
+        BigDecimal qtyTickSize,
+        BigDecimal priceConflictToleranceRate,
+        StrategyProperties.Signals signals,
+        long latencyMs,
+        int makerFeeBps,
+        long timerIntervalMs
+) {
+    public TradingProperties toTradingProperties(BacktestParams params) {
+        return new TradingProperties(
+                "BACKTEST", "BASE", "QUOTE", "RESERVE",
+                minOrderSize, priceTickSize, qtyTickSize,
+                new TradingProperties.Risk(
+                        params.maxBuyOrders() + params.maxSellOrders(),
+                        params.maxBuyOrders(),
+                        params.maxSellOrders(),
+                        params.minSellOrders(),
+                        params.buyWallThresholdUsd(),
+                        params.targetMultiplier(),
+                        priceConflictToleranceRate,
+                        null, null, null, 0, 0
+                )
+        );
+    }
+
+    public StrategyProperties toStrategyProperties(BacktestParams params) {
+        return new StrategyProperties(
+                strategyName,
+                null,
+                signals,
+                new StrategyProperties.Ladder(params.ladderLevels(), params.ladderSpacingTicks()),
+                null
+        );
+    }
+}
@@ -0,0 +1,221 @@
+package io.github.seokhyunpark.hft.backtest;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Properties;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+
+import lombok.extern.slf4j.Slf4j;
+
+import io.github.seokhyunpark.hft.trading.config.StrategyProperties;
+import io.github.seokhyunpark.hft.trading.config.TradingProperties;
+import io.github.seokhyunpark.hft.trading.manager.RateLimitManager;
+
+// 기록된 테이프 위에서 파라미터 격자 전체를 병렬로 백테스트하고 결과를 CSV 로 남긴다.
+//   ./gradlew backtest -Pgrid=backtest.properties
+// 격자 파일의 값은 쉼표로 여러 개를 줄 수 있고, 모든 조합(카티션 곱)을 실행한다.
+@Slf4j
+public final class Backtester {
+    private static final int TOP_RESULTS = 10;
+
+    private Backtester() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path gridFile = Path.of(args.length > 0 ? args[0] : "backtest.properties");
+        Properties grid = new Properties();
+        try (Reader reader = Files.newBufferedReader(gridFile)) {
+            grid.load(reader);
+        }
+
+        MarketTape tape = MarketTape.load(Path.of(grid.getProperty("tape", "./state/market.tape")));
+        BacktestSettings settings = settings(grid);
+        List<BacktestParams> combinations = combinations(grid);
+        if (tape.size() == 0 || combinations.isEmpty()) {
+            log.warn("⚠️[BACKTEST] NOTHING TO RUN | EVENTS: {} | COMBINATIONS: {}", tape.size(), combinations.size());
+            return;
+        }
+
+        int parallelism = Integer.parseInt(grid.getProperty(
+                "parallelism",
+                String.valueOf(Runtime.getRuntime().availableProcessors())
+        ));
+        log.info("[BACKTEST] START | EVENTS: {} | COMBINATIONS: {} | THREADS: {}",
+                tape.size(), combinations.size(), parallelism);
+
+        long started = System.nanoTime();
+        BacktestResult[] results = sweep(tape, settings, combinations, parallelism);
+        long elapsedMillis = (System.nanoTime() - started) / 1_000_000L;
+        log.info("[BACKTEST] DONE | {} ms | {} events/s",
+                elapsedMillis, (long) tape.size() * combinations.size() * 1000L / Math.max(1L, elapsedMillis));
+
+        TradingProperties props = settings.toTradingProperties(combinations.getFirst());
+        Arrays.sort(results, Comparator.comparingLong(BacktestResult::totalPnlTicks).reversed());
+        Path output = Path.of(grid.getProperty("output", "./build/backtest-results.csv"));
+        writeCsv(output, results, props);
+        for (int i = 0; i < Math.min(TOP_RESULTS, results.length); i++) {
+            logResult(i + 1, results[i], props);
+        }
+        log.info("[BACKTEST] RESULTS | FILE: {}", output);
+    }
+
+    public static BacktestResult[] sweep(
+            MarketTape tape,
+            BacktestSettings settings,
+            List<BacktestParams> combinations,
+            int parallelism
+    ) {
+        BacktestResult[] results = new BacktestResult[combinations.size()];
+        if (results.length == 0) {
+            return results;
+        }
+        try (ForkJoinPool pool = new ForkJoinPool(parallelism)) {
+            pool.invoke(new ParameterSweep(tape, settings, combinations, results, 0, results.length));
+        }
+        return results;
+    }
+
+    // ----------------------------------------------------------------------------------------------------
+    // 격자 파일
+    // ----------------------------------------------------------------------------------------------------
+    static BacktestSettings settings(Properties grid) {
+        return new BacktestSettings(
+                grid.getProperty("strategy", "wall-follow"),
+                new BigDecimal(grid.getProperty("min-order-size", "5")),
+                new BigDecimal(grid.getProperty("price-tick-size", "0.01")),
+                new BigDecimal(grid.getProperty("qty-tick-size", "0.00001")),
+                new BigDecimal(grid.getProperty("price-conflict-tolerance-rate", "0.000005")),
+                new StrategyProperties.Signals(
+                        Integer.parseInt(grid.getProperty("imbalance-levels", "5")),
+                        Integer.parseInt(grid.getProperty("depth-band-bps", "5")),
+                        Integer.parseInt(grid.getProperty("wide-spread-ticks", "10")),
+                        Long.parseLong(grid.getProperty("trade-window-ms", "10000")),
+                        Integer.parseInt(grid.getProperty("trade-buckets", "100"))
+                ),
+                Long.parseLong(grid.getProperty("latency-ms", "5")),
+                Integer.parseInt(grid.getProperty("maker-fee-bps", "0")),
+                Long.parseLong(grid.getProperty("timer-interval-ms", "1000"))
+        );
+    }
+
+    static List<BacktestParams> combinations(Properties grid) {
+        List<BigDecimal> targetMultipliers = values(grid, "target-multiplier", "1.0001", BigDecimal::new);
+        List<BigDecimal> wallThresholds = values(grid, "buy-wall-threshold-usd", "1000", BigDecimal::new);
+        List<Integer> maxBuyOrders = values(grid, "max-buy-orders", "1", Integer::valueOf);
+        List<Integer> maxSellOrders = values(grid, "max-sell-orders", "100", Integer::valueOf);
+        List<Integer> minSellOrders = values(grid, "min-sell-orders", "90", Integer::valueOf);
+        List<Integer> ladderLevels = values(grid, "ladder-levels", "1", Integer::valueOf);
+        List<Integer> ladderSpacings = values(grid, "ladder-spacing-ticks", "1", Integer::valueOf);
+
+        List<BacktestParams> combinations = new ArrayList<>();
+        for (BigDecimal target : targetMultipliers) {
+            for (BigDecimal wall : wallThresholds) {
+                for (int maxBuy : maxBuyOrders) {
+                    for (int maxSell : maxSellOrders) {
+                        for (int minSell : minSellOrders) {
+                            for (int levels : ladderLevels) {
+                                for (int spacing : ladderSpacings) {
+                                    BacktestParams params = new BacktestParams(
+                                            target, wall, maxBuy, maxSell, minSell, levels, spacing
+                                    );
+                                    if (params.isValid()) {
+                                        combinations.add(params);
+                                    }
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        return combinations;
+    }
+
+    private static <T> List<T> values(Properties grid, String key, String defaultValue, Function<String, T> parser) {
+        return Arrays.stream(grid.getProperty(key, defaultValue).split(","))
+                .map(String::trim)
+                .filter(value -> !value.isEmpty())
+                .map(parser)
+                .toList();
+    }
+
+    // ----------------------------------------------------------------------------------------------------
+    // 출력
+    // ----------------------------------------------------------------------------------------------------
+    private static void writeCsv(Path output, BacktestResult[] results, TradingProperties props) throws IOException {
+        if (output.getParent() != null) {
+            Files.createDirectories(output.getParent());
+        }
+        try (PrintWriter writer = new PrintWriter(Files.newBufferedWriter(output))) {
+            writer.println("target_multiplier,buy_wall_threshold_usd,max_buy_orders,max_sell_orders,min_sell_orders,"
+                    + "ladder_levels,ladder_spacing_ticks,total_pnl,realized_pnl,unrealized_pnl,fees,"
+                    + "buy_fills,sell_fills,orders_placed,orders_filled,fill_rate,orders_rejected,orders_throttled,"
+                    + "max_orders_per_window,order_limit,max_inventory,avg_inventory,final_inventory");
+            for (BacktestResult result : results) {
+                BacktestParams params = result.params();
+                writer.println(String.join(",",
+                        params.targetMultiplier().toPlainString(),
+                        params.buyWallThresholdUsd().toPlainString(),
+                        String.valueOf(params.maxBuyOrders()),
+                        String.valueOf(params.maxSellOrders()),
+                        String.valueOf(params.minSellOrders()),
+                        String.valueOf(params.ladderLevels()),
+                        String.valueOf(params.ladderSpacingTicks()),
+                        usd(props, result.totalPnlTicks()),
+                        usd(props, result.realizedPnlTicks()),
+                        usd(props, result.unrealizedPnlTicks()),
+                        usd(props, result.feeTicks()),
+                        String.valueOf(result.buyFills()),
+                        String.valueOf(result.sellFills()),
+                        String.valueOf(result.ordersPlaced()),
+                        String.valueOf(result.ordersFilled()),
+                        String.format("%.4f", result.fillRate()),
+                        String.valueOf(result.ordersRejected()),
+                        String.valueOf(result.ordersThrottled()),
+                        String.valueOf(result.maxOrdersPerWindow()),
+                        String.valueOf(RateLimitManager.LIMIT),
+                        qty(props, result.maxInventoryQtyTicks()),
+                        qty(props, result.avgInventoryQtyTicks()),
+                        qty(props, result.finalInventoryQtyTicks())
+                ));
+            }
+        }
+    }
+
+    private static void logResult(int rank, BacktestResult result, TradingProperties props) {
+        BacktestParams params = result.params();
+        log.info("[BACKTEST] #{} | PNL: {} | FILL: {}/{} | MAX-ORDERS/10S: {} | MAX-INV: {} | "
+                        + "TARGET: {} | WALL: {} | BUY: {} | SELL: {}-{} | LADDER: {}x{}",
+                rank,
+                usd(props, result.totalPnlTicks()),
+                result.ordersFilled(),
+                result.ordersPlaced(),
+                result.maxOrdersPerWindow(),
+                qty(props, result.maxInventoryQtyTicks()),
+                params.targetMultiplier().toPlainString(),
+                params.buyWallThresholdUsd().toPlainString(),
+                params.maxBuyOrders(),
+                params.minSellOrders(),
+                params.maxSellOrders(),
+                params.ladderLevels(),
+                params.ladderSpacingTicks()
+        );
+    }
+
+    private static String usd(TradingProperties props, long notionalTicks) {
+        return props.fromNotionalTicks(notionalTicks).stripTrailingZeros().toPlainString();
+    }
+
+    private static String qty(TradingProperties props, long qtyTicks) {
+        return props.fromQtyTicks(qtyTicks).stripTrailingZeros().toPlainString();
+    }
+}
@@ -0,0 +1,193 @@
+package io.github.seokhyunpark.hft.backtest;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+// 기록된 호가/체결 이벤트를 열 단위 배열로 한 번만 디코딩해 둔 읽기 전용 테이프.
+// 로딩 후에는 변경되지 않으므로 모든 백테스트 작업자가 복사 없이 공유한다.
+//
+// 한 줄이 이벤트 하나이며 값은 모두 틱 단위다.
+//   B <millis> <bidLevels> <price> <qty> ... <askLevels> <price> <qty> ...
+//   T <millis> <price> <qty> <buyerMaker 0|1>
+public final class MarketTape {
+    public static final byte BOOK = 0;
+    public static final byte TRADE = 1;
+
+    private final int size;
+    private final byte[] types;
+    private final long[] times;
+    // BOOK: 레벨 배열 시작 위치 / 매수 레벨 수 / 매도 레벨 수, TRADE: 가격 / 수량 / 매수자 메이커 여부
+    private final long[] a;
+    private final long[] b;
+    private final long[] c;
+    private final long[] levelPrices;
+    private final long[] levelQtys;
+
+    private MarketTape(Builder builder) {
+        this.size = builder.size;
+        this.types = Arrays.copyOf(builder.types, size);
+        this.times = Arrays.copyOf(builder.times, size);
+        this.a = Arrays.copyOf(builder.a, size);
+        this.b = Arrays.copyOf(builder.b, size);
+        this.c = Arrays.copyOf(builder.c, size);
+        this.levelPrices = Arrays.copyOf(builder.levelPrices, builder.levelCount);
+        this.levelQtys = Arrays.copyOf(builder.levelQtys, builder.levelCount);
+    }
+
+    public static MarketTape load(Path path) throws IOException {
+        Builder builder = new Builder();
+        try (BufferedReader reader = Files.newBufferedReader(path)) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                try {
+                    builder.parse(line);
+                } catch (RuntimeException e) {
+                    throw new IOException("Malformed tape line " + lineNumber + ": " + line, e);
+                }
+            }
+        }
+        return builder.build();
+    }
+
+    // ----------------------------------------------------------------------------------------------------
+    // 조회
+    // ----------------------------------------------------------------------------------------------------
+    public int size() {
+        return size;
+    }
+
+    public byte type(int event) {
+        return types[event];
+    }
+
+    public long time(int event) {
+        return times[event];
+    }
+
+    public int levelOffset(int event) {
+        return (int) a[event];
+    }
+
+    public int bidLevels(int event) {
+        return (int) b[event];
+    }
+
+    public int askLevels(int event) {
+        return (int) c[event];
+    }
+
+    public long levelPrice(int index) {
+        return levelPrices[index];
+    }
+
+    public long levelQty(int index) {
+        return levelQtys[index];
+    }
+
+    public long tradePriceTicks(int event) {
+        return a[event];
+    }
+
+    public long tradeQtyTicks(int event) {
+        return b[event];
+    }
+
+    public boolean tradeBuyerMaker(int event) {
+        return c[event] != 0L;
+    }
+
+    // ----------------------------------------------------------------------------------------------------
+    // 빌더 (테스트와 로더 공용)
+    // ----------------------------------------------------------------------------------------------------
+    public static final class Builder {
+        private int size;
+        private byte[] types = new byte[1024];
+        private long[] times = new long[1024];
+        private long[] a = new long[1024];
+        private long[] b = new long[1024];
+        private long[] c = new long[1024];
+        private int levelCount;
+        private long[] levelPrices = new long[8192];
+        private long[] levelQtys = new long[8192];
+
+        // bids, asks 는 price, qty 가 번갈아 오는 배열
+        public Builder book(long millis, long[] bids, long[] asks) {
+            int offset = levelCount;
+            appendLevels(bids);
+            appendLevels(asks);
+            return append(BOOK, millis, offset, bids.length / 2, asks.length / 2);
+        }
+
+        public Builder trade(long millis, long priceTicks, long qtyTicks, boolean buyerMaker) {
+            return append(TRADE, millis, priceTicks, qtyTicks, buyerMaker ? 1L : 0L);
+        }
+
+        public MarketTape build() {
+            return new MarketTape(this);
+        }
+
+        private void parse(String line) {
+            String[] tokens = line.trim().split(" ");
+            long millis = Long.parseLong(tokens[1]);
+            switch (tokens[0]) {
+                case "B" -> {
+                    int bidCount = Integer.parseInt(tokens[2]);
+                    long[] bids = readLevels(tokens, 3, bidCount);
+                    int askIndex = 3 + bidCount * 2;
+                    long[] asks = readLevels(tokens, askIndex + 1, Integer.parseInt(tokens[askIndex]));
+                    book(millis, bids, asks);
+                }
+                case "T" -> trade(millis, Long.parseLong(tokens[2]), Long.parseLong(tokens[3]), "1".equals(tokens[4]));
+                default -> throw new IllegalArgumentException("Unknown event type: " + tokens[0]);
+            }
+        }
+
+        private static long[] readLevels(String[] tokens, int from, int count) {
+            long[] levels = new long[count * 2];
+            for (int i = 0; i < levels.length; i++) {
+                levels[i] = Long.parseLong(tokens[from + i]);
+            }
+            return levels;
+        }
+
+        private void appendLevels(long[] levels) {
+            int count = levels.length / 2;
+            if (levelCount + count > levelPrices.length) {
+                int capacity = Math.max(levelPrices.length * 2, levelCount + count);
+                levelPrices = Arrays.copyOf(levelPrices, capacity);
+                levelQtys = Arrays.copyOf(levelQtys, capacity);
+            }
+            for (int i = 0; i < count; i++) {
+                levelPrices[levelCount] = levels[i * 2];
+                levelQtys[levelCount] = levels[i * 2 + 1];
+                levelCount++;
+            }
+        }
+
+        private Builder append(byte type, long millis, long first, long second, long third) {
+            if (size == types.length) {
+                int capacity = size * 2;
+                types = Arrays.copyOf(types, capacity);
+                times = Arrays.copyOf(times, capacity);
+                a = Arrays.copyOf(a, capacity);
+                b = Arrays.copyOf(b, capacity);
+                c = Arrays.copyOf(c, capacity);
+            }
+            types[size] = type;
+            times[size] = millis;
+            a[size] = first;
+            b[size] = second;
+            c[size] = third;
+            size++;
+            return this;
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package io.github.seokhyunpark.hft.backtest;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import jakarta.annotation.PreDestroy;
+
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+import io.github.seokhyunpark.hft.exchange.dto.stream.TradeEvent;
+import io.github.seokhyunpark.hft.trading.book.BookView;
+import io.github.seokhyunpark.hft.trading.config.TapeProperties;
+
+// 실시간 호가/체결을 MarketTape 형식으로 이어 쓴다. 쓰기 실패 시 기록만 멈추고 거래는 계속한다.
+@Slf4j
+@Component
+public class MarketTapeRecorder {
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final StringBuilder line = new StringBuilder(1024);
+    private BufferedWriter writer;
+
+    public MarketTapeRecorder(TapeProperties tapeProps) {
+        if (!tapeProps.recordEnabled()) {
+            return;
+        }
+        try {
+            Path path = Path.of(tapeProps.recordFile());
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            this.writer = new BufferedWriter(Files.newBufferedWriter(
+                    path,
+                    StandardOpenOption.CREATE,
+                    StandardOpenOption.APPEND
+            ), BUFFER_SIZE);
+            log.info("[TAPE] 기록 시작 | FILE: {}", path);
+        } catch (IOException e) {
+            log.warn("⚠️[TAPE] OPEN FAIL | REASON: {}", e.getMessage());
+        }
+    }
+
+    public boolean isRecording() {
+        return writer != null;
+    }
+
+    public synchronized void recordBook(long nowMillis, BookView book) {
+        if (writer == null) {
+            return;
+        }
+        line.setLength(0);
+        line.append("B ").append(nowMillis).append(' ').append(book.bidLevels());
+        for (int level = 0; level < book.bidLevels(); level++) {
+            line.append(' ').append(book.bidPriceTicks(level)).append(' ').append(book.bidQtyTicks(level));
+        }
+        line.append(' ').append(book.askLevels());
+        for (int level = 0; level < book.askLevels(); level++) {
+            line.append(' ').append(book.askPriceTicks(level)).append(' ').append(book.askQtyTicks(level));
+        }
+        write();
+    }
+
+    public synchronized void recordTrade(long nowMillis, TradeEvent trade) {
+        if (writer == null) {
+            return;
+        }
+        line.setLength(0);
+        line.append("T ").append(nowMillis)
+                .append(' ').append(trade.priceTicks())
+                .append(' ').append(trade.qtyTicks())
+                .append(' ').append(trade.buyerMaker() ? '1' : '0');
+        write();
+    }
+
+    private void write() {
+        try {
+            writer.append(line).append('\n');
+        } catch (IOException e) {
+            log.warn("⚠️[TAPE] WRITE FAIL | 기록 중단 | REASON: {}", e.getMessage());
+            closeQuietly();
+        }
+    }
+
+    @PreDestroy
+    public synchronized void close() {
+        closeQuietly();
+    }
+
+    private void closeQuietly() {
+        if (writer == null) {
+            return;
+        }
+        try {
+            writer.close();
+        } catch (IOException e) {
+            log.warn("⚠️[TAPE] CLOSE FAIL | REASON: {}", e.getMessage());
+        }
+        writer = null;
+    }
+}
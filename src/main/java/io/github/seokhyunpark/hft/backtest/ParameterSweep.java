@@ -0,0 +1,44 @@
+package io.github.seokhyunpark.hft.backtest;
+
+import java.util.List;
+import java.util.concurrent.RecursiveAction;
+
+// 조합 구간을 반씩 나눠 작업 훔치기 풀에 올린다. 조합마다 상태가 완전히 분리되어 있고
+// 테이프는 읽기 전용이므로 작업자 사이에 공유되는 가변 상태가 없다. 결과는 각자 자기 인덱스에만 쓴다.
+final class ParameterSweep extends RecursiveAction {
+    private final MarketTape tape;
+    private final BacktestSettings settings;
+    private final List<BacktestParams> combinations;
+    private final BacktestResult[] results;
+    private final int from;
+    private final int to;
+
+    ParameterSweep(
+            MarketTape tape,
+            BacktestSettings settings,
+            List<BacktestParams> combinations,
+            BacktestResult[] results,
+            int from,
+            int to
+    ) {
+        this.tape = tape;
+        this.settings = settings;
+        this.combinations = combinations;
+        this.results = results;
+        this.from = from;
+        this.to = to;
+    }
+
+    @Override
+    protected void compute() {
+        if (to - from == 1) {
+            results[from] = new BacktestRun(tape, settings, combinations.get(from)).run();
+            return;
+        }
+        int mid = (from + to) >>> 1;
+        invokeAll(
+                new ParameterSweep(tape, settings, combinations, results, from, mid),
+                new ParameterSweep(tape, settings, combinations, results, mid, to)
+        );
+    }
+}
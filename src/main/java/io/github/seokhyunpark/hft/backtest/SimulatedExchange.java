@@ -0,0 +1,303 @@
+package io.github.seokhyunpark.hft.backtest;
+
+import java.util.Arrays;
+
+import io.github.seokhyunpark.hft.trading.book.QueuePositionTracker;
+import io.github.seokhyunpark.hft.trading.dto.OrderInfo;
+import io.github.seokhyunpark.hft.trading.store.OrderStore;
+import io.github.seokhyunpark.hft.trading.store.OrderVisitor;
+import io.github.seokhyunpark.hft.trading.strategy.OrderSide;
+import io.github.seokhyunpark.hft.trading.strategy.OwnOrdersView;
+
+// LIMIT_MAKER 주문만 받는 작업자 전용 모의 거래소.
+// - 주문은 지연 시간 뒤에 활성화되며, 그때 반대편 최우선 호가와 맞닿으면 거부하고 아니면 같은 가격 레벨 수량 뒤에 줄을 선다.
+// - 앞선 수량은 그 가격의 체결로 소진되고, 레벨이 줄어들면 레벨 수량을 넘지 않게 줄인다.
+// - 체결이 우리 가격을 넘어가거나 반대편 호가가 우리 가격에 닿으면 전량 체결로 본다.
+final class SimulatedExchange implements OwnOrdersView {
+    interface FillListener {
+        void onFill(OrderSide side, long orderId, long priceTicks, long qtyTicks, long avgBuyPriceTicks, boolean done);
+
+        default void onReject(OrderSide side, long orderId, long priceTicks, long qtyTicks, long avgBuyPriceTicks) {
+        }
+    }
+
+    private final long latencyMs;
+    private final long priceConflictToleranceRate;
+
+    private final SimOrders buys = new SimOrders();
+    private final SimOrders sells = new SimOrders();
+    private final OrderStore buyStore = new OrderStore(16);
+    private final OrderStore sellStore = new OrderStore(256);
+    // 실거래 OrderManager 와 같은 규칙으로 용량 초과 시 내릴 매도를 고르기 위한 큐 위치 추정
+    private final QueuePositionTracker sellQueue = new QueuePositionTracker();
+
+    private long nextOrderId = 1L;
+
+    SimulatedExchange(long latencyMs, long priceConflictToleranceRate) {
+        this.latencyMs = latencyMs;
+        this.priceConflictToleranceRate = priceConflictToleranceRate;
+    }
+
+    // ----------------------------------------------------------------------------------------------------
+    // 주문 접수/취소
+    // ----------------------------------------------------------------------------------------------------
+    long placeBuy(long nowMillis, long priceTicks, long qtyTicks) {
+        long orderId = nextOrderId++;
+        buys.add(orderId, priceTicks, qtyTicks, 0L, nowMillis + latencyMs);
+        buyStore.put(orderId, priceTicks, qtyTicks, 0L);
+        return orderId;
+    }
+
+    long placeSell(long nowMillis, long priceTicks, long qtyTicks, long avgBuyPriceTicks) {
+        long orderId = nextOrderId++;
+        sells.add(orderId, priceTicks, qtyTicks, avgBuyPriceTicks, nowMillis + latencyMs);
+        sellStore.put(orderId, priceTicks, qtyTicks, avgBuyPriceTicks);
+        return orderId;
+    }
+
+    boolean cancelBuy(long orderId) {
+        int i = buys.indexOf(orderId);
+        if (i < 0) {
+            return false;
+        }
+        buys.removeAt(i);
+        buyStore.remove(orderId);
+        return true;
+    }
+
+    // 남은 수량과 평균 매수가를 담아 반환한다.
+    OrderInfo cancelSell(long orderId) {
+        int i = sells.indexOf(orderId);
+        if (i < 0) {
+            return null;
+        }
+        OrderInfo info = new OrderInfo(orderId, sells.prices[i], sells.qtys[i], sells.avgBuys[i]);
+        sells.removeAt(i);
+        sellStore.remove(orderId);
+        sellQueue.untrack(orderId);
+        return info;
+    }
+
+    OrderInfo getOldestBuyOrder() {
+        return buyStore.getLowestOrderId();
+    }
+
+    // OrderManager.getSlowestSellOrder 와 같이 큐 위치상 가장 늦게 체결될 주문, 추정이 없으면 가장 높은 가격
+    OrderInfo getSlowestSellOrder() {
+        long orderId = sellQueue.findSlowestOrderId();
+        OrderInfo info = orderId == QueuePositionTracker.NONE ? null : sellStore.get(orderId);
+        return info != null ? info : sellStore.getHighestPrice();
+    }
+
+    // ----------------------------------------------------------------------------------------------------
+    // 시장 이벤트
+    // ----------------------------------------------------------------------------------------------------
+    // 활성화되는 순간 맞닿은 주문은 거부하고, 이미 줄을 선 주문에 반대편 호가가 닿으면 체결로 본다.
+    void onBook(long nowMillis, TapeBook book, FillListener listener) {
+        long bestBid = book.bestBidPriceTicks();
+        long bestAsk = book.bestAskPriceTicks();
+        sellQueue.onBook(book, nowMillis);
+        for (int i = buys.size - 1; i >= 0; i--) {
+            boolean arriving = buys.isPending(i);
+            if (!buys.activate(i, nowMillis, book.bidQtyAt(buys.prices[i]))) {
+                continue;
+            }
+            if (buys.prices[i] < bestAsk) {
+                buys.aheads[i] = Math.min(buys.aheads[i], book.bidQtyAt(buys.prices[i]));
+            } else if (arriving) {
+                reject(OrderSide.BUY, i, listener);
+            } else {
+                fill(OrderSide.BUY, i, buys.qtys[i], listener);
+            }
+        }
+        for (int i = sells.size - 1; i >= 0; i--) {
+            boolean arriving = sells.isPending(i);
+            if (!sells.activate(i, nowMillis, book.askQtyAt(sells.prices[i]))) {
+                continue;
+            }
+            if (sells.prices[i] > bestBid) {
+                sells.aheads[i] = Math.min(sells.aheads[i], book.askQtyAt(sells.prices[i]));
+                if (arriving) {
+                    sellQueue.track(sells.ids[i], sells.prices[i], sells.qtys[i]);
+                }
+            } else if (arriving) {
+                reject(OrderSide.SELL, i, listener);
+            } else {
+                fill(OrderSide.SELL, i, sells.qtys[i], listener);
+            }
+        }
+    }
+
+    // 매도 주도 체결은 매수 주문을, 매수 주도 체결은 매도 주문을 채운다.
+    void onTrade(long nowMillis, long priceTicks, long qtyTicks, boolean buyerMaker, FillListener listener) {
+        OrderSide side = buyerMaker ? OrderSide.BUY : OrderSide.SELL;
+        SimOrders orders = buyerMaker ? buys : sells;
+        if (!buyerMaker) {
+            sellQueue.onTrade(priceTicks, qtyTicks);
+        }
+        long remaining = qtyTicks;
+        for (int i = orders.size - 1; i >= 0; i--) {
+            if (!orders.isActive(i, nowMillis)) {
+                continue;
+            }
+            long price = orders.prices[i];
+            boolean through = buyerMaker ? price > priceTicks : price < priceTicks;
+            if (through) {
+                fill(side, i, orders.qtys[i], listener);
+                continue;
+            }
+            if (price != priceTicks || remaining <= 0L) {
+                continue;
+            }
+            long consumed = Math.min(orders.aheads[i], remaining);
+            orders.aheads[i] -= consumed;
+            remaining -= consumed;
+            if (orders.aheads[i] == 0L && remaining > 0L) {
+                long filled = Math.min(remaining, orders.qtys[i]);
+                remaining -= filled;
+                fill(side, i, filled, listener);
+            }
+        }
+    }
+
+    private void fill(OrderSide side, int i, long qtyTicks, FillListener listener) {
+        SimOrders orders = side == OrderSide.BUY ? buys : sells;
+        OrderStore store = side == OrderSide.BUY ? buyStore : sellStore;
+        long orderId = orders.ids[i];
+        long price = orders.prices[i];
+        long avgBuy = orders.avgBuys[i];
+        boolean done = qtyTicks >= orders.qtys[i];
+        if (done) {
+            orders.removeAt(i);
+            store.remove(orderId);
+        } else {
+            orders.qtys[i] -= qtyTicks;
+            store.put(orderId, price, orders.qtys[i], avgBuy);
+        }
+        if (side == OrderSide.SELL) {
+            if (done) {
+                sellQueue.untrack(orderId);
+            } else {
+                sellQueue.onFill(orderId, qtyTicks);
+            }
+        }
+        listener.onFill(side, orderId, price, qtyTicks, avgBuy, done);
+    }
+
+    private void reject(OrderSide side, int i, FillListener listener) {
+        SimOrders orders = side == OrderSide.BUY ? buys : sells;
+        OrderStore store = side == OrderSide.BUY ? buyStore : sellStore;
+        long orderId = orders.ids[i];
+        long price = orders.prices[i];
+        long qty = orders.qtys[i];
+        long avgBuy = orders.avgBuys[i];
+        orders.removeAt(i);
+        store.remove(orderId);
+        listener.onReject(side, orderId, price, qty, avgBuy);
+    }
+
+    // ----------------------------------------------------------------------------------------------------
+    // OwnOrdersView
+    // ----------------------------------------------------------------------------------------------------
+    @Override
+    public int getBuyOrderCount() {
+        return buyStore.size();
+    }
+
+    @Override
+    public int getSellOrderCount() {
+        return sellStore.size();
+    }
+
+    @Override
+    public boolean hasBuyOrderAt(long priceTicks) {
+        return buyStore.containsPrice(priceTicks);
+    }
+
+    @Override
+    public OrderInfo findConflictingBuyOrder(long priceTicks) {
+        return buyStore.findPriceWithinTolerance(priceTicks, priceConflictToleranceRate);
+    }
+
+    @Override
+    public void forEachBuyOrder(OrderVisitor visitor) {
+        buyStore.forEach(visitor);
+    }
+
+    @Override
+    public void forEachSellOrder(OrderVisitor visitor) {
+        sellStore.forEach(visitor);
+    }
+
+    // ----------------------------------------------------------------------------------------------------
+    // 한쪽 주문 목록 (삭제는 마지막 원소와 교체)
+    // ----------------------------------------------------------------------------------------------------
+    private static final class SimOrders {
+        private static final long PENDING = -1L;
+
+        long[] ids = new long[16];
+        long[] prices = new long[16];
+        long[] qtys = new long[16];
+        long[] avgBuys = new long[16];
+        long[] activeAt = new long[16];
+        long[] aheads = new long[16];
+        int size;
+
+        void add(long orderId, long price, long qty, long avgBuy, long activeAtMillis) {
+            if (size == ids.length) {
+                int capacity = size * 2;
+                ids = Arrays.copyOf(ids, capacity);
+                prices = Arrays.copyOf(prices, capacity);
+                qtys = Arrays.copyOf(qtys, capacity);
+                avgBuys = Arrays.copyOf(avgBuys, capacity);
+                activeAt = Arrays.copyOf(activeAt, capacity);
+                aheads = Arrays.copyOf(aheads, capacity);
+            }
+            ids[size] = orderId;
+            prices[size] = price;
+            qtys[size] = qty;
+            avgBuys[size] = avgBuy;
+            activeAt[size] = activeAtMillis;
+            aheads[size] = PENDING;
+            size++;
+        }
+
+        // 지연 시간이 지나면 처음 한 번 현재 레벨 수량 뒤에 줄을 세운다.
+        boolean activate(int i, long nowMillis, long levelQty) {
+            if (nowMillis < activeAt[i]) {
+                return false;
+            }
+            if (aheads[i] == PENDING) {
+                aheads[i] = levelQty;
+            }
+            return true;
+        }
+
+        boolean isPending(int i) {
+            return aheads[i] == PENDING;
+        }
+
+        boolean isActive(int i, long nowMillis) {
+            return nowMillis >= activeAt[i] && aheads[i] != PENDING;
+        }
+
+        int indexOf(long orderId) {
+            for (int i = 0; i < size; i++) {
+                if (ids[i] == orderId) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        void removeAt(int i) {
+            int last = --size;
+            ids[i] = ids[last];
+            prices[i] = prices[last];
+            qtys[i] = qtys[last];
+            avgBuys[i] = avgBuys[last];
+            activeAt[i] = activeAt[last];
+            aheads[i] = aheads[last];
+        }
+    }
+}
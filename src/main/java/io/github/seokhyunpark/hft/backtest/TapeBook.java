@@ -0,0 +1,102 @@
+package io.github.seokhyunpark.hft.backtest;
+
+import io.github.seokhyunpark.hft.trading.book.BookSignals;
+import io.github.seokhyunpark.hft.trading.book.BookView;
+import io.github.seokhyunpark.hft.trading.book.TradeFlow;
+
+// 공유 테이프의 BOOK 이벤트를 복사 없이 가리키는 호가창. 지표와 체결 흐름은 작업자마다 따로 가진다.
+final class TapeBook implements BookView {
+    private final MarketTape tape;
+    private final BookSignals signals;
+    private final TradeFlow trades;
+
+    private int event = -1;
+    private int bidOffset;
+    private int askOffset;
+    private int bidLevels;
+    private int askLevels;
+
+    TapeBook(MarketTape tape, BookSignals signals, TradeFlow trades) {
+        this.tape = tape;
+        this.signals = signals;
+        this.trades = trades;
+    }
+
+    // 양쪽 호가가 모두 있어야 유효한 스냅샷으로 본다.
+    boolean moveTo(int event) {
+        this.event = event;
+        this.bidOffset = tape.levelOffset(event);
+        this.bidLevels = tape.bidLevels(event);
+        this.askOffset = bidOffset + bidLevels;
+        this.askLevels = tape.askLevels(event);
+        if (bidLevels == 0 || askLevels == 0) {
+            return false;
+        }
+        signals.update(this);
+        return true;
+    }
+
+    // 같은 가격 레벨이 없으면 0
+    long bidQtyAt(long priceTicks) {
+        for (int level = 0; level < bidLevels; level++) {
+            if (bidPriceTicks(level) == priceTicks) {
+                return bidQtyTicks(level);
+            }
+        }
+        return 0L;
+    }
+
+    long askQtyAt(long priceTicks) {
+        for (int level = 0; level < askLevels; level++) {
+            if (askPriceTicks(level) == priceTicks) {
+                return askQtyTicks(level);
+            }
+        }
+        return 0L;
+    }
+
+    @Override
+    public long lastUpdateId() {
+        return event + 1L;
+    }
+
+    @Override
+    public int bidLevels() {
+        return bidLevels;
+    }
+
+    @Override
+    public int askLevels() {
+        return askLevels;
+    }
+
+    @Override
+    public long bidPriceTicks(int level) {
+        return tape.levelPrice(bidOffset + level);
+    }
+
+    @Override
+    public long bidQtyTicks(int level) {
+        return tape.levelQty(bidOffset + level);
+    }
+
+    @Override
+    public long askPriceTicks(int level) {
+        return tape.levelPrice(askOffset + level);
+    }
+
+    @Override
+    public long askQtyTicks(int level) {
+        return tape.levelQty(askOffset + level);
+    }
+
+    @Override
+    public BookSignals signals() {
+        return signals;
+    }
+
+    @Override
+    public TradeFlow trades() {
+        return trades;
+    }
+}
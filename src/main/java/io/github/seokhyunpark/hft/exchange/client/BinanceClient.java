@@ -6,9 +6,11 @@ import java.nio.charset.StandardCharsets;
 import java.security.PrivateKey;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.ParameterizedTypeReference;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.HttpClientErrorException;
@@ -17,19 +19,23 @@ import org.springframework.web.client.RestClient;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import io.github.seokhyunpark.hft.exchange.dto.rest.CancelOpenOrdersRequest;
 import io.github.seokhyunpark.hft.exchange.dto.rest.CancelOrderRequest;
 import io.github.seokhyunpark.hft.exchange.dto.rest.CancelOrderResponse;
 import io.github.seokhyunpark.hft.exchange.dto.rest.GetAccountRequest;
 import io.github.seokhyunpark.hft.exchange.dto.rest.GetAccountResponse;
 import io.github.seokhyunpark.hft.exchange.dto.rest.GetAccountResponse.Balance;
+import io.github.seokhyunpark.hft.exchange.dto.rest.GetMyTradesRequest;
+import io.github.seokhyunpark.hft.exchange.dto.rest.GetOpenOrdersRequest;
 import io.github.seokhyunpark.hft.exchange.dto.rest.GetOrderRequest;
 import io.github.seokhyunpark.hft.exchange.dto.rest.GetOrderResponse;
+import io.github.seokhyunpark.hft.exchange.dto.rest.MyTradeResponse;
 import io.github.seokhyunpark.hft.exchange.dto.rest.NewOrderRequest;
 import io.github.seokhyunpark.hft.exchange.dto.rest.NewOrderResponse;
 import io.github.seokhyunpark.hft.exchange.util.SignatureUtil;
 
 @Component
-public class BinanceClient {
+public class BinanceClient implements OrderGateway {
     private static final String BASE_URL = "https://api.binance.com";
 
     private final PrivateKey privateKey;
@@ -84,6 +90,7 @@ public class BinanceClient {
         );
     }
 
+    @Override
     public ResponseEntity<NewOrderResponse> buyLimitMaker(String symbol, String qty, String price) {
         NewOrderRequest request = new NewOrderRequest();
         request.setSymbol(symbol);
@@ -101,6 +108,7 @@ public class BinanceClient {
         );
     }
 
+    @Override
     public ResponseEntity<NewOrderResponse> sellLimitMaker(String symbol, String qty, String price) {
         NewOrderRequest request = new NewOrderRequest();
         request.setSymbol(symbol);
@@ -132,6 +140,22 @@ public class BinanceClient {
         );
     }
 
+    public ResponseEntity<List<MyTradeResponse>> getMyTrades(String symbol, long orderId) {
+        GetMyTradesRequest request = new GetMyTradesRequest();
+        request.setSymbol(symbol);
+        request.setOrderId(orderId);
+        request.setTimestamp(getCurrentTimestamp());
+
+        return sendRequest(
+                "/api/v3/myTrades",
+                "GET",
+                request,
+                new ParameterizedTypeReference<>() {
+                }
+        );
+    }
+
+    @Override
     public ResponseEntity<CancelOrderResponse> cancelOrder(String symbol, long orderId) {
         CancelOrderRequest request = new CancelOrderRequest();
         request.setSymbol(symbol);
@@ -146,6 +170,34 @@ public class BinanceClient {
         );
     }
 
+    public ResponseEntity<List<CancelOrderResponse>> cancelOpenOrders(String symbol) {
+        CancelOpenOrdersRequest request = new CancelOpenOrdersRequest();
+        request.setSymbol(symbol);
+        request.setTimestamp(getCurrentTimestamp());
+
+        return sendRequest(
+                "/api/v3/openOrders",
+                "DELETE",
+                request,
+                new ParameterizedTypeReference<>() {
+                }
+        );
+    }
+
+    public ResponseEntity<List<GetOrderResponse>> getOpenOrders(String symbol) {
+        GetOpenOrdersRequest request = new GetOpenOrdersRequest();
+        request.setSymbol(symbol);
+        request.setTimestamp(getCurrentTimestamp());
+
+        return sendRequest(
+                "/api/v3/openOrders",
+                "GET",
+                request,
+                new ParameterizedTypeReference<>() {
+                }
+        );
+    }
+
     public ResponseEntity<GetAccountResponse> getAccount() {
         GetAccountRequest request = new GetAccountRequest();
         request.setOmitZeroBalances(true);
@@ -175,15 +227,24 @@ public class BinanceClient {
     }
 
     private <T> ResponseEntity<T> sendRequest(String endpoint, String method, Object requestDto, Class<T> responseType) {
+        return sendRequest(endpoint, method, requestDto, spec -> spec.toEntity(responseType));
+    }
+
+    private <T> ResponseEntity<T> sendRequest(String endpoint, String method, Object requestDto,
+                                              ParameterizedTypeReference<T> responseType) {
+        return sendRequest(endpoint, method, requestDto, spec -> spec.toEntity(responseType));
+    }
+
+    private <T> ResponseEntity<T> sendRequest(String endpoint, String method, Object requestDto,
+                                              Function<RestClient.ResponseSpec, ResponseEntity<T>> extractor) {
         try {
             Map<String, String> params = objectMapper.convertValue(requestDto, new TypeReference<>() {
             });
             String queryString = buildQueryString(params);
             URI uri = URI.create(BASE_URL + endpoint + "?" + queryString);
-            return restClient.method(org.springframework.http.HttpMethod.valueOf(method))
+            return extractor.apply(restClient.method(org.springframework.http.HttpMethod.valueOf(method))
                     .uri(uri)
-                    .retrieve()
-                    .toEntity(responseType);
+                    .retrieve());
         } catch (HttpClientErrorException e) {
             throw e;
         } catch (Exception e) {
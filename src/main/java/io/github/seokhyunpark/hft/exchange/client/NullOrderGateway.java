@@ -0,0 +1,49 @@
+package io.github.seokhyunpark.hft.exchange.client;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import io.github.seokhyunpark.hft.exchange.dto.rest.CancelOrderResponse;
+import io.github.seokhyunpark.hft.exchange.dto.rest.NewOrderResponse;
+
+// 거래소로 아무것도 보내지 않고 즉시 접수 응답을 돌려준다. 주문 수 헤더는 0 으로 내려 주문 한도에 걸리지 않게 한다.
+public class NullOrderGateway implements OrderGateway {
+    private final AtomicLong nextOrderId;
+    private final HttpHeaders headers = new HttpHeaders();
+
+    public NullOrderGateway(long firstOrderId) {
+        this.nextOrderId = new AtomicLong(firstOrderId);
+        headers.add("X-MBX-ORDER-COUNT-10s", "0");
+        headers.add("X-MBX-USED-WEIGHT-1m", "0");
+    }
+
+    @Override
+    public ResponseEntity<NewOrderResponse> buyLimitMaker(String symbol, String qty, String price) {
+        return newOrder(symbol);
+    }
+
+    @Override
+    public ResponseEntity<NewOrderResponse> sellLimitMaker(String symbol, String qty, String price) {
+        return newOrder(symbol);
+    }
+
+    // 수량을 비워 두면 실행기는 취소 전 수량을 그대로 남은 수량으로 본다.
+    @Override
+    public ResponseEntity<CancelOrderResponse> cancelOrder(String symbol, long orderId) {
+        CancelOrderResponse response = new CancelOrderResponse(
+                symbol, null, orderId, -1L, null, System.currentTimeMillis(),
+                null, null, null, null, null, "CANCELED", null, null, null, null
+        );
+        return new ResponseEntity<>(response, headers, HttpStatus.OK);
+    }
+
+    private ResponseEntity<NewOrderResponse> newOrder(String symbol) {
+        NewOrderResponse response = new NewOrderResponse(
+                symbol, nextOrderId.getAndIncrement(), -1L, null, System.currentTimeMillis()
+        );
+        return new ResponseEntity<>(response, headers, HttpStatus.OK);
+    }
+}
@@ -0,0 +1,15 @@
+package io.github.seokhyunpark.hft.exchange.client;
+
+import org.springframework.http.ResponseEntity;
+
+import io.github.seokhyunpark.hft.exchange.dto.rest.CancelOrderResponse;
+import io.github.seokhyunpark.hft.exchange.dto.rest.NewOrderResponse;
+
+// 주문 실행기가 쓰는 거래소 주문 요청. 실거래는 BinanceClient, 워밍업은 NullOrderGateway 가 구현한다.
+public interface OrderGateway {
+    ResponseEntity<NewOrderResponse> buyLimitMaker(String symbol, String qty, String price);
+
+    ResponseEntity<NewOrderResponse> sellLimitMaker(String symbol, String qty, String price);
+
+    ResponseEntity<CancelOrderResponse> cancelOrder(String symbol, long orderId);
+}
@@ -0,0 +1,24 @@
+package io.github.seokhyunpark.hft.exchange.dto.rest;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@JsonInclude(Include.NON_NULL)
+public class CancelOpenOrdersRequest {
+    // https://developers.binance.com/docs/binance-spot-api-docs/rest-api/trading-endpoints#cancel-all-open-orders-on-a-symbol-trade
+
+    @JsonProperty("symbol")
+    String symbol;
+
+    @JsonProperty("recvWindow")
+    String recvWindow;
+
+    @JsonProperty("timestamp")
+    Long timestamp;
+}
@@ -0,0 +1,21 @@
+package io.github.seokhyunpark.hft.exchange.dto.rest;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record MyTradeResponse(
+        // https://developers.binance.com/docs/binance-spot-api-docs/rest-api/account-endpoints#account-trade-list-user_data
+        @JsonProperty("symbol") String symbol,
+        @JsonProperty("id") long id,
+        @JsonProperty("orderId") long orderId,
+        @JsonProperty("price") String price,
+        @JsonProperty("qty") String qty,
+        @JsonProperty("quoteQty") String quoteQty,
+        @JsonProperty("commission") String commission,
+        @JsonProperty("commissionAsset") String commissionAsset,
+        @JsonProperty("time") long time,
+        @JsonProperty("isBuyer") boolean isBuyer,
+        @JsonProperty("isMaker") boolean isMaker
+) {
+}
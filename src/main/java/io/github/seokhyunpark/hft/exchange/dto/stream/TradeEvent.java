@@ -0,0 +1,53 @@
+package io.github.seokhyunpark.hft.exchange.dto.stream;
+
+// @aggTrade / @trade 메시지 한 건. 디코더가 같은 인스턴스를 재사용하므로 콜백 밖으로 참조를 넘기지 않는다.
+// https://developers.binance.com/docs/binance-spot-api-docs/web-socket-streams#aggregate-trade-streams
+public final class TradeEvent {
+    private long eventTime;
+    private long tradeId;
+    private long priceTicks;
+    private long qtyTicks;
+    private long tradeTime;
+    private boolean buyerMaker;
+
+    public void update(
+            long eventTime,
+            long tradeId,
+            long priceTicks,
+            long qtyTicks,
+            long tradeTime,
+            boolean buyerMaker
+    ) {
+        this.eventTime = eventTime;
+        this.tradeId = tradeId;
+        this.priceTicks = priceTicks;
+        this.qtyTicks = qtyTicks;
+        this.tradeTime = tradeTime;
+        this.buyerMaker = buyerMaker;
+    }
+
+    public long eventTime() {
+        return eventTime;
+    }
+
+    public long tradeId() {
+        return tradeId;
+    }
+
+    public long priceTicks() {
+        return priceTicks;
+    }
+
+    public long qtyTicks() {
+        return qtyTicks;
+    }
+
+    public long tradeTime() {
+        return tradeTime;
+    }
+
+    // 매수자가 메이커면 매도 주도 체결, 아니면 매수 주도 체결이다.
+    public boolean buyerMaker() {
+        return buyerMaker;
+    }
+}
@@ -1,7 +1,10 @@
 package io.github.seokhyunpark.hft.exchange.listener;
 
 import io.github.seokhyunpark.hft.exchange.dto.stream.PartialBookDepth;
+import io.github.seokhyunpark.hft.exchange.dto.stream.TradeEvent;
 
 public interface MarketEventListener {
     void onPartialBookDepthReceived(PartialBookDepth depth);
+
+    void onTradeReceived(TradeEvent trade);
 }
@@ -12,18 +12,26 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import io.github.seokhyunpark.hft.exchange.stream.MarketDataStream;
+import io.github.seokhyunpark.hft.exchange.stream.TradeDecoder;
+import io.github.seokhyunpark.hft.exchange.stream.TradeStream;
 import io.github.seokhyunpark.hft.exchange.stream.UserDataStream;
 import io.github.seokhyunpark.hft.exchange.util.SignatureUtil;
-import io.github.seokhyunpark.hft.trading.processor.MarketEventProcessor;
+import io.github.seokhyunpark.hft.threading.MarketEventPipeline;
+import io.github.seokhyunpark.hft.trading.config.TradingProperties;
+import io.github.seokhyunpark.hft.trading.metrics.TradingMetrics;
 import io.github.seokhyunpark.hft.trading.processor.UserEventProcessor;
+import io.github.seokhyunpark.hft.trading.warmup.JitWarmUp;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class ExchangeService {
+    private final TradingProperties props;
     private final SignatureUtil signatureUtil;
-    private final MarketEventProcessor marketEventProcessor;
+    private final MarketEventPipeline marketEventPipeline;
     private final UserEventProcessor userEventProcessor;
+    private final TradingMetrics metrics;
+    private final JitWarmUp jitWarmUp;
 
     @Value("${hft.websocket.enabled}")
     private boolean websocketEnabled;
@@ -31,6 +39,9 @@ public class ExchangeService {
     @Value("${hft.stream.market-uri}")
     private String marketUri;
 
+    @Value("${hft.stream.trade-uri}")
+    private String tradeUri;
+
     @Value("${hft.stream.user-uri}")
     private String userUri;
 
@@ -40,7 +51,16 @@ public class ExchangeService {
     @Value("${hft.exchange.private-key-path}")
     private String privateKeyPath;
 
+    // 핫 패스를 미리 데워 첫 실이벤트가 인터프리터에서 처리되지 않게 한다.
     @PostConstruct
+    public void warmUp() {
+        if (websocketEnabled) {
+            jitWarmUp.run();
+        }
+    }
+
+    // 로컬 상태 복구와 거래소 대사가 끝난 뒤 TradingStateInitializer 가 호출한다.
+    // 그 전에 연결하면 실시간 체결과 주문이 복구 중인 상태를 동시에 고쳐 쓴다.
     public void connect() {
         if (!websocketEnabled) {
             log.info("웹소켓 연결 설정이 비활성화되어 있습니다. 연결을 건너뜁니다.");
@@ -49,13 +69,15 @@ public class ExchangeService {
 
         if (connectUserStream()) {
             connectMarketStream();
+            connectTradeStream();
         }
     }
 
     private boolean connectUserStream() {
         try {
             URI uri = new URI(userUri);
-            UserDataStream userDataStream = new UserDataStream(uri, userEventProcessor, apiKey, privateKeyPath, signatureUtil);
+            UserDataStream userDataStream = new UserDataStream(
+                    uri, userEventProcessor, apiKey, privateKeyPath, signatureUtil, metrics.userStream());
 
             boolean connected = userDataStream.connectBlocking();
             if (!connected) {
@@ -80,11 +102,23 @@ public class ExchangeService {
     private void connectMarketStream() {
         try {
             URI uri = new URI(marketUri);
-            MarketDataStream marketDataStream = new MarketDataStream(uri, marketEventProcessor);
+            MarketDataStream marketDataStream = new MarketDataStream(uri, marketEventPipeline, metrics.marketStream());
             marketDataStream.connect();
 
         } catch (Exception e) {
             log.error("[Market] 웹소켓 초기화 실패: {}", e.getMessage());
         }
     }
+
+    private void connectTradeStream() {
+        try {
+            URI uri = new URI(tradeUri);
+            TradeDecoder decoder = new TradeDecoder(props.priceTickSize(), props.qtyTickSize());
+            TradeStream tradeStream = new TradeStream(uri, decoder, marketEventPipeline, metrics.tradeStream());
+            tradeStream.connect();
+
+        } catch (Exception e) {
+            log.error("[Trade] 웹소켓 초기화 실패: {}", e.getMessage());
+        }
+    }
 }
@@ -11,39 +11,52 @@ import lombok.extern.slf4j.Slf4j;
 
 import io.github.seokhyunpark.hft.exchange.dto.stream.PartialBookDepth;
 import io.github.seokhyunpark.hft.exchange.listener.MarketEventListener;
+import io.github.seokhyunpark.hft.jfr.DepthDecodeEvent;
 
 @Slf4j
 public class MarketDataStream extends WebSocketClient {
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    // 역직렬화기 캐시를 재연결 및 워밍업과 공유한다.
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
     private final MarketEventListener marketEventListener;
+    private final StreamMetrics metrics;
 
-    public MarketDataStream(URI uri, MarketEventListener marketEventListener) {
+    public MarketDataStream(URI uri, MarketEventListener marketEventListener, StreamMetrics metrics) {
         super(uri);
         this.marketEventListener = marketEventListener;
+        this.metrics = metrics;
     }
 
     @Override
     public void onOpen(ServerHandshake serverHandshake) {
+        metrics.onOpen();
         log.info("[Market] 웹소켓 연결 성공");
     }
 
     @Override
     public void onMessage(String message) {
+        metrics.onMessage();
+        DepthDecodeEvent decode = new DepthDecodeEvent();
+        decode.begin();
         try {
-            PartialBookDepth depth = objectMapper.readValue(message, PartialBookDepth.class);
+            PartialBookDepth depth = OBJECT_MAPPER.readValue(message, PartialBookDepth.class);
+            decode.complete(depth.lastUpdateId(), message.length());
             marketEventListener.onPartialBookDepthReceived(depth);
         } catch (Exception e) {
+            metrics.onError();
             log.error("[Market] onMessage 에러 발생: {}", e.getMessage());
         }
     }
 
     @Override
     public void onClose(int code, String reason, boolean remote) {
+        metrics.onClose();
         log.info("[Market] 웹소켓 연결 종료 (Code: {}, Reason: {})", code, reason);
     }
 
     @Override
     public void onError(Exception e) {
+        metrics.onError();
         log.error("[Market] 웹소켓 에러 발생");
     }
 }
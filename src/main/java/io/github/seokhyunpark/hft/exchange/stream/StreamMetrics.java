@@ -0,0 +1,43 @@
+package io.github.seokhyunpark.hft.exchange.stream;
+
+import java.util.concurrent.atomic.LongAdder;
+
+// 웹소켓 스트림 하나의 연결/메시지 카운터. 콜백 스레드에서 올리고 수집 스레드에서 합계만 읽는다.
+public class StreamMetrics {
+    private final LongAdder connects = new LongAdder();
+    private final LongAdder disconnects = new LongAdder();
+    private final LongAdder messages = new LongAdder();
+    private final LongAdder errors = new LongAdder();
+
+    void onOpen() {
+        connects.increment();
+    }
+
+    void onClose() {
+        disconnects.increment();
+    }
+
+    void onMessage() {
+        messages.increment();
+    }
+
+    void onError() {
+        errors.increment();
+    }
+
+    public long getConnectCount() {
+        return connects.sum();
+    }
+
+    public long getDisconnectCount() {
+        return disconnects.sum();
+    }
+
+    public long getMessageCount() {
+        return messages.sum();
+    }
+
+    public long getErrorCount() {
+        return errors.sum();
+    }
+}
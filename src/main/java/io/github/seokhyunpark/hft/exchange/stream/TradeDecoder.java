@@ -0,0 +1,101 @@
+package io.github.seokhyunpark.hft.exchange.stream;
+
+import java.math.BigDecimal;
+
+import io.github.seokhyunpark.hft.exchange.dto.stream.TradeEvent;
+import io.github.seokhyunpark.hft.exchange.util.DecimalParser;
+
+// Jackson 트리를 만들지 않고 @aggTrade / @trade 메시지를 재사용 객체로 디코딩한다. 메시지당 할당이 없다.
+// 결합 스트림의 {"stream":..,"data":{..}} 형태도 안쪽 객체로 들어가 같은 방식으로 읽는다.
+public final class TradeDecoder {
+    private final int priceScale;
+    private final long priceTickUnscaled;
+    private final int qtyScale;
+    private final long qtyTickUnscaled;
+    private final TradeEvent trade = new TradeEvent();
+
+    public TradeDecoder(BigDecimal priceTickSize, BigDecimal qtyTickSize) {
+        this.priceScale = priceTickSize.scale();
+        this.priceTickUnscaled = priceTickSize.unscaledValue().longValueExact();
+        this.qtyScale = qtyTickSize.scale();
+        this.qtyTickUnscaled = qtyTickSize.unscaledValue().longValueExact();
+    }
+
+    public TradeEvent trade() {
+        return trade;
+    }
+
+    // 가격, 수량, 체결 ID, 체결 방향이 모두 있을 때만 true 이고 그때만 trade() 가 갱신된다.
+    public boolean decode(CharSequence message) {
+        long eventTime = 0L;
+        long tradeId = -1L;
+        long price = -1L;
+        long qty = -1L;
+        long tradeTime = 0L;
+        boolean buyerMaker = false;
+        boolean hasSide = false;
+
+        int n = message.length();
+        int i = 0;
+        while (i < n) {
+            int keyStart = indexOf(message, '"', i, n);
+            int keyEnd = keyStart < 0 ? -1 : indexOf(message, '"', keyStart + 1, n);
+            if (keyEnd < 0 || keyEnd + 2 >= n) {
+                break;
+            }
+            int valueStart = keyEnd + 2;
+            int valueEnd;
+            char first = message.charAt(valueStart);
+            if (first == '{') {
+                i = valueStart + 1;
+                continue;
+            }
+            if (first == '"') {
+                valueStart++;
+                valueEnd = indexOf(message, '"', valueStart, n);
+                if (valueEnd < 0) {
+                    break;
+                }
+                i = valueEnd + 1;
+            } else {
+                valueEnd = valueStart;
+                while (valueEnd < n && message.charAt(valueEnd) != ',' && message.charAt(valueEnd) != '}') {
+                    valueEnd++;
+                }
+                i = valueEnd;
+            }
+
+            if (keyEnd - keyStart != 2) {
+                continue;
+            }
+            switch (message.charAt(keyStart + 1)) {
+                case 'E' -> eventTime = DecimalParser.parseScaled(message, valueStart, valueEnd, 0);
+                case 'a', 't' -> tradeId = DecimalParser.parseScaled(message, valueStart, valueEnd, 0);
+                case 'p' -> price = DecimalParser.parseScaled(message, valueStart, valueEnd, priceScale) / priceTickUnscaled;
+                case 'q' -> qty = DecimalParser.parseScaled(message, valueStart, valueEnd, qtyScale) / qtyTickUnscaled;
+                case 'T' -> tradeTime = DecimalParser.parseScaled(message, valueStart, valueEnd, 0);
+                case 'm' -> {
+                    buyerMaker = message.charAt(valueStart) == 't';
+                    hasSide = true;
+                }
+                default -> {
+                }
+            }
+        }
+
+        if (tradeId < 0 || price < 0 || qty < 0 || !hasSide) {
+            return false;
+        }
+        trade.update(eventTime, tradeId, price, qty, tradeTime, buyerMaker);
+        return true;
+    }
+
+    private static int indexOf(CharSequence message, char c, int from, int to) {
+        for (int i = from; i < to; i++) {
+            if (message.charAt(i) == c) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
@@ -0,0 +1,57 @@
+package io.github.seokhyunpark.hft.exchange.stream;
+
+import java.net.URI;
+
+import org.java_websocket.client.WebSocketClient;
+import org.java_websocket.handshake.ServerHandshake;
+
+import lombok.extern.slf4j.Slf4j;
+
+import io.github.seokhyunpark.hft.exchange.listener.MarketEventListener;
+
+@Slf4j
+public class TradeStream extends WebSocketClient {
+    private final TradeDecoder decoder;
+    private final MarketEventListener marketEventListener;
+    private final StreamMetrics metrics;
+
+    public TradeStream(URI uri, TradeDecoder decoder, MarketEventListener marketEventListener, StreamMetrics metrics) {
+        super(uri);
+        this.decoder = decoder;
+        this.marketEventListener = marketEventListener;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public void onOpen(ServerHandshake serverHandshake) {
+        metrics.onOpen();
+        log.info("[Trade] 웹소켓 연결 성공");
+    }
+
+    @Override
+    public void onMessage(String message) {
+        metrics.onMessage();
+        try {
+            if (decoder.decode(message)) {
+                marketEventListener.onTradeReceived(decoder.trade());
+            } else {
+                log.debug("[Trade] 알 수 없는 메시지: {}", message);
+            }
+        } catch (Exception e) {
+            metrics.onError();
+            log.error("[Trade] onMessage 에러 발생: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public void onClose(int code, String reason, boolean remote) {
+        metrics.onClose();
+        log.info("[Trade] 웹소켓 연결 종료 (Code: {}, Reason: {})", code, reason);
+    }
+
+    @Override
+    public void onError(Exception e) {
+        metrics.onError();
+        log.error("[Trade] 웹소켓 에러 발생");
+    }
+}
@@ -26,34 +26,50 @@ import io.github.seokhyunpark.hft.exchange.util.SignatureUtil;
 
 @Slf4j
 public class UserDataStream extends WebSocketClient {
+    // 역직렬화기 캐시를 워밍업과 공유한다.
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
     private final CountDownLatch userDataStreamReady = new CountDownLatch(1);
 
-    private final ObjectMapper objectMapper = new ObjectMapper();
     private final UserEventListener userEventListener;
+    private final StreamMetrics metrics;
 
     private final String apiKey;
     private final PrivateKey privateKey;
     private final SignatureUtil signatureUtil;
 
     public UserDataStream(URI uri, UserEventListener userEventListener, String apiKey, String privateKeyPath,
-                          SignatureUtil signatureUtil) throws Exception {
+                          SignatureUtil signatureUtil, StreamMetrics metrics) throws Exception {
         super(uri);
         this.userEventListener = userEventListener;
+        this.metrics = metrics;
         this.apiKey = apiKey;
         this.privateKey = signatureUtil.loadPrivateKey(privateKeyPath);
         this.signatureUtil = signatureUtil;
     }
 
+    // 연결하지 않고 onMessage 만 호출하는 오프라인 재생용 (로그온 불가)
+    public UserDataStream(URI uri, UserEventListener userEventListener, StreamMetrics metrics) {
+        super(uri);
+        this.userEventListener = userEventListener;
+        this.metrics = metrics;
+        this.apiKey = null;
+        this.privateKey = null;
+        this.signatureUtil = null;
+    }
+
     @Override
     public void onOpen(ServerHandshake serverHandshake) {
+        metrics.onOpen();
         log.info("[User] 웹소켓 연결 성공");
         logon();
     }
 
     @Override
     public void onMessage(String message) {
+        metrics.onMessage();
         try {
-            JsonNode node = objectMapper.readTree(message);
+            JsonNode node = OBJECT_MAPPER.readTree(message);
             if (node.has("id")) {
                 handleResponse(node);
                 return;
@@ -68,15 +84,15 @@ public class UserDataStream extends WebSocketClient {
             String eventType = payload.get("e").asText();
             switch (eventType) {
                 case "outboundAccountPosition" -> {
-                    AccountUpdate accountUpdate = objectMapper.treeToValue(payload, AccountUpdate.class);
+                    AccountUpdate accountUpdate = OBJECT_MAPPER.treeToValue(payload, AccountUpdate.class);
                     userEventListener.onAccountUpdateReceived(accountUpdate);
                 }
                 case "balanceUpdate" -> {
-                    BalanceUpdate balanceUpdate = objectMapper.treeToValue(payload, BalanceUpdate.class);
+                    BalanceUpdate balanceUpdate = OBJECT_MAPPER.treeToValue(payload, BalanceUpdate.class);
                     userEventListener.onBalanceUpdateReceived(balanceUpdate);
                 }
                 case "executionReport" -> {
-                    OrderUpdate orderUpdate = objectMapper.treeToValue(payload, OrderUpdate.class);
+                    OrderUpdate orderUpdate = OBJECT_MAPPER.treeToValue(payload, OrderUpdate.class);
                     userEventListener.onOrderUpdateReceived(orderUpdate);
                 }
                 default -> {
@@ -84,17 +100,20 @@ public class UserDataStream extends WebSocketClient {
                 }
             }
         } catch (Exception e) {
+            metrics.onError();
             log.error("[User] onMessage 에러 발생: {}", e.getMessage());
         }
     }
 
     @Override
     public void onClose(int code, String reason, boolean remote) {
+        metrics.onClose();
         log.info("[User] 웹소켓 연결 종료 (Code: {}, Reason: {})", code, reason);
     }
 
     @Override
     public void onError(Exception e) {
+        metrics.onError();
         log.error("[User] 웹소켓 에러 발생");
     }
 
@@ -111,7 +130,7 @@ public class UserDataStream extends WebSocketClient {
             String signature = signatureUtil.generateSignature(payload, privateKey);
 
             LogonRequest logonRequest = LogonRequest.of(apiKey, signature, timestamp);
-            String request = objectMapper.writeValueAsString(logonRequest);
+            String request = OBJECT_MAPPER.writeValueAsString(logonRequest);
 
             log.info("[User] 세션 로그온 요청 전송");
             send(request);
@@ -129,7 +148,7 @@ public class UserDataStream extends WebSocketClient {
                     "method", "userDataStream.subscribe"
             );
 
-            String request = objectMapper.writeValueAsString(message);
+            String request = OBJECT_MAPPER.writeValueAsString(message);
 
             log.info("[User] 구독 요청 전송");
             send(request);
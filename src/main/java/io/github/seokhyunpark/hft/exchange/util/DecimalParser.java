@@ -0,0 +1,34 @@
+package io.github.seokhyunpark.hft.exchange.util;
+
+public final class DecimalParser {
+    private DecimalParser() {
+    }
+
+    public static long parseScaled(CharSequence value, int scale) {
+        return parseScaled(value, 0, value.length(), scale);
+    }
+
+    // BigDecimal 을 거치지 않고 "12345.67000000" 형태의 [start, end) 구간을 scale 자리 정수로 변환한다. (초과 자릿수는 버림)
+    public static long parseScaled(CharSequence value, int start, int end, int scale) {
+        long result = 0L;
+        int fractionDigits = -1;
+        for (int i = start; i < end; i++) {
+            char c = value.charAt(i);
+            if (c == '.') {
+                fractionDigits = 0;
+                continue;
+            }
+            if (fractionDigits >= scale) {
+                break;
+            }
+            result = result * 10 + (c - '0');
+            if (fractionDigits >= 0) {
+                fractionDigits++;
+            }
+        }
+        for (int i = Math.max(fractionDigits, 0); i < scale; i++) {
+            result *= 10;
+        }
+        return result;
+    }
+}
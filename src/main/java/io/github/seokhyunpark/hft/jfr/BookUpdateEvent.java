@@ -0,0 +1,37 @@
+package io.github.seokhyunpark.hft.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+// 디코드된 호가를 호가창/리스크/전략까지 처리하는 구간
+@Name("io.github.seokhyunpark.hft.BookUpdate")
+@Label("Book Update")
+@Category({"HFT", "Market Data"})
+@StackTrace(false)
+public class BookUpdateEvent extends Event {
+    @Label("Last Update Id")
+    long lastUpdateId;
+
+    @Label("Best Bid Price Ticks")
+    long bestBidPriceTicks;
+
+    @Label("Best Ask Price Ticks")
+    long bestAskPriceTicks;
+
+    @Label("Skipped")
+    boolean skipped;
+
+    public void complete(long lastUpdateId, long bestBidPriceTicks, long bestAskPriceTicks, boolean skipped) {
+        end();
+        if (shouldCommit()) {
+            this.lastUpdateId = lastUpdateId;
+            this.bestBidPriceTicks = bestBidPriceTicks;
+            this.bestAskPriceTicks = bestAskPriceTicks;
+            this.skipped = skipped;
+            commit();
+        }
+    }
+}
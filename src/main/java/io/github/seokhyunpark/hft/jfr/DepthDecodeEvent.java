@@ -0,0 +1,31 @@
+package io.github.seokhyunpark.hft.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+// 호가 메시지 수신부터 JSON 디코드 완료까지
+@Name("io.github.seokhyunpark.hft.DepthDecode")
+@Label("Depth Decode")
+@Category({"HFT", "Market Data"})
+@StackTrace(false)
+public class DepthDecodeEvent extends Event {
+    @Label("Last Update Id")
+    long lastUpdateId;
+
+    @Label("Message Size")
+    @DataAmount
+    long messageBytes;
+
+    public void complete(long lastUpdateId, int messageLength) {
+        end();
+        if (shouldCommit()) {
+            this.lastUpdateId = lastUpdateId;
+            this.messageBytes = messageLength;
+            commit();
+        }
+    }
+}
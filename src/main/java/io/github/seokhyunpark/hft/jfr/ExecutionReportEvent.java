@@ -0,0 +1,70 @@
+package io.github.seokhyunpark.hft.jfr;
+
+import java.math.BigDecimal;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+import io.github.seokhyunpark.hft.exchange.dto.stream.OrderUpdate;
+import io.github.seokhyunpark.hft.trading.config.TradingProperties;
+
+// 체결 스트림 executionReport 처리 구간. 틱 변환은 기록 중일 때만 한다.
+@Name("io.github.seokhyunpark.hft.ExecutionReport")
+@Label("Execution Report")
+@Category({"HFT", "Order"})
+@StackTrace(false)
+public class ExecutionReportEvent extends Event {
+    @Label("Order Id")
+    long orderId;
+
+    @Label("Side")
+    String side;
+
+    @Label("Execution Type")
+    String executionType;
+
+    @Label("Order Status")
+    String orderStatus;
+
+    @Label("Price Ticks")
+    long priceTicks;
+
+    @Label("Qty Ticks")
+    long qtyTicks;
+
+    @Label("Match To Event")
+    @Timespan(Timespan.MILLISECONDS)
+    long matchToEventMillis;
+
+    @Label("Event To Receive")
+    @Timespan(Timespan.MILLISECONDS)
+    long eventToReceiveMillis;
+
+    public void complete(OrderUpdate update, long receivedMillis, TradingProperties props) {
+        end();
+        if (shouldCommit()) {
+            boolean trade = "TRADE".equals(update.currentExecutionType());
+            this.orderId = update.orderId();
+            this.side = update.side();
+            this.executionType = update.currentExecutionType();
+            this.orderStatus = update.currentOrderStatus();
+            this.priceTicks = toTicks(trade ? update.lastExecutedPrice() : update.orderPrice(), props, true);
+            this.qtyTicks = toTicks(trade ? update.lastExecutedQty() : update.orderQty(), props, false);
+            this.matchToEventMillis = update.eventTime() - update.transactionTime();
+            this.eventToReceiveMillis = receivedMillis - update.eventTime();
+            commit();
+        }
+    }
+
+    private static long toTicks(String value, TradingProperties props, boolean price) {
+        if (value == null) {
+            return 0L;
+        }
+        BigDecimal decimal = new BigDecimal(value);
+        return price ? props.toPriceTicks(decimal) : props.toQtyTicks(decimal);
+    }
+}
@@ -0,0 +1,102 @@
+package io.github.seokhyunpark.hft.jfr;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Event;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+import io.github.seokhyunpark.hft.trading.config.StateProperties;
+
+// 관리 API 로 시작하는 시간 제한 JFR 녹화. 한 번에 하나만 돌며, 끝나면 JFR 이 파일로 덤프한다.
+@Slf4j
+@Component
+public class FlightRecordingService {
+    private static final String DIRECTORY = "jfr";
+    private static final Duration MAX_DURATION = Duration.ofMinutes(30);
+    private static final DateTimeFormatter FILE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+    private static final List<Class<? extends Event>> EVENTS = List.of(
+            DepthDecodeEvent.class,
+            BookUpdateEvent.class,
+            StrategyDecisionEvent.class,
+            OrderSubmitEvent.class,
+            OrderCancelEvent.class,
+            ExecutionReportEvent.class
+    );
+
+    private final Path directory;
+
+    private Recording recording;
+    private Path file;
+
+    public FlightRecordingService(StateProperties stateProps) {
+        this.directory = stateProps.resolve(DIRECTORY);
+    }
+
+    public record Status(boolean recording, String file, Instant startedAt, Duration duration) {
+    }
+
+    // settings 는 JDK 기본 설정 이름(default, profile)이다.
+    public synchronized Status start(Duration duration, String settings) throws IOException, ParseException {
+        if (isRecording()) {
+            throw new IllegalStateException("이미 녹화 중입니다: " + file);
+        }
+        if (duration.isNegative() || duration.isZero() || duration.compareTo(MAX_DURATION) > 0) {
+            throw new IllegalArgumentException("녹화 시간은 0초 초과 " + MAX_DURATION.toMinutes() + "분 이하여야 합니다.");
+        }
+
+        Files.createDirectories(directory);
+        Path destination = directory.resolve("hft-" + LocalDateTime.now().format(FILE_TIME) + ".jfr");
+        Recording created = new Recording(Configuration.getConfiguration(settings));
+        created.setName("hft-admin");
+        created.setToDisk(true);
+        created.setDuration(duration);
+        created.setDestination(destination);
+        for (Class<? extends Event> event : EVENTS) {
+            created.enable(event);
+        }
+        created.start();
+
+        if (recording != null) {
+            recording.close();
+        }
+        recording = created;
+        file = destination;
+        log.warn("[JFR] 녹화 시작 | FILE: {} | DURATION: {}s | SETTINGS: {}", destination, duration.toSeconds(), settings);
+        return status();
+    }
+
+    // 기한 전에 멈추면 지금까지의 내용을 파일로 남긴다.
+    public synchronized Status stop() {
+        if (isRecording()) {
+            recording.stop();
+            log.warn("[JFR] 녹화 중단 | FILE: {}", file);
+        }
+        return status();
+    }
+
+    public synchronized Status status() {
+        if (recording == null) {
+            return new Status(false, null, null, null);
+        }
+        return new Status(isRecording(), file.toString(), recording.getStartTime(), recording.getDuration());
+    }
+
+    private boolean isRecording() {
+        return recording != null
+                && (recording.getState() == RecordingState.RUNNING || recording.getState() == RecordingState.DELAYED);
+    }
+}
@@ -0,0 +1,39 @@
+package io.github.seokhyunpark.hft.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import io.github.seokhyunpark.hft.trading.strategy.OrderSide;
+
+// 취소 REST 요청부터 응답까지의 왕복
+@Name("io.github.seokhyunpark.hft.OrderCancel")
+@Label("Order Cancel")
+@Category({"HFT", "Order"})
+@StackTrace(false)
+public class OrderCancelEvent extends Event {
+    @Label("Side")
+    String side;
+
+    @Label("Order Id")
+    long orderId;
+
+    @Label("Outcome")
+    String outcome;
+
+    @Label("Reject Code")
+    String rejectCode;
+
+    public void complete(OrderSide side, long orderId, OrderOutcome outcome, String rejectCode) {
+        end();
+        if (shouldCommit()) {
+            this.side = side.name();
+            this.orderId = orderId;
+            this.outcome = outcome.name();
+            this.rejectCode = rejectCode;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package io.github.seokhyunpark.hft.jfr;
+
+public enum OrderOutcome {
+    ACK,
+    REJECTED,
+    ERROR
+}
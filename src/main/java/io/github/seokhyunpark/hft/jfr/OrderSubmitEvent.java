@@ -0,0 +1,54 @@
+package io.github.seokhyunpark.hft.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import io.github.seokhyunpark.hft.trading.strategy.OrderSide;
+
+// 신규 주문 REST 요청부터 응답까지의 왕복
+@Name("io.github.seokhyunpark.hft.OrderSubmit")
+@Label("Order Submit")
+@Category({"HFT", "Order"})
+@StackTrace(false)
+public class OrderSubmitEvent extends Event {
+    @Label("Side")
+    String side;
+
+    @Label("Order Id")
+    long orderId;
+
+    @Label("Price Ticks")
+    long priceTicks;
+
+    @Label("Qty Ticks")
+    long qtyTicks;
+
+    @Label("Outcome")
+    String outcome;
+
+    @Label("Reject Code")
+    String rejectCode;
+
+    public void complete(
+            OrderSide side,
+            long orderId,
+            long priceTicks,
+            long qtyTicks,
+            OrderOutcome outcome,
+            String rejectCode
+    ) {
+        end();
+        if (shouldCommit()) {
+            this.side = side.name();
+            this.orderId = orderId;
+            this.priceTicks = priceTicks;
+            this.qtyTicks = qtyTicks;
+            this.outcome = outcome.name();
+            this.rejectCode = rejectCode;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package io.github.seokhyunpark.hft.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+// 전략 콜백 한 번. 의도 실행(주문 요청 제출)은 포함하지 않는다.
+@Name("io.github.seokhyunpark.hft.StrategyDecision")
+@Label("Strategy Decision")
+@Category({"HFT", "Strategy"})
+@StackTrace(false)
+public class StrategyDecisionEvent extends Event {
+    @Label("Strategy")
+    String strategy;
+
+    @Label("Trigger")
+    String trigger;
+
+    @Label("Intents")
+    int intents;
+
+    @Label("Last Update Id")
+    long lastUpdateId;
+
+    public void complete(String strategy, String trigger, int intents, long lastUpdateId) {
+        end();
+        if (shouldCommit()) {
+            this.strategy = strategy;
+            this.trigger = trigger;
+            this.intents = intents;
+            this.lastUpdateId = lastUpdateId;
+            commit();
+        }
+    }
+}
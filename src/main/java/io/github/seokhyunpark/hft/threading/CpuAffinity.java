@@ -0,0 +1,62 @@
+package io.github.seokhyunpark.hft.threading;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+import lombok.extern.slf4j.Slf4j;
+
+// 호출한 스레드를 지정한 CPU 목록에 고정한다 (Linux 전용).
+// JDK 에는 친화도 API 가 없으므로 /proc/thread-self 로 커널 스레드 ID 를 얻어 taskset 에 넘긴다.
+@Slf4j
+public final class CpuAffinity {
+    private static final Pattern CPU_LIST = Pattern.compile("\\d+(-\\d+)?(,\\d+(-\\d+)?)*");
+    private static final Path THREAD_SELF = Path.of("/proc/thread-self");
+    private static final long TASKSET_TIMEOUT_MS = 1_000L;
+
+    private CpuAffinity() {
+    }
+
+    // 비어 있으면 아무것도 하지 않는다. 실패해도 스레드는 고정 없이 계속 동작한다.
+    public static boolean pin(String cpuList) {
+        if (cpuList == null || cpuList.isBlank()) {
+            return false;
+        }
+        String threadName = Thread.currentThread().getName();
+        String cpus = cpuList.replace(" ", "");
+        if (!CPU_LIST.matcher(cpus).matches()) {
+            log.warn("⚠️[AFFINITY] FAIL | THREAD: {} | REASON: 잘못된 CPU 목록 {}", threadName, cpuList);
+            return false;
+        }
+
+        try {
+            String tid = currentThreadId();
+            Process process = new ProcessBuilder("taskset", "-p", "-c", cpus, tid)
+                    .redirectErrorStream(true)
+                    .start();
+            String output = new String(process.getInputStream().readAllBytes()).trim();
+            if (!process.waitFor(TASKSET_TIMEOUT_MS, TimeUnit.MILLISECONDS) || process.exitValue() != 0) {
+                log.warn("⚠️[AFFINITY] FAIL | THREAD: {} | REASON: {}", threadName, output);
+                return false;
+            }
+            log.info("[AFFINITY] OK | THREAD: {} | TID: {} | CPU: {}", threadName, tid, cpus);
+            return true;
+        } catch (IOException e) {
+            log.warn("⚠️[AFFINITY] FAIL | THREAD: {} | REASON: {}", threadName, e.getMessage());
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    // /proc/thread-self -> "<pid>/task/<tid>"
+    private static String currentThreadId() throws IOException {
+        if (!Files.exists(THREAD_SELF)) {
+            throw new IOException("/proc/thread-self 가 없는 OS 는 지원하지 않습니다");
+        }
+        return Files.readSymbolicLink(THREAD_SELF).getFileName().toString();
+    }
+}
@@ -0,0 +1,200 @@
+package io.github.seokhyunpark.hft.threading;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+import io.github.seokhyunpark.hft.exchange.dto.stream.PartialBookDepth;
+import io.github.seokhyunpark.hft.exchange.dto.stream.TradeEvent;
+import io.github.seokhyunpark.hft.exchange.listener.MarketEventListener;
+import io.github.seokhyunpark.hft.trading.config.ThreadingProperties;
+import io.github.seokhyunpark.hft.trading.metrics.LatencyHistogram;
+import io.github.seokhyunpark.hft.trading.metrics.TradingMetrics;
+import io.github.seokhyunpark.hft.trading.processor.MarketEventProcessor;
+
+// 웹소켓 디코더 스레드와 매매 로직 스레드 사이의 단계.
+// 비활성화 시 디코더 스레드에서 바로 처리하고, 활성화 시 전용 "trading-core" 스레드로 넘긴다.
+//  - 호가: depth5 프레임은 전체 스냅샷이므로 가장 최근 것 하나만 남기고 밀린 프레임은 합친다.
+//  - 체결: 디코더가 인스턴스를 재사용하므로 원시 값을 SPSC 링에 복사해 순서대로 넘긴다. 가득 차면 디코더가 기다린다.
+@Slf4j
+@Component
+public class MarketEventPipeline implements MarketEventListener {
+    // 레코드 구조: [EVENT_TIME, TRADE_ID, PRICE, QTY, TRADE_TIME, BUYER_MAKER, PUBLISHED_NANOS, RESERVED]
+    private static final int STRIDE = 8;
+
+    private final MarketEventProcessor processor;
+    private final ThreadingProperties threadingProps;
+    private final TradingMetrics metrics;
+    private final WaitStrategy waitStrategy;
+    private final LatencyHistogram handoffLatency;
+
+    private final AtomicReference<PendingDepth> latestDepth = new AtomicReference<>();
+    private final long[] trades;
+    private final int tradeMask;
+    private final AtomicLong tradeHead = new AtomicLong();
+    private final AtomicLong tradeTail = new AtomicLong();
+    private final TradeEvent trade = new TradeEvent();
+
+    private Thread marketDecoderThread;
+    private Thread tradeDecoderThread;
+    private Thread consumer;
+    private volatile boolean running;
+
+    private record PendingDepth(PartialBookDepth depth, long publishedNanos) {
+    }
+
+    public MarketEventPipeline(
+            MarketEventProcessor processor,
+            ThreadingProperties threadingProps,
+            TradingMetrics metrics
+    ) {
+        this.processor = processor;
+        this.threadingProps = threadingProps;
+        this.metrics = metrics;
+        this.waitStrategy = threadingProps.waitStrategy();
+        this.handoffLatency = metrics.handoffLatency();
+
+        int capacity = Integer.highestOneBit(Math.max(2, threadingProps.tradeQueueCapacity() - 1)) << 1;
+        this.trades = new long[capacity * STRIDE];
+        this.tradeMask = capacity - 1;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (!threadingProps.enabled()) {
+            return;
+        }
+        running = true;
+        consumer = new Thread(this::run, "trading-core");
+        consumer.setDaemon(true);
+        consumer.start();
+        log.info("[TRADING-THREAD] 시작 | WAIT: {} | CPU: {}", waitStrategy, threadingProps.cpus().trading());
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        if (consumer == null) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(consumer);
+        consumer.join(TimeUnit.SECONDS.toMillis(1));
+        log.info("[TRADING-THREAD] 종료 | WAIT: {} | HANDOFF(us) p50: {} | p99: {} | p999: {} | MAX: {}",
+                waitStrategy,
+                handoffLatency.percentile(0.5) / 1_000L,
+                handoffLatency.percentile(0.99) / 1_000L,
+                handoffLatency.percentile(0.999) / 1_000L,
+                handoffLatency.getMax() / 1_000L);
+    }
+
+    // ----------------------------------------------------------------------------------------------------
+    // 생산자 (웹소켓 디코더 스레드)
+    // ----------------------------------------------------------------------------------------------------
+    @Override
+    public void onPartialBookDepthReceived(PartialBookDepth depth) {
+        if (marketDecoderThread != Thread.currentThread()) {
+            // 재연결하면 읽기 스레드가 새로 만들어지므로 처음 받은 메시지에서 다시 고정한다.
+            marketDecoderThread = Thread.currentThread();
+            CpuAffinity.pin(threadingProps.cpus().marketDecoder());
+        }
+        if (!running) {
+            processor.onPartialBookDepthReceived(depth);
+            return;
+        }
+        if (latestDepth.getAndSet(new PendingDepth(depth, System.nanoTime())) != null) {
+            metrics.onBookFrameConflated();
+        }
+        waitStrategy.signal(consumer);
+    }
+
+    @Override
+    public void onTradeReceived(TradeEvent event) {
+        if (tradeDecoderThread != Thread.currentThread()) {
+            tradeDecoderThread = Thread.currentThread();
+            CpuAffinity.pin(threadingProps.cpus().tradeDecoder());
+        }
+        if (!running) {
+            processor.onTradeReceived(event);
+            return;
+        }
+
+        long head = tradeHead.get();
+        while (head - tradeTail.get() > tradeMask) {
+            if (!running) {
+                return;
+            }
+            Thread.onSpinWait();
+        }
+        int base = (int) (head & tradeMask) * STRIDE;
+        trades[base] = event.eventTime();
+        trades[base + 1] = event.tradeId();
+        trades[base + 2] = event.priceTicks();
+        trades[base + 3] = event.qtyTicks();
+        trades[base + 4] = event.tradeTime();
+        trades[base + 5] = event.buyerMaker() ? 1L : 0L;
+        trades[base + 6] = System.nanoTime();
+        tradeHead.lazySet(head + 1);
+        waitStrategy.signal(consumer);
+    }
+
+    // ----------------------------------------------------------------------------------------------------
+    // 소비자 (trading-core 스레드)
+    // ----------------------------------------------------------------------------------------------------
+    private void run() {
+        CpuAffinity.pin(threadingProps.cpus().trading());
+        long maxParkNanos = TimeUnit.MICROSECONDS.toNanos(threadingProps.maxParkMicros());
+        while (running) {
+            // 먼저 도착한 체결을 반영한 뒤 최신 호가를 처리한다.
+            int handled = drainTrades() + drainBook();
+            if (handled == 0) {
+                waitStrategy.idle(maxParkNanos);
+            }
+        }
+    }
+
+    private int drainTrades() {
+        long tail = tradeTail.get();
+        long head = tradeHead.get();
+        for (long position = tail; position < head; position++) {
+            int base = (int) (position & tradeMask) * STRIDE;
+            handoffLatency.record(System.nanoTime() - trades[base + 6]);
+            trade.update(
+                    trades[base],
+                    trades[base + 1],
+                    trades[base + 2],
+                    trades[base + 3],
+                    trades[base + 4],
+                    trades[base + 5] != 0L
+            );
+            tradeTail.lazySet(position + 1);
+            try {
+                processor.onTradeReceived(trade);
+            } catch (Exception e) {
+                log.error("[TRADING-THREAD] 체결 처리 에러: {}", e.getMessage());
+            }
+        }
+        return (int) (head - tail);
+    }
+
+    private int drainBook() {
+        PendingDepth pending = latestDepth.getAndSet(null);
+        if (pending == null) {
+            return 0;
+        }
+        handoffLatency.record(System.nanoTime() - pending.publishedNanos());
+        try {
+            processor.onPartialBookDepthReceived(pending.depth());
+        } catch (Exception e) {
+            log.error("[TRADING-THREAD] 호가 처리 에러: {}", e.getMessage());
+        }
+        return 1;
+    }
+}
@@ -0,0 +1,39 @@
+package io.github.seokhyunpark.hft.threading;
+
+import java.util.concurrent.locks.LockSupport;
+
+// 스테이지 사이에서 소비 스레드가 일감이 없을 때 기다리는 방식. 위로 갈수록 CPU 를 더 쓰고 깨어나는 지연이 짧다.
+public enum WaitStrategy {
+    // 코어 하나를 계속 점유한다. 전용 코어가 격리된 호스트에서만 쓴다.
+    BUSY_SPIN {
+        @Override
+        public void idle(long maxParkNanos) {
+            Thread.onSpinWait();
+        }
+    },
+    // 같은 코어의 다른 스레드에 양보하지만 런큐에 남아 있다.
+    YIELD {
+        @Override
+        public void idle(long maxParkNanos) {
+            Thread.yield();
+        }
+    },
+    // 생산자가 깨울 때까지 잠든다. 가장 적게 쓰지만 깨어나는 데 스케줄러 지연이 붙는다.
+    PARK {
+        @Override
+        public void idle(long maxParkNanos) {
+            LockSupport.parkNanos(maxParkNanos);
+        }
+
+        @Override
+        public void signal(Thread consumer) {
+            LockSupport.unpark(consumer);
+        }
+    };
+
+    public abstract void idle(long maxParkNanos);
+
+    // 잠들지 않는 방식은 깨울 필요가 없다.
+    public void signal(Thread consumer) {
+    }
+}
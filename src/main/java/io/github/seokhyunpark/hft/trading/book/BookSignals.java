@@ -0,0 +1,210 @@
+package io.github.seokhyunpark.hft.trading.book;
+
+// 호가 갱신마다 한 번 계산되는 호가창 지표. 모든 값은 고정소수점이며 조회는 O(1) 이다.
+public final class BookSignals {
+    // 불균형은 -IMBALANCE_SCALE(매도 우위) ~ +IMBALANCE_SCALE(매수 우위)
+    public static final long IMBALANCE_SCALE = 10_000L;
+    // 마이크로프라이스는 가격 틱 * MICROPRICE_SCALE
+    public static final long MICROPRICE_SCALE = 1_000L;
+
+    private static final long BPS_SCALE = 10_000L;
+
+    private final int imbalanceLevels;
+    private final long depthBandBps;
+    private final long wideSpreadTicks;
+
+    private long topImbalance;
+    private long levelImbalance;
+    private long micropriceScaled;
+
+    private long bidDepthQtyTicks;
+    private long askDepthQtyTicks;
+
+    private long bidWallPriceTicks;
+    private long bidWallQtyTicks;
+    private int bidWallPersistence;
+    private long askWallPriceTicks;
+    private long askWallQtyTicks;
+    private int askWallPersistence;
+
+    private long spreadTicks;
+    private SpreadRegime spreadRegime = SpreadRegime.NORMAL;
+    private int spreadRegimePersistence;
+
+    public BookSignals(int imbalanceLevels, int depthBandBps, int wideSpreadTicks) {
+        this.imbalanceLevels = imbalanceLevels;
+        this.depthBandBps = depthBandBps;
+        this.wideSpreadTicks = wideSpreadTicks;
+    }
+
+    public void update(BookView book) {
+        long bid = book.bestBidPriceTicks();
+        long ask = book.bestAskPriceTicks();
+        long bidQty = book.bidQtyTicks(0);
+        long askQty = book.askQtyTicks(0);
+
+        topImbalance = imbalance(bidQty, askQty);
+        levelImbalance = imbalance(
+                sumQty(book, true, imbalanceLevels),
+                sumQty(book, false, imbalanceLevels)
+        );
+        // 반대편 잔량이 많을수록 가격이 그쪽 호가에서 멀어진다.
+        long topQty = bidQty + askQty;
+        micropriceScaled = topQty > 0
+                ? bid * MICROPRICE_SCALE + (ask - bid) * MICROPRICE_SCALE * bidQty / topQty
+                : (bid + ask) * MICROPRICE_SCALE / 2;
+
+        long mid = (bid + ask) >>> 1;
+        bidDepthQtyTicks = depthWithinBand(book, true, mid);
+        askDepthQtyTicks = depthWithinBand(book, false, mid);
+
+        updateBidWall(book);
+        updateAskWall(book);
+        updateSpread(ask - bid);
+    }
+
+    private static long imbalance(long bidQty, long askQty) {
+        long total = bidQty + askQty;
+        return total > 0 ? (bidQty - askQty) * IMBALANCE_SCALE / total : 0L;
+    }
+
+    private static long sumQty(BookView book, boolean bids, int maxLevels) {
+        int levels = Math.min(maxLevels, bids ? book.bidLevels() : book.askLevels());
+        long sum = 0L;
+        for (int i = 0; i < levels; i++) {
+            sum += bids ? book.bidQtyTicks(i) : book.askQtyTicks(i);
+        }
+        return sum;
+    }
+
+    // 레벨은 최우선 호가부터 정렬되어 있으므로 밴드를 벗어나면 멈춘다.
+    private long depthWithinBand(BookView book, boolean bids, long mid) {
+        int levels = bids ? book.bidLevels() : book.askLevels();
+        long sum = 0L;
+        for (int i = 0; i < levels; i++) {
+            long price = bids ? book.bidPriceTicks(i) : book.askPriceTicks(i);
+            if (Math.abs(price - mid) * BPS_SCALE > mid * depthBandBps) {
+                break;
+            }
+            sum += bids ? book.bidQtyTicks(i) : book.askQtyTicks(i);
+        }
+        return sum;
+    }
+
+    // ----------------------------------------------------------------------------------------------------
+    // 벽 (수량이 가장 큰 레벨) 과 지속 횟수
+    // ----------------------------------------------------------------------------------------------------
+    private void updateBidWall(BookView book) {
+        int level = largestLevel(book, true);
+        long price = level >= 0 ? book.bidPriceTicks(level) : 0L;
+        bidWallPersistence = price > 0 && price == bidWallPriceTicks ? bidWallPersistence + 1 : 1;
+        bidWallPriceTicks = price;
+        bidWallQtyTicks = level >= 0 ? book.bidQtyTicks(level) : 0L;
+    }
+
+    private void updateAskWall(BookView book) {
+        int level = largestLevel(book, false);
+        long price = level >= 0 ? book.askPriceTicks(level) : 0L;
+        askWallPersistence = price > 0 && price == askWallPriceTicks ? askWallPersistence + 1 : 1;
+        askWallPriceTicks = price;
+        askWallQtyTicks = level >= 0 ? book.askQtyTicks(level) : 0L;
+    }
+
+    // 수량이 같으면 최우선 호가에 가까운 레벨
+    private static int largestLevel(BookView book, boolean bids) {
+        int levels = bids ? book.bidLevels() : book.askLevels();
+        int largest = -1;
+        long largestQty = -1L;
+        for (int i = 0; i < levels; i++) {
+            long qty = bids ? book.bidQtyTicks(i) : book.askQtyTicks(i);
+            if (qty > largestQty) {
+                largestQty = qty;
+                largest = i;
+            }
+        }
+        return largest;
+    }
+
+    private void updateSpread(long spread) {
+        SpreadRegime regime;
+        if (spread <= 1) {
+            regime = SpreadRegime.TIGHT;
+        } else if (spread < wideSpreadTicks) {
+            regime = SpreadRegime.NORMAL;
+        } else {
+            regime = SpreadRegime.WIDE;
+        }
+        spreadRegimePersistence = regime == spreadRegime ? spreadRegimePersistence + 1 : 1;
+        spreadRegime = regime;
+        spreadTicks = spread;
+    }
+
+    // ----------------------------------------------------------------------------------------------------
+    // 조회
+    // ----------------------------------------------------------------------------------------------------
+    public long getTopImbalance() {
+        return topImbalance;
+    }
+
+    public long getLevelImbalance() {
+        return levelImbalance;
+    }
+
+    public long getMicropriceScaled() {
+        return micropriceScaled;
+    }
+
+    public long getBidDepthQtyTicks() {
+        return bidDepthQtyTicks;
+    }
+
+    public long getAskDepthQtyTicks() {
+        return askDepthQtyTicks;
+    }
+
+    public long getBidWallPriceTicks() {
+        return bidWallPriceTicks;
+    }
+
+    public long getBidWallQtyTicks() {
+        return bidWallQtyTicks;
+    }
+
+    // 가격 틱 * 수량 틱 단위
+    public long getBidWallNotionalTicks() {
+        return bidWallPriceTicks * bidWallQtyTicks;
+    }
+
+    // 같은 가격에 벽이 유지된 연속 갱신 횟수 (이번 갱신 포함)
+    public int getBidWallPersistence() {
+        return bidWallPersistence;
+    }
+
+    public long getAskWallPriceTicks() {
+        return askWallPriceTicks;
+    }
+
+    public long getAskWallQtyTicks() {
+        return askWallQtyTicks;
+    }
+
+    public long getAskWallNotionalTicks() {
+        return askWallPriceTicks * askWallQtyTicks;
+    }
+
+    public int getAskWallPersistence() {
+        return askWallPersistence;
+    }
+
+    public long getSpreadTicks() {
+        return spreadTicks;
+    }
+
+    public SpreadRegime getSpreadRegime() {
+        return spreadRegime;
+    }
+
+    public int getSpreadRegimePersistence() {
+        return spreadRegimePersistence;
+    }
+}
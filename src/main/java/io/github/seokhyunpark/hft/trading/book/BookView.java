@@ -0,0 +1,30 @@
+package io.github.seokhyunpark.hft.trading.book;
+
+// 전략에 노출되는 읽기 전용 호가창. 가격과 수량은 틱 단위이며 0 번 레벨이 최우선 호가다.
+public interface BookView {
+    long lastUpdateId();
+
+    int bidLevels();
+
+    int askLevels();
+
+    long bidPriceTicks(int level);
+
+    long bidQtyTicks(int level);
+
+    long askPriceTicks(int level);
+
+    long askQtyTicks(int level);
+
+    BookSignals signals();
+
+    TradeFlow trades();
+
+    default long bestBidPriceTicks() {
+        return bidLevels() > 0 ? bidPriceTicks(0) : 0L;
+    }
+
+    default long bestAskPriceTicks() {
+        return askLevels() > 0 ? askPriceTicks(0) : 0L;
+    }
+}
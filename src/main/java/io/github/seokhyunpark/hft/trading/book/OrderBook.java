@@ -0,0 +1,106 @@
+package io.github.seokhyunpark.hft.trading.book;
+
+import java.util.List;
+
+import io.github.seokhyunpark.hft.exchange.dto.stream.PartialBookDepth;
+import io.github.seokhyunpark.hft.exchange.util.DecimalParser;
+import io.github.seokhyunpark.hft.trading.config.TradingProperties;
+
+public final class OrderBook implements BookView {
+    public static final int MAX_LEVELS = 20;
+
+    private final int priceScale;
+    private final long priceTickUnscaled;
+    private final int qtyScale;
+    private final long qtyTickUnscaled;
+    private final BookSignals signals;
+    private final TradeFlow trades;
+
+    private final long[] bidPrices = new long[MAX_LEVELS];
+    private final long[] bidQtys = new long[MAX_LEVELS];
+    private final long[] askPrices = new long[MAX_LEVELS];
+    private final long[] askQtys = new long[MAX_LEVELS];
+
+    private int bidLevels;
+    private int askLevels;
+    private long lastUpdateId;
+
+    public OrderBook(TradingProperties props, BookSignals signals, TradeFlow trades) {
+        this.signals = signals;
+        this.trades = trades;
+        this.priceScale = props.priceTickSize().scale();
+        this.priceTickUnscaled = props.priceTickSize().unscaledValue().longValueExact();
+        this.qtyScale = props.qtyTickSize().scale();
+        this.qtyTickUnscaled = props.qtyTickSize().unscaledValue().longValueExact();
+    }
+
+    // 양쪽 호가가 모두 있어야 유효한 스냅샷으로 보고 지표를 갱신한다.
+    public boolean update(PartialBookDepth depth) {
+        if (depth == null || depth.bids() == null || depth.asks() == null) {
+            return false;
+        }
+        bidLevels = copyLevels(depth.bids(), bidPrices, bidQtys);
+        askLevels = copyLevels(depth.asks(), askPrices, askQtys);
+        lastUpdateId = depth.lastUpdateId();
+        if (bidLevels == 0 || askLevels == 0) {
+            return false;
+        }
+        signals.update(this);
+        return true;
+    }
+
+    private int copyLevels(List<List<String>> levels, long[] prices, long[] qtys) {
+        int count = Math.min(levels.size(), MAX_LEVELS);
+        for (int i = 0; i < count; i++) {
+            List<String> level = levels.get(i);
+            prices[i] = DecimalParser.parseScaled(level.getFirst(), priceScale) / priceTickUnscaled;
+            qtys[i] = DecimalParser.parseScaled(level.getLast(), qtyScale) / qtyTickUnscaled;
+        }
+        return count;
+    }
+
+    @Override
+    public long lastUpdateId() {
+        return lastUpdateId;
+    }
+
+    @Override
+    public int bidLevels() {
+        return bidLevels;
+    }
+
+    @Override
+    public int askLevels() {
+        return askLevels;
+    }
+
+    @Override
+    public long bidPriceTicks(int level) {
+        return bidPrices[level];
+    }
+
+    @Override
+    public long bidQtyTicks(int level) {
+        return bidQtys[level];
+    }
+
+    @Override
+    public long askPriceTicks(int level) {
+        return askPrices[level];
+    }
+
+    @Override
+    public long askQtyTicks(int level) {
+        return askQtys[level];
+    }
+
+    @Override
+    public BookSignals signals() {
+        return signals;
+    }
+
+    @Override
+    public TradeFlow trades() {
+        return trades;
+    }
+}
@@ -0,0 +1,268 @@
+package io.github.seokhyunpark.hft.trading.book;
+
+import java.util.Arrays;
+
+import org.springframework.stereotype.Component;
+
+// 우리 매도 주문마다 체결되기 전에 소진되어야 할 매도 호가 수량(큐 위치)을 추정한다.
+// 합류 시점의 레벨 수량에서 시작해, 레벨 감소분은 앞/뒤 대기 수량에 비례해 차감하고,
+// 그 가격의 체결은 앞선 수량에서 그대로 차감한다. 모든 수량은 틱 단위다.
+@Component
+public class QueuePositionTracker {
+    public static final long UNKNOWN = Long.MAX_VALUE;
+    public static final long NONE = -1L;
+
+    private static final int INITIAL_CAPACITY = 16;
+    private static final long RATE_WINDOW_MS = 1_000L;
+    private static final int RATE_EWMA_SHIFT = 2;
+
+    private long[] orderIds = new long[INITIAL_CAPACITY];
+    private long[] priceTicks = new long[INITIAL_CAPACITY];
+    private long[] qtyTicks = new long[INITIAL_CAPACITY];
+    private long[] aheadTicks = new long[INITIAL_CAPACITY];
+    private long[] lastLevelQtyTicks = new long[INITIAL_CAPACITY];
+    private int size;
+
+    // 마지막으로 받은 매도 호가 사본 (체결 스레드에서도 읽으므로 락 안에서만 접근한다)
+    private final long[] askPrices = new long[OrderBook.MAX_LEVELS];
+    private final long[] askQtys = new long[OrderBook.MAX_LEVELS];
+    private int askLevels;
+
+    // 최우선 매도 호가 소진 속도 (초당 수량 틱)
+    private long prevBestAskPrice;
+    private long prevBestAskQty;
+    private long windowStartMillis;
+    private long windowDepletedTicks;
+    private long depletionRate = -1L;
+
+    // ----------------------------------------------------------------------------------------------------
+    // 주문 등록/해제
+    // ----------------------------------------------------------------------------------------------------
+    public synchronized void track(long orderId, long price, long qty) {
+        int i = indexOf(orderId);
+        if (i < 0) {
+            if (size == orderIds.length) {
+                grow(size * 2);
+            }
+            i = size++;
+        }
+        orderIds[i] = orderId;
+        priceTicks[i] = price;
+        qtyTicks[i] = qty;
+        join(i);
+    }
+
+    public synchronized void untrack(long orderId) {
+        int i = indexOf(orderId);
+        if (i < 0) {
+            return;
+        }
+        int last = --size;
+        orderIds[i] = orderIds[last];
+        priceTicks[i] = priceTicks[last];
+        qtyTicks[i] = qtyTicks[last];
+        aheadTicks[i] = aheadTicks[last];
+        lastLevelQtyTicks[i] = lastLevelQtyTicks[last];
+    }
+
+    public synchronized void clear() {
+        size = 0;
+    }
+
+    // 우리 주문이 체결되었다면 앞선 수량은 모두 소진된 것이다.
+    public synchronized void onFill(long orderId, long filledQty) {
+        int i = indexOf(orderId);
+        if (i < 0) {
+            return;
+        }
+        qtyTicks[i] = Math.max(0L, qtyTicks[i] - filledQty);
+        aheadTicks[i] = 0L;
+    }
+
+    // ----------------------------------------------------------------------------------------------------
+    // 시장 이벤트
+    // ----------------------------------------------------------------------------------------------------
+    public synchronized void onBook(BookView book, long nowMillis) {
+        updateDepletionRate(book, nowMillis);
+
+        askLevels = Math.min(book.askLevels(), askPrices.length);
+        for (int level = 0; level < askLevels; level++) {
+            askPrices[level] = book.askPriceTicks(level);
+            askQtys[level] = book.askQtyTicks(level);
+        }
+        for (int i = 0; i < size; i++) {
+            update(i);
+        }
+    }
+
+    // 매수 주도 체결: 같은 가격은 체결량만큼, 더 높은 가격까지 체결됐다면 앞선 수량 전체가 소진된다.
+    // 직후 호가 감소분과 중복 차감하지 않도록 마지막 레벨 수량도 함께 줄인다.
+    public synchronized void onTrade(long price, long qty) {
+        for (int i = 0; i < size; i++) {
+            if (aheadTicks[i] == UNKNOWN) {
+                continue;
+            }
+            if (price > priceTicks[i]) {
+                aheadTicks[i] = 0L;
+            } else if (price == priceTicks[i]) {
+                aheadTicks[i] = Math.max(0L, aheadTicks[i] - qty);
+                lastLevelQtyTicks[i] = Math.max(0L, lastLevelQtyTicks[i] - qty);
+            }
+        }
+    }
+
+    // ----------------------------------------------------------------------------------------------------
+    // 조회
+    // ----------------------------------------------------------------------------------------------------
+    // 더 낮은 가격 레벨 수량 + 같은 레벨에서 앞선 수량
+    public synchronized long getVolumeAheadTicks(long orderId) {
+        int i = indexOf(orderId);
+        return i < 0 ? UNKNOWN : volumeAhead(i);
+    }
+
+    public synchronized long getExpectedTimeToFillMillis(long orderId) {
+        int i = indexOf(orderId);
+        if (i < 0 || depletionRate <= 0L) {
+            return UNKNOWN;
+        }
+        long ahead = volumeAhead(i);
+        if (ahead == UNKNOWN) {
+            return UNKNOWN;
+        }
+        return (ahead + qtyTicks[i]) * 1_000L / depletionRate;
+    }
+
+    public synchronized long getDepletionRateTicksPerSecond() {
+        return Math.max(0L, depletionRate);
+    }
+
+    // 체결까지 가장 멀리 있는 주문. 같으면 가격이 높은 쪽, 그다음 나중에 들어온 쪽을 고른다.
+    public synchronized long findSlowestOrderId() {
+        int found = -1;
+        long foundAhead = 0L;
+        for (int i = 0; i < size; i++) {
+            long ahead = volumeAhead(i);
+            if (found < 0
+                    || ahead > foundAhead
+                    || (ahead == foundAhead && priceTicks[i] > priceTicks[found])
+                    || (ahead == foundAhead && priceTicks[i] == priceTicks[found] && orderIds[i] > orderIds[found])) {
+                found = i;
+                foundAhead = ahead;
+            }
+        }
+        return found < 0 ? NONE : orderIds[found];
+    }
+
+    // ----------------------------------------------------------------------------------------------------
+    // 내부 추정
+    // ----------------------------------------------------------------------------------------------------
+    // 호가에 보이는 레벨이면 그 수량 전체가 앞에 있고, 최우선 호가보다 낮으면 맨 앞, 보이는 깊이 밖이면 알 수 없다.
+    private void join(int i) {
+        long levelQty = levelQtyAt(priceTicks[i]);
+        if (levelQty >= 0L) {
+            aheadTicks[i] = levelQty;
+            lastLevelQtyTicks[i] = levelQty;
+        } else if (isBeyondDepth(priceTicks[i])) {
+            aheadTicks[i] = UNKNOWN;
+            lastLevelQtyTicks[i] = 0L;
+        } else {
+            aheadTicks[i] = 0L;
+            lastLevelQtyTicks[i] = 0L;
+        }
+    }
+
+    private void update(int i) {
+        if (aheadTicks[i] == UNKNOWN) {
+            if (!isBeyondDepth(priceTicks[i])) {
+                join(i);
+            }
+            return;
+        }
+
+        long levelQty = levelQtyAt(priceTicks[i]);
+        if (levelQty < 0L) {
+            // 깊이 밖으로 밀려난 경우 마지막 추정치를 유지하고, 보이는 범위의 빈 레벨이면 앞선 수량이 없다.
+            if (!isBeyondDepth(priceTicks[i])) {
+                aheadTicks[i] = 0L;
+                lastLevelQtyTicks[i] = 0L;
+            }
+            return;
+        }
+
+        long decrease = lastLevelQtyTicks[i] - levelQty;
+        long others = lastLevelQtyTicks[i] - qtyTicks[i];
+        if (decrease > 0L && others > 0L) {
+            aheadTicks[i] -= Math.min(aheadTicks[i], decrease * aheadTicks[i] / others);
+        }
+        aheadTicks[i] = Math.min(aheadTicks[i], Math.max(0L, levelQty - qtyTicks[i]));
+        lastLevelQtyTicks[i] = levelQty;
+    }
+
+    private long volumeAhead(int i) {
+        long ahead = aheadTicks[i];
+        if (ahead == UNKNOWN) {
+            return UNKNOWN;
+        }
+        for (int level = 0; level < askLevels && askPrices[level] < priceTicks[i]; level++) {
+            ahead += askQtys[level];
+        }
+        return ahead;
+    }
+
+    private void updateDepletionRate(BookView book, long nowMillis) {
+        long bestAsk = book.bestAskPriceTicks();
+        long bestAskQty = book.askLevels() > 0 ? book.askQtyTicks(0) : 0L;
+        if (prevBestAskPrice == 0L) {
+            windowStartMillis = nowMillis;
+        } else if (bestAsk == prevBestAskPrice) {
+            windowDepletedTicks += Math.max(0L, prevBestAskQty - bestAskQty);
+        } else if (bestAsk > prevBestAskPrice) {
+            windowDepletedTicks += prevBestAskQty;
+        }
+        prevBestAskPrice = bestAsk;
+        prevBestAskQty = bestAskQty;
+
+        long elapsed = nowMillis - windowStartMillis;
+        if (elapsed < RATE_WINDOW_MS) {
+            return;
+        }
+        long sample = windowDepletedTicks * 1_000L / elapsed;
+        depletionRate = depletionRate < 0L ? sample : depletionRate + ((sample - depletionRate) >> RATE_EWMA_SHIFT);
+        windowStartMillis = nowMillis;
+        windowDepletedTicks = 0L;
+    }
+
+    // 정확히 같은 가격의 레벨이 없으면 -1
+    private long levelQtyAt(long price) {
+        for (int level = 0; level < askLevels; level++) {
+            if (askPrices[level] == price) {
+                return askQtys[level];
+            }
+            if (askPrices[level] > price) {
+                break;
+            }
+        }
+        return -1L;
+    }
+
+    private boolean isBeyondDepth(long price) {
+        return askLevels == 0 || price > askPrices[askLevels - 1];
+    }
+
+    private int indexOf(long orderId) {
+        for (int i = 0; i < size; i++) {
+            if (orderIds[i] == orderId) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private void grow(int capacity) {
+        orderIds = Arrays.copyOf(orderIds, capacity);
+        priceTicks = Arrays.copyOf(priceTicks, capacity);
+        qtyTicks = Arrays.copyOf(qtyTicks, capacity);
+        aheadTicks = Arrays.copyOf(aheadTicks, capacity);
+        lastLevelQtyTicks = Arrays.copyOf(lastLevelQtyTicks, capacity);
+    }
+}
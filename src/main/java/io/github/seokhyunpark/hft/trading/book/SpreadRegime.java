@@ -0,0 +1,10 @@
+package io.github.seokhyunpark.hft.trading.book;
+
+public enum SpreadRegime {
+    // 1 틱
+    TIGHT,
+    // wide-spread-ticks 미만
+    NORMAL,
+    // wide-spread-ticks 이상
+    WIDE
+}
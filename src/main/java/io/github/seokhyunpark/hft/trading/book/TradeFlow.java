@@ -0,0 +1,124 @@
+package io.github.seokhyunpark.hft.trading.book;
+
+// 최근 windowMs 동안의 체결 흐름 지표. 시간 버킷 링 버퍼에 쌓고 합계를 증분 갱신하므로
+// 체결과 조회 모두 O(1) 이며 (버킷 회전은 경과 버킷 수만큼) 할당이 없다.
+public final class TradeFlow {
+    // 불균형은 -IMBALANCE_SCALE(매도 주도) ~ +IMBALANCE_SCALE(매수 주도)
+    public static final long IMBALANCE_SCALE = BookSignals.IMBALANCE_SCALE;
+    // VWAP 은 가격 틱 * VWAP_SCALE
+    public static final long VWAP_SCALE = 1_000L;
+
+    private final long windowMs;
+    private final long bucketMs;
+    private final int buckets;
+
+    private final long[] buyQtys;
+    private final long[] sellQtys;
+    private final long[] notionals;
+    private final long[] counts;
+
+    private long buyQtySum;
+    private long sellQtySum;
+    private long notionalSum;
+    private long countSum;
+    private long currentBucket = -1L;
+    private long lastPriceTicks;
+
+    public TradeFlow(long windowMs, int buckets) {
+        if (buckets <= 0 || windowMs < buckets) {
+            throw new IllegalArgumentException("windowMs must be >= buckets > 0: " + windowMs + ", " + buckets);
+        }
+        this.windowMs = windowMs;
+        this.buckets = buckets;
+        this.bucketMs = windowMs / buckets;
+        this.buyQtys = new long[buckets];
+        this.sellQtys = new long[buckets];
+        this.notionals = new long[buckets];
+        this.counts = new long[buckets];
+    }
+
+    public void onTrade(long nowMillis, long priceTicks, long qtyTicks, boolean buyerMaker) {
+        advance(nowMillis);
+        int slot = (int) (currentBucket % buckets);
+        if (buyerMaker) {
+            sellQtys[slot] += qtyTicks;
+            sellQtySum += qtyTicks;
+        } else {
+            buyQtys[slot] += qtyTicks;
+            buyQtySum += qtyTicks;
+        }
+        long notional = priceTicks * qtyTicks;
+        notionals[slot] += notional;
+        notionalSum += notional;
+        counts[slot]++;
+        countSum++;
+        lastPriceTicks = priceTicks;
+    }
+
+    // 체결이 없어도 창이 흘러가도록 호가 갱신 때도 호출한다.
+    public void advance(long nowMillis) {
+        long bucket = nowMillis / bucketMs;
+        if (currentBucket < 0L) {
+            currentBucket = bucket;
+            return;
+        }
+        long steps = Math.min(bucket - currentBucket, buckets);
+        for (long step = 1; step <= steps; step++) {
+            evict((int) ((currentBucket + step) % buckets));
+        }
+        if (bucket > currentBucket) {
+            currentBucket = bucket;
+        }
+    }
+
+    private void evict(int slot) {
+        buyQtySum -= buyQtys[slot];
+        sellQtySum -= sellQtys[slot];
+        notionalSum -= notionals[slot];
+        countSum -= counts[slot];
+        buyQtys[slot] = 0L;
+        sellQtys[slot] = 0L;
+        notionals[slot] = 0L;
+        counts[slot] = 0L;
+    }
+
+    // ----------------------------------------------------------------------------------------------------
+    // 조회
+    // ----------------------------------------------------------------------------------------------------
+    public long getVwapScaled() {
+        long qty = buyQtySum + sellQtySum;
+        if (qty == 0L) {
+            return lastPriceTicks * VWAP_SCALE;
+        }
+        return notionalSum / qty * VWAP_SCALE + notionalSum % qty * VWAP_SCALE / qty;
+    }
+
+    public long getImbalance() {
+        long total = buyQtySum + sellQtySum;
+        return total > 0 ? (buyQtySum - sellQtySum) * IMBALANCE_SCALE / total : 0L;
+    }
+
+    public long getBuyQtyTicks() {
+        return buyQtySum;
+    }
+
+    public long getSellQtyTicks() {
+        return sellQtySum;
+    }
+
+    public long getTradeCount() {
+        return countSum;
+    }
+
+    public long getTradesPerSecond() {
+        return countSum * 1_000L / windowMs;
+    }
+
+    public long getVolumePerSecondTicks() {
+        return (buyQtySum + sellQtySum) * 1_000L / windowMs;
+    }
+
+    public long getLastPriceTicks() {
+        return lastPriceTicks;
+    }
+}
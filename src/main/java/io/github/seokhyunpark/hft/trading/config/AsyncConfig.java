@@ -7,31 +7,47 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
+import io.github.seokhyunpark.hft.threading.CpuAffinity;
+
 @Configuration
 @EnableAsync
 public class AsyncConfig {
 
     @Bean(name = "buyOrderExecutor")
-    public Executor buyOrderExecutor() {
+    public Executor buyOrderExecutor(ThreadingProperties threadingProps) {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(10);
         executor.setMaxPoolSize(20);
         executor.setQueueCapacity(0);
         executor.setThreadNamePrefix("buyOrderExecutor-");
         executor.setRejectedExecutionHandler(new java.util.concurrent.ThreadPoolExecutor.CallerRunsPolicy());
+        pinOrderIoThreads(executor, threadingProps);
         executor.initialize();
         return executor;
     }
 
     @Bean(name = "sellOrderExecutor")
-    public Executor sellOrderExecutor() {
+    public Executor sellOrderExecutor(ThreadingProperties threadingProps) {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
         executor.setCorePoolSize(10);
         executor.setMaxPoolSize(20);
         executor.setQueueCapacity(0);
         executor.setThreadNamePrefix("sellOrderExecutor-");
         executor.setRejectedExecutionHandler(new java.util.concurrent.ThreadPoolExecutor.CallerRunsPolicy());
+        pinOrderIoThreads(executor, threadingProps);
         executor.initialize();
         return executor;
     }
+
+    // 스레드 이름 규칙은 그대로 두고, 새 스레드가 처음 실행될 때 주문 I/O 코어에 고정한다.
+    private void pinOrderIoThreads(ThreadPoolTaskExecutor executor, ThreadingProperties threadingProps) {
+        String cpus = threadingProps.cpus().orderIo();
+        if (cpus == null || cpus.isBlank()) {
+            return;
+        }
+        executor.setThreadFactory(task -> executor.createThread(() -> {
+            CpuAffinity.pin(cpus);
+            task.run();
+        }));
+    }
 }
@@ -0,0 +1,20 @@
+package io.github.seokhyunpark.hft.trading.config;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "hft.commission")
+public record CommissionProperties(
+        // 기초/견적 자산이 아닌 수수료 자산(BNB 등) 1 단위의 견적 자산 환산 가격
+        Map<String, BigDecimal> quoteRates
+) {
+    public CommissionProperties {
+        quoteRates = quoteRates == null ? Map.of() : Map.copyOf(quoteRates);
+    }
+
+    public BigDecimal quoteRate(String asset) {
+        return quoteRates.get(asset);
+    }
+}
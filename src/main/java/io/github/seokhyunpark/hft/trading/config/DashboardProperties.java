@@ -0,0 +1,11 @@
+package io.github.seokhyunpark.hft.trading.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "hft.dashboard")
+public record DashboardProperties(
+        boolean enabled,
+        String file,
+        long publishIntervalMs
+) {
+}
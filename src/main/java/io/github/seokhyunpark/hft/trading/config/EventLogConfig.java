@@ -0,0 +1,14 @@
+package io.github.seokhyunpark.hft.trading.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.github.seokhyunpark.hft.trading.eventlog.EventLog;
+
+@Configuration
+public class EventLogConfig {
+    @Bean
+    public EventLog eventLog(EventLogProperties logProps) {
+        return new EventLog(logProps.capacity());
+    }
+}
@@ -0,0 +1,12 @@
+package io.github.seokhyunpark.hft.trading.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "hft.event-log")
+public record EventLogProperties(
+        int capacity,
+        boolean textEnabled,
+        String binaryFile,
+        long idleParkMicros
+) {
+}
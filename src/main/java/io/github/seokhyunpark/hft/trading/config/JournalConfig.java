@@ -0,0 +1,18 @@
+package io.github.seokhyunpark.hft.trading.config;
+
+import java.io.IOException;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import io.github.seokhyunpark.hft.trading.journal.EventJournal;
+
+@Configuration
+public class JournalConfig {
+    private static final String JOURNAL_DIRECTORY = "journal";
+
+    @Bean(destroyMethod = "close")
+    public EventJournal eventJournal(StateProperties stateProps) throws IOException {
+        return EventJournal.open(stateProps.resolve(JOURNAL_DIRECTORY), stateProps.journalSegmentRecords());
+    }
+}
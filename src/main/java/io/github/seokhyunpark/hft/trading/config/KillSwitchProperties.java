@@ -0,0 +1,16 @@
+package io.github.seokhyunpark.hft.trading.config;
+
+import java.math.BigDecimal;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "hft.kill-switch")
+public record KillSwitchProperties(
+        BigDecimal maxLossUsd,
+        long feedStaleMs,
+        long drainTimeoutMs,
+        boolean cancelOnShutdown,
+        // 웹 엔드포인트 없이 해제할 때 만드는 파일. 비어 있으면 파일 해제를 쓰지 않는다.
+        String releaseFile
+) {
+}
@@ -0,0 +1,22 @@
+package io.github.seokhyunpark.hft.trading.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+    @Bean(name = "taskScheduler")
+    public ThreadPoolTaskScheduler taskScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(2);
+        scheduler.setThreadNamePrefix("stateScheduler-");
+        scheduler.setThreadPriority(Thread.MIN_PRIORITY);
+        scheduler.setDaemon(true);
+        scheduler.initialize();
+        return scheduler;
+    }
+}
@@ -0,0 +1,16 @@
+package io.github.seokhyunpark.hft.trading.config;
+
+import java.nio.file.Path;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "hft.state")
+public record StateProperties(
+        String directory,
+        int canceledLadderCapacity,
+        int journalSegmentRecords
+) {
+    public Path resolve(String fileName) {
+        return Path.of(directory).resolve(fileName);
+    }
+}
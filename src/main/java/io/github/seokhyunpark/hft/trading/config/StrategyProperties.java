@@ -0,0 +1,52 @@
+package io.github.seokhyunpark.hft.trading.config;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "hft.strategy")
+public record StrategyProperties(
+        String defaultName,
+        Map<String, String> symbols,
+        Signals signals,
+        Ladder ladder,
+        Adaptive adaptive
+) {
+    public record Adaptive(
+            boolean enabled,
+            int ewmaShift,
+            BigDecimal volatilityFactor,
+            BigDecimal minTargetMultiplier,
+            BigDecimal maxTargetMultiplier,
+            BigDecimal hysteresisRate,
+            BigDecimal minBuyWallThresholdUsd,
+            BigDecimal maxBuyWallThresholdUsd,
+            int targetFillsPerWindow,
+            long fillWindowMs,
+            BigDecimal fillFeedbackStepRate
+    ) {
+    }
+
+    public record Ladder(
+            int levels,
+            int spacingTicks
+    ) {
+    }
+
+    public record Signals(
+            int imbalanceLevels,
+            int depthBandBps,
+            int wideSpreadTicks,
+            long tradeWindowMs,
+            int tradeBuckets
+    ) {
+    }
+
+    public String resolve(String symbol) {
+        if (symbols == null) {
+            return defaultName;
+        }
+        return symbols.getOrDefault(symbol, defaultName);
+    }
+}
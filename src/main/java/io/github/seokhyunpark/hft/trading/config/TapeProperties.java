@@ -0,0 +1,10 @@
+package io.github.seokhyunpark.hft.trading.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "hft.tape")
+public record TapeProperties(
+        boolean recordEnabled,
+        String recordFile
+) {
+}
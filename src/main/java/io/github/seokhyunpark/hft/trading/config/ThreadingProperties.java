@@ -0,0 +1,23 @@
+package io.github.seokhyunpark.hft.trading.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import io.github.seokhyunpark.hft.threading.WaitStrategy;
+
+@ConfigurationProperties(prefix = "hft.threading")
+public record ThreadingProperties(
+        boolean enabled,
+        WaitStrategy waitStrategy,
+        long maxParkMicros,
+        int tradeQueueCapacity,
+        Cpus cpus
+) {
+    // taskset 형식의 CPU 목록 ("3", "4-5", "6,8"). 비워 두면 고정하지 않는다.
+    public record Cpus(
+            String marketDecoder,
+            String tradeDecoder,
+            String trading,
+            String orderIo
+    ) {
+    }
+}
@@ -23,7 +23,12 @@ public record TradingProperties(
             int minSellOrders,
             BigDecimal buyWallThresholdUsd,
             BigDecimal targetMultiplier,
-            BigDecimal priceConflictToleranceRate
+            BigDecimal priceConflictToleranceRate,
+            BigDecimal maxOrderQty,
+            BigDecimal maxOrderNotionalUsd,
+            BigDecimal maxInventoryQty,
+            int priceBandBps,
+            int fatFingerBps
     ) {
     }
 
@@ -40,4 +45,29 @@ public record TradingProperties(
     public BigDecimal scalePrice(BigDecimal price) {
         return price.setScale(priceTickSize.scale(), RoundingMode.DOWN);
     }
+
+    public long toPriceTicks(BigDecimal price) {
+        return price.divide(priceTickSize, 0, RoundingMode.DOWN).longValue();
+    }
+
+    public BigDecimal fromPriceTicks(long ticks) {
+        return priceTickSize.multiply(BigDecimal.valueOf(ticks));
+    }
+
+    public long toQtyTicks(BigDecimal qty) {
+        return qty.divide(qtyTickSize, 0, RoundingMode.DOWN).longValue();
+    }
+
+    public BigDecimal fromQtyTicks(long ticks) {
+        return qtyTickSize.multiply(BigDecimal.valueOf(ticks));
+    }
+
+    // 가격 틱 * 수량 틱 단위의 금액
+    public long toNotionalTicks(BigDecimal usdValue) {
+        return usdValue.divide(priceTickSize.multiply(qtyTickSize), 0, RoundingMode.DOWN).longValue();
+    }
+
+    public BigDecimal fromNotionalTicks(long ticks) {
+        return priceTickSize.multiply(qtyTickSize).multiply(BigDecimal.valueOf(ticks));
+    }
 }
@@ -0,0 +1,13 @@
+package io.github.seokhyunpark.hft.trading.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "hft.warm-up")
+public record WarmUpProperties(
+        boolean enabled,
+        int minEvents,
+        int roundEvents,
+        int quietRounds,
+        long maxDurationMs
+) {
+}
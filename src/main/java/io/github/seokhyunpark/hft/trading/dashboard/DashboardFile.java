@@ -0,0 +1,234 @@
+package io.github.seokhyunpark.hft.trading.dashboard;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.math.BigDecimal;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.Optional;
+
+import io.github.seokhyunpark.hft.trading.dto.DashboardSnapshot;
+
+// 실시간 상태를 메모리 맵 파일 한 페이지에 시퀀스 락(seqlock)으로 기록한다.
+// 쓰는 쪽은 시퀀스를 홀수로 올린 뒤 필드를 쓰고 다시 짝수로 올린다. 읽는 쪽은 짝수이면서 전후 값이 같은 경우만 받아들인다.
+public final class DashboardFile {
+    static final long MAGIC = 0x4846544441534831L; // "HFTDASH1"
+    static final long VERSION = 1L;
+    static final int FILE_SIZE = 4096;
+
+    private static final int MAGIC_OFFSET = 0;
+    private static final int VERSION_OFFSET = 8;
+    private static final int SEQUENCE_OFFSET = 16;
+    private static final int PRICE_TICK_OFFSET = 24;
+    private static final int QTY_TICK_OFFSET = 40;
+    private static final int PUBLISHED_MILLIS_OFFSET = 56;
+    private static final int BOOK_UPDATE_MILLIS_OFFSET = 64;
+    private static final int BEST_BID_OFFSET = 72;
+    private static final int BEST_ASK_OFFSET = 80;
+    private static final int BUY_ORDERS_OFFSET = 88;
+    private static final int SELL_ORDERS_OFFSET = 92;
+    private static final int CANCELED_ORDERS_OFFSET = 96;
+    private static final int HALTED_OFFSET = 100;
+    private static final int CANCELED_QTY_OFFSET = 104;
+    private static final int POSITION_QTY_OFFSET = 112;
+    private static final int INVENTORY_QTY_OFFSET = 120;
+    private static final int QUOTE_BALANCE_OFFSET = 128;
+    private static final int RATE_LIMIT_COUNT_OFFSET = 136;
+    private static final int RATE_LIMIT_LIMIT_OFFSET = 140;
+    private static final int RATE_LIMIT_WEIGHT_OFFSET = 144;
+    private static final int ORDER_LATENCY_OFFSET = 152;
+    private static final int BOOK_LATENCY_OFFSET = 192;
+
+    // 쓰는 쪽이 쓰는 도중 죽었다면 시퀀스가 홀수로 남으므로 무한히 기다리지 않는다.
+    private static final int MAX_READ_ATTEMPTS = 10_000;
+
+    private static final VarHandle SEQUENCE =
+            MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+
+    private final MappedByteBuffer buffer;
+    private long sequence;
+
+    private DashboardFile(MappedByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    // 쓰기용. 재시작해도 시퀀스가 되돌아가지 않도록 기존 값에서 이어 간다.
+    public static DashboardFile create(Path path) throws IOException {
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        try (FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            DashboardFile file = new DashboardFile(channel.map(FileChannel.MapMode.READ_WRITE, 0, FILE_SIZE));
+            long last = (long) SEQUENCE.getVolatile(file.buffer, SEQUENCE_OFFSET);
+            file.sequence = file.buffer.getLong(MAGIC_OFFSET) == MAGIC ? (last + 1L) & ~1L : 0L;
+            file.buffer.putLong(MAGIC_OFFSET, MAGIC);
+            file.buffer.putLong(VERSION_OFFSET, VERSION);
+            SEQUENCE.setRelease(file.buffer, SEQUENCE_OFFSET, file.sequence);
+            return file;
+        }
+    }
+
+    // 읽기용
+    public static DashboardFile open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return new DashboardFile(channel.map(FileChannel.MapMode.READ_ONLY, 0, FILE_SIZE));
+        }
+    }
+
+    // ----------------------------------------------------------------------------------------------------
+    // 쓰기 (단일 쓰기 스레드)
+    // ----------------------------------------------------------------------------------------------------
+    public void write(DashboardSnapshot snapshot) {
+        SEQUENCE.setOpaque(buffer, SEQUENCE_OFFSET, ++sequence);
+        VarHandle.storeStoreFence();
+
+        putDecimal(PRICE_TICK_OFFSET, snapshot.priceTickSize());
+        putDecimal(QTY_TICK_OFFSET, snapshot.qtyTickSize());
+        buffer.putLong(PUBLISHED_MILLIS_OFFSET, snapshot.publishedMillis());
+        buffer.putLong(BOOK_UPDATE_MILLIS_OFFSET, snapshot.bookUpdateMillis());
+        buffer.putLong(BEST_BID_OFFSET, snapshot.bestBidPriceTicks());
+        buffer.putLong(BEST_ASK_OFFSET, snapshot.bestAskPriceTicks());
+        buffer.putInt(BUY_ORDERS_OFFSET, snapshot.buyOrderCount());
+        buffer.putInt(SELL_ORDERS_OFFSET, snapshot.sellOrderCount());
+        buffer.putInt(CANCELED_ORDERS_OFFSET, snapshot.canceledOrderCount());
+        buffer.putInt(HALTED_OFFSET, snapshot.halted() ? 1 : 0);
+        buffer.putLong(CANCELED_QTY_OFFSET, snapshot.canceledQtyTicks());
+        buffer.putLong(POSITION_QTY_OFFSET, snapshot.positionQtyTicks());
+        buffer.putLong(INVENTORY_QTY_OFFSET, snapshot.inventoryQtyTicks());
+        buffer.putLong(QUOTE_BALANCE_OFFSET, snapshot.quoteBalanceTicks());
+        buffer.putInt(RATE_LIMIT_COUNT_OFFSET, snapshot.rateLimitOrderCount());
+        buffer.putInt(RATE_LIMIT_LIMIT_OFFSET, snapshot.rateLimitOrderLimit());
+        buffer.putInt(RATE_LIMIT_WEIGHT_OFFSET, snapshot.rateLimitUsedWeight());
+        putLatency(ORDER_LATENCY_OFFSET, snapshot.orderLatency());
+        putLatency(BOOK_LATENCY_OFFSET, snapshot.bookLatency());
+
+        SEQUENCE.setRelease(buffer, SEQUENCE_OFFSET, ++sequence);
+    }
+
+    private void putDecimal(int offset, BigDecimal value) {
+        buffer.putLong(offset, value.unscaledValue().longValue());
+        buffer.putLong(offset + 8, value.scale());
+    }
+
+    private void putLatency(int offset, DashboardSnapshot.Latency latency) {
+        buffer.putLong(offset, latency.p50Micros());
+        buffer.putLong(offset + 8, latency.p90Micros());
+        buffer.putLong(offset + 16, latency.p99Micros());
+        buffer.putLong(offset + 24, latency.p999Micros());
+        buffer.putLong(offset + 32, latency.maxMicros());
+    }
+
+    // ----------------------------------------------------------------------------------------------------
+    // 읽기 (다른 프로세스에서도 가능)
+    // ----------------------------------------------------------------------------------------------------
+    // 아직 한 번도 기록되지 않았거나 일관된 스냅샷을 얻지 못하면 빈 값
+    public Optional<DashboardSnapshot> read() {
+        if (buffer.getLong(MAGIC_OFFSET) != MAGIC || buffer.getLong(VERSION_OFFSET) != VERSION) {
+            return Optional.empty();
+        }
+        for (int attempt = 0; attempt < MAX_READ_ATTEMPTS; attempt++) {
+            long before = (long) SEQUENCE.getAcquire(buffer, SEQUENCE_OFFSET);
+            if ((before & 1L) == 0L) {
+                DashboardSnapshot snapshot = decode();
+                VarHandle.loadLoadFence();
+                long after = (long) SEQUENCE.getOpaque(buffer, SEQUENCE_OFFSET);
+                if (before == after) {
+                    return snapshot.publishedMillis() == 0L ? Optional.empty() : Optional.of(snapshot);
+                }
+            }
+            Thread.onSpinWait();
+        }
+        return Optional.empty();
+    }
+
+    private DashboardSnapshot decode() {
+        return new DashboardSnapshot(
+                getDecimal(PRICE_TICK_OFFSET),
+                getDecimal(QTY_TICK_OFFSET),
+                buffer.getLong(PUBLISHED_MILLIS_OFFSET),
+                buffer.getLong(BOOK_UPDATE_MILLIS_OFFSET),
+                buffer.getLong(BEST_BID_OFFSET),
+                buffer.getLong(BEST_ASK_OFFSET),
+                buffer.getInt(BUY_ORDERS_OFFSET),
+                buffer.getInt(SELL_ORDERS_OFFSET),
+                buffer.getInt(CANCELED_ORDERS_OFFSET),
+                buffer.getLong(CANCELED_QTY_OFFSET),
+                buffer.getLong(POSITION_QTY_OFFSET),
+                buffer.getLong(INVENTORY_QTY_OFFSET),
+                buffer.getLong(QUOTE_BALANCE_OFFSET),
+                buffer.getInt(RATE_LIMIT_COUNT_OFFSET),
+                buffer.getInt(RATE_LIMIT_LIMIT_OFFSET),
+                buffer.getInt(RATE_LIMIT_WEIGHT_OFFSET),
+                buffer.getInt(HALTED_OFFSET) != 0,
+                getLatency(ORDER_LATENCY_OFFSET),
+                getLatency(BOOK_LATENCY_OFFSET)
+        );
+    }
+
+    // 쓰는 도중 읽힌 값은 버려지므로 스케일이 깨져 있어도 예외만 나지 않게 한다.
+    private BigDecimal getDecimal(int offset) {
+        return BigDecimal.valueOf(buffer.getLong(offset), (int) buffer.getLong(offset + 8));
+    }
+
+    private DashboardSnapshot.Latency getLatency(int offset) {
+        return new DashboardSnapshot.Latency(
+                buffer.getLong(offset),
+                buffer.getLong(offset + 8),
+                buffer.getLong(offset + 16),
+                buffer.getLong(offset + 24),
+                buffer.getLong(offset + 32)
+        );
+    }
+
+    // ----------------------------------------------------------------------------------------------------
+    // 조회 도구: DashboardFile <file> [intervalMs]  (간격이 없으면 한 번만 출력)
+    // ----------------------------------------------------------------------------------------------------
+    public static void main(String[] args) throws IOException, InterruptedException {
+        if (args.length < 1 || args.length > 2) {
+            System.err.println("usage: DashboardFile <file> [intervalMs]");
+            return;
+        }
+        DashboardFile file = open(Path.of(args[0]));
+        long intervalMillis = args.length == 2 ? Long.parseLong(args[1]) : 0L;
+        do {
+            System.out.println(file.read().map(DashboardFile::format).orElse("(no snapshot)"));
+            Thread.sleep(intervalMillis);
+        } while (intervalMillis > 0L);
+    }
+
+    static String format(DashboardSnapshot s) {
+        BigDecimal priceTick = s.priceTickSize();
+        BigDecimal qtyTick = s.qtyTickSize();
+        BigDecimal notionalTick = priceTick.multiply(qtyTick);
+        return Instant.ofEpochMilli(s.publishedMillis())
+                + (s.halted() ? " | HALTED" : "")
+                + " | BID: " + ticks(s.bestBidPriceTicks(), priceTick)
+                + " | ASK: " + ticks(s.bestAskPriceTicks(), priceTick)
+                + " | BOOK AGE: " + (s.publishedMillis() - s.bookUpdateMillis()) + "ms"
+                + " | ORDERS: B" + s.buyOrderCount() + " S" + s.sellOrderCount()
+                + " | CANCELED: " + s.canceledOrderCount() + " (" + ticks(s.canceledQtyTicks(), qtyTick) + ")"
+                + " | POSITION: " + ticks(s.positionQtyTicks(), qtyTick)
+                + " | INVENTORY: " + ticks(s.inventoryQtyTicks(), qtyTick)
+                + " | QUOTE: " + ticks(s.quoteBalanceTicks(), notionalTick)
+                + " | RATE: " + s.rateLimitOrderCount() + "/" + s.rateLimitOrderLimit()
+                + " W" + s.rateLimitUsedWeight()
+                + " | ORDER-RTT: " + latency(s.orderLatency())
+                + " | BOOK: " + latency(s.bookLatency());
+    }
+
+    private static String ticks(long ticks, BigDecimal tickSize) {
+        return tickSize.multiply(BigDecimal.valueOf(ticks)).stripTrailingZeros().toPlainString();
+    }
+
+    private static String latency(DashboardSnapshot.Latency l) {
+        return "p50 " + l.p50Micros() + " p90 " + l.p90Micros() + " p99 " + l.p99Micros()
+                + " p999 " + l.p999Micros() + " max " + l.maxMicros() + "us";
+    }
+}
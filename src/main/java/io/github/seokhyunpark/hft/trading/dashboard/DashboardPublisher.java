@@ -0,0 +1,86 @@
+package io.github.seokhyunpark.hft.trading.dashboard;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import jakarta.annotation.PostConstruct;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import io.github.seokhyunpark.hft.trading.config.DashboardProperties;
+import io.github.seokhyunpark.hft.trading.config.TradingProperties;
+import io.github.seokhyunpark.hft.trading.dto.DashboardSnapshot;
+import io.github.seokhyunpark.hft.trading.manager.OrderManager;
+import io.github.seokhyunpark.hft.trading.manager.PositionManager;
+import io.github.seokhyunpark.hft.trading.manager.QuoteAssetManager;
+import io.github.seokhyunpark.hft.trading.manager.RateLimitManager;
+import io.github.seokhyunpark.hft.trading.metrics.TradingMetrics;
+import io.github.seokhyunpark.hft.trading.risk.OrderFlowControl;
+import io.github.seokhyunpark.hft.trading.risk.PreTradeRiskGate;
+
+// 주기적으로 상태를 모아 대시보드 파일에 공개한다. 각 매니저의 volatile/원자 필드만 읽으므로 매매 경로의 락을 잡지 않는다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DashboardPublisher {
+    private final DashboardProperties dashboardProps;
+    private final TradingProperties props;
+    private final OrderManager orderManager;
+    private final PositionManager positionManager;
+    private final QuoteAssetManager quoteAssetManager;
+    private final RateLimitManager rateLimitManager;
+    private final PreTradeRiskGate riskGate;
+    private final OrderFlowControl flowControl;
+    private final TradingMetrics metrics;
+
+    private DashboardFile file;
+
+    @PostConstruct
+    public void open() {
+        if (!dashboardProps.enabled()) {
+            return;
+        }
+        try {
+            file = DashboardFile.create(Path.of(dashboardProps.file()));
+            log.info("[DASHBOARD] 공개 시작 | FILE: {}", dashboardProps.file());
+        } catch (IOException e) {
+            log.warn("⚠️[DASHBOARD] OPEN FAIL | REASON: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${hft.dashboard.publish-interval-ms}")
+    public void publish() {
+        if (file == null) {
+            return;
+        }
+        file.write(snapshot());
+    }
+
+    private DashboardSnapshot snapshot() {
+        return new DashboardSnapshot(
+                props.priceTickSize(),
+                props.qtyTickSize(),
+                System.currentTimeMillis(),
+                riskGate.getLastBookUpdateMillis(),
+                riskGate.getBestBidPriceTicks(),
+                riskGate.getBestAskPriceTicks(),
+                orderManager.getBuyOrderCount(),
+                orderManager.getSellOrderCount(),
+                orderManager.getCanceledOrderCount(),
+                orderManager.getCanceledQtyTicks(),
+                props.toQtyTicks(positionManager.getPosition().totalQty()),
+                orderManager.getInventoryQtyTicks(),
+                quoteAssetManager.getQuoteBalanceTicks(),
+                rateLimitManager.getOrderCount(),
+                RateLimitManager.LIMIT,
+                rateLimitManager.getUsedWeight(),
+                flowControl.isHalted(),
+                DashboardSnapshot.Latency.of(metrics.orderLatency()),
+                DashboardSnapshot.Latency.of(metrics.bookLatency())
+        );
+    }
+}
@@ -0,0 +1,46 @@
+package io.github.seokhyunpark.hft.trading.dto;
+
+import java.math.BigDecimal;
+
+import io.github.seokhyunpark.hft.trading.metrics.LatencyHistogram;
+
+// 외부 프로세스에 공개하는 실시간 상태. 가격/수량은 틱 단위이고, 틱 크기를 함께 실어 읽는 쪽이 환산한다.
+public record DashboardSnapshot(
+        BigDecimal priceTickSize,
+        BigDecimal qtyTickSize,
+        long publishedMillis,
+        long bookUpdateMillis,
+        long bestBidPriceTicks,
+        long bestAskPriceTicks,
+        int buyOrderCount,
+        int sellOrderCount,
+        int canceledOrderCount,
+        long canceledQtyTicks,
+        long positionQtyTicks,
+        long inventoryQtyTicks,
+        long quoteBalanceTicks,
+        int rateLimitOrderCount,
+        int rateLimitOrderLimit,
+        int rateLimitUsedWeight,
+        boolean halted,
+        Latency orderLatency,
+        Latency bookLatency
+) {
+    public record Latency(
+            long p50Micros,
+            long p90Micros,
+            long p99Micros,
+            long p999Micros,
+            long maxMicros
+    ) {
+        public static Latency of(LatencyHistogram histogram) {
+            return new Latency(
+                    histogram.percentile(0.5) / 1_000L,
+                    histogram.percentile(0.9) / 1_000L,
+                    histogram.percentile(0.99) / 1_000L,
+                    histogram.percentile(0.999) / 1_000L,
+                    histogram.getMax() / 1_000L
+            );
+        }
+    }
+}
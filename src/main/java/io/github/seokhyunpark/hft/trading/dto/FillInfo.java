@@ -0,0 +1,10 @@
+package io.github.seokhyunpark.hft.trading.dto;
+
+import java.math.BigDecimal;
+
+// 수수료를 반영한 순 체결 수량과 순 체결 금액(매수는 원가, 매도는 수령액)
+public record FillInfo(
+        BigDecimal netQty,
+        BigDecimal netUsdValue
+) {
+}
@@ -0,0 +1,14 @@
+package io.github.seokhyunpark.hft.trading.dto;
+
+import java.util.List;
+
+public record StateSnapshot(
+        long timestampMillis,
+        List<OrderInfo> buyOrders,
+        List<OrderInfo> sellOrders,
+        PositionInfo position,
+        int rateLimitOrderCount,
+        long rateLimitWindowId,
+        long journalPosition
+) {
+}
@@ -0,0 +1,106 @@
+package io.github.seokhyunpark.hft.trading.eventlog;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+// 트레이딩 스레드가 고정 크기 레코드를 미리 할당된 링 버퍼에 쓰고, 단일 컨슈머가 나중에 꺼내 포맷한다.
+// 기록 경로에는 할당, 문자열 변환, 락이 없다. 버퍼가 가득 차면 기다리지 않고 버린 뒤 개수만 센다.
+public final class EventLog {
+    // 레코드 구조: [SEQUENCE, TYPE, TIMESTAMP, FIELD0, FIELD1, FIELD2, PAD, PAD]
+    // 프로듀서끼리 캐시 라인을 나눠 쓰지 않도록 레코드 하나를 64바이트로 맞춘다.
+    // SEQUENCE 는 나머지 필드를 모두 쓴 뒤 (위치 + 1) 로 release 기록하므로, 기대한 값일 때만 완결된 레코드다.
+    static final int RECORD_LONGS = 8;
+    private static final int SEQUENCE_OFFSET = 0;
+    private static final int TYPE_OFFSET = 1;
+    private static final int TIMESTAMP_OFFSET = 2;
+    private static final int FIELD_OFFSET = 3;
+
+    private static final VarHandle SLOT = MethodHandles.arrayElementVarHandle(long[].class);
+
+    private final long[] ring;
+    private final int capacity;
+    private final int mask;
+
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong tail = new AtomicLong();
+    private final LongAdder dropped = new LongAdder();
+
+    public EventLog(int capacity) {
+        if (capacity <= 0 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("이벤트 로그 용량은 2의 거듭제곱이어야 합니다: " + capacity);
+        }
+        this.ring = new long[capacity * RECORD_LONGS];
+        this.capacity = capacity;
+        this.mask = capacity - 1;
+    }
+
+    // ----------------------------------------------------------------------------------------------------
+    // 기록 (멀티 프로듀서)
+    // ----------------------------------------------------------------------------------------------------
+    public void log(EventLogType type, long field0) {
+        log(type, field0, 0L, 0L);
+    }
+
+    public void log(EventLogType type, long field0, long field1) {
+        log(type, field0, field1, 0L);
+    }
+
+    public void log(EventLogType type, long field0, long field1, long field2) {
+        long position;
+        do {
+            position = head.get();
+            if (position - tail.get() >= capacity) {
+                dropped.increment();
+                return;
+            }
+        } while (!head.compareAndSet(position, position + 1));
+
+        int offset = (int) (position & mask) * RECORD_LONGS;
+        ring[offset + TYPE_OFFSET] = type.code();
+        ring[offset + TIMESTAMP_OFFSET] = System.currentTimeMillis();
+        ring[offset + FIELD_OFFSET] = field0;
+        ring[offset + FIELD_OFFSET + 1] = field1;
+        ring[offset + FIELD_OFFSET + 2] = field2;
+        SLOT.setRelease(ring, offset + SEQUENCE_OFFSET, position + 1);
+    }
+
+    // ----------------------------------------------------------------------------------------------------
+    // 소비 (단일 컨슈머)
+    // ----------------------------------------------------------------------------------------------------
+    // 완결된 레코드를 순서대로 최대 limit 개 넘긴다. 앞선 위치가 아직 기록 중이면 거기서 멈춘다.
+    public int drain(EventLogHandler handler, int limit) {
+        long position = tail.get();
+        int drained = 0;
+        while (drained < limit) {
+            int offset = (int) (position & mask) * RECORD_LONGS;
+            if ((long) SLOT.getAcquire(ring, offset + SEQUENCE_OFFSET) != position + 1) {
+                break;
+            }
+            handler.onEvent(
+                    EventLogType.fromCode((int) ring[offset + TYPE_OFFSET]),
+                    ring[offset + TIMESTAMP_OFFSET],
+                    ring[offset + FIELD_OFFSET],
+                    ring[offset + FIELD_OFFSET + 1],
+                    ring[offset + FIELD_OFFSET + 2]
+            );
+            position++;
+            drained++;
+            tail.lazySet(position);
+        }
+        return drained;
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    public long getPendingCount() {
+        return head.get() - tail.get();
+    }
+
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+}
@@ -0,0 +1,116 @@
+package io.github.seokhyunpark.hft.trading.eventlog;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+// 이벤트 로그를 포맷하지 않고 고정 크기 바이너리 레코드로 이어 쓴다. 분석 도구는 read 로 다시 읽는다.
+public final class EventLogFile implements EventLogHandler, AutoCloseable {
+    // 레코드 구조: [TYPE(int), RESERVED(int), TIMESTAMP, FIELD0, FIELD1, FIELD2]
+    static final int RECORD_SIZE = 40;
+    private static final int BUFFER_RECORDS = 1024;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(RECORD_SIZE * BUFFER_RECORDS);
+
+    private EventLogFile(FileChannel channel) {
+        this.channel = channel;
+    }
+
+    public static EventLogFile open(Path path) throws IOException {
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        return new EventLogFile(FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.APPEND));
+    }
+
+    // ----------------------------------------------------------------------------------------------------
+    // 쓰기
+    // ----------------------------------------------------------------------------------------------------
+    @Override
+    public void onEvent(EventLogType type, long timestampMillis, long field0, long field1, long field2) {
+        if (buffer.remaining() < RECORD_SIZE) {
+            flush();
+        }
+        buffer.putInt(type.code())
+                .putInt(0)
+                .putLong(timestampMillis)
+                .putLong(field0)
+                .putLong(field1)
+                .putLong(field2);
+    }
+
+    public void flush() {
+        buffer.flip();
+        try {
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("이벤트 로그 파일 쓰기 실패", e);
+        } finally {
+            buffer.clear();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            channel.close();
+        }
+    }
+
+    // ----------------------------------------------------------------------------------------------------
+    // 읽기
+    // ----------------------------------------------------------------------------------------------------
+    // 끝의 잘린 레코드와 알 수 없는 TYPE 은 건너뛴다.
+    public static long read(Path path, EventLogHandler handler) throws IOException {
+        long read = 0;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocate(RECORD_SIZE * BUFFER_RECORDS);
+            while (channel.read(buffer) > 0 || buffer.position() > 0) {
+                buffer.flip();
+                if (buffer.remaining() < RECORD_SIZE && channel.position() == channel.size()) {
+                    break;
+                }
+                while (buffer.remaining() >= RECORD_SIZE) {
+                    EventLogType type = EventLogType.fromCode(buffer.getInt());
+                    buffer.getInt();
+                    long timestampMillis = buffer.getLong();
+                    long field0 = buffer.getLong();
+                    long field1 = buffer.getLong();
+                    long field2 = buffer.getLong();
+                    if (type != null) {
+                        handler.onEvent(type, timestampMillis, field0, field1, field2);
+                        read++;
+                    }
+                }
+                buffer.compact();
+            }
+        }
+        return read;
+    }
+
+    // 틱 크기 없이 원시 필드를 그대로 출력한다: TIMESTAMP TYPE FIELD0 FIELD1 FIELD2
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            System.err.println("usage: EventLogFile <file>");
+            return;
+        }
+        StringBuilder line = new StringBuilder(128);
+        read(Path.of(args[0]), (type, timestampMillis, field0, field1, field2) -> {
+            line.setLength(0);
+            line.append(timestampMillis).append(' ').append(type.name());
+            for (int i = 0; i < type.fieldCount(); i++) {
+                line.append(' ').append(i == 0 ? field0 : i == 1 ? field1 : field2);
+            }
+            System.out.println(line);
+        });
+    }
+}
@@ -0,0 +1,33 @@
+package io.github.seokhyunpark.hft.trading.eventlog;
+
+import io.github.seokhyunpark.hft.trading.config.TradingProperties;
+
+// 틱 단위 필드를 기존 로그와 같은 "TAG LABEL: value | LABEL: value" 형식의 문자열로 만든다. 컨슈머 스레드 전용이다.
+public final class EventLogFormatter {
+    private final TradingProperties props;
+    private final StringBuilder text = new StringBuilder(128);
+
+    public EventLogFormatter(TradingProperties props) {
+        this.props = props;
+    }
+
+    public String format(EventLogType type, long field0, long field1, long field2) {
+        text.setLength(0);
+        text.append(type.tag());
+        for (int i = 0; i < type.fieldCount(); i++) {
+            EventLogType.Field field = type.field(i);
+            text.append(i == 0 ? " " : " | ").append(field.label()).append(": ");
+            appendValue(field.unit(), i == 0 ? field0 : i == 1 ? field1 : field2);
+        }
+        return text.toString();
+    }
+
+    private void appendValue(EventLogType.Unit unit, long value) {
+        switch (unit) {
+            case RAW -> text.append(value);
+            case PRICE_TICKS -> text.append(props.fromPriceTicks(value).toPlainString());
+            case QTY_TICKS -> text.append(props.fromQtyTicks(value).toPlainString());
+            case NOTIONAL_TICKS -> text.append(props.fromNotionalTicks(value).stripTrailingZeros().toPlainString());
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package io.github.seokhyunpark.hft.trading.eventlog;
+
+@FunctionalInterface
+public interface EventLogHandler {
+    void onEvent(EventLogType type, long timestampMillis, long field0, long field1, long field2);
+}
@@ -0,0 +1,94 @@
+package io.github.seokhyunpark.hft.trading.eventlog;
+
+public enum EventLogType {
+    NEW_BUY("🟢[NEW-BUY]", Field.id(), Field.price(), Field.qty()),
+    NEW_SELL("🔴[NEW-SELL]", Field.id(), Field.price(), Field.qty()),
+    TRADE_BUY("🟩[TRADE-BUY]", Field.id(), Field.price(), Field.qty()),
+    TRADE_SELL("🟥[TRADE-SELL]", Field.id(), Field.price(), Field.qty()),
+    CANCELED_BUY("🟧[CANCELED-BUY]", Field.id()),
+    CANCELED_SELL("🟧[CANCELED-SELL]", Field.id()),
+
+    RATE_LIMIT_NEW("[RATE-LIMIT-NEW]", Field.count("COUNT"), Field.count("LIMIT")),
+    RATE_LIMIT_FILLED("[RATE-LIMIT-FILLED]", Field.count("COUNT"), Field.count("LIMIT")),
+    RATE_LIMIT_SERVER("[RATE-LIMIT-SERVER]", Field.count("COUNT"), Field.count("LIMIT")),
+    RATE_LIMIT_RESTORE("[RATE-LIMIT-RESTORE]", Field.count("COUNT"), Field.count("LIMIT")),
+    RATE_LIMIT_WEIGHT_SERVER("[RATE-LIMIT-WEIGHT-SERVER]", Field.count("WEIGHT"), Field.count("LIMIT")),
+    RATE_LIMIT_WEIGHT_DENIED("[RATE-LIMIT-WEIGHT-DENIED]",
+            Field.count("USED"), Field.count("REQUEST"), Field.count("LIMIT")),
+
+    QUOTE_SERVER_ADD("[QUOTE-SERVER-ADD]", Field.notional("BALANCE")),
+    QUOTE_SERVER_SYNC("[QUOTE-SERVER-SYNC]", Field.notional("BALANCE")),
+    QUOTE_LOCAL_DEDUCT("[QUOTE-LOCAL-DEDUCT]", Field.notional("BALANCE")),
+
+    PNL("[PNL]", Field.notional("REALIZED"), Field.notional("UNREALIZED"), Field.qty("INVENTORY"));
+
+    // 레코드 하나가 담을 수 있는 필드 수
+    public static final int MAX_FIELDS = 3;
+
+    private static final EventLogType[] VALUES = values();
+
+    private final String tag;
+    private final Field[] fields;
+
+    EventLogType(String tag, Field... fields) {
+        this.tag = tag;
+        this.fields = fields;
+    }
+
+    public String tag() {
+        return tag;
+    }
+
+    public int fieldCount() {
+        return fields.length;
+    }
+
+    public Field field(int index) {
+        return fields[index];
+    }
+
+    // 0 은 아직 기록되지 않은 슬롯을 의미한다.
+    public int code() {
+        return ordinal() + 1;
+    }
+
+    public static EventLogType fromCode(int code) {
+        if (code <= 0 || code > VALUES.length) {
+            return null;
+        }
+        return VALUES[code - 1];
+    }
+
+    public enum Unit {
+        RAW,
+        PRICE_TICKS,
+        QTY_TICKS,
+        NOTIONAL_TICKS
+    }
+
+    public record Field(String label, Unit unit) {
+        static Field id() {
+            return new Field("ID", Unit.RAW);
+        }
+
+        static Field price() {
+            return new Field("PRICE", Unit.PRICE_TICKS);
+        }
+
+        static Field qty() {
+            return qty("QTY");
+        }
+
+        static Field qty(String label) {
+            return new Field(label, Unit.QTY_TICKS);
+        }
+
+        static Field count(String label) {
+            return new Field(label, Unit.RAW);
+        }
+
+        static Field notional(String label) {
+            return new Field(label, Unit.NOTIONAL_TICKS);
+        }
+    }
+}
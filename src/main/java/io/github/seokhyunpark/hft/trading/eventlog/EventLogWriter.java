@@ -0,0 +1,132 @@
+package io.github.seokhyunpark.hft.trading.eventlog;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+import io.github.seokhyunpark.hft.trading.config.EventLogProperties;
+import io.github.seokhyunpark.hft.trading.config.TradingProperties;
+
+// 백그라운드 스레드에서 이벤트 로그를 비우며 텍스트 로그 및/또는 바이너리 파일로 내보낸다.
+@Slf4j
+@Component
+public class EventLogWriter implements EventLogHandler {
+    private static final int DRAIN_BATCH = 256;
+
+    private final EventLog eventLog;
+    private final EventLogProperties logProps;
+    private final EventLogFormatter formatter;
+
+    private EventLogFile file;
+    private Thread thread;
+    private volatile boolean running;
+    private long reportedDropped;
+
+    public EventLogWriter(EventLog eventLog, EventLogProperties logProps, TradingProperties props) {
+        this.eventLog = eventLog;
+        this.logProps = logProps;
+        this.formatter = new EventLogFormatter(props);
+    }
+
+    @PostConstruct
+    public void start() {
+        if (logProps.binaryFile() != null && !logProps.binaryFile().isBlank()) {
+            try {
+                file = EventLogFile.open(Path.of(logProps.binaryFile()));
+                log.info("[EVENT-LOG] 바이너리 기록 시작 | FILE: {}", logProps.binaryFile());
+            } catch (IOException e) {
+                log.warn("⚠️[EVENT-LOG] OPEN FAIL | REASON: {}", e.getMessage());
+            }
+        }
+        running = true;
+        thread = new Thread(this::run, "event-log-writer");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        LockSupport.unpark(thread);
+        thread.join(TimeUnit.SECONDS.toMillis(1));
+    }
+
+    // ----------------------------------------------------------------------------------------------------
+    // 컨슈머 루프
+    // ----------------------------------------------------------------------------------------------------
+    private void run() {
+        long idleParkNanos = TimeUnit.MICROSECONDS.toNanos(logProps.idleParkMicros());
+        while (running) {
+            if (eventLog.drain(this, DRAIN_BATCH) == 0) {
+                flushFile();
+                reportDropped();
+                LockSupport.parkNanos(idleParkNanos);
+            }
+        }
+        // 종료 직전에 쌓인 레코드까지 내보낸다.
+        int drained;
+        do {
+            drained = eventLog.drain(this, DRAIN_BATCH);
+        } while (drained > 0);
+        reportDropped();
+        closeFile();
+    }
+
+    @Override
+    public void onEvent(EventLogType type, long timestampMillis, long field0, long field1, long field2) {
+        if (type == null) {
+            return;
+        }
+        if (logProps.textEnabled() && log.isInfoEnabled()) {
+            log.info(formatter.format(type, field0, field1, field2));
+        }
+        if (file != null) {
+            try {
+                file.onEvent(type, timestampMillis, field0, field1, field2);
+            } catch (IllegalStateException e) {
+                log.warn("⚠️[EVENT-LOG] WRITE FAIL | 바이너리 기록 중단 | REASON: {}", e.getMessage());
+                closeFile();
+            }
+        }
+    }
+
+    private void reportDropped() {
+        long dropped = eventLog.getDroppedCount();
+        if (dropped > reportedDropped) {
+            log.warn("⚠️[EVENT-LOG] DROPPED | COUNT: {} | TOTAL: {}", dropped - reportedDropped, dropped);
+            reportedDropped = dropped;
+        }
+    }
+
+    private void flushFile() {
+        if (file == null) {
+            return;
+        }
+        try {
+            file.flush();
+        } catch (IllegalStateException e) {
+            log.warn("⚠️[EVENT-LOG] WRITE FAIL | 바이너리 기록 중단 | REASON: {}", e.getMessage());
+            closeFile();
+        }
+    }
+
+    private void closeFile() {
+        if (file == null) {
+            return;
+        }
+        try {
+            file.close();
+        } catch (IOException | IllegalStateException e) {
+            log.warn("⚠️[EVENT-LOG] CLOSE FAIL | REASON: {}", e.getMessage());
+        }
+        file = null;
+    }
+}
@@ -12,9 +12,12 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
-import io.github.seokhyunpark.hft.exchange.client.BinanceClient;
+import io.github.seokhyunpark.hft.exchange.client.OrderGateway;
 import io.github.seokhyunpark.hft.exchange.dto.rest.CancelOrderResponse;
 import io.github.seokhyunpark.hft.exchange.dto.rest.NewOrderResponse;
+import io.github.seokhyunpark.hft.jfr.OrderCancelEvent;
+import io.github.seokhyunpark.hft.jfr.OrderOutcome;
+import io.github.seokhyunpark.hft.jfr.OrderSubmitEvent;
 import io.github.seokhyunpark.hft.trading.config.TradingProperties;
 import io.github.seokhyunpark.hft.trading.dto.NewOrderParams;
 import io.github.seokhyunpark.hft.trading.dto.OrderInfo;
@@ -22,142 +25,201 @@ import io.github.seokhyunpark.hft.trading.dto.PositionInfo;
 import io.github.seokhyunpark.hft.trading.manager.OrderManager;
 import io.github.seokhyunpark.hft.trading.manager.PositionManager;
 import io.github.seokhyunpark.hft.trading.manager.RateLimitManager;
-import io.github.seokhyunpark.hft.trading.strategy.TradingStrategy;
+import io.github.seokhyunpark.hft.trading.metrics.TradingMetrics;
+import io.github.seokhyunpark.hft.trading.risk.OrderFlowControl;
+import io.github.seokhyunpark.hft.trading.strategy.OrderSide;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class OrderExecutor {
     private final ObjectMapper objectMapper;
-    private final BinanceClient binanceClient;
+    private final OrderGateway orderGateway;
     private final TradingProperties props;
     private final OrderManager orderManager;
     private final PositionManager positionManager;
     private final RateLimitManager rateLimitManager;
-    private final TradingStrategy tradingStrategy;
+    private final OrderFlowControl flowControl;
+    private final TradingMetrics metrics;
 
+    // 호출자가 flowControl.tryEnter() 에 성공한 뒤 부른다. 실행기는 거절 없이 호출 스레드에서라도 실행하므로 exit 가 빠지지 않는다.
     @Async("buyOrderExecutor")
     public void buyAsync(NewOrderParams params) {
+        long priceTicks = props.toPriceTicks(params.price());
+        long qtyTicks = props.toQtyTicks(params.qty());
+        OrderSubmitEvent event = new OrderSubmitEvent();
+        event.begin();
+        long startNanos = System.nanoTime();
         try {
-            ResponseEntity<NewOrderResponse> responseEntity = binanceClient.buyLimitMaker(
+            ResponseEntity<NewOrderResponse> responseEntity = orderGateway.buyLimitMaker(
                     props.symbol(),
                     props.scaleQty(params.qty()).toPlainString(),
                     props.scalePrice(params.price()).toPlainString()
             );
+            metrics.recordOrderLatency(System.nanoTime() - startNanos);
             updateRateLimit(responseEntity);
 
             NewOrderResponse response = responseEntity.getBody();
             if (response != null && response.orderId() != null) {
-                OrderInfo info = new OrderInfo(
-                        response.orderId(),
-                        response.symbol(),
-                        params.qty().toPlainString(),
-                        params.price().toPlainString(),
-                        null
-                );
-                orderManager.addBuyOrder(info);
-                log.debug("[NEW-BUY] OK | ID: {}", info.orderId());
+                orderManager.addBuyOrder(response.orderId(), priceTicks, qtyTicks);
+                event.complete(OrderSide.BUY, response.orderId(), priceTicks, qtyTicks, OrderOutcome.ACK, null);
+                metrics.onOrderPlaced(OrderSide.BUY);
+                log.debug("[NEW-BUY] OK | ID: {}", response.orderId());
             }
         } catch (HttpClientErrorException e) {
+            String code = extractErrorCode(e);
+            event.complete(OrderSide.BUY, 0L, priceTicks, qtyTicks, OrderOutcome.REJECTED, code);
+            metrics.onOrderRejected(code);
             log.warn("⚠️[NEW-BUY] FAIL | REASON: {}", extractErrorMessage(e));
         } catch (Exception e) {
+            event.complete(OrderSide.BUY, 0L, priceTicks, qtyTicks, OrderOutcome.ERROR, null);
+            metrics.onOrderError();
             log.error("[NEW-BUY] ERROR | MESSAGE: {}", e.getMessage());
+        } finally {
+            orderManager.releasePendingBuyQty(qtyTicks);
+            flowControl.exit();
         }
     }
 
     @Async("buyOrderExecutor")
-    public void cancelBuyAsync(OrderInfo info) {
+    public void cancelBuyAsync(long orderId) {
+        // 정지 중에는 일괄 취소가 처리한다.
+        if (!flowControl.tryEnter()) {
+            return;
+        }
+        OrderCancelEvent event = new OrderCancelEvent();
+        event.begin();
         try {
-            if (!orderManager.containsBuyOrder(info.orderId())) {
-                log.debug("[CANCEL-BUY] SKIP | ID: {}", info.orderId());
+            if (!orderManager.containsBuyOrder(orderId)) {
+                log.debug("[CANCEL-BUY] SKIP | ID: {}", orderId);
                 return;
             }
-            orderManager.removeBuyOrder(info.orderId());
+            orderManager.removeBuyOrder(orderId);
 
-            ResponseEntity<CancelOrderResponse> responseEntity = binanceClient.cancelOrder(
-                    info.symbol(),
-                    info.orderId()
+            ResponseEntity<CancelOrderResponse> responseEntity = orderGateway.cancelOrder(
+                    props.symbol(),
+                    orderId
             );
 
             CancelOrderResponse response = responseEntity.getBody();
             if (response != null && response.orderId() != null) {
-                log.debug("[CANCEL-BUY] OK | ID: {}", info.orderId());
+                event.complete(OrderSide.BUY, orderId, OrderOutcome.ACK, null);
+                metrics.onOrderCanceled(OrderSide.BUY);
+                log.debug("[CANCEL-BUY] OK | ID: {}", orderId);
             }
         } catch (HttpClientErrorException e) {
-            log.warn("⚠️[CANCEL-BUY] FAIL | ID: {} | REASON: {}", info.orderId(), extractErrorMessage(e));
+            String code = extractErrorCode(e);
+            event.complete(OrderSide.BUY, orderId, OrderOutcome.REJECTED, code);
+            metrics.onOrderRejected(code);
+            log.warn("⚠️[CANCEL-BUY] FAIL | ID: {} | REASON: {}", orderId, extractErrorMessage(e));
         } catch (Exception e) {
-            log.error("[CANCEL-BUY] ERROR | ID: {} | MESSAGE: {}", info.orderId(), e.getMessage());
+            event.complete(OrderSide.BUY, orderId, OrderOutcome.ERROR, null);
+            metrics.onOrderError();
+            log.error("[CANCEL-BUY] ERROR | ID: {} | MESSAGE: {}", orderId, e.getMessage());
+        } finally {
+            flowControl.exit();
         }
     }
 
     @Async("sellOrderExecutor")
     public void sellAsync(NewOrderParams params, PositionInfo pulledInfo) {
+        if (!flowControl.tryEnter()) {
+            positionManager.restorePosition(pulledInfo);
+            log.debug("[NEW-SELL] HALTED | 포지션으로 복구");
+            return;
+        }
+        long priceTicks = props.toPriceTicks(params.price());
+        long qtyTicks = props.toQtyTicks(params.qty());
+        OrderSubmitEvent event = new OrderSubmitEvent();
+        event.begin();
+        long startNanos = System.nanoTime();
         try {
-            ResponseEntity<NewOrderResponse> responseEntity = binanceClient.sellLimitMaker(
+            ResponseEntity<NewOrderResponse> responseEntity = orderGateway.sellLimitMaker(
                     props.symbol(),
                     props.scaleQty(params.qty()).toPlainString(),
                     props.scalePrice(params.price()).toPlainString()
             );
+            metrics.recordOrderLatency(System.nanoTime() - startNanos);
             updateRateLimit(responseEntity);
 
             NewOrderResponse response = responseEntity.getBody();
             if (response != null && response.orderId() != null) {
-                OrderInfo info = new OrderInfo(
+                orderManager.addSellOrder(
                         response.orderId(),
-                        response.symbol(),
-                        params.qty().toPlainString(),
-                        params.price().toPlainString(),
-                        props.scalePrice(props.divide(pulledInfo.totalUsdValue(), pulledInfo.totalQty()))
+                        priceTicks,
+                        qtyTicks,
+                        props.toPriceTicks(props.divide(pulledInfo.totalUsdValue(), pulledInfo.totalQty()))
                 );
-                orderManager.addSellOrder(info);
-                log.debug("[NEW-SELL] OK | ID: {}", info.orderId());
+                event.complete(OrderSide.SELL, response.orderId(), priceTicks, qtyTicks, OrderOutcome.ACK, null);
+                metrics.onOrderPlaced(OrderSide.SELL);
+                log.debug("[NEW-SELL] OK | ID: {}", response.orderId());
             }
         } catch (HttpClientErrorException e) {
             positionManager.restorePosition(pulledInfo);
+            String code = extractErrorCode(e);
+            event.complete(OrderSide.SELL, 0L, priceTicks, qtyTicks, OrderOutcome.REJECTED, code);
+            metrics.onOrderRejected(code);
             log.warn("⚠️[NEW-SELL] FAIL | REASON: {}", extractErrorMessage(e));
         } catch (Exception e) {
             positionManager.restorePosition(pulledInfo);
+            event.complete(OrderSide.SELL, 0L, priceTicks, qtyTicks, OrderOutcome.ERROR, null);
+            metrics.onOrderError();
             log.error("[NEW-SELL] ERROR | MESSAGE: {}", e.getMessage());
+        } finally {
+            flowControl.exit();
         }
     }
 
     @Async("sellOrderExecutor")
-    public void restoreSellAsync(OrderInfo info) {
+    public void restoreSellAsync(OrderInfo info, NewOrderParams sellParams) {
+        if (!flowControl.tryEnter()) {
+            keepCanceledInventory(info);
+            return;
+        }
+        long priceTicks = props.toPriceTicks(sellParams.price());
+        long qtyTicks = props.toQtyTicks(sellParams.qty());
+        OrderSubmitEvent event = new OrderSubmitEvent();
+        event.begin();
+        long startNanos = System.nanoTime();
         try {
-            BigDecimal qty = new BigDecimal(info.qty());
-            BigDecimal avgBuyPrice = info.avgBuyPrice();
-            NewOrderParams sellParams = tradingStrategy.calculateSellOrderParams(qty, avgBuyPrice);
-
-            ResponseEntity<NewOrderResponse> responseEntity = binanceClient.sellLimitMaker(
-                    info.symbol(),
+            ResponseEntity<NewOrderResponse> responseEntity = orderGateway.sellLimitMaker(
+                    props.symbol(),
                     sellParams.qty().toPlainString(),
                     sellParams.price().toPlainString()
             );
+            metrics.recordOrderLatency(System.nanoTime() - startNanos);
             updateRateLimit(responseEntity);
 
             NewOrderResponse response = responseEntity.getBody();
             if (response != null && response.orderId() != null) {
-                OrderInfo newInfo = new OrderInfo(
-                        response.orderId(),
-                        response.symbol(),
-                        sellParams.qty().toPlainString(),
-                        sellParams.price().toPlainString(),
-                        info.avgBuyPrice()
-                );
-                orderManager.addSellOrder(newInfo);
-                log.debug("[RESTORE-SELL] OK | ID: {}", newInfo.orderId());
+                orderManager.addSellOrder(response.orderId(), priceTicks, qtyTicks, info.avgBuyPriceTicks());
+                event.complete(OrderSide.SELL, response.orderId(), priceTicks, qtyTicks, OrderOutcome.ACK, null);
+                metrics.onOrderPlaced(OrderSide.SELL);
+                log.debug("[RESTORE-SELL] OK | ID: {}", response.orderId());
             }
         } catch (HttpClientErrorException e) {
-            orderManager.addCanceledOrder(info);
+            keepCanceledInventory(info);
+            String code = extractErrorCode(e);
+            event.complete(OrderSide.SELL, 0L, priceTicks, qtyTicks, OrderOutcome.REJECTED, code);
+            metrics.onOrderRejected(code);
             log.warn("⚠️[RESTORE-SELL] FAIL | REASON: {}", extractErrorMessage(e));
         } catch (Exception e) {
-            orderManager.addCanceledOrder(info);
+            keepCanceledInventory(info);
+            event.complete(OrderSide.SELL, 0L, priceTicks, qtyTicks, OrderOutcome.ERROR, null);
+            metrics.onOrderError();
             log.error("[RESTORE-SELL] ERROR | MESSAGE: {}", e.getMessage());
+        } finally {
+            flowControl.exit();
         }
     }
 
     @Async("sellOrderExecutor")
     public void cancelSellAsync(OrderInfo info) {
+        if (!flowControl.tryEnter()) {
+            return;
+        }
+        OrderCancelEvent event = new OrderCancelEvent();
+        event.begin();
         try {
             if (!orderManager.containsSellOrder(info.orderId())) {
                 log.debug("[CANCEL-SELL] SKIP | ID: {}", info.orderId());
@@ -165,21 +227,54 @@ public class OrderExecutor {
             }
             orderManager.removeSellOrder(info.orderId());
 
-            ResponseEntity<CancelOrderResponse> responseEntity = binanceClient.cancelOrder(
-                    info.symbol(),
+            ResponseEntity<CancelOrderResponse> responseEntity = orderGateway.cancelOrder(
+                    props.symbol(),
                     info.orderId()
             );
 
             CancelOrderResponse response = responseEntity.getBody();
             if (response != null && response.orderId() != null) {
-                orderManager.addCanceledOrder(info);
+                keepCanceledInventory(new OrderInfo(
+                        info.orderId(),
+                        info.priceTicks(),
+                        getRemainingQtyTicks(response, info.qtyTicks()),
+                        info.avgBuyPriceTicks()
+                ));
+                event.complete(OrderSide.SELL, info.orderId(), OrderOutcome.ACK, null);
+                metrics.onOrderCanceled(OrderSide.SELL);
                 log.debug("[CANCEL-SELL] OK | ID: {}", info.orderId());
             }
         } catch (HttpClientErrorException e) {
+            String code = extractErrorCode(e);
+            event.complete(OrderSide.SELL, info.orderId(), OrderOutcome.REJECTED, code);
+            metrics.onOrderRejected(code);
             log.warn("⚠️[CANCEL-SELL] FAIL | ID: {} | REASON: {}", info.orderId(), extractErrorMessage(e));
         } catch (Exception e) {
+            event.complete(OrderSide.SELL, info.orderId(), OrderOutcome.ERROR, null);
+            metrics.onOrderError();
             log.error("[CANCEL-SELL] ERROR | ID: {} | MESSAGE: {}", info.orderId(), e.getMessage());
+        } finally {
+            flowControl.exit();
+        }
+    }
+
+    private void keepCanceledInventory(OrderInfo info) {
+        if (orderManager.addCanceledOrder(info)) {
+            return;
+        }
+
+        BigDecimal qty = props.fromQtyTicks(info.qtyTicks());
+        BigDecimal usdValue = props.fromPriceTicks(info.avgBuyPriceTicks()).multiply(qty);
+        positionManager.restorePosition(new PositionInfo(qty, usdValue));
+        log.warn("⚠️[CANCELED-LADDER] FULL | 포지션으로 복구 | QTY: {}", qty.toPlainString());
+    }
+
+    private long getRemainingQtyTicks(CancelOrderResponse response, long fallbackQtyTicks) {
+        if (response.origQty() == null || response.executedQty() == null) {
+            return fallbackQtyTicks;
         }
+        BigDecimal remainingQty = new BigDecimal(response.origQty()).subtract(new BigDecimal(response.executedQty()));
+        return props.toQtyTicks(remainingQty);
     }
 
     private void updateRateLimit(ResponseEntity<?> responseEntity) {
@@ -192,6 +287,23 @@ public class OrderExecutor {
             int count = Integer.parseInt(rawCount);
             rateLimitManager.syncOrderCount(count);
         }
+
+        String rawWeight = responseEntity.getHeaders().getFirst("X-MBX-USED-WEIGHT-1m");
+        if (rawWeight != null && rawWeight.matches("\\d+")) {
+            rateLimitManager.syncUsedWeight(Integer.parseInt(rawWeight));
+        }
+    }
+
+    // 거래소 오류 코드가 없으면 HTTP 상태 코드로 구분한다.
+    private String extractErrorCode(HttpClientErrorException e) {
+        String fallback = "HTTP_" + e.getStatusCode().value();
+        try {
+            return objectMapper.readTree(e.getResponseBodyAsString())
+                    .path("code")
+                    .asText(fallback);
+        } catch (Exception err) {
+            return fallback;
+        }
     }
 
     private String extractErrorMessage(HttpClientErrorException e) {
@@ -0,0 +1,52 @@
+package io.github.seokhyunpark.hft.trading.executor;
+
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+import io.github.seokhyunpark.hft.trading.config.TradingProperties;
+import io.github.seokhyunpark.hft.trading.dto.NewOrderParams;
+import io.github.seokhyunpark.hft.trading.manager.OrderManager;
+import io.github.seokhyunpark.hft.trading.manager.QuoteAssetManager;
+import io.github.seokhyunpark.hft.trading.manager.RateLimitManager;
+import io.github.seokhyunpark.hft.trading.risk.OrderFlowControl;
+import io.github.seokhyunpark.hft.trading.risk.PreTradeRiskGate;
+import io.github.seokhyunpark.hft.trading.strategy.OrderIntents;
+
+// 전략이 기록한 의도를 기록 순서대로 실행한다. 신규 매수는 모두 사전 위험 점검을 거친다.
+@Component
+@RequiredArgsConstructor
+public class OrderIntentExecutor {
+    private final TradingProperties props;
+    private final OrderExecutor orderExecutor;
+    private final PreTradeRiskGate riskGate;
+    private final RateLimitManager rateLimitManager;
+    private final QuoteAssetManager quoteAssetManager;
+    private final OrderManager orderManager;
+    private final OrderFlowControl flowControl;
+
+    public void execute(OrderIntents intents) {
+        for (int i = 0; i < intents.size(); i++) {
+            switch (intents.type(i)) {
+                case PLACE_BUY -> placeBuy(intents.priceTicks(i), intents.qtyTicks(i));
+                case CANCEL_BUY -> orderExecutor.cancelBuyAsync(intents.orderId(i));
+            }
+        }
+    }
+
+    private void placeBuy(long priceTicks, long qtyTicks) {
+        if (riskGate.checkBuy(priceTicks, qtyTicks) != null) {
+            return;
+        }
+
+        // 정지 중이면 잔고 차감과 주문 수 집계 전에 멈춘다. 진입한 요청은 buyAsync 가 끝나면서 빠져나간다.
+        if (!flowControl.tryEnter()) {
+            return;
+        }
+        NewOrderParams params = new NewOrderParams(props.fromQtyTicks(qtyTicks), props.fromPriceTicks(priceTicks));
+        rateLimitManager.onOrderPlaced();
+        quoteAssetManager.deductQuoteBalance(params.getUsdValue());
+        orderManager.reservePendingBuyQty(qtyTicks);
+        orderExecutor.buyAsync(params);
+    }
+}
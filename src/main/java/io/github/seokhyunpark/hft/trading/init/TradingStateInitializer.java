@@ -0,0 +1,149 @@
+package io.github.seokhyunpark.hft.trading.init;
+
+import java.math.BigDecimal;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import io.github.seokhyunpark.hft.exchange.client.BinanceClient;
+import io.github.seokhyunpark.hft.exchange.dto.rest.GetAccountResponse.Balance;
+import io.github.seokhyunpark.hft.exchange.dto.rest.GetOrderResponse;
+import io.github.seokhyunpark.hft.exchange.service.ExchangeService;
+import io.github.seokhyunpark.hft.trading.config.TradingProperties;
+import io.github.seokhyunpark.hft.trading.dto.OrderInfo;
+import io.github.seokhyunpark.hft.trading.manager.OrderManager;
+import io.github.seokhyunpark.hft.trading.manager.QuoteAssetManager;
+import io.github.seokhyunpark.hft.trading.state.ClosedOrderResolver;
+import io.github.seokhyunpark.hft.trading.state.StateReconciler;
+import io.github.seokhyunpark.hft.trading.state.StateRecovery;
+import io.github.seokhyunpark.hft.trading.state.StateSnapshotter;
+import io.github.seokhyunpark.hft.trading.strategy.OrderSide;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TradingStateInitializer {
+    private final ConfigurableApplicationContext context;
+    private final BinanceClient binanceClient;
+    private final ExchangeService exchangeService;
+    private final TradingProperties props;
+    private final QuoteAssetManager quoteAssetManager;
+    private final OrderManager orderManager;
+    private final StateSnapshotter stateSnapshotter;
+    private final StateRecovery stateRecovery;
+    private final ClosedOrderResolver closedOrderResolver;
+    private final StateReconciler stateReconciler;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        long startedAt = System.nanoTime();
+
+        CompletableFuture<Balance> balanceFuture =
+                CompletableFuture.supplyAsync(() -> binanceClient.getBalance(props.quoteAsset()));
+        CompletableFuture<List<GetOrderResponse>> openOrdersFuture =
+                CompletableFuture.supplyAsync(this::fetchOpenOrders);
+        StateRecovery.Result recovered = stateRecovery.recover();
+
+        Balance quoteBalance = balanceFuture.exceptionally(e -> null).join();
+        if (quoteBalance == null || quoteBalance.free() == null) {
+            int exitCode = SpringApplication.exit(context, () -> 1);
+            System.exit(exitCode);
+
+            log.error("[INIT-QUOTE-ASSET-FAIL] AssetManager 초기화 실패");
+            return;
+        }
+
+        BigDecimal balance = new BigDecimal(quoteBalance.free());
+        quoteAssetManager.syncQuoteBalance(balance);
+        log.debug("[INIT-QUOTE-ASSET-SUCCESS] AssetManager 초기화 성공");
+
+        List<GetOrderResponse> openOrders = openOrdersFuture.exceptionally(e -> null).join();
+        if (openOrders == null) {
+            log.warn("[INIT-STATE] 미체결 주문 조회 실패, 거래소 대사 생략");
+        } else {
+            reconcileClosedOrders(openOrders);
+            restoreOpenOrders(openOrders);
+        }
+
+        stateSnapshotter.enable();
+        stateReconciler.enable();
+        log.info("[INIT-STATE] 복구 완료 | SNAPSHOT: {} | JOURNAL: {} | ELAPSED: {}ms",
+                recovered.snapshotLoaded(),
+                recovered.replayed(),
+                (System.nanoTime() - startedAt) / 1_000_000
+        );
+        exchangeService.connect();
+    }
+
+    private List<GetOrderResponse> fetchOpenOrders() {
+        ResponseEntity<List<GetOrderResponse>> response = binanceClient.getOpenOrders(props.symbol());
+        if (response == null || response.getBody() == null) {
+            return null;
+        }
+        return response.getBody();
+    }
+
+    // ----------------------------------------------------------------------------------------------------
+    // 거래소 대사
+    // ----------------------------------------------------------------------------------------------------
+    // 종료 중에 체결/취소된 주문을 반영한다.
+    private void reconcileClosedOrders(List<GetOrderResponse> openOrders) {
+        Set<Long> openOrderIds = new HashSet<>();
+        for (GetOrderResponse order : openOrders) {
+            openOrderIds.add(order.orderId());
+        }
+
+        // 조회에 실패한 주문은 로컬에 남겨 두고 주기 대사가 다시 조회한다.
+        for (OrderInfo info : orderManager.getBuyOrders()) {
+            if (!openOrderIds.contains(info.orderId())) {
+                closedOrderResolver.resolve(OrderSide.BUY, info, 0L);
+            }
+        }
+        for (OrderInfo info : orderManager.getSellOrders()) {
+            if (!openOrderIds.contains(info.orderId())) {
+                closedOrderResolver.resolve(OrderSide.SELL, info, 0L);
+            }
+        }
+    }
+
+    private void restoreOpenOrders(List<GetOrderResponse> openOrders) {
+        for (GetOrderResponse order : openOrders) {
+            BigDecimal price = new BigDecimal(order.price());
+            long priceTicks = props.toPriceTicks(price);
+            long remainingQtyTicks = getRemainingQtyTicks(order);
+
+            switch (order.side()) {
+                case "BUY" -> {
+                    if (!orderManager.containsBuyOrder(order.orderId())) {
+                        orderManager.addBuyOrder(order.orderId(), priceTicks, remainingQtyTicks);
+                    }
+                }
+                case "SELL" -> {
+                    if (!orderManager.containsSellOrder(order.orderId())) {
+                        BigDecimal estimatedAvgBuyPrice = props.divide(price, props.risk().targetMultiplier());
+                        orderManager.addSellOrder(
+                                order.orderId(), priceTicks, remainingQtyTicks, props.toPriceTicks(estimatedAvgBuyPrice)
+                        );
+                    }
+                }
+            }
+        }
+        log.info("[INIT-OPEN-ORDERS] 미체결 주문 복구 | COUNT: {}", openOrders.size());
+    }
+
+    private long getRemainingQtyTicks(GetOrderResponse order) {
+        return props.toQtyTicks(new BigDecimal(order.origQty()))
+                - props.toQtyTicks(new BigDecimal(order.executedQty()));
+    }
+}
@@ -0,0 +1,255 @@
+package io.github.seokhyunpark.hft.trading.journal;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.atomic.AtomicLong;
+
+public final class EventJournal implements AutoCloseable {
+    // 레코드 구조: [TYPE(int), RESERVED(int), TIMESTAMP, FIELD0, FIELD1, FIELD2, FIELD3]
+    // TYPE 은 나머지 필드를 모두 쓴 뒤 release 로 기록하므로, TYPE 이 0 이 아닌 레코드만 완결된 것으로 본다.
+    static final int RECORD_SIZE = 48;
+    private static final int TYPE_OFFSET = 0;
+    private static final int TIMESTAMP_OFFSET = 8;
+    private static final int FIELD_OFFSET = 16;
+    private static final int DECIMAL_SCALE = 8;
+    private static final String SEGMENT_PREFIX = "journal-";
+    private static final String SEGMENT_SUFFIX = ".log";
+
+    private static final VarHandle TYPE =
+            MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
+
+    private final Path directory;
+    private final int segmentRecords;
+
+    private final AtomicLong nextPosition = new AtomicLong();
+    private volatile Segment current;
+    private volatile Segment previous;
+    private long oldestIndex;
+
+    private final Object flushLock = new Object();
+    private long flushedPosition;
+    private boolean settled;
+
+    private EventJournal(Path directory, int segmentRecords) {
+        this.directory = directory;
+        this.segmentRecords = segmentRecords;
+    }
+
+    public static EventJournal open(Path directory, int segmentRecords) throws IOException {
+        Files.createDirectories(directory);
+        EventJournal journal = new EventJournal(directory, segmentRecords);
+        journal.recover();
+        return journal;
+    }
+
+    // ----------------------------------------------------------------------------------------------------
+    // 기록 (멀티 프로듀서)
+    // ----------------------------------------------------------------------------------------------------
+    public void append(JournalEventType type, long field0, long field1, long field2, long field3) {
+        long position = nextPosition.getAndIncrement();
+        Segment segment = current;
+        if (segment.index() != position / segmentRecords) {
+            segment = segment(position / segmentRecords);
+        }
+
+        MappedByteBuffer buffer = segment.buffer();
+        int offset = (int) (position % segmentRecords) * RECORD_SIZE;
+        buffer.putLong(offset + TIMESTAMP_OFFSET, System.currentTimeMillis());
+        buffer.putLong(offset + FIELD_OFFSET, field0);
+        buffer.putLong(offset + FIELD_OFFSET + 8, field1);
+        buffer.putLong(offset + FIELD_OFFSET + 16, field2);
+        buffer.putLong(offset + FIELD_OFFSET + 24, field3);
+        TYPE.setRelease(buffer, offset + TYPE_OFFSET, type.code());
+    }
+
+    public void appendDecimals(JournalEventType type, BigDecimal first, BigDecimal second) {
+        BigDecimal a = fitToLong(first);
+        BigDecimal b = fitToLong(second);
+        append(type, a.unscaledValue().longValue(), a.scale(), b.unscaledValue().longValue(), b.scale());
+    }
+
+    public long position() {
+        return nextPosition.get();
+    }
+
+    // ----------------------------------------------------------------------------------------------------
+    // 디스크 반영 (배치 fsync)
+    // ----------------------------------------------------------------------------------------------------
+    public void flush() {
+        long target = nextPosition.get();
+        synchronized (flushLock) {
+            // 예약만 되고 아직 기록 중인 레코드가 있을 수 있으므로, 위치가 멈춘 뒤에도 한 번 더 반영한다.
+            if (target == flushedPosition) {
+                if (settled) {
+                    return;
+                }
+                settled = true;
+            } else {
+                settled = false;
+            }
+
+            Segment before = previous;
+            if (before != null) {
+                before.buffer().force();
+                previous = null;
+            }
+            current.buffer().force();
+            flushedPosition = target;
+        }
+    }
+
+    @Override
+    public void close() {
+        synchronized (flushLock) {
+            settled = false;
+        }
+        flush();
+    }
+
+    // ----------------------------------------------------------------------------------------------------
+    // 재생
+    // ----------------------------------------------------------------------------------------------------
+    public long replay(long fromPosition, JournalVisitor visitor) throws IOException {
+        long end = nextPosition.get();
+        JournalEntry entry = new JournalEntry();
+        long replayed = 0;
+
+        for (long position = Math.max(0, fromPosition); position < end; ) {
+            long index = position / segmentRecords;
+            Path path = segmentPath(index);
+            if (!Files.exists(path)) {
+                position = (index + 1) * segmentRecords;
+                continue;
+            }
+
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, segmentBytes());
+                long segmentEnd = Math.min(end, (index + 1) * segmentRecords);
+                for (; position < segmentEnd; position++) {
+                    int offset = (int) (position % segmentRecords) * RECORD_SIZE;
+                    JournalEventType type = JournalEventType.fromCode((int) TYPE.getAcquire(buffer, offset));
+                    if (type == null) {
+                        continue;
+                    }
+                    entry.position = position;
+                    entry.type = type;
+                    entry.timestampMillis = buffer.getLong(offset + TIMESTAMP_OFFSET);
+                    entry.field0 = buffer.getLong(offset + FIELD_OFFSET);
+                    entry.field1 = buffer.getLong(offset + FIELD_OFFSET + 8);
+                    entry.field2 = buffer.getLong(offset + FIELD_OFFSET + 16);
+                    entry.field3 = buffer.getLong(offset + FIELD_OFFSET + 24);
+                    visitor.visit(entry);
+                    replayed++;
+                }
+            }
+        }
+        return replayed;
+    }
+
+    // ----------------------------------------------------------------------------------------------------
+    // 세그먼트 관리
+    // ----------------------------------------------------------------------------------------------------
+    private synchronized Segment segment(long index) {
+        Segment segment = current;
+        if (segment.index() == index) {
+            return segment;
+        }
+        if (segment.index() > index) {
+            // 세그먼트 전환 직전에 위치를 예약한 프로듀서
+            Segment before = previous;
+            return before != null && before.index() == index ? before : map(index);
+        }
+
+        Segment next = map(index);
+        previous = segment;
+        current = next;
+        return next;
+    }
+
+    public synchronized boolean hasSegmentsBefore(long position) {
+        return oldestIndex < position / segmentRecords;
+    }
+
+    // 위치보다 완전히 앞선 세그먼트만 지운다. 아직 쓰이거나 반영 대기 중인 세그먼트는 남긴다.
+    public synchronized int deleteSegmentsBefore(long position) throws IOException {
+        long endIndex = position / segmentRecords;
+        Segment before = previous;
+        endIndex = Math.min(endIndex, before != null ? before.index() : current.index());
+
+        int deleted = 0;
+        for (long index = oldestIndex; index < endIndex; index++) {
+            if (Files.deleteIfExists(segmentPath(index))) {
+                deleted++;
+            }
+        }
+        oldestIndex = Math.max(oldestIndex, endIndex);
+        return deleted;
+    }
+
+    // 매핑은 채널을 닫은 뒤에도 유효하다.
+    private Segment map(long index) {
+        try (FileChannel channel = FileChannel.open(segmentPath(index),
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            return new Segment(index, channel.map(FileChannel.MapMode.READ_WRITE, 0, segmentBytes()));
+        } catch (IOException e) {
+            throw new IllegalStateException("저널 세그먼트 생성 실패: " + index, e);
+        }
+    }
+
+    private void recover() throws IOException {
+        long[] indexes;
+        try (var files = Files.list(directory)) {
+            indexes = files.map(p -> p.getFileName().toString())
+                    .filter(name -> name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX))
+                    .mapToLong(name -> Long.parseLong(
+                            name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length())))
+                    .sorted()
+                    .toArray();
+        }
+        long lastIndex = indexes.length == 0 ? 0 : indexes[indexes.length - 1];
+        oldestIndex = indexes.length == 0 ? 0 : indexes[0];
+
+        Segment segment = map(lastIndex);
+        long position = lastIndex * segmentRecords;
+        for (int slot = segmentRecords - 1; slot >= 0; slot--) {
+            if ((int) TYPE.getAcquire(segment.buffer(), slot * RECORD_SIZE) != 0) {
+                position += slot + 1;
+                break;
+            }
+        }
+
+        current = segment;
+        nextPosition.set(position);
+        flushedPosition = position;
+    }
+
+    private Path segmentPath(long index) {
+        return directory.resolve(String.format("%s%010d%s", SEGMENT_PREFIX, index, SEGMENT_SUFFIX));
+    }
+
+    private long segmentBytes() {
+        return (long) segmentRecords * RECORD_SIZE;
+    }
+
+    private static BigDecimal fitToLong(BigDecimal value) {
+        if (value == null) {
+            return BigDecimal.ZERO;
+        }
+        if (value.unscaledValue().bitLength() >= Long.SIZE) {
+            return value.setScale(DECIMAL_SCALE, RoundingMode.HALF_UP);
+        }
+        return value;
+    }
+
+    private record Segment(long index, MappedByteBuffer buffer) {
+    }
+}
@@ -0,0 +1,59 @@
+package io.github.seokhyunpark.hft.trading.journal;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+public final class JournalEntry {
+    long position;
+    JournalEventType type;
+    long timestampMillis;
+    long field0;
+    long field1;
+    long field2;
+    long field3;
+
+    JournalEntry() {
+    }
+
+    public long position() {
+        return position;
+    }
+
+    public JournalEventType type() {
+        return type;
+    }
+
+    public long timestampMillis() {
+        return timestampMillis;
+    }
+
+    // ----------------------------------------------------------------------------------------------------
+    // 주문 이벤트 (BUY_*, SELL_*, CANCELED_*)
+    // ----------------------------------------------------------------------------------------------------
+    public long orderId() {
+        return field0;
+    }
+
+    public long priceTicks() {
+        return field1;
+    }
+
+    public long qtyTicks() {
+        return field2;
+    }
+
+    public long avgBuyPriceTicks() {
+        return field3;
+    }
+
+    // ----------------------------------------------------------------------------------------------------
+    // 잔고 이벤트 (POSITION_SYNCED, QUOTE_BALANCE_SYNCED)
+    // ----------------------------------------------------------------------------------------------------
+    public BigDecimal firstDecimal() {
+        return new BigDecimal(BigInteger.valueOf(field0), (int) field1);
+    }
+
+    public BigDecimal secondDecimal() {
+        return new BigDecimal(BigInteger.valueOf(field2), (int) field3);
+    }
+}
@@ -0,0 +1,30 @@
+package io.github.seokhyunpark.hft.trading.journal;
+
+public enum JournalEventType {
+    BUY_PLACED,
+    BUY_CLOSED,
+    SELL_PLACED,
+    SELL_CLOSED,
+    CANCELED_OFFERED,
+    CANCELED_RESTORED,
+    POSITION_SYNCED,
+    QUOTE_BALANCE_SYNCED,
+    // 매수 주문의 부분/전량 체결 수량. 재시작 대사에서 이미 포지션에 반영된 체결을 구분하는 데 쓴다.
+    BUY_FILLED,
+    // 매도 주문의 부분/전량 체결 수량. 재시작 대사에서 이미 손익에 반영된 매도 체결을 구분하는 데 쓴다.
+    SELL_FILLED;
+
+    private static final JournalEventType[] VALUES = values();
+
+    // 0 은 아직 기록되지 않은 슬롯을 의미한다.
+    public int code() {
+        return ordinal() + 1;
+    }
+
+    public static JournalEventType fromCode(int code) {
+        if (code <= 0 || code > VALUES.length) {
+            return null;
+        }
+        return VALUES[code - 1];
+    }
+}
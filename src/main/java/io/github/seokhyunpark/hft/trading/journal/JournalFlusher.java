@@ -0,0 +1,17 @@
+package io.github.seokhyunpark.hft.trading.journal;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+@Component
+@RequiredArgsConstructor
+public class JournalFlusher {
+    private final EventJournal eventJournal;
+
+    @Scheduled(fixedDelayString = "${hft.state.journal-flush-interval-ms}")
+    public void flush() {
+        eventJournal.flush();
+    }
+}
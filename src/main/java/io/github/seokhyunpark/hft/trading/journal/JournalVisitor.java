@@ -0,0 +1,6 @@
+package io.github.seokhyunpark.hft.trading.journal;
+
+@FunctionalInterface
+public interface JournalVisitor {
+    void visit(JournalEntry entry);
+}
@@ -0,0 +1,80 @@
+package io.github.seokhyunpark.hft.trading.manager;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import io.github.seokhyunpark.hft.trading.config.CommissionProperties;
+import io.github.seokhyunpark.hft.trading.config.TradingProperties;
+import io.github.seokhyunpark.hft.trading.dto.FillInfo;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CommissionManager {
+    private final TradingProperties props;
+    private final CommissionProperties commissionProps;
+
+    private final Map<String, BigDecimal> paidCommissions = new ConcurrentHashMap<>();
+
+    // ----------------------------------------------------------------------------------------------------
+    // 체결 수수료 반영
+    // ----------------------------------------------------------------------------------------------------
+    // 기초 자산 수수료는 받은 수량에서, 견적 자산 수수료는 원가에 더한다.
+    // 그 외 자산(BNB 등)은 별도로 집계하고, 환산 가격이 설정되어 있으면 견적 자산으로 바꿔 원가에 더한다.
+    public FillInfo applyBuyFill(BigDecimal qty, BigDecimal usdValue, String commissionAsset, String commissionAmount) {
+        BigDecimal commission = record(commissionAsset, commissionAmount);
+        if (props.baseAsset().equals(commissionAsset)) {
+            return new FillInfo(qty.subtract(commission), usdValue);
+        }
+        if (props.quoteAsset().equals(commissionAsset)) {
+            return new FillInfo(qty, usdValue.add(commission));
+        }
+        return new FillInfo(qty, usdValue.add(toQuote(commissionAsset, commission)));
+    }
+
+    // 기초 자산 수수료는 매도 수량 외에 추가로 빠져나가므로 원가 계산에 포함되도록 수량에 더한다.
+    public FillInfo applySellFill(BigDecimal qty, BigDecimal usdValue, String commissionAsset, String commissionAmount) {
+        BigDecimal commission = record(commissionAsset, commissionAmount);
+        if (props.baseAsset().equals(commissionAsset)) {
+            return new FillInfo(qty.add(commission), usdValue);
+        }
+        if (props.quoteAsset().equals(commissionAsset)) {
+            return new FillInfo(qty, usdValue.subtract(commission));
+        }
+        return new FillInfo(qty, usdValue.subtract(toQuote(commissionAsset, commission)));
+    }
+
+    public BigDecimal getPaidCommission(String asset) {
+        return paidCommissions.getOrDefault(asset, BigDecimal.ZERO);
+    }
+
+    // 환산 가격이 없는 자산은 집계만 하고 손익에는 반영하지 않는다.
+    private BigDecimal toQuote(String asset, BigDecimal commission) {
+        if (commission.signum() == 0) {
+            return BigDecimal.ZERO;
+        }
+        BigDecimal rate = commissionProps.quoteRate(asset);
+        return rate == null ? BigDecimal.ZERO : commission.multiply(rate);
+    }
+
+    private BigDecimal record(String asset, String amount) {
+        if (asset == null || amount == null) {
+            return BigDecimal.ZERO;
+        }
+
+        BigDecimal commission = new BigDecimal(amount);
+        if (commission.signum() == 0) {
+            return commission;
+        }
+
+        BigDecimal total = paidCommissions.merge(asset, commission, BigDecimal::add);
+        log.debug("[COMMISSION] {} {} | TOTAL: {}", commission.toPlainString(), asset, total.toPlainString());
+        return commission;
+    }
+}
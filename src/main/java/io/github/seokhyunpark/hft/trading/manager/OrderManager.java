@@ -1,72 +1,144 @@
 package io.github.seokhyunpark.hft.trading.manager;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.math.BigDecimal;
-import java.util.Collections;
-import java.util.Comparator;
-import java.util.LinkedHashMap;
-import java.util.Map;
-import java.util.Queue;
-import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.PriorityBlockingQueue;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import jakarta.annotation.PreDestroy;
 
 import org.springframework.stereotype.Component;
 
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import io.github.seokhyunpark.hft.trading.book.QueuePositionTracker;
+import io.github.seokhyunpark.hft.trading.config.StateProperties;
 import io.github.seokhyunpark.hft.trading.config.TradingProperties;
 import io.github.seokhyunpark.hft.trading.dto.OrderInfo;
+import io.github.seokhyunpark.hft.trading.dto.StateSnapshot;
+import io.github.seokhyunpark.hft.trading.journal.EventJournal;
+import io.github.seokhyunpark.hft.trading.journal.JournalEntry;
+import io.github.seokhyunpark.hft.trading.journal.JournalEventType;
+import io.github.seokhyunpark.hft.trading.store.CanceledLadder;
+import io.github.seokhyunpark.hft.trading.store.ClosedOrderFilter;
+import io.github.seokhyunpark.hft.trading.store.OrderStore;
+import io.github.seokhyunpark.hft.trading.store.OrderVisitor;
+import io.github.seokhyunpark.hft.trading.strategy.OwnOrdersView;
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
-public class OrderManager {
+public class OrderManager implements OwnOrdersView {
+    private static final long NO_AVG_BUY_PRICE = 0L;
+    private static final String CANCELED_LADDER_FILE = "canceled-ladder.dat";
+
     private final TradingProperties props;
+    private final EventJournal journal;
+    private final QueuePositionTracker queueTracker;
+    private final long priceConflictToleranceRate;
+
+    private final OrderStore buyOrders;
+    private final OrderStore sellOrders;
+    private final CanceledLadder canceledOrders;
+
+    private final ClosedOrderFilter recentlyClosedOrders = new ClosedOrderFilter(1000);
+    private final AtomicLong pendingBuyQtyTicks = new AtomicLong();
+
+    public OrderManager(
+            TradingProperties props,
+            StateProperties stateProps,
+            EventJournal journal,
+            QueuePositionTracker queueTracker
+    ) {
+        this.props = props;
+        this.journal = journal;
+        this.queueTracker = queueTracker;
+        this.priceConflictToleranceRate = props.risk().priceConflictToleranceRate()
+                .multiply(BigDecimal.valueOf(OrderStore.RATE_SCALE))
+                .longValue();
+        this.buyOrders = new OrderStore(props.risk().maxBuyOrders() * 2);
+        this.sellOrders = new OrderStore(props.risk().maxSellOrders() * 2);
+        this.canceledOrders = openCanceledLadder(stateProps);
+    }
+
+    private static CanceledLadder openCanceledLadder(StateProperties stateProps) {
+        try {
+            CanceledLadder ladder = CanceledLadder.open(
+                    stateProps.resolve(CANCELED_LADDER_FILE),
+                    stateProps.canceledLadderCapacity()
+            );
+            log.info("[CANCELED-LADDER] 복구 완료 | LEVELS: {}", ladder.size());
+            return ladder;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 
-    private final Map<Long, OrderInfo> buyOrders = new ConcurrentHashMap<>();
-    private final Map<Long, OrderInfo> sellOrders = new ConcurrentHashMap<>();
-    private final Queue<OrderInfo> canceledOrders = new PriorityBlockingQueue<>(
-            2000, Comparator.comparing(OrderInfo::numericPrice)
-    );
-
-    private final Set<Long> recentlyClosedOrders = Collections.synchronizedSet(
-            Collections.newSetFromMap(new LinkedHashMap<>(1000, 0.75f, true) {
-                @Override
-                protected boolean removeEldestEntry(Map.Entry<Long, Boolean> eldest) {
-                    return size() > 1000;
-                }
-            })
-    );
+    @PreDestroy
+    public void close() throws IOException {
+        canceledOrders.close();
+    }
 
     // ----------------------------------------------------------------------------------------------------
     // 전체 주문 상태 (Global State)
     // ----------------------------------------------------------------------------------------------------
-    public boolean hasOpenOrderCapacity() {
-        return buyOrders.size() + sellOrders.size() < props.risk().maxOpenOrders();
+    public int getOpenOrderCount() {
+        return buyOrders.size() + sellOrders.size();
+    }
+
+    // 매도 대기 중이거나 취소되어 재등록을 기다리는 기초 자산 수량
+    public long getInventoryQtyTicks() {
+        return sellOrders.totalQtyTicks() + canceledOrders.totalQtyTicks();
     }
 
-    private boolean isRecentlyClosedOrders(Long orderId) {
+    private boolean isRecentlyClosedOrders(long orderId) {
         return recentlyClosedOrders.contains(orderId);
     }
 
+    private static List<OrderInfo> toOrderInfos(OrderStore store) {
+        List<OrderInfo> orders = new ArrayList<>(store.size());
+        store.forEach(order -> orders.add(order.toOrderInfo()));
+        return orders;
+    }
+
     // ----------------------------------------------------------------------------------------------------
     // 매수 주문 관리 (Buy Orders)
     // ----------------------------------------------------------------------------------------------------
-    public void addBuyOrder(OrderInfo orderInfo) {
-        if (isRecentlyClosedOrders(orderInfo.orderId())) {
+    public void addBuyOrder(long orderId, long priceTicks, long qtyTicks) {
+        if (isRecentlyClosedOrders(orderId)) {
             return;
         }
-        buyOrders.put(orderInfo.orderId(), orderInfo);
+        journal.append(JournalEventType.BUY_PLACED, orderId, priceTicks, qtyTicks, NO_AVG_BUY_PRICE);
+        buyOrders.put(orderId, priceTicks, qtyTicks, NO_AVG_BUY_PRICE);
+    }
+
+    @Override
+    public int getBuyOrderCount() {
+        return buyOrders.size();
+    }
+
+    // 제출했지만 접수 응답을 아직 처리하지 않은 매수 수량. 스트림이 응답보다 먼저 주문을 추가하면 잠시 두 번 센다.
+    public void reservePendingBuyQty(long qtyTicks) {
+        pendingBuyQtyTicks.addAndGet(qtyTicks);
+    }
+
+    public void releasePendingBuyQty(long qtyTicks) {
+        pendingBuyQtyTicks.addAndGet(-qtyTicks);
+    }
+
+    // 체결되면 포지션으로 들어올 매수 수량: 대기 중인 매수 주문과 접수 전 매수
+    public long getBuyExposureQtyTicks() {
+        return buyOrders.totalQtyTicks() + pendingBuyQtyTicks.get();
     }
 
     public boolean containsBuyOrder(long orderId) {
-        return buyOrders.containsKey(orderId);
+        return buyOrders.contains(orderId);
     }
 
-    public boolean hasBuyOrderAt(BigDecimal price) {
-        return buyOrders.values().stream()
-                .anyMatch(order -> order.numericPrice().compareTo(price) == 0);
+    @Override
+    public boolean hasBuyOrderAt(long priceTicks) {
+        return buyOrders.containsPrice(priceTicks);
     }
 
     public boolean isBuyOrdersFull() {
@@ -74,12 +146,30 @@ public class OrderManager {
     }
 
     public OrderInfo getOldestBuyOrder() {
-        return buyOrders.values().stream()
-                .min(Comparator.comparingLong(OrderInfo::orderId))
-                .orElse(null);
+        return buyOrders.getLowestOrderId();
+    }
+
+    @Override
+    public void forEachBuyOrder(OrderVisitor visitor) {
+        buyOrders.forEach(visitor);
+    }
+
+    public List<OrderInfo> getBuyOrders() {
+        return toOrderInfos(buyOrders);
+    }
+
+    // 체결 기록을 포지션 반영보다 먼저 남겨, 재시작 대사가 반영된 체결을 다시 더하지 않게 한다.
+    public void fillBuyOrder(long orderId, long filledQtyTicks) {
+        journal.append(JournalEventType.BUY_FILLED, orderId, 0L, filledQtyTicks, NO_AVG_BUY_PRICE);
+        buyOrders.reduceQty(orderId, filledQtyTicks);
+    }
+
+    public OrderInfo getBuyOrder(long orderId) {
+        return buyOrders.get(orderId);
     }
 
     public void removeBuyOrder(long orderId) {
+        journal.append(JournalEventType.BUY_CLOSED, orderId, 0L, 0L, 0L);
         recentlyClosedOrders.add(orderId);
         buyOrders.remove(orderId);
     }
@@ -87,15 +177,30 @@ public class OrderManager {
     // ----------------------------------------------------------------------------------------------------
     // 매도 주문 관리 (Sell Orders)
     // ----------------------------------------------------------------------------------------------------
-    public void addSellOrder(OrderInfo orderInfo) {
-        if (isRecentlyClosedOrders(orderInfo.orderId())) {
+    public void addSellOrder(long orderId, long priceTicks, long qtyTicks, long avgBuyPriceTicks) {
+        if (isRecentlyClosedOrders(orderId)) {
             return;
         }
-        sellOrders.put(orderInfo.orderId(), orderInfo);
+        journal.append(JournalEventType.SELL_PLACED, orderId, priceTicks, qtyTicks, avgBuyPriceTicks);
+        sellOrders.put(orderId, priceTicks, qtyTicks, avgBuyPriceTicks);
+        queueTracker.track(orderId, priceTicks, qtyTicks);
+    }
+
+    @Override
+    public int getSellOrderCount() {
+        return sellOrders.size();
     }
 
     public boolean containsSellOrder(long orderId) {
-        return sellOrders.containsKey(orderId);
+        return sellOrders.contains(orderId);
+    }
+
+    public OrderInfo getSellOrder(long orderId) {
+        return sellOrders.get(orderId);
+    }
+
+    public long getSellAvgBuyPriceTicks(long orderId) {
+        return sellOrders.getAvgBuyPriceTicks(orderId, NO_AVG_BUY_PRICE);
     }
 
     public boolean isSellOrdersFull() {
@@ -106,56 +211,130 @@ public class OrderManager {
         return sellOrders.size() < props.risk().minSellOrders();
     }
 
-    public OrderInfo getHighestPriceSellOrder() {
-        return sellOrders.values().stream()
-                .max(Comparator.comparing(OrderInfo::numericPrice))
-                .orElse(null);
+    public int getRestorableSellOrderCount() {
+        return Math.max(0, props.risk().minSellOrders() - sellOrders.size());
+    }
+
+    // 큐 위치상 체결까지 가장 멀리 있는 매도 주문. 추정 대상이 없으면 가장 높은 가격의 주문을 고른다.
+    public OrderInfo getSlowestSellOrder() {
+        long orderId = queueTracker.findSlowestOrderId();
+        OrderInfo info = orderId == QueuePositionTracker.NONE ? null : sellOrders.get(orderId);
+        return info != null ? info : sellOrders.getHighestPrice();
+    }
+
+    @Override
+    public void forEachSellOrder(OrderVisitor visitor) {
+        sellOrders.forEach(visitor);
+    }
+
+    public List<OrderInfo> getSellOrders() {
+        return toOrderInfos(sellOrders);
+    }
+
+    // 매수와 같이 체결 기록을 손익 반영보다 먼저 남긴다.
+    public void fillSellOrder(long orderId, long filledQtyTicks) {
+        journal.append(JournalEventType.SELL_FILLED, orderId, 0L, filledQtyTicks, NO_AVG_BUY_PRICE);
+        sellOrders.reduceQty(orderId, filledQtyTicks);
     }
 
     public void removeSellOrder(long orderId) {
+        journal.append(JournalEventType.SELL_CLOSED, orderId, 0L, 0L, 0L);
         recentlyClosedOrders.add(orderId);
         sellOrders.remove(orderId);
+        queueTracker.untrack(orderId);
     }
 
     // ----------------------------------------------------------------------------------------------------
     // 취소된 주문 관리 (Canceled Orders)
     // ----------------------------------------------------------------------------------------------------
-    public void addCanceledOrder(OrderInfo orderInfo) {
-        canceledOrders.add(orderInfo);
+    public boolean addCanceledOrder(OrderInfo orderInfo) {
+        journal.append(
+                JournalEventType.CANCELED_OFFERED,
+                orderInfo.orderId(),
+                orderInfo.priceTicks(),
+                orderInfo.qtyTicks(),
+                orderInfo.avgBuyPriceTicks()
+        );
+        return canceledOrders.offer(orderInfo.priceTicks(), orderInfo.qtyTicks(), orderInfo.avgBuyPriceTicks());
     }
 
     public boolean hasCanceledOrders() {
         return !canceledOrders.isEmpty();
     }
 
-    public OrderInfo pollLowestPriceCanceledOrder() {
-        return canceledOrders.poll();
+    public int getCanceledOrderCount() {
+        return canceledOrders.size();
+    }
+
+    public long getCanceledQtyTicks() {
+        return canceledOrders.totalQtyTicks();
+    }
+
+    public List<OrderInfo> pollLowestPriceCanceledOrders(int maxCount) {
+        List<OrderInfo> polled = canceledOrders.poll(maxCount);
+        for (OrderInfo info : polled) {
+            journal.append(
+                    JournalEventType.CANCELED_RESTORED,
+                    info.orderId(),
+                    info.priceTicks(),
+                    info.qtyTicks(),
+                    info.avgBuyPriceTicks()
+            );
+        }
+        return polled;
+    }
+
+    public void flushCanceledOrders() {
+        canceledOrders.force();
     }
 
     // ----------------------------------------------------------------------------------------------------
     // 가격 충돌 관리
     // ----------------------------------------------------------------------------------------------------
-    public boolean conflictsWithSellOrders(BigDecimal newPrice) {
-        for (OrderInfo info : sellOrders.values()) {
-            if (isConflicting(info.avgBuyPrice(), newPrice)) {
-                return true;
-            }
-        }
-        return false;
+    public boolean conflictsWithSellOrders(long priceTicks) {
+        return sellOrders.hasAvgBuyPriceWithinTolerance(priceTicks, priceConflictToleranceRate);
     }
 
-    public OrderInfo findConflictingBuyOrder(BigDecimal newPrice) {
-        for (OrderInfo info : buyOrders.values()) {
-            if (isConflicting(info.numericPrice(), newPrice)) {
-                return info;
-            }
+    @Override
+    public OrderInfo findConflictingBuyOrder(long priceTicks) {
+        return buyOrders.findPriceWithinTolerance(priceTicks, priceConflictToleranceRate);
+    }
+
+    // ----------------------------------------------------------------------------------------------------
+    // 스냅샷 적재 및 저널 재생 (Snapshot / Journal Replay)
+    // ----------------------------------------------------------------------------------------------------
+    // 저널에 기록하지 않는다. 기록하면 재생 끝에 스냅샷 시점의 주문이 다시 살아난다.
+    public void loadSnapshot(StateSnapshot snapshot) {
+        for (OrderInfo info : snapshot.buyOrders()) {
+            buyOrders.put(info.orderId(), info.priceTicks(), info.qtyTicks(), NO_AVG_BUY_PRICE);
+        }
+        for (OrderInfo info : snapshot.sellOrders()) {
+            sellOrders.put(info.orderId(), info.priceTicks(), info.qtyTicks(), info.avgBuyPriceTicks());
+            queueTracker.track(info.orderId(), info.priceTicks(), info.qtyTicks());
         }
-        return null;
     }
 
-    private boolean isConflicting(BigDecimal existingPrice, BigDecimal newPrice) {
-        BigDecimal priceDifference = existingPrice.subtract(newPrice).abs();
-        BigDecimal priceLimit = existingPrice.multiply(props.risk().priceConflictToleranceRate());
-        return priceDifference.compareTo(priceLimit) < 0;
+    // 취소된 주문 사다리는 자체적으로 파일에 보존되므로 CANCELED_* 레코드는 감사 기록으로만 남긴다.
+    public void replay(JournalEntry entry) {
+        switch (entry.type()) {
+            case BUY_PLACED -> buyOrders.put(entry.orderId(), entry.priceTicks(), entry.qtyTicks(), NO_AVG_BUY_PRICE);
+            case BUY_FILLED -> buyOrders.reduceQty(entry.orderId(), entry.qtyTicks());
+            case BUY_CLOSED -> {
+                recentlyClosedOrders.add(entry.orderId());
+                buyOrders.remove(entry.orderId());
+            }
+            case SELL_PLACED -> {
+                sellOrders.put(entry.orderId(), entry.priceTicks(), entry.qtyTicks(), entry.avgBuyPriceTicks());
+                queueTracker.track(entry.orderId(), entry.priceTicks(), entry.qtyTicks());
+            }
+            case SELL_FILLED -> sellOrders.reduceQty(entry.orderId(), entry.qtyTicks());
+            case SELL_CLOSED -> {
+                recentlyClosedOrders.add(entry.orderId());
+                sellOrders.remove(entry.orderId());
+                queueTracker.untrack(entry.orderId());
+            }
+            default -> {
+            }
+        }
     }
 }
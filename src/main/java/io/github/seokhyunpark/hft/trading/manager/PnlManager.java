@@ -0,0 +1,77 @@
+package io.github.seokhyunpark.hft.trading.manager;
+
+import java.math.BigDecimal;
+
+import org.springframework.stereotype.Component;
+
+import io.github.seokhyunpark.hft.trading.config.TradingProperties;
+import io.github.seokhyunpark.hft.trading.eventlog.EventLog;
+import io.github.seokhyunpark.hft.trading.eventlog.EventLogType;
+import io.github.seokhyunpark.hft.trading.store.LotQueue;
+
+@Component
+public class PnlManager {
+    private static final int INITIAL_LOT_CAPACITY = 256;
+
+    private final TradingProperties props;
+    private final EventLog eventLog;
+    private final LotQueue lots = new LotQueue(INITIAL_LOT_CAPACITY);
+
+    private long realizedPnlTicks;
+    private volatile long markPriceTicks;
+
+    public PnlManager(TradingProperties props, EventLog eventLog) {
+        this.props = props;
+        this.eventLog = eventLog;
+    }
+
+    // ----------------------------------------------------------------------------------------------------
+    // 체결 반영
+    // ----------------------------------------------------------------------------------------------------
+    // 수량과 금액은 수수료를 반영한 순 값이다.
+    public synchronized void onBuyFill(long qtyTicks, long costTicks) {
+        lots.addCost(qtyTicks, costTicks);
+    }
+
+    // 재시작 등으로 lot 이 부족하면 매도 주문에 기록된 평균 매수가를 원가로 사용한다.
+    public synchronized void onSellFill(long qtyTicks, long proceedsTicks, long fallbackAvgBuyPriceTicks) {
+        long matchedQty = Math.min(qtyTicks, lots.totalQtyTicks());
+        long costTicks = lots.consume(qtyTicks) + (qtyTicks - matchedQty) * fallbackAvgBuyPriceTicks;
+        realizedPnlTicks += proceedsTicks - costTicks;
+    }
+
+    public void updateMarkPrice(long bestBidPriceTicks) {
+        markPriceTicks = bestBidPriceTicks;
+    }
+
+    // ----------------------------------------------------------------------------------------------------
+    // 손익 조회
+    // ----------------------------------------------------------------------------------------------------
+    public synchronized long getRealizedPnlTicks() {
+        return realizedPnlTicks;
+    }
+
+    public synchronized long getUnrealizedPnlTicks() {
+        long mark = markPriceTicks;
+        if (mark <= 0 || lots.isEmpty()) {
+            return 0L;
+        }
+        return mark * lots.totalQtyTicks() - lots.totalCostTicks();
+    }
+
+    public synchronized long getInventoryQtyTicks() {
+        return lots.totalQtyTicks();
+    }
+
+    public BigDecimal getRealizedPnl() {
+        return props.fromNotionalTicks(getRealizedPnlTicks());
+    }
+
+    public BigDecimal getUnrealizedPnl() {
+        return props.fromNotionalTicks(getUnrealizedPnlTicks());
+    }
+
+    public void logPnl() {
+        eventLog.log(EventLogType.PNL, getRealizedPnlTicks(), getUnrealizedPnlTicks(), getInventoryQtyTicks());
+    }
+}
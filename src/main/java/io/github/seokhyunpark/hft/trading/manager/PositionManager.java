@@ -10,33 +10,75 @@ import lombok.extern.slf4j.Slf4j;
 
 import io.github.seokhyunpark.hft.trading.config.TradingProperties;
 import io.github.seokhyunpark.hft.trading.dto.PositionInfo;
+import io.github.seokhyunpark.hft.trading.dto.StateSnapshot;
+import io.github.seokhyunpark.hft.trading.journal.EventJournal;
+import io.github.seokhyunpark.hft.trading.journal.JournalEntry;
+import io.github.seokhyunpark.hft.trading.journal.JournalEventType;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class PositionManager {
     private final TradingProperties props;
+    private final EventJournal journal;
 
     private final AtomicReference<PositionInfo> position = new AtomicReference<>(new PositionInfo());
 
     public void addPosition(BigDecimal qty, BigDecimal usdValue) {
         BigDecimal cleanQty = props.scaleQty(qty);
-        PositionInfo added = position.updateAndGet(cur -> cur.add(cleanQty, usdValue));
+        PositionInfo added = update(cleanQty, usdValue);
         log.debug("[POSITION] 증가: {}", added);
     }
 
     public PositionInfo pullPosition() {
-        PositionInfo pulled = position.getAndSet(new PositionInfo());
+        PositionInfo empty = new PositionInfo();
+        PositionInfo pulled;
+        synchronized (this) {
+            pulled = position.get();
+            journal(empty);
+            position.set(empty);
+        }
         log.debug("[POSITION] 추출 및 초기화: {}", pulled);
         return pulled;
     }
 
     public void restorePosition(PositionInfo info) {
-        PositionInfo restored = position.updateAndGet(cur -> cur.add(info.totalQty(), info.totalUsdValue()));
+        PositionInfo restored = update(info.totalQty(), info.totalUsdValue());
         log.debug("[POSITION] 복구: {}", restored);
     }
 
+    // 저널에 기록하지 않는다. 스냅샷 이후 체결은 뒤따르는 저널 재생이 덮어쓴다.
+    public void loadSnapshot(StateSnapshot snapshot) {
+        position.set(snapshot.position());
+    }
+
+    public void replay(JournalEntry entry) {
+        if (entry.type() == JournalEventType.POSITION_SYNCED) {
+            position.set(new PositionInfo(entry.firstDecimal(), entry.secondDecimal()));
+        }
+    }
+
+    public PositionInfo getPosition() {
+        return position.get();
+    }
+
+    public long getQtyTicks() {
+        return props.toQtyTicks(position.get().totalQty());
+    }
+
     public boolean isSellable() {
         return position.get().totalUsdValue().compareTo(props.minOrderSize()) >= 0;
     }
+
+    // 변경 결과(절대값)의 기록과 반영을 한 락 안에서 하므로, 저널 순서가 곧 반영 순서이고 마지막 레코드가 최종 상태가 된다.
+    private synchronized PositionInfo update(BigDecimal qty, BigDecimal usdValue) {
+        PositionInfo next = position.get().add(qty, usdValue);
+        journal(next);
+        position.set(next);
+        return next;
+    }
+
+    private void journal(PositionInfo info) {
+        journal.appendDecimals(JournalEventType.POSITION_SYNCED, info.totalQty(), info.totalUsdValue());
+    }
 }
@@ -2,38 +2,69 @@ package io.github.seokhyunpark.hft.trading.manager;
 
 import java.math.BigDecimal;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
 
 import org.springframework.stereotype.Component;
 
-import lombok.extern.slf4j.Slf4j;
+import lombok.RequiredArgsConstructor;
+
+import io.github.seokhyunpark.hft.trading.config.TradingProperties;
+import io.github.seokhyunpark.hft.trading.eventlog.EventLog;
+import io.github.seokhyunpark.hft.trading.eventlog.EventLogType;
+import io.github.seokhyunpark.hft.trading.journal.EventJournal;
+import io.github.seokhyunpark.hft.trading.journal.JournalEntry;
+import io.github.seokhyunpark.hft.trading.journal.JournalEventType;
 
-@Slf4j
 @Component
+@RequiredArgsConstructor
 public class QuoteAssetManager {
+    private final TradingProperties props;
+    private final EventJournal journal;
+    private final EventLog eventLog;
+
     private final AtomicReference<BigDecimal> quoteBalance = new AtomicReference<>(BigDecimal.ZERO);
+    private volatile long quoteBalanceTicks;
 
     public void addQuoteBalance(BigDecimal delta) {
         if (delta != null) {
-            BigDecimal balance = quoteBalance.updateAndGet(current -> current.add(delta));
-            log.debug("[QUOTE-SERVER-ADD] {}", balance.toPlainString());
+            BigDecimal next = update(current -> current.add(delta));
+            eventLog.log(EventLogType.QUOTE_SERVER_ADD, props.toNotionalTicks(next));
         }
     }
 
     public void syncQuoteBalance(BigDecimal amount) {
         if (amount != null) {
-            quoteBalance.set(amount);
-            log.debug("[QUOTE-SERVER-SYNC] {}", amount.toPlainString());
+            BigDecimal next = update(current -> amount);
+            eventLog.log(EventLogType.QUOTE_SERVER_SYNC, props.toNotionalTicks(next));
         }
     }
 
     public void deductQuoteBalance(BigDecimal amount) {
         if (amount != null) {
-            BigDecimal balance = quoteBalance.updateAndGet(current -> current.subtract(amount));
-            log.debug("[QUOTE-LOCAL-DEDUCT] {}", balance.toPlainString());
+            BigDecimal next = update(current -> current.subtract(amount));
+            eventLog.log(EventLogType.QUOTE_LOCAL_DEDUCT, props.toNotionalTicks(next));
+        }
+    }
+
+    // 가격 틱 * 수량 틱 단위
+    public long getQuoteBalanceTicks() {
+        return quoteBalanceTicks;
+    }
+
+    public void replay(JournalEntry entry) {
+        if (entry.type() == JournalEventType.QUOTE_BALANCE_SYNCED) {
+            quoteBalance.set(entry.firstDecimal());
+            quoteBalanceTicks = props.toNotionalTicks(entry.firstDecimal());
         }
     }
 
-    public boolean hasQuoteBalanceFor(BigDecimal amount) {
-        return quoteBalance.get().compareTo(amount) >= 0;
+    // 기록과 반영을 한 락 안에서 해, 저널의 마지막 레코드가 실제로 반영된 잔고가 되게 한다.
+    // 이 호출이 만든 잔고를 돌려주므로, 다른 스레드가 그사이 바꾼 값을 로그에 남기지 않는다.
+    private synchronized BigDecimal update(UnaryOperator<BigDecimal> operator) {
+        BigDecimal next = operator.apply(quoteBalance.get());
+        journal.appendDecimals(JournalEventType.QUOTE_BALANCE_SYNCED, next, BigDecimal.ZERO);
+        quoteBalance.set(next);
+        quoteBalanceTicks = props.toNotionalTicks(next);
+        return next;
     }
 }
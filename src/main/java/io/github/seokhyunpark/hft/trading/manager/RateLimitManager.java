@@ -5,34 +5,70 @@ import java.util.concurrent.atomic.AtomicLong;
 
 import org.springframework.stereotype.Component;
 
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import io.github.seokhyunpark.hft.trading.eventlog.EventLog;
+import io.github.seokhyunpark.hft.trading.eventlog.EventLogType;
+
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class RateLimitManager {
+    // 백테스트의 모의 주문 카운터도 같은 한도를 쓴다.
+    public static final int LIMIT = 100;
+    public static final int SAFETY_MARGIN = 5;
+    public static final int RESET_WINDOW_MS = 10000;
+    public static final int MAKER_FILL_DECREMENT = 5;
+
     private static final int MIN_COUNT = 0;
-    private static final int MAKER_FILL_DECREMENT = 5;
 
-    private static final int LIMIT = 100;
-    private static final int SAFETY_MARGIN = 5;
-    private static final int RESET_WINDOW_MS = 10000;
+    private static final int WEIGHT_LIMIT = 6000;
+    private static final int WEIGHT_SAFETY_MARGIN = 1000;
+    private static final int WEIGHT_WINDOW_MS = 60000;
+
+    private final EventLog eventLog;
 
     private final AtomicInteger orderCount = new AtomicInteger(MIN_COUNT);
     private final AtomicLong currentWindowId = new AtomicLong(System.currentTimeMillis() / RESET_WINDOW_MS);
 
+    private final AtomicInteger usedWeight = new AtomicInteger(MIN_COUNT);
+    private final AtomicLong currentWeightWindowId = new AtomicLong(System.currentTimeMillis() / WEIGHT_WINDOW_MS);
+
     public void onOrderPlaced() {
         int count = orderCount.incrementAndGet();
-        log.debug("[RATE-LIMIT-NEW] {}/{}", count, LIMIT);
+        eventLog.log(EventLogType.RATE_LIMIT_NEW, count, LIMIT);
     }
 
     public void onOrderFilled() {
         int count = orderCount.updateAndGet(current -> Math.max(MIN_COUNT, current - MAKER_FILL_DECREMENT));
-        log.debug("[RATE-LIMIT-FILLED] {}/{}", count, LIMIT);
+        eventLog.log(EventLogType.RATE_LIMIT_FILLED, count, LIMIT);
     }
 
     public void syncOrderCount(int count) {
         orderCount.set(count);
-        log.debug("[RATE-LIMIT-SERVER] {}/{}", count, LIMIT);
+        eventLog.log(EventLogType.RATE_LIMIT_SERVER, count, LIMIT);
+    }
+
+    public void restoreOrderCount(int count, long windowId) {
+        refreshWindow();
+        if (windowId != currentWindowId.get()) {
+            return;
+        }
+        int restored = orderCount.accumulateAndGet(count, Math::max);
+        eventLog.log(EventLogType.RATE_LIMIT_RESTORE, restored, LIMIT);
+    }
+
+    public int getOrderCount() {
+        return orderCount.get();
+    }
+
+    public long getWindowId() {
+        return currentWindowId.get();
+    }
+
+    public int getUsedWeight() {
+        return usedWeight.get();
     }
 
     public boolean hasRateLimitCapacity() {
@@ -40,6 +76,45 @@ public class RateLimitManager {
         return orderCount.get() < (LIMIT - SAFETY_MARGIN);
     }
 
+    public int getRemainingOrderCapacity() {
+        refreshWindow();
+        return Math.max(MIN_COUNT, LIMIT - SAFETY_MARGIN - orderCount.get());
+    }
+
+    // ----------------------------------------------------------------------------------------------------
+    // 요청 가중치 (REQUEST_WEIGHT, 1분)
+    // ----------------------------------------------------------------------------------------------------
+    public void syncUsedWeight(int weight) {
+        refreshWeightWindow();
+        usedWeight.set(weight);
+        eventLog.log(EventLogType.RATE_LIMIT_WEIGHT_SERVER, weight, WEIGHT_LIMIT);
+    }
+
+    public boolean tryAcquireWeight(int weight) {
+        refreshWeightWindow();
+        int current;
+        do {
+            current = usedWeight.get();
+            if (current + weight > WEIGHT_LIMIT - WEIGHT_SAFETY_MARGIN) {
+                eventLog.log(EventLogType.RATE_LIMIT_WEIGHT_DENIED, current, weight, WEIGHT_LIMIT);
+                return false;
+            }
+        } while (!usedWeight.compareAndSet(current, current + weight));
+        return true;
+    }
+
+    private void refreshWeightWindow() {
+        long newWindowId = System.currentTimeMillis() / WEIGHT_WINDOW_MS;
+        long lastWindowId = currentWeightWindowId.get();
+
+        if (newWindowId > lastWindowId) {
+            if (currentWeightWindowId.compareAndSet(lastWindowId, newWindowId)) {
+                usedWeight.set(0);
+                log.debug("[RATE-LIMIT-WEIGHT-WINDOW-REFRESH]");
+            }
+        }
+    }
+
     private void refreshWindow() {
         long newWindowId = System.currentTimeMillis() / RESET_WINDOW_MS;
         long lastWindowId = currentWindowId.get();
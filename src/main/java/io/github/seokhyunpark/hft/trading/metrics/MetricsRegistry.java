@@ -0,0 +1,116 @@
+package io.github.seokhyunpark.hft.trading.metrics;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+// 카운터는 LongAdder 로 스트라이프되어 기록 스레드끼리 경합하지 않고, 게이지는 이미 있는 volatile/원자 값을 읽는다.
+// 수집(write)은 합계와 volatile 값만 읽으므로 거래 경로의 락을 잡지 않는다.
+public final class MetricsRegistry {
+    public enum Type {
+        COUNTER,
+        GAUGE
+    }
+
+    private final Map<String, Family> families = new ConcurrentHashMap<>();
+    private final List<Family> order = new CopyOnWriteArrayList<>();
+
+    // ----------------------------------------------------------------------------------------------------
+    // 등록
+    // ----------------------------------------------------------------------------------------------------
+    // labels 는 이름, 값 순서의 쌍이다. 같은 이름과 레이블이면 같은 카운터를 돌려준다.
+    public LongAdder counter(String name, String help, String... labels) {
+        Family family = family(name, help, Type.COUNTER);
+        return family.adders.computeIfAbsent(renderLabels(labels), rendered -> {
+            LongAdder adder = new LongAdder();
+            family.samples.add(new Sample(rendered, adder::sum));
+            return adder;
+        });
+    }
+
+    // 다른 곳에서 이미 세고 있는 단조 증가 값을 카운터로 내보낸다.
+    public void counter(String name, String help, LongSupplier value, String... labels) {
+        family(name, help, Type.COUNTER).samples.add(new Sample(renderLabels(labels), value));
+    }
+
+    public void gauge(String name, String help, LongSupplier value, String... labels) {
+        family(name, help, Type.GAUGE).samples.add(new Sample(renderLabels(labels), value));
+    }
+
+    // ----------------------------------------------------------------------------------------------------
+    // 수집 (Prometheus text exposition format 0.0.4)
+    // ----------------------------------------------------------------------------------------------------
+    public void write(StringBuilder out) {
+        for (Family family : order) {
+            if (family.samples.isEmpty()) {
+                continue;
+            }
+            out.append("# HELP ").append(family.name).append(' ').append(family.help).append('\n');
+            out.append("# TYPE ").append(family.name).append(' ')
+                    .append(family.type == Type.COUNTER ? "counter" : "gauge").append('\n');
+            for (Sample sample : family.samples) {
+                out.append(family.name).append(sample.labels).append(' ')
+                        .append(sample.value.getAsLong()).append('\n');
+            }
+        }
+    }
+
+    private Family family(String name, String help, Type type) {
+        Family family = families.computeIfAbsent(name, key -> {
+            Family created = new Family(key, help, type);
+            order.add(created);
+            return created;
+        });
+        if (family.type != type) {
+            throw new IllegalArgumentException("메트릭 타입 불일치: " + name);
+        }
+        return family;
+    }
+
+    private static String renderLabels(String... labels) {
+        if (labels.length == 0) {
+            return "";
+        }
+        if (labels.length % 2 != 0) {
+            throw new IllegalArgumentException("레이블은 이름과 값의 쌍이어야 합니다.");
+        }
+        StringBuilder rendered = new StringBuilder("{");
+        for (int i = 0; i < labels.length; i += 2) {
+            if (i > 0) {
+                rendered.append(',');
+            }
+            rendered.append(labels[i]).append("=\"");
+            for (int c = 0; c < labels[i + 1].length(); c++) {
+                char ch = labels[i + 1].charAt(c);
+                switch (ch) {
+                    case '\\' -> rendered.append("\\\\");
+                    case '"' -> rendered.append("\\\"");
+                    case '\n' -> rendered.append("\\n");
+                    default -> rendered.append(ch);
+                }
+            }
+            rendered.append('"');
+        }
+        return rendered.append('}').toString();
+    }
+
+    private static final class Family {
+        private final String name;
+        private final String help;
+        private final Type type;
+        private final List<Sample> samples = new CopyOnWriteArrayList<>();
+        private final Map<String, LongAdder> adders = new ConcurrentHashMap<>();
+
+        private Family(String name, String help, Type type) {
+            this.name = name;
+            this.help = help;
+            this.type = type;
+        }
+    }
+
+    private record Sample(String labels, LongSupplier value) {
+    }
+}
@@ -0,0 +1,197 @@
+package io.github.seokhyunpark.hft.trading.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+import io.github.seokhyunpark.hft.exchange.stream.StreamMetrics;
+import io.github.seokhyunpark.hft.trading.eventlog.EventLog;
+import io.github.seokhyunpark.hft.trading.manager.OrderManager;
+import io.github.seokhyunpark.hft.trading.manager.RateLimitManager;
+import io.github.seokhyunpark.hft.trading.risk.PreTradeRiskGate;
+import io.github.seokhyunpark.hft.trading.risk.RiskCheck;
+import io.github.seokhyunpark.hft.trading.strategy.OrderSide;
+
+// 트레이딩 메트릭 모음. 이벤트 카운터는 여기서 올리고, 상태 값은 각 매니저의 volatile/원자 필드를 그대로 읽는다.
+@Slf4j
+@Component
+public class TradingMetrics {
+    private final MetricsRegistry registry = new MetricsRegistry();
+
+    private final LongAdder buyOrdersPlaced;
+    private final LongAdder sellOrdersPlaced;
+    private final LongAdder buyOrdersCanceled;
+    private final LongAdder sellOrdersCanceled;
+    private final LongAdder buyFills;
+    private final LongAdder sellFills;
+    private final LongAdder orderErrors;
+    private final LongAdder bookFramesSkipped;
+    private final LongAdder bookFramesConflated;
+
+    private final StreamMetrics marketStream = new StreamMetrics();
+    private final StreamMetrics tradeStream = new StreamMetrics();
+    private final StreamMetrics userStream = new StreamMetrics();
+
+    private final LatencyHistogram orderLatency = new LatencyHistogram();
+    private final LatencyHistogram bookLatency = new LatencyHistogram();
+    private final LatencyHistogram handoffLatency = new LatencyHistogram();
+
+    // 재시작 비용 측정: JVM 시작부터 첫 주문 접수까지 (밀리초, 아직 없으면 -1)
+    private final AtomicLong firstOrderUptimeMillis = new AtomicLong(-1L);
+    private volatile boolean startupLogEnabled = true;
+
+    public TradingMetrics(
+            OrderManager orderManager,
+            RateLimitManager rateLimitManager,
+            PreTradeRiskGate riskGate,
+            EventLog eventLog
+    ) {
+        buyOrdersPlaced = registry.counter("hft_orders_placed_total", "거래소가 접수한 주문 수", "side", "buy");
+        sellOrdersPlaced = registry.counter("hft_orders_placed_total", "거래소가 접수한 주문 수", "side", "sell");
+        buyOrdersCanceled = registry.counter("hft_orders_canceled_total", "취소 요청이 성공한 주문 수", "side", "buy");
+        sellOrdersCanceled = registry.counter("hft_orders_canceled_total", "취소 요청이 성공한 주문 수", "side", "sell");
+        buyFills = registry.counter("hft_fills_total", "체결 이벤트 수 (부분 체결 포함)", "side", "buy");
+        sellFills = registry.counter("hft_fills_total", "체결 이벤트 수 (부분 체결 포함)", "side", "sell");
+        orderErrors = registry.counter("hft_order_errors_total", "응답 없이 실패한 주문 요청 수 (타임아웃, 연결 오류)");
+        bookFramesSkipped = registry.counter("hft_book_frames_skipped_total", "한쪽 호가가 비어 건너뛴 호가 프레임 수");
+        bookFramesConflated = registry.counter("hft_book_frames_conflated_total", "매매 스레드가 밀려 최신 프레임으로 합쳐진 호가 프레임 수");
+
+        for (RiskCheck check : RiskCheck.values()) {
+            registry.counter("hft_risk_rejects_total", "사전 리스크 검사 거절 수",
+                    () -> riskGate.getRejectCount(check), "check", check.name());
+        }
+
+        registry.gauge("hft_open_orders", "미체결 주문 수", orderManager::getBuyOrderCount, "side", "buy");
+        registry.gauge("hft_open_orders", "미체결 주문 수", orderManager::getSellOrderCount, "side", "sell");
+        registry.gauge("hft_rate_limit_order_count", "10초 창의 주문 수", rateLimitManager::getOrderCount);
+        registry.gauge("hft_rate_limit_order_limit", "10초 창의 주문 한도", () -> RateLimitManager.LIMIT);
+        registry.gauge("hft_rate_limit_used_weight", "1분 창의 요청 가중치", rateLimitManager::getUsedWeight);
+
+        registerStream("market", marketStream);
+        registerStream("trade", tradeStream);
+        registerStream("user", userStream);
+
+        registerLatency("hft_order_latency_micros", "신규 주문 요청 왕복 지연 (마이크로초)", orderLatency);
+        registerLatency("hft_book_latency_micros", "호가 프레임 처리 지연 (마이크로초)", bookLatency);
+        registerLatency("hft_handoff_latency_micros", "디코더에서 매매 스레드가 이벤트를 꺼낼 때까지의 지연 (마이크로초)", handoffLatency);
+        registry.gauge("hft_time_to_first_order_millis", "JVM 시작부터 첫 주문 접수까지 걸린 시간 (밀리초, 없으면 -1)",
+                firstOrderUptimeMillis::get);
+
+        registry.counter("hft_event_log_dropped_total", "버퍼가 가득 차 버린 이벤트 로그 수", eventLog::getDroppedCount);
+        registry.gauge("hft_event_log_pending", "아직 내보내지 않은 이벤트 로그 수", eventLog::getPendingCount);
+    }
+
+    private void registerStream(String stream, StreamMetrics metrics) {
+        registry.counter("hft_stream_connects_total", "웹소켓 연결 성공 수 (재연결 포함)",
+                metrics::getConnectCount, "stream", stream);
+        registry.counter("hft_stream_disconnects_total", "웹소켓 연결 종료 수",
+                metrics::getDisconnectCount, "stream", stream);
+        registry.counter("hft_stream_messages_total", "수신 메시지 수",
+                metrics::getMessageCount, "stream", stream);
+        registry.counter("hft_stream_errors_total", "웹소켓 오류 및 메시지 처리 실패 수",
+                metrics::getErrorCount, "stream", stream);
+    }
+
+    private void registerLatency(String name, String help, LatencyHistogram histogram) {
+        for (String quantile : new String[]{"0.5", "0.99", "0.999"}) {
+            double q = Double.parseDouble(quantile);
+            registry.gauge(name, help, () -> histogram.percentile(q) / 1_000L, "quantile", quantile);
+        }
+    }
+
+    // ----------------------------------------------------------------------------------------------------
+    // 기록
+    // ----------------------------------------------------------------------------------------------------
+    public void onOrderPlaced(OrderSide side) {
+        (side == OrderSide.BUY ? buyOrdersPlaced : sellOrdersPlaced).increment();
+        if (firstOrderUptimeMillis.get() < 0L) {
+            recordFirstOrder();
+        }
+    }
+
+    private void recordFirstOrder() {
+        long uptimeMillis = ManagementFactory.getRuntimeMXBean().getUptime();
+        if (firstOrderUptimeMillis.compareAndSet(-1L, uptimeMillis) && startupLogEnabled) {
+            log.info("[STARTUP] 첫 주문 접수 | SINCE_JVM_START: {}ms", uptimeMillis);
+        }
+    }
+
+    // 워밍업처럼 실거래가 아닌 그래프의 메트릭은 시작 시간 로그를 남기지 않는다.
+    public void disableStartupLog() {
+        startupLogEnabled = false;
+    }
+
+    public void onOrderCanceled(OrderSide side) {
+        (side == OrderSide.BUY ? buyOrdersCanceled : sellOrdersCanceled).increment();
+    }
+
+    public void onFill(OrderSide side) {
+        (side == OrderSide.BUY ? buyFills : sellFills).increment();
+    }
+
+    // 거절은 드물고 코드 종류가 정해져 있지 않으므로 그때그때 레이블로 찾는다.
+    public void onOrderRejected(String code) {
+        registry.counter("hft_order_rejects_total", "거래소 오류 코드별 거절 수", "code", code).increment();
+    }
+
+    public void onOrderError() {
+        orderErrors.increment();
+    }
+
+    public void onBookFrameSkipped() {
+        bookFramesSkipped.increment();
+    }
+
+    public void onBookFrameConflated() {
+        bookFramesConflated.increment();
+    }
+
+    public void recordOrderLatency(long nanos) {
+        orderLatency.record(nanos);
+    }
+
+    public void recordBookLatency(long nanos) {
+        bookLatency.record(nanos);
+    }
+
+    public LatencyHistogram orderLatency() {
+        return orderLatency;
+    }
+
+    public LatencyHistogram bookLatency() {
+        return bookLatency;
+    }
+
+    public LatencyHistogram handoffLatency() {
+        return handoffLatency;
+    }
+
+    public StreamMetrics marketStream() {
+        return marketStream;
+    }
+
+    public StreamMetrics tradeStream() {
+        return tradeStream;
+    }
+
+    public StreamMetrics userStream() {
+        return userStream;
+    }
+
+    public long getFirstOrderUptimeMillis() {
+        return firstOrderUptimeMillis.get();
+    }
+
+    // ----------------------------------------------------------------------------------------------------
+    // 수집
+    // ----------------------------------------------------------------------------------------------------
+    public String scrape() {
+        StringBuilder out = new StringBuilder(4096);
+        registry.write(out);
+        return out.toString();
+    }
+}
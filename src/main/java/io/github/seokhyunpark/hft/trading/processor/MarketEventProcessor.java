@@ -5,57 +5,94 @@ import org.springframework.stereotype.Component;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import io.github.seokhyunpark.hft.backtest.MarketTapeRecorder;
 import io.github.seokhyunpark.hft.exchange.dto.stream.PartialBookDepth;
+import io.github.seokhyunpark.hft.exchange.dto.stream.TradeEvent;
 import io.github.seokhyunpark.hft.exchange.listener.MarketEventListener;
-import io.github.seokhyunpark.hft.trading.dto.NewOrderParams;
+import io.github.seokhyunpark.hft.jfr.BookUpdateEvent;
+import io.github.seokhyunpark.hft.trading.book.BookView;
+import io.github.seokhyunpark.hft.trading.book.QueuePositionTracker;
+import io.github.seokhyunpark.hft.trading.config.TradingProperties;
 import io.github.seokhyunpark.hft.trading.dto.OrderInfo;
 import io.github.seokhyunpark.hft.trading.executor.OrderExecutor;
 import io.github.seokhyunpark.hft.trading.manager.OrderManager;
-import io.github.seokhyunpark.hft.trading.manager.QuoteAssetManager;
+import io.github.seokhyunpark.hft.trading.manager.PnlManager;
 import io.github.seokhyunpark.hft.trading.manager.RateLimitManager;
-import io.github.seokhyunpark.hft.trading.strategy.TradingStrategy;
+import io.github.seokhyunpark.hft.trading.metrics.TradingMetrics;
+import io.github.seokhyunpark.hft.trading.risk.OrderFlowControl;
+import io.github.seokhyunpark.hft.trading.risk.PreTradeRiskGate;
+import io.github.seokhyunpark.hft.trading.strategy.StrategyDispatcher;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class MarketEventProcessor implements MarketEventListener {
+    private static final int MAX_RESTORE_BATCH = 5;
+
+    private final TradingProperties props;
     private final OrderExecutor orderExecutor;
     private final OrderManager orderManager;
-    private final QuoteAssetManager quoteAssetManager;
+    private final PnlManager pnlManager;
     private final RateLimitManager rateLimitManager;
-    private final TradingStrategy tradingStrategy;
+    private final StrategyDispatcher strategyDispatcher;
+    private final PreTradeRiskGate riskGate;
+    private final OrderFlowControl flowControl;
+    private final QueuePositionTracker queueTracker;
+    private final MarketTapeRecorder tapeRecorder;
+    private final TradingMetrics metrics;
 
     @Override
     public void onPartialBookDepthReceived(PartialBookDepth depth) {
-        if (depth == null) {
+        long startNanos = System.nanoTime();
+        BookUpdateEvent event = new BookUpdateEvent();
+        event.begin();
+        long nowMillis = System.currentTimeMillis();
+        if (!strategyDispatcher.updateBook(depth, nowMillis)) {
+            metrics.onBookFrameSkipped();
+            event.complete(depth != null ? depth.lastUpdateId() : 0L, 0L, 0L, true);
             return;
         }
-        tradingStrategy.updateBestAskPrice(depth);
-
-        manageBuyOrdersCapacity();
-        manageSellOrdersCapacity();
+        BookView book = strategyDispatcher.getBook();
+        updateBook(book, nowMillis);
+        if (!flowControl.isHalted()) {
+            manageBuyOrdersCapacity();
+            manageSellOrdersCapacity();
+            strategyDispatcher.dispatchBookUpdate();
+        }
+        event.complete(book.lastUpdateId(), book.bestBidPriceTicks(), book.bestAskPriceTicks(), false);
+        metrics.recordBookLatency(System.nanoTime() - startNanos);
+    }
 
-        NewOrderParams buyParams = tradingStrategy.calculateBuyOrderParams(depth);
-        manageConflictingBuyOrder(buyParams);
-        if (isBuyOrderInvalid(buyParams) || !hasExecutionCapacity(buyParams)) {
-            return;
+    // 매수 주도 체결만 우리 매도 주문 앞의 대기 수량을 소진한다.
+    @Override
+    public void onTradeReceived(TradeEvent trade) {
+        long nowMillis = System.currentTimeMillis();
+        strategyDispatcher.updateTrade(trade, nowMillis);
+        tapeRecorder.recordTrade(nowMillis, trade);
+        if (!trade.buyerMaker()) {
+            queueTracker.onTrade(trade.priceTicks(), trade.qtyTicks());
         }
+    }
 
-        executeBuyOrder(buyParams);
+    private void updateBook(BookView book, long nowMillis) {
+        pnlManager.updateMarkPrice(book.bestBidPriceTicks());
+        riskGate.updateBook(book.bestBidPriceTicks(), book.bestAskPriceTicks());
+        queueTracker.onBook(book, nowMillis);
+        tapeRecorder.recordBook(nowMillis, book);
     }
 
     private void manageBuyOrdersCapacity() {
         if (orderManager.isBuyOrdersFull()) {
             OrderInfo info = orderManager.getOldestBuyOrder();
             if (info != null) {
-                orderExecutor.cancelBuyAsync(info);
+                orderExecutor.cancelBuyAsync(info.orderId());
             }
         }
     }
 
     private void manageSellOrdersCapacity() {
         if (orderManager.isSellOrdersFull()) {
-            OrderInfo deleteInfo = orderManager.getHighestPriceSellOrder();
+            OrderInfo deleteInfo = orderManager.getSlowestSellOrder();
             if (deleteInfo != null) {
                 orderExecutor.cancelSellAsync(deleteInfo);
             }
@@ -66,35 +103,17 @@ public class MarketEventProcessor implements MarketEventListener {
             if (!rateLimitManager.hasRateLimitCapacity()) {
                 return;
             }
-            OrderInfo restoreInfo = orderManager.pollLowestPriceCanceledOrder();
-            if (restoreInfo != null) {
-                orderExecutor.restoreSellAsync(restoreInfo);
+            int restoreCount = Math.min(
+                    MAX_RESTORE_BATCH,
+                    Math.min(orderManager.getRestorableSellOrderCount(), rateLimitManager.getRemainingOrderCapacity())
+            );
+            for (OrderInfo restoreInfo : orderManager.pollLowestPriceCanceledOrders(restoreCount)) {
+                rateLimitManager.onOrderPlaced();
+                orderExecutor.restoreSellAsync(restoreInfo, strategyDispatcher.calculateSellOrderParams(
+                        props.fromQtyTicks(restoreInfo.qtyTicks()),
+                        restoreInfo.avgBuyPriceTicks()
+                ));
             }
         }
     }
-
-    private void manageConflictingBuyOrder(NewOrderParams params) {
-        OrderInfo info = orderManager.findConflictingBuyOrder(params.price());
-        if (info != null) {
-            orderExecutor.cancelBuyAsync(info);
-        }
-    }
-
-    private boolean isBuyOrderInvalid(NewOrderParams params) {
-        return params.isInvalid()
-                || orderManager.hasBuyOrderAt(params.price())
-                || orderManager.conflictsWithSellOrders(params.price());
-    }
-
-    private boolean hasExecutionCapacity(NewOrderParams params) {
-        return rateLimitManager.hasRateLimitCapacity()
-                && orderManager.hasOpenOrderCapacity()
-                && quoteAssetManager.hasQuoteBalanceFor(params.getUsdValue());
-    }
-
-    private void executeBuyOrder(NewOrderParams params) {
-        rateLimitManager.onOrderPlaced();
-        quoteAssetManager.deductQuoteBalance(params.getUsdValue());
-        orderExecutor.buyAsync(params);
-    }
 }
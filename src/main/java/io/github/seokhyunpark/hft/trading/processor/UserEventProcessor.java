@@ -5,24 +5,31 @@ import java.math.BigDecimal;
 import org.springframework.stereotype.Component;
 
 import lombok.RequiredArgsConstructor;
-import lombok.extern.slf4j.Slf4j;
 
 import io.github.seokhyunpark.hft.exchange.dto.stream.AccountUpdate;
 import io.github.seokhyunpark.hft.exchange.dto.stream.BalanceUpdate;
 import io.github.seokhyunpark.hft.exchange.dto.stream.OrderUpdate;
 import io.github.seokhyunpark.hft.exchange.listener.UserEventListener;
+import io.github.seokhyunpark.hft.jfr.ExecutionReportEvent;
+import io.github.seokhyunpark.hft.trading.book.QueuePositionTracker;
 import io.github.seokhyunpark.hft.trading.config.TradingProperties;
+import io.github.seokhyunpark.hft.trading.dto.FillInfo;
 import io.github.seokhyunpark.hft.trading.dto.NewOrderParams;
-import io.github.seokhyunpark.hft.trading.dto.OrderInfo;
 import io.github.seokhyunpark.hft.trading.dto.PositionInfo;
+import io.github.seokhyunpark.hft.trading.eventlog.EventLog;
+import io.github.seokhyunpark.hft.trading.eventlog.EventLogType;
 import io.github.seokhyunpark.hft.trading.executor.OrderExecutor;
+import io.github.seokhyunpark.hft.trading.manager.CommissionManager;
 import io.github.seokhyunpark.hft.trading.manager.OrderManager;
+import io.github.seokhyunpark.hft.trading.manager.PnlManager;
 import io.github.seokhyunpark.hft.trading.manager.PositionManager;
 import io.github.seokhyunpark.hft.trading.manager.QuoteAssetManager;
 import io.github.seokhyunpark.hft.trading.manager.RateLimitManager;
-import io.github.seokhyunpark.hft.trading.strategy.TradingStrategy;
+import io.github.seokhyunpark.hft.trading.metrics.TradingMetrics;
+import io.github.seokhyunpark.hft.trading.risk.OrderFlowControl;
+import io.github.seokhyunpark.hft.trading.strategy.OrderSide;
+import io.github.seokhyunpark.hft.trading.strategy.StrategyDispatcher;
 
-@Slf4j
 @Component
 @RequiredArgsConstructor
 public class UserEventProcessor implements UserEventListener {
@@ -30,9 +37,15 @@ public class UserEventProcessor implements UserEventListener {
     private final OrderExecutor orderExecutor;
     private final OrderManager orderManager;
     private final PositionManager positionManager;
+    private final CommissionManager commissionManager;
+    private final PnlManager pnlManager;
     private final QuoteAssetManager quoteAssetManager;
     private final RateLimitManager rateLimitManager;
-    private final TradingStrategy tradingStrategy;
+    private final StrategyDispatcher strategyDispatcher;
+    private final OrderFlowControl flowControl;
+    private final QueuePositionTracker queueTracker;
+    private final EventLog eventLog;
+    private final TradingMetrics metrics;
 
     @Override
     public void onAccountUpdateReceived(AccountUpdate accountUpdate) {
@@ -75,11 +88,15 @@ public class UserEventProcessor implements UserEventListener {
         }
 
         if (props.symbol().equals(orderUpdate.symbol())) {
+            ExecutionReportEvent event = new ExecutionReportEvent();
+            event.begin();
+            long receivedMillis = System.currentTimeMillis();
             switch (orderUpdate.currentExecutionType()) {
                 case "NEW" -> handleNewType(orderUpdate);
                 case "TRADE" -> handleTradeType(orderUpdate);
                 case "CANCELED" -> handleCanceledType(orderUpdate);
             }
+            event.complete(orderUpdate, receivedMillis, props);
         }
     }
 
@@ -87,65 +104,41 @@ public class UserEventProcessor implements UserEventListener {
     // ORDER_UPDATE TYPE: NEW
     // ----------------------------------------------------------------------------------------------------
     private void handleNewType(OrderUpdate update) {
+        BigDecimal price = new BigDecimal(update.orderPrice());
+        long priceTicks = props.toPriceTicks(price);
+        long qtyTicks = props.toQtyTicks(new BigDecimal(update.orderQty()));
         switch (update.side()) {
             case "BUY" -> {
-                handleNewBuyState(update);
-                logNewBuyState(update);
+                handleNewBuyState(update, priceTicks, qtyTicks);
+                eventLog.log(EventLogType.NEW_BUY, update.orderId(), priceTicks, qtyTicks);
             }
             case "SELL" -> {
-                handleNewSellState(update);
-                logNewSellState(update);
+                handleNewSellState(update, price, priceTicks, qtyTicks);
+                eventLog.log(EventLogType.NEW_SELL, update.orderId(), priceTicks, qtyTicks);
             }
         }
     }
 
-    private void handleNewBuyState(OrderUpdate update) {
+    private void handleNewBuyState(OrderUpdate update, long priceTicks, long qtyTicks) {
         if (orderManager.containsBuyOrder(update.orderId())) {
             return;
         }
 
-        OrderInfo info = new OrderInfo(
-                update.orderId(),
-                update.symbol(),
-                update.orderQty(),
-                update.orderPrice(),
-                null
-        );
-        orderManager.addBuyOrder(info);
+        orderManager.addBuyOrder(update.orderId(), priceTicks, qtyTicks);
     }
 
-    private void handleNewSellState(OrderUpdate update) {
+    private void handleNewSellState(OrderUpdate update, BigDecimal price, long priceTicks, long qtyTicks) {
         if (orderManager.containsSellOrder(update.orderId())) {
             return;
         }
 
-        BigDecimal estimatedAvgBuyPrice = props.scalePrice(
-                props.divide(new BigDecimal(update.orderPrice()), props.risk().targetMultiplier())
-        );
-
-        OrderInfo info = new OrderInfo(
-                update.orderId(),
-                update.symbol(),
-                update.orderQty(),
-                update.orderPrice(),
-                estimatedAvgBuyPrice
-        );
-        orderManager.addSellOrder(info);
-    }
-
-    private void logNewBuyState(OrderUpdate update) {
-        log.info("🟢[NEW-BUY] ID: {} | PRICE: {} | QTY: {}",
-                update.orderId(),
-                props.scalePrice(new BigDecimal(update.orderPrice())),
-                props.scaleQty(new BigDecimal(update.orderQty()))
-        );
-    }
+        BigDecimal estimatedAvgBuyPrice = props.divide(price, props.risk().targetMultiplier());
 
-    private void logNewSellState(OrderUpdate update) {
-        log.info("🔴[NEW-SELL] ID: {} | PRICE: {} | QTY: {}",
+        orderManager.addSellOrder(
                 update.orderId(),
-                props.scalePrice(new BigDecimal(update.orderPrice())),
-                props.scaleQty(new BigDecimal(update.orderQty()))
+                priceTicks,
+                qtyTicks,
+                props.toPriceTicks(estimatedAvgBuyPrice)
         );
     }
 
@@ -153,58 +146,71 @@ public class UserEventProcessor implements UserEventListener {
     // ORDER_UPDATE TYPE: TRADE
     // ----------------------------------------------------------------------------------------------------
     private void handleTradeType(OrderUpdate update) {
+        BigDecimal lastQty = new BigDecimal(update.lastExecutedQty());
+        long priceTicks = props.toPriceTicks(new BigDecimal(update.lastExecutedPrice()));
+        long qtyTicks = props.toQtyTicks(lastQty);
         switch (update.side()) {
             case "BUY" -> {
-                handleTradeBuyState(update);
-                logTradeBuyState(update);
+                handleTradeBuyState(update, lastQty, qtyTicks);
+                eventLog.log(EventLogType.TRADE_BUY, update.orderId(), priceTicks, qtyTicks);
+                metrics.onFill(OrderSide.BUY);
+                strategyDispatcher.dispatchFill(OrderSide.BUY, update.orderId(), priceTicks, qtyTicks);
             }
             case "SELL" -> {
-                handleTradeSellState(update);
-                logTradeSellState(update);
+                handleTradeSellState(update, lastQty, qtyTicks);
+                eventLog.log(EventLogType.TRADE_SELL, update.orderId(), priceTicks, qtyTicks);
+                metrics.onFill(OrderSide.SELL);
+                strategyDispatcher.dispatchFill(OrderSide.SELL, update.orderId(), priceTicks, qtyTicks);
             }
         }
     }
 
-    private void handleTradeBuyState(OrderUpdate update) {
-        BigDecimal executedQty = new BigDecimal(update.lastExecutedQty());
-        BigDecimal executedUsdValue = new BigDecimal(update.lastQuoteAssetTransactedQty());
-        positionManager.addPosition(executedQty, executedUsdValue);
+    private void handleTradeBuyState(OrderUpdate update, BigDecimal lastQty, long qtyTicks) {
+        orderManager.fillBuyOrder(update.orderId(), qtyTicks);
+        FillInfo fill = commissionManager.applyBuyFill(
+                lastQty,
+                new BigDecimal(update.lastQuoteAssetTransactedQty()),
+                update.commissionAsset(),
+                update.commissionAmount()
+        );
+        positionManager.addPosition(fill.netQty(), fill.netUsdValue());
+        pnlManager.onBuyFill(props.toQtyTicks(fill.netQty()), props.toNotionalTicks(fill.netUsdValue()));
 
         if ("FILLED".equals(update.currentOrderStatus())) {
             orderManager.removeBuyOrder(update.orderId());
             rateLimitManager.onOrderFilled();
         }
 
-        if (positionManager.isSellable()) {
+        // 정지 중 체결분은 포지션에 남겨 두고 해제 후 매도한다.
+        if (positionManager.isSellable() && !flowControl.isHalted()) {
             PositionInfo pulledInfo = positionManager.pullPosition();
-            NewOrderParams sellParams = tradingStrategy.calculateSellOrderParams(pulledInfo);
+            NewOrderParams sellParams = strategyDispatcher.calculateSellOrderParams(pulledInfo);
             orderExecutor.sellAsync(sellParams, pulledInfo);
         }
     }
 
-    private void handleTradeSellState(OrderUpdate update) {
+    private void handleTradeSellState(OrderUpdate update, BigDecimal lastQty, long qtyTicks) {
+        orderManager.fillSellOrder(update.orderId(), qtyTicks);
+        FillInfo fill = commissionManager.applySellFill(
+                lastQty,
+                new BigDecimal(update.lastQuoteAssetTransactedQty()),
+                update.commissionAsset(),
+                update.commissionAmount()
+        );
+        pnlManager.onSellFill(
+                props.toQtyTicks(fill.netQty()),
+                props.toNotionalTicks(fill.netUsdValue()),
+                orderManager.getSellAvgBuyPriceTicks(update.orderId())
+        );
+        pnlManager.logPnl();
+        queueTracker.onFill(update.orderId(), qtyTicks);
+
         if ("FILLED".equals(update.currentOrderStatus())) {
             orderManager.removeSellOrder(update.orderId());
             rateLimitManager.onOrderFilled();
         }
     }
 
-    private void logTradeBuyState(OrderUpdate update) {
-        log.info("🟩[TRADE-BUY] ID: {} | PRICE: {} | QTY: {}",
-                update.orderId(),
-                props.scalePrice(new BigDecimal(update.lastExecutedPrice())),
-                props.scaleQty(new BigDecimal(update.lastExecutedQty()))
-        );
-    }
-
-    private void logTradeSellState(OrderUpdate update) {
-        log.info("🟥[TRADE-SELL] ID: {} | PRICE: {} | QTY: {}",
-                update.orderId(),
-                props.scalePrice(new BigDecimal(update.lastExecutedPrice())),
-                props.scaleQty(new BigDecimal(update.lastExecutedQty()))
-        );
-    }
-
     // ----------------------------------------------------------------------------------------------------
     // ORDER_UPDATE TYPE: CANCELED
     // ----------------------------------------------------------------------------------------------------
@@ -212,11 +218,13 @@ public class UserEventProcessor implements UserEventListener {
         switch (update.side()) {
             case "BUY" -> {
                 handleCanceledBuyState(update);
-                logCanceledBuyState(update);
+                eventLog.log(EventLogType.CANCELED_BUY, update.orderId());
+                strategyDispatcher.dispatchCancel(OrderSide.BUY, update.orderId());
             }
             case "SELL" -> {
                 handleCanceledSellState(update);
-                logCanceledSellState(update);
+                eventLog.log(EventLogType.CANCELED_SELL, update.orderId());
+                strategyDispatcher.dispatchCancel(OrderSide.SELL, update.orderId());
             }
         }
     }
@@ -228,12 +236,4 @@ public class UserEventProcessor implements UserEventListener {
     private void handleCanceledSellState(OrderUpdate update) {
         orderManager.removeSellOrder(update.orderId());
     }
-
-    private void logCanceledBuyState(OrderUpdate update) {
-        log.info("🟧[CANCELED-BUY] ID: {}", update.orderId());
-    }
-
-    private void logCanceledSellState(OrderUpdate update) {
-        log.info("🟧[CANCELED-SELL] ID: {}", update.orderId());
-    }
 }
@@ -0,0 +1,233 @@
+package io.github.seokhyunpark.hft.trading.risk;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import jakarta.annotation.PreDestroy;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+
+import lombok.extern.slf4j.Slf4j;
+
+import io.github.seokhyunpark.hft.exchange.client.BinanceClient;
+import io.github.seokhyunpark.hft.exchange.dto.rest.CancelOrderResponse;
+import io.github.seokhyunpark.hft.trading.config.KillSwitchProperties;
+import io.github.seokhyunpark.hft.trading.config.TradingProperties;
+import io.github.seokhyunpark.hft.trading.dto.OrderInfo;
+import io.github.seokhyunpark.hft.trading.dto.PositionInfo;
+import io.github.seokhyunpark.hft.trading.manager.OrderManager;
+import io.github.seokhyunpark.hft.trading.manager.PnlManager;
+import io.github.seokhyunpark.hft.trading.manager.PositionManager;
+
+@Slf4j
+@Component
+public class KillSwitch {
+    private static final String FEED_STALE = "FEED_STALE";
+
+    private final TradingProperties props;
+    private final KillSwitchProperties killProps;
+    private final BinanceClient binanceClient;
+    private final OrderFlowControl flowControl;
+    private final OrderManager orderManager;
+    private final PositionManager positionManager;
+    private final PnlManager pnlManager;
+    private final PreTradeRiskGate riskGate;
+
+    private final long maxLossTicks;
+    private final Path releaseFile;
+
+    private volatile String reason;
+    private volatile long engagedAtMillis;
+
+    public KillSwitch(
+            TradingProperties props,
+            KillSwitchProperties killProps,
+            BinanceClient binanceClient,
+            OrderFlowControl flowControl,
+            OrderManager orderManager,
+            PositionManager positionManager,
+            PnlManager pnlManager,
+            PreTradeRiskGate riskGate
+    ) {
+        this.props = props;
+        this.killProps = killProps;
+        this.binanceClient = binanceClient;
+        this.flowControl = flowControl;
+        this.orderManager = orderManager;
+        this.positionManager = positionManager;
+        this.pnlManager = pnlManager;
+        this.riskGate = riskGate;
+        this.maxLossTicks = props.toNotionalTicks(killProps.maxLossUsd());
+        this.releaseFile = killProps.releaseFile() == null || killProps.releaseFile().isBlank()
+                ? null
+                : Path.of(killProps.releaseFile());
+    }
+
+    public boolean isEngaged() {
+        return flowControl.isHalted();
+    }
+
+    public String getReason() {
+        return reason;
+    }
+
+    // ----------------------------------------------------------------------------------------------------
+    // 발동 / 해제
+    // ----------------------------------------------------------------------------------------------------
+    // 주문 생성을 멈추고, 진행 중 요청을 기다린 뒤 심볼의 모든 미체결 주문을 한 번에 취소한다.
+    public synchronized boolean engage(String reason) {
+        if (!flowControl.halt()) {
+            return false;
+        }
+        this.reason = reason;
+        this.engagedAtMillis = System.currentTimeMillis();
+        log.error("🛑[KILL-SWITCH] ENGAGED | REASON: {}", reason);
+        // 발동 전에 남아 있던 해제 파일로 곧바로 풀리지 않게 지운다.
+        consumeReleaseFile();
+
+        int remaining = flowControl.awaitDrain(killProps.drainTimeoutMs());
+        if (remaining > 0) {
+            log.warn("⚠️[KILL-SWITCH] DRAIN TIMEOUT | IN-FLIGHT: {}", remaining);
+        }
+        cancelOpenOrders();
+        orderManager.flushCanceledOrders();
+        return true;
+    }
+
+    // 취소된 매도 주문은 사다리에 남아 있으므로, 해제 후 평소 흐름대로 재주문된다.
+    public synchronized boolean release() {
+        if (!flowControl.resume()) {
+            return false;
+        }
+        log.warn("[KILL-SWITCH] RELEASED | REASON: {}", reason);
+        reason = null;
+        return true;
+    }
+
+    // ----------------------------------------------------------------------------------------------------
+    // 자동 발동 조건 (손실 한도, 시세 지연) / 헤드리스 해제
+    // ----------------------------------------------------------------------------------------------------
+    @Scheduled(fixedDelayString = "${hft.kill-switch.check-interval-ms}")
+    public void check() {
+        if (isEngaged()) {
+            checkRelease();
+            return;
+        }
+
+        long pnlTicks = pnlManager.getRealizedPnlTicks() + pnlManager.getUnrealizedPnlTicks();
+        if (pnlTicks < -maxLossTicks) {
+            engage("LOSS_LIMIT " + props.fromNotionalTicks(pnlTicks).stripTrailingZeros().toPlainString());
+            return;
+        }
+
+        // 첫 호가를 받기 전에는 지연으로 보지 않는다.
+        long lastBookUpdate = riskGate.getLastBookUpdateMillis();
+        if (lastBookUpdate > 0 && System.currentTimeMillis() - lastBookUpdate > killProps.feedStaleMs()) {
+            engage(FEED_STALE);
+        }
+    }
+
+    // 시세 지연은 발동 뒤 호가가 다시 들어오면 스스로 풀고, 그 밖의 사유는 해제 파일이 생겨야 푼다.
+    private void checkRelease() {
+        if (consumeReleaseFile()) {
+            release();
+            return;
+        }
+
+        long lastBookUpdate = riskGate.getLastBookUpdateMillis();
+        if (FEED_STALE.equals(reason) && lastBookUpdate > engagedAtMillis
+                && System.currentTimeMillis() - lastBookUpdate <= killProps.feedStaleMs()) {
+            release();
+        }
+    }
+
+    private boolean consumeReleaseFile() {
+        if (releaseFile == null) {
+            return false;
+        }
+        try {
+            return Files.deleteIfExists(releaseFile);
+        } catch (IOException e) {
+            log.warn("⚠️[KILL-SWITCH] 해제 파일 삭제 실패 | PATH: {} | REASON: {}", releaseFile, e.getMessage());
+            return false;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (killProps.cancelOnShutdown()) {
+            engage("SHUTDOWN");
+        }
+    }
+
+    // ----------------------------------------------------------------------------------------------------
+    // 일괄 취소
+    // ----------------------------------------------------------------------------------------------------
+    private void cancelOpenOrders() {
+        // 체결 스트림의 CANCELED 이벤트가 먼저 로컬 주문을 지울 수 있으므로 매도 정보를 미리 확보한다.
+        List<OrderInfo> sellOrders = orderManager.getSellOrders();
+        try {
+            ResponseEntity<List<CancelOrderResponse>> responseEntity = binanceClient.cancelOpenOrders(props.symbol());
+            List<CancelOrderResponse> responses = responseEntity.getBody();
+            if (responses == null) {
+                return;
+            }
+
+            int canceledSells = 0;
+            for (CancelOrderResponse response : responses) {
+                if (response.orderId() == null) {
+                    continue;
+                }
+                if ("BUY".equals(response.side())) {
+                    orderManager.removeBuyOrder(response.orderId());
+                } else if ("SELL".equals(response.side())) {
+                    keepCanceledSell(response, findOrder(sellOrders, response.orderId()));
+                    canceledSells++;
+                }
+            }
+            log.warn("[KILL-SWITCH] CANCELED | TOTAL: {} | SELL: {}", responses.size(), canceledSells);
+        } catch (HttpClientErrorException e) {
+            log.warn("⚠️[KILL-SWITCH] CANCEL FAIL | REASON: {}", e.getResponseBodyAsString());
+        } catch (Exception e) {
+            log.error("[KILL-SWITCH] CANCEL ERROR | MESSAGE: {}", e.getMessage());
+        }
+    }
+
+    private void keepCanceledSell(CancelOrderResponse response, OrderInfo local) {
+        orderManager.removeSellOrder(response.orderId());
+
+        BigDecimal remainingQty = new BigDecimal(response.origQty()).subtract(new BigDecimal(response.executedQty()));
+        long remainingQtyTicks = props.toQtyTicks(remainingQty);
+        if (remainingQtyTicks <= 0) {
+            return;
+        }
+
+        long priceTicks = props.toPriceTicks(new BigDecimal(response.price()));
+        long avgBuyPriceTicks = local != null
+                ? local.avgBuyPriceTicks()
+                : props.toPriceTicks(props.divide(new BigDecimal(response.price()), props.risk().targetMultiplier()));
+        if (orderManager.addCanceledOrder(new OrderInfo(response.orderId(), priceTicks, remainingQtyTicks, avgBuyPriceTicks))) {
+            return;
+        }
+
+        BigDecimal qty = props.fromQtyTicks(remainingQtyTicks);
+        BigDecimal usdValue = props.fromPriceTicks(avgBuyPriceTicks).multiply(qty);
+        positionManager.restorePosition(new PositionInfo(qty, usdValue));
+        log.warn("⚠️[CANCELED-LADDER] FULL | 포지션으로 복구 | QTY: {}", qty.toPlainString());
+    }
+
+    private OrderInfo findOrder(List<OrderInfo> orders, long orderId) {
+        for (OrderInfo info : orders) {
+            if (info.orderId() == orderId) {
+                return info;
+            }
+        }
+        return null;
+    }
+}
@@ -0,0 +1,60 @@
+package io.github.seokhyunpark.hft.trading.risk;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import org.springframework.stereotype.Component;
+
+@Component
+public class OrderFlowControl {
+    private static final long DRAIN_POLL_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final AtomicBoolean halted = new AtomicBoolean(false);
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    public boolean isHalted() {
+        return halted.get();
+    }
+
+    // 이미 정지 상태였다면 false
+    public boolean halt() {
+        return halted.compareAndSet(false, true);
+    }
+
+    public boolean resume() {
+        return halted.compareAndSet(true, false);
+    }
+
+    // ----------------------------------------------------------------------------------------------------
+    // 진행 중 요청 추적
+    // ----------------------------------------------------------------------------------------------------
+    // 카운트를 먼저 올린 뒤 정지 여부를 확인해야 halt() 이후 awaitDrain() 이 놓치는 요청이 없다.
+    public boolean tryEnter() {
+        inFlight.incrementAndGet();
+        if (halted.get()) {
+            inFlight.decrementAndGet();
+            return false;
+        }
+        return true;
+    }
+
+    public void exit() {
+        inFlight.decrementAndGet();
+    }
+
+    public int getInFlightCount() {
+        return inFlight.get();
+    }
+
+    // 제한 시간 안에 끝나지 않은 요청 수를 반환한다.
+    public int awaitDrain(long timeoutMillis) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        int remaining;
+        while ((remaining = inFlight.get()) > 0 && System.nanoTime() - deadline < 0) {
+            LockSupport.parkNanos(DRAIN_POLL_NANOS);
+        }
+        return remaining;
+    }
+}
@@ -0,0 +1,143 @@
+package io.github.seokhyunpark.hft.trading.risk;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.springframework.stereotype.Component;
+
+import io.github.seokhyunpark.hft.trading.config.TradingProperties;
+import io.github.seokhyunpark.hft.trading.manager.OrderManager;
+import io.github.seokhyunpark.hft.trading.manager.PositionManager;
+import io.github.seokhyunpark.hft.trading.manager.QuoteAssetManager;
+import io.github.seokhyunpark.hft.trading.manager.RateLimitManager;
+
+@Component
+public class PreTradeRiskGate {
+    private static final long BPS_SCALE = 10_000L;
+    private static final RiskCheck[] CHECKS = RiskCheck.values();
+
+    private final OrderManager orderManager;
+    private final PositionManager positionManager;
+    private final QuoteAssetManager quoteAssetManager;
+    private final RateLimitManager rateLimitManager;
+
+    // 시작 시 한 번 고정소수점으로 변환해 둔 한도
+    private final long maxOrderQtyTicks;
+    private final long maxNotionalTicks;
+    private final long maxInventoryQtyTicks;
+    private final int maxOpenOrders;
+    private final long priceBandBps;
+    private final long fatFingerBps;
+
+    private final AtomicLongArray rejectCounts = new AtomicLongArray(CHECKS.length);
+
+    private volatile long bestBidPriceTicks;
+    private volatile long bestAskPriceTicks;
+    private volatile long lastBookUpdateMillis;
+
+    public PreTradeRiskGate(
+            TradingProperties props,
+            OrderManager orderManager,
+            PositionManager positionManager,
+            QuoteAssetManager quoteAssetManager,
+            RateLimitManager rateLimitManager
+    ) {
+        this.orderManager = orderManager;
+        this.positionManager = positionManager;
+        this.quoteAssetManager = quoteAssetManager;
+        this.rateLimitManager = rateLimitManager;
+
+        TradingProperties.Risk risk = props.risk();
+        this.maxOrderQtyTicks = props.toQtyTicks(risk.maxOrderQty());
+        this.maxNotionalTicks = props.toNotionalTicks(risk.maxOrderNotionalUsd());
+        this.maxInventoryQtyTicks = props.toQtyTicks(risk.maxInventoryQty());
+        this.maxOpenOrders = risk.maxOpenOrders();
+        this.priceBandBps = risk.priceBandBps();
+        this.fatFingerBps = risk.fatFingerBps();
+    }
+
+    public void updateBook(long bestBidPriceTicks, long bestAskPriceTicks) {
+        this.bestBidPriceTicks = bestBidPriceTicks;
+        this.bestAskPriceTicks = bestAskPriceTicks;
+        this.lastBookUpdateMillis = System.currentTimeMillis();
+    }
+
+    public long getLastBookUpdateMillis() {
+        return lastBookUpdateMillis;
+    }
+
+    public long getBestBidPriceTicks() {
+        return bestBidPriceTicks;
+    }
+
+    public long getBestAskPriceTicks() {
+        return bestAskPriceTicks;
+    }
+
+    // ----------------------------------------------------------------------------------------------------
+    // 매수 주문 사전 점검 (통과 시 null)
+    // ----------------------------------------------------------------------------------------------------
+    public RiskCheck checkBuy(long priceTicks, long qtyTicks) {
+        RiskCheck failed = evaluateBuy(priceTicks, qtyTicks);
+        if (failed != null) {
+            rejectCounts.incrementAndGet(failed.ordinal());
+        }
+        return failed;
+    }
+
+    // 값싼 산술 검사부터, 잠금이 필요한 주문 조회는 마지막에 수행한다.
+    private RiskCheck evaluateBuy(long priceTicks, long qtyTicks) {
+        if (qtyTicks > maxOrderQtyTicks) {
+            return RiskCheck.MAX_ORDER_QTY;
+        }
+
+        long notionalTicks = priceTicks * qtyTicks;
+        if (notionalTicks > maxNotionalTicks) {
+            return RiskCheck.MAX_NOTIONAL;
+        }
+        if (notionalTicks > quoteAssetManager.getQuoteBalanceTicks()) {
+            return RiskCheck.QUOTE_BALANCE;
+        }
+        if (orderManager.getOpenOrderCount() >= maxOpenOrders) {
+            return RiskCheck.OPEN_ORDER_CAPACITY;
+        }
+        if (!rateLimitManager.hasRateLimitCapacity()) {
+            return RiskCheck.RATE_LIMIT;
+        }
+        // 매도 대기 재고에 매도 전 포지션과 체결되면 재고가 될 매수(대기 + 접수 전)를 더한다.
+        long inventoryQtyTicks = orderManager.getInventoryQtyTicks()
+                + positionManager.getQtyTicks()
+                + orderManager.getBuyExposureQtyTicks();
+        if (inventoryQtyTicks + qtyTicks > maxInventoryQtyTicks) {
+            return RiskCheck.MAX_INVENTORY;
+        }
+
+        long bid = bestBidPriceTicks;
+        long ask = bestAskPriceTicks;
+        if (bid <= 0 || ask <= bid) {
+            return RiskCheck.STALE_BOOK;
+        }
+        // LIMIT_MAKER 매수는 최우선 매도호가 미만이어야 하며, 최우선 매수호가에서 밴드 이내여야 한다.
+        if (priceTicks >= ask || Math.abs(priceTicks - bid) * BPS_SCALE > bid * priceBandBps) {
+            return RiskCheck.PRICE_BAND;
+        }
+        long mid = (bid + ask) >>> 1;
+        if (Math.abs(priceTicks - mid) * BPS_SCALE > mid * fatFingerBps) {
+            return RiskCheck.FAT_FINGER;
+        }
+
+        if (orderManager.hasBuyOrderAt(priceTicks)) {
+            return RiskCheck.DUPLICATE_PRICE;
+        }
+        if (orderManager.conflictsWithSellOrders(priceTicks)) {
+            return RiskCheck.SELL_PRICE_CONFLICT;
+        }
+        return null;
+    }
+
+    // ----------------------------------------------------------------------------------------------------
+    // 거절 통계
+    // ----------------------------------------------------------------------------------------------------
+    public long getRejectCount(RiskCheck check) {
+        return rejectCounts.get(check.ordinal());
+    }
+}
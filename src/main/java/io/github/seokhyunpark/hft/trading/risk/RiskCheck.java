@@ -0,0 +1,15 @@
+package io.github.seokhyunpark.hft.trading.risk;
+
+public enum RiskCheck {
+    MAX_ORDER_QTY,
+    MAX_NOTIONAL,
+    QUOTE_BALANCE,
+    OPEN_ORDER_CAPACITY,
+    RATE_LIMIT,
+    MAX_INVENTORY,
+    STALE_BOOK,
+    PRICE_BAND,
+    FAT_FINGER,
+    DUPLICATE_PRICE,
+    SELL_PRICE_CONFLICT
+}
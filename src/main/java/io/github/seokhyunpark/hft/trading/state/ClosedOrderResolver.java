@@ -0,0 +1,276 @@
+package io.github.seokhyunpark.hft.trading.state;
+
+import java.math.BigDecimal;
+import java.util.Comparator;
+import java.util.List;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import io.github.seokhyunpark.hft.exchange.client.BinanceClient;
+import io.github.seokhyunpark.hft.exchange.dto.rest.GetOrderResponse;
+import io.github.seokhyunpark.hft.exchange.dto.rest.MyTradeResponse;
+import io.github.seokhyunpark.hft.trading.config.TradingProperties;
+import io.github.seokhyunpark.hft.trading.dto.FillInfo;
+import io.github.seokhyunpark.hft.trading.dto.NewOrderParams;
+import io.github.seokhyunpark.hft.trading.dto.OrderInfo;
+import io.github.seokhyunpark.hft.trading.dto.PositionInfo;
+import io.github.seokhyunpark.hft.trading.executor.OrderExecutor;
+import io.github.seokhyunpark.hft.trading.manager.CommissionManager;
+import io.github.seokhyunpark.hft.trading.manager.OrderManager;
+import io.github.seokhyunpark.hft.trading.manager.PnlManager;
+import io.github.seokhyunpark.hft.trading.manager.PositionManager;
+import io.github.seokhyunpark.hft.trading.manager.RateLimitManager;
+import io.github.seokhyunpark.hft.trading.risk.OrderFlowControl;
+import io.github.seokhyunpark.hft.trading.strategy.OrderSide;
+import io.github.seokhyunpark.hft.trading.strategy.StrategyDispatcher;
+
+// 실행 보고 없이 닫힌 주문을 거래소에서 조회해 로컬 상태를 정리한다.
+// 로컬 주문의 남은 수량은 저널에 기록된 체결만큼 줄어 있으므로, 거래소 체결 수량 중 그 차이만큼은 이미 반영된 것이다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ClosedOrderResolver {
+    // https://developers.binance.com/docs/binance-spot-api-docs/errors
+    private static final String UNKNOWN_ORDER_CODE = "-2013";
+
+    private final BinanceClient binanceClient;
+    private final TradingProperties props;
+    private final ObjectMapper objectMapper;
+    private final OrderManager orderManager;
+    private final PositionManager positionManager;
+    private final CommissionManager commissionManager;
+    private final PnlManager pnlManager;
+    private final RateLimitManager rateLimitManager;
+    private final StrategyDispatcher strategyDispatcher;
+    private final OrderExecutor orderExecutor;
+    private final OrderFlowControl flowControl;
+
+    public enum Outcome {
+        FILLED,
+        CLOSED,
+        NOT_FOUND,
+        // 로컬 주문을 남겨 두고 다음 대사에서 다시 조회한다.
+        RETRY
+    }
+
+    // settleMillis 안에 닫힌 주문은 스트림 실행 보고가 아직 오는 중일 수 있으므로 다음 대사로 미룬다.
+    public Outcome resolve(OrderSide side, OrderInfo info, long settleMillis) {
+        GetOrderResponse order;
+        try {
+            ResponseEntity<GetOrderResponse> response = binanceClient.getOrder(props.symbol(), info.orderId());
+            syncUsedWeight(response);
+            order = response == null ? null : response.getBody();
+        } catch (HttpClientErrorException e) {
+            if (!isUnknownOrder(e)) {
+                log.warn("⚠️[RECONCILE] 주문 조회 실패, 다음 대사에서 재시도 | ID: {} | REASON: {}",
+                        info.orderId(), e.getStatusText());
+                return Outcome.RETRY;
+            }
+            removeOrder(side, info.orderId());
+            log.warn("⚠️[RECONCILE] 거래소에 없는 주문 제거 | SIDE: {} | ID: {}", side, info.orderId());
+            return Outcome.NOT_FOUND;
+        } catch (Exception e) {
+            log.warn("⚠️[RECONCILE] 주문 조회 실패, 다음 대사에서 재시도 | ID: {} | REASON: {}",
+                    info.orderId(), e.getMessage());
+            return Outcome.RETRY;
+        }
+        if (order == null || isOpen(order.status())
+                || System.currentTimeMillis() - order.updateTime() < settleMillis) {
+            return Outcome.RETRY;
+        }
+
+        switch (side) {
+            case BUY -> resolveBuyOrder(order);
+            case SELL -> resolveSellOrder(info, order);
+        }
+        log.info("[RECONCILE] 닫힌 주문 정리 | SIDE: {} | ID: {} | STATUS: {}", side, info.orderId(), order.status());
+        return "FILLED".equals(order.status()) ? Outcome.FILLED : Outcome.CLOSED;
+    }
+
+    // 조회 사이에 스트림이 먼저 정리한 주문은 건드리지 않는다.
+    private void resolveBuyOrder(GetOrderResponse order) {
+        OrderInfo local = orderManager.getBuyOrder(order.orderId());
+        if (local == null) {
+            return;
+        }
+        // 제거를 먼저 기록해, 반영 도중 종료되어도 재시작 대사가 같은 체결을 다시 더하지 않게 한다.
+        orderManager.removeBuyOrder(order.orderId());
+        if (creditUnbookedBuyFills(local, order) > 0L) {
+            sellPositionIfSellable();
+        }
+    }
+
+    // 스트림의 매수 체결 처리와 같은 조건으로 포지션을 매도로 넘긴다. 정지 중이면 포지션에 남겨 둔다.
+    private void sellPositionIfSellable() {
+        if (positionManager.isSellable() && !flowControl.isHalted()) {
+            PositionInfo pulledInfo = positionManager.pullPosition();
+            NewOrderParams sellParams = strategyDispatcher.calculateSellOrderParams(pulledInfo);
+            orderExecutor.sellAsync(sellParams, pulledInfo);
+        }
+    }
+
+    private void resolveSellOrder(OrderInfo info, GetOrderResponse order) {
+        OrderInfo local = orderManager.getSellOrder(order.orderId());
+        if (local == null) {
+            return;
+        }
+        orderManager.removeSellOrder(order.orderId());
+        bookUnbookedSellFills(local, order);
+        if ("FILLED".equals(order.status())) {
+            return;
+        }
+
+        // 취소/만료된 매도의 남은 수량은 재주문 사다리로 돌려보낸다.
+        long remainingQtyTicks = props.toQtyTicks(new BigDecimal(order.origQty()))
+                - props.toQtyTicks(new BigDecimal(order.executedQty()));
+        if (remainingQtyTicks > 0) {
+            orderManager.addCanceledOrder(new OrderInfo(
+                    info.orderId(), info.priceTicks(), remainingQtyTicks, info.avgBuyPriceTicks()
+            ));
+        }
+    }
+
+    private void removeOrder(OrderSide side, long orderId) {
+        switch (side) {
+            case BUY -> orderManager.removeBuyOrder(orderId);
+            case SELL -> orderManager.removeSellOrder(orderId);
+        }
+    }
+
+    private boolean isOpen(String status) {
+        return "NEW".equals(status) || "PARTIALLY_FILLED".equals(status) || "PENDING_NEW".equals(status);
+    }
+
+    private boolean isUnknownOrder(HttpClientErrorException e) {
+        try {
+            return UNKNOWN_ORDER_CODE.equals(objectMapper.readTree(e.getResponseBodyAsString()).path("code").asText());
+        } catch (Exception err) {
+            return false;
+        }
+    }
+
+    // 반영한 수량(틱)을 돌려준다.
+    private long creditUnbookedBuyFills(OrderInfo local, GetOrderResponse order) {
+        long unbookedQtyTicks = creditUnbookedFills(local, order, this::applyBuyFill);
+        if (unbookedQtyTicks > 0L) {
+            log.info("[RECONCILE] 미반영 매수 체결 반영 | ID: {} | QTY: {}",
+                    order.orderId(), props.fromQtyTicks(unbookedQtyTicks).toPlainString());
+        }
+        return unbookedQtyTicks;
+    }
+
+    // 원가는 스트림 경로와 같이 매도 주문에 기록된 평균 매수가를 쓴다.
+    private void bookUnbookedSellFills(OrderInfo local, GetOrderResponse order) {
+        long unbookedQtyTicks = creditUnbookedFills(local, order, (qty, usdValue, commissionAsset, commissionAmount) ->
+                applySellFill(qty, usdValue, commissionAsset, commissionAmount, local.avgBuyPriceTicks()));
+        if (unbookedQtyTicks > 0L) {
+            pnlManager.logPnl();
+            log.info("[RECONCILE] 미반영 매도 체결 반영 | ID: {} | QTY: {}",
+                    order.orderId(), props.fromQtyTicks(unbookedQtyTicks).toPlainString());
+        }
+    }
+
+    private long creditUnbookedFills(OrderInfo local, GetOrderResponse order, FillApplier applier) {
+        long executedQtyTicks = props.toQtyTicks(new BigDecimal(order.executedQty()));
+        long bookedQtyTicks = props.toQtyTicks(new BigDecimal(order.origQty())) - local.qtyTicks();
+        long unbookedQtyTicks = executedQtyTicks - Math.max(0L, bookedQtyTicks);
+        if (unbookedQtyTicks <= 0L) {
+            return 0L;
+        }
+
+        List<MyTradeResponse> trades = fetchTrades(order.orderId());
+        if (trades == null) {
+            // 체결 내역을 못 받으면 평균 단가로 나누고 수수료는 반영하지 않는다.
+            BigDecimal qty = props.fromQtyTicks(unbookedQtyTicks);
+            BigDecimal usdValue = props.divide(
+                    new BigDecimal(order.cummulativeQuoteQty()).multiply(qty), new BigDecimal(order.executedQty()));
+            applier.apply(qty, usdValue, null, null);
+        } else {
+            creditTrades(trades, Math.max(0L, bookedQtyTicks), unbookedQtyTicks, applier);
+        }
+        return unbookedQtyTicks;
+    }
+
+    // 실행 보고는 체결 순서대로 반영되므로, 앞쪽 체결부터 반영된 수량만큼 건너뛴다.
+    private void creditTrades(List<MyTradeResponse> trades, long skipQtyTicks, long creditQtyTicks,
+                              FillApplier applier) {
+        long skip = skipQtyTicks;
+        long remaining = creditQtyTicks;
+        for (MyTradeResponse trade : trades.stream().sorted(Comparator.comparingLong(MyTradeResponse::id)).toList()) {
+            if (remaining <= 0L) {
+                break;
+            }
+            long tradeQtyTicks = props.toQtyTicks(new BigDecimal(trade.qty()));
+            long skipped = Math.min(skip, tradeQtyTicks);
+            skip -= skipped;
+            long credited = Math.min(remaining, tradeQtyTicks - skipped);
+            if (credited <= 0L) {
+                continue;
+            }
+            remaining -= credited;
+
+            if (credited == tradeQtyTicks) {
+                applier.apply(props.fromQtyTicks(credited), new BigDecimal(trade.quoteQty()),
+                        trade.commissionAsset(), trade.commission());
+                continue;
+            }
+            // 체결 하나가 반영 경계에 걸치면 수량 비율로 나눈다.
+            BigDecimal share = props.divide(BigDecimal.valueOf(credited), BigDecimal.valueOf(tradeQtyTicks));
+            applier.apply(
+                    props.fromQtyTicks(credited),
+                    new BigDecimal(trade.quoteQty()).multiply(share),
+                    trade.commissionAsset(),
+                    new BigDecimal(trade.commission()).multiply(share).toPlainString()
+            );
+        }
+    }
+
+    private void applyBuyFill(BigDecimal qty, BigDecimal usdValue, String commissionAsset, String commissionAmount) {
+        FillInfo fill = commissionManager.applyBuyFill(qty, usdValue, commissionAsset, commissionAmount);
+        positionManager.addPosition(fill.netQty(), fill.netUsdValue());
+        pnlManager.onBuyFill(props.toQtyTicks(fill.netQty()), props.toNotionalTicks(fill.netUsdValue()));
+    }
+
+    private void applySellFill(BigDecimal qty, BigDecimal usdValue, String commissionAsset, String commissionAmount,
+                               long avgBuyPriceTicks) {
+        FillInfo fill = commissionManager.applySellFill(qty, usdValue, commissionAsset, commissionAmount);
+        pnlManager.onSellFill(
+                props.toQtyTicks(fill.netQty()),
+                props.toNotionalTicks(fill.netUsdValue()),
+                avgBuyPriceTicks
+        );
+    }
+
+    private List<MyTradeResponse> fetchTrades(long orderId) {
+        try {
+            ResponseEntity<List<MyTradeResponse>> response = binanceClient.getMyTrades(props.symbol(), orderId);
+            return response == null ? null : response.getBody();
+        } catch (Exception e) {
+            log.warn("⚠️[RECONCILE] 체결 내역 조회 실패 | ID: {} | REASON: {}", orderId, e.getMessage());
+            return null;
+        }
+    }
+
+    @FunctionalInterface
+    private interface FillApplier {
+        void apply(BigDecimal qty, BigDecimal usdValue, String commissionAsset, String commissionAmount);
+    }
+
+    private void syncUsedWeight(ResponseEntity<?> response) {
+        if (response == null) {
+            return;
+        }
+
+        String rawWeight = response.getHeaders().getFirst("X-MBX-USED-WEIGHT-1m");
+        if (rawWeight != null && rawWeight.matches("\\d+")) {
+            rateLimitManager.syncUsedWeight(Integer.parseInt(rawWeight));
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package io.github.seokhyunpark.hft.trading.state;
+
+import java.math.BigDecimal;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import io.github.seokhyunpark.hft.exchange.client.BinanceClient;
+import io.github.seokhyunpark.hft.exchange.dto.rest.GetAccountResponse;
+import io.github.seokhyunpark.hft.exchange.dto.rest.GetAccountResponse.Balance;
+import io.github.seokhyunpark.hft.exchange.dto.rest.GetOrderResponse;
+import io.github.seokhyunpark.hft.trading.config.TradingProperties;
+import io.github.seokhyunpark.hft.trading.dto.OrderInfo;
+import io.github.seokhyunpark.hft.trading.manager.OrderManager;
+import io.github.seokhyunpark.hft.trading.manager.QuoteAssetManager;
+import io.github.seokhyunpark.hft.trading.manager.RateLimitManager;
+import io.github.seokhyunpark.hft.trading.state.ClosedOrderResolver.Outcome;
+import io.github.seokhyunpark.hft.trading.strategy.OrderSide;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StateReconciler {
+    // https://developers.binance.com/docs/binance-spot-api-docs/rest-api/account-endpoints
+    private static final int OPEN_ORDERS_WEIGHT = 6;
+    private static final int GET_ORDER_WEIGHT = 4;
+    private static final int ACCOUNT_WEIGHT = 20;
+    // 닫힌 지 이보다 짧은 주문은 스트림 실행 보고가 아직 오는 중일 수 있다.
+    private static final long CLOSE_SETTLE_MILLIS = 5_000L;
+
+    private final BinanceClient binanceClient;
+    private final TradingProperties props;
+    private final OrderManager orderManager;
+    private final QuoteAssetManager quoteAssetManager;
+    private final RateLimitManager rateLimitManager;
+    private final ClosedOrderResolver closedOrderResolver;
+
+    private final AtomicBoolean enabled = new AtomicBoolean(false);
+
+    public void enable() {
+        enabled.set(true);
+    }
+
+    @Scheduled(
+            initialDelayString = "${hft.state.reconcile-interval-ms}",
+            fixedDelayString = "${hft.state.reconcile-interval-ms}"
+    )
+    public void reconcile() {
+        if (!enabled.get()) {
+            return;
+        }
+
+        try {
+            reconcileOrders();
+            reconcileBalances();
+        } catch (Exception e) {
+            log.warn("⚠️[RECONCILE] FAIL | REASON: {}", e.getMessage());
+        }
+    }
+
+    // ----------------------------------------------------------------------------------------------------
+    // 주문 대사 (Orders)
+    // ----------------------------------------------------------------------------------------------------
+    private void reconcileOrders() {
+        if (!rateLimitManager.tryAcquireWeight(OPEN_ORDERS_WEIGHT)) {
+            return;
+        }
+
+        // 조회 전에 로컬 상태를 먼저 떠서, 조회 도중 새로 생긴 주문을 유령 주문으로 오인하지 않게 한다.
+        List<OrderInfo> localBuyOrders = orderManager.getBuyOrders();
+        List<OrderInfo> localSellOrders = orderManager.getSellOrders();
+
+        ResponseEntity<List<GetOrderResponse>> response = binanceClient.getOpenOrders(props.symbol());
+        syncUsedWeight(response);
+        if (response == null || response.getBody() == null) {
+            return;
+        }
+
+        List<GetOrderResponse> openOrders = response.getBody();
+        Set<Long> openOrderIds = new HashSet<>();
+        for (GetOrderResponse order : openOrders) {
+            openOrderIds.add(order.orderId());
+        }
+
+        int removed = 0;
+        for (OrderInfo info : localBuyOrders) {
+            if (!openOrderIds.contains(info.orderId()) && orderManager.containsBuyOrder(info.orderId())
+                    && resolveClosedOrder(OrderSide.BUY, info)) {
+                removed++;
+            }
+        }
+        for (OrderInfo info : localSellOrders) {
+            if (!openOrderIds.contains(info.orderId()) && orderManager.containsSellOrder(info.orderId())
+                    && resolveClosedOrder(OrderSide.SELL, info)) {
+                removed++;
+            }
+        }
+
+        int added = 0;
+        for (GetOrderResponse order : openOrders) {
+            if (addMissingOrder(order)) {
+                added++;
+            }
+        }
+
+        if (removed > 0 || added > 0) {
+            log.info("[RECONCILE] 주문 보정 | REMOVED: {} | ADDED: {}", removed, added);
+        }
+    }
+
+    private boolean resolveClosedOrder(OrderSide side, OrderInfo info) {
+        if (!rateLimitManager.tryAcquireWeight(GET_ORDER_WEIGHT)) {
+            return false;
+        }
+
+        Outcome outcome = closedOrderResolver.resolve(side, info, CLOSE_SETTLE_MILLIS);
+        if (outcome == Outcome.FILLED) {
+            rateLimitManager.onOrderFilled();
+        }
+        return outcome != Outcome.RETRY;
+    }
+
+    private boolean addMissingOrder(GetOrderResponse order) {
+        BigDecimal price = new BigDecimal(order.price());
+        long priceTicks = props.toPriceTicks(price);
+        long remainingQtyTicks = props.toQtyTicks(new BigDecimal(order.origQty()))
+                - props.toQtyTicks(new BigDecimal(order.executedQty()));
+
+        switch (order.side()) {
+            case "BUY" -> {
+                if (orderManager.containsBuyOrder(order.orderId())) {
+                    return false;
+                }
+                orderManager.addBuyOrder(order.orderId(), priceTicks, remainingQtyTicks);
+                return orderManager.containsBuyOrder(order.orderId());
+            }
+            case "SELL" -> {
+                if (orderManager.containsSellOrder(order.orderId())) {
+                    return false;
+                }
+                BigDecimal estimatedAvgBuyPrice = props.divide(price, props.risk().targetMultiplier());
+                orderManager.addSellOrder(
+                        order.orderId(), priceTicks, remainingQtyTicks, props.toPriceTicks(estimatedAvgBuyPrice)
+                );
+                return orderManager.containsSellOrder(order.orderId());
+            }
+            default -> {
+                return false;
+            }
+        }
+    }
+
+    // ----------------------------------------------------------------------------------------------------
+    // 잔고 대사 (Balances)
+    // ----------------------------------------------------------------------------------------------------
+    private void reconcileBalances() {
+        if (!rateLimitManager.tryAcquireWeight(ACCOUNT_WEIGHT)) {
+            return;
+        }
+
+        ResponseEntity<GetAccountResponse> response = binanceClient.getAccount();
+        syncUsedWeight(response);
+        if (response == null || response.getBody() == null) {
+            return;
+        }
+
+        for (Balance balance : response.getBody().balances()) {
+            if (balance.asset().equals(props.quoteAsset())) {
+                quoteAssetManager.syncQuoteBalance(new BigDecimal(balance.free()));
+            } else if (balance.asset().equals(props.baseAsset())) {
+                checkLockedBaseDrift(new BigDecimal(balance.locked()));
+            }
+        }
+    }
+
+    // 매도 주문에 묶인 기초 자산 수량은 로컬 매도 주문 수량의 합과 같아야 한다.
+    private void checkLockedBaseDrift(BigDecimal lockedQty) {
+        long[] localQtyTicks = new long[1];
+        orderManager.forEachSellOrder(order -> localQtyTicks[0] += order.qtyTicks());
+
+        long driftTicks = props.toQtyTicks(lockedQty) - localQtyTicks[0];
+        if (driftTicks != 0) {
+            log.warn("⚠️[RECONCILE] 매도 수량 불일치 | EXCHANGE: {} | LOCAL: {}",
+                    props.scaleQty(lockedQty).toPlainString(),
+                    props.fromQtyTicks(localQtyTicks[0]).toPlainString()
+            );
+        }
+    }
+
+    private void syncUsedWeight(ResponseEntity<?> response) {
+        if (response == null) {
+            return;
+        }
+
+        String rawWeight = response.getHeaders().getFirst("X-MBX-USED-WEIGHT-1m");
+        if (rawWeight != null && rawWeight.matches("\\d+")) {
+            rateLimitManager.syncUsedWeight(Integer.parseInt(rawWeight));
+        }
+    }
+}
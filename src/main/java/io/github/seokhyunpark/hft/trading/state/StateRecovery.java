@@ -0,0 +1,58 @@
+package io.github.seokhyunpark.hft.trading.state;
+
+import java.io.IOException;
+import java.util.Optional;
+
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import io.github.seokhyunpark.hft.trading.dto.StateSnapshot;
+import io.github.seokhyunpark.hft.trading.journal.EventJournal;
+import io.github.seokhyunpark.hft.trading.manager.OrderManager;
+import io.github.seokhyunpark.hft.trading.manager.PositionManager;
+import io.github.seokhyunpark.hft.trading.manager.QuoteAssetManager;
+import io.github.seokhyunpark.hft.trading.manager.RateLimitManager;
+
+// 로컬 상태 복구: 스냅샷을 저널 없이 적재한 뒤, 스냅샷 위치부터 저널 끝까지 재생한다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StateRecovery {
+    private final StateSnapshotter stateSnapshotter;
+    private final OrderManager orderManager;
+    private final PositionManager positionManager;
+    private final QuoteAssetManager quoteAssetManager;
+    private final RateLimitManager rateLimitManager;
+    private final EventJournal eventJournal;
+
+    public record Result(boolean snapshotLoaded, long replayed) {
+    }
+
+    public Result recover() {
+        Optional<StateSnapshot> snapshot = stateSnapshotter.load();
+        snapshot.ifPresent(this::loadSnapshot);
+        long replayed = replayJournal(snapshot.map(StateSnapshot::journalPosition).orElse(0L));
+        return new Result(snapshot.isPresent(), replayed);
+    }
+
+    private void loadSnapshot(StateSnapshot snapshot) {
+        orderManager.loadSnapshot(snapshot);
+        positionManager.loadSnapshot(snapshot);
+        rateLimitManager.restoreOrderCount(snapshot.rateLimitOrderCount(), snapshot.rateLimitWindowId());
+    }
+
+    private long replayJournal(long fromPosition) {
+        try {
+            return eventJournal.replay(fromPosition, entry -> {
+                orderManager.replay(entry);
+                positionManager.replay(entry);
+                quoteAssetManager.replay(entry);
+            });
+        } catch (IOException e) {
+            log.warn("⚠️[INIT-STATE] 저널 재생 실패 | REASON: {}", e.getMessage());
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package io.github.seokhyunpark.hft.trading.state;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.zip.CRC32;
+
+import io.github.seokhyunpark.hft.trading.dto.OrderInfo;
+import io.github.seokhyunpark.hft.trading.dto.PositionInfo;
+import io.github.seokhyunpark.hft.trading.dto.StateSnapshot;
+
+public final class StateSnapshotFile implements AutoCloseable {
+    // 두 개의 슬롯에 번갈아 기록하고, CRC 가 유효한 슬롯 중 시퀀스가 가장 큰 것을 읽는다.
+    private static final int SEQ_OFFSET = 0;
+    private static final int CRC_OFFSET = 8;
+    private static final int PAYLOAD_OFFSET = 16;
+    private static final int TIMESTAMP_OFFSET = 16;
+    private static final int BUY_COUNT_OFFSET = 24;
+    private static final int SELL_COUNT_OFFSET = 28;
+    private static final int POSITION_QTY_OFFSET = 32;
+    private static final int POSITION_USD_OFFSET = 44;
+    private static final int RATE_LIMIT_COUNT_OFFSET = 56;
+    private static final int RATE_LIMIT_WINDOW_OFFSET = 64;
+    private static final int JOURNAL_POSITION_OFFSET = 72;
+    private static final int SLOT_HEADER_SIZE = 128;
+    private static final int ORDER_SIZE = 32;
+    private static final int DECIMAL_SCALE = 8;
+
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final int maxOrders;
+    private final int slotSize;
+    private final CRC32 crc = new CRC32();
+    private long seq;
+
+    private StateSnapshotFile(FileChannel channel, MappedByteBuffer buffer, int maxOrders) {
+        this.channel = channel;
+        this.buffer = buffer;
+        this.maxOrders = maxOrders;
+        this.slotSize = SLOT_HEADER_SIZE + maxOrders * ORDER_SIZE;
+    }
+
+    public static StateSnapshotFile open(Path path, int maxOrders) throws IOException {
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        long size = 2L * (SLOT_HEADER_SIZE + (long) maxOrders * ORDER_SIZE);
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+
+        StateSnapshotFile file = new StateSnapshotFile(channel, buffer, maxOrders);
+        file.seq = Math.max(file.validSeq(0), file.validSeq(1));
+        return file;
+    }
+
+    // ----------------------------------------------------------------------------------------------------
+    // 쓰기
+    // ----------------------------------------------------------------------------------------------------
+    public synchronized int write(StateSnapshot snapshot) {
+        long nextSeq = seq + 1;
+        int base = (int) (nextSeq & 1) * slotSize;
+
+        int buyCount = Math.min(snapshot.buyOrders().size(), maxOrders);
+        int sellCount = Math.min(snapshot.sellOrders().size(), maxOrders - buyCount);
+
+        buffer.putLong(base + TIMESTAMP_OFFSET, snapshot.timestampMillis());
+        buffer.putInt(base + BUY_COUNT_OFFSET, buyCount);
+        buffer.putInt(base + SELL_COUNT_OFFSET, sellCount);
+        putDecimal(base + POSITION_QTY_OFFSET, snapshot.position().totalQty());
+        putDecimal(base + POSITION_USD_OFFSET, snapshot.position().totalUsdValue());
+        buffer.putInt(base + RATE_LIMIT_COUNT_OFFSET, snapshot.rateLimitOrderCount());
+        buffer.putLong(base + RATE_LIMIT_WINDOW_OFFSET, snapshot.rateLimitWindowId());
+        buffer.putLong(base + JOURNAL_POSITION_OFFSET, snapshot.journalPosition());
+
+        int pos = base + SLOT_HEADER_SIZE;
+        for (int i = 0; i < buyCount; i++, pos += ORDER_SIZE) {
+            putOrder(pos, snapshot.buyOrders().get(i));
+        }
+        for (int i = 0; i < sellCount; i++, pos += ORDER_SIZE) {
+            putOrder(pos, snapshot.sellOrders().get(i));
+        }
+
+        buffer.putLong(base + CRC_OFFSET, checksum(base, pos));
+        buffer.putLong(base + SEQ_OFFSET, nextSeq);
+        seq = nextSeq;
+
+        return snapshot.buyOrders().size() + snapshot.sellOrders().size() - buyCount - sellCount;
+    }
+
+    // ----------------------------------------------------------------------------------------------------
+    // 읽기
+    // ----------------------------------------------------------------------------------------------------
+    public synchronized Optional<StateSnapshot> read() {
+        if (seq == 0) {
+            return Optional.empty();
+        }
+
+        int base = (int) (seq & 1) * slotSize;
+        int buyCount = buffer.getInt(base + BUY_COUNT_OFFSET);
+        int sellCount = buffer.getInt(base + SELL_COUNT_OFFSET);
+
+        int pos = base + SLOT_HEADER_SIZE;
+        List<OrderInfo> buyOrders = new ArrayList<>(buyCount);
+        for (int i = 0; i < buyCount; i++, pos += ORDER_SIZE) {
+            buyOrders.add(getOrder(pos));
+        }
+        List<OrderInfo> sellOrders = new ArrayList<>(sellCount);
+        for (int i = 0; i < sellCount; i++, pos += ORDER_SIZE) {
+            sellOrders.add(getOrder(pos));
+        }
+
+        return Optional.of(new StateSnapshot(
+                buffer.getLong(base + TIMESTAMP_OFFSET),
+                buyOrders,
+                sellOrders,
+                new PositionInfo(getDecimal(base + POSITION_QTY_OFFSET), getDecimal(base + POSITION_USD_OFFSET)),
+                buffer.getInt(base + RATE_LIMIT_COUNT_OFFSET),
+                buffer.getLong(base + RATE_LIMIT_WINDOW_OFFSET),
+                buffer.getLong(base + JOURNAL_POSITION_OFFSET)
+        ));
+    }
+
+    public synchronized void force() {
+        buffer.force();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        buffer.force();
+        channel.close();
+    }
+
+    // ----------------------------------------------------------------------------------------------------
+    // 인코딩
+    // ----------------------------------------------------------------------------------------------------
+    private long validSeq(int slot) {
+        int base = slot * slotSize;
+        long slotSeq = buffer.getLong(base + SEQ_OFFSET);
+        if (slotSeq <= 0 || (slotSeq & 1) != slot) {
+            return 0;
+        }
+
+        int orders = buffer.getInt(base + BUY_COUNT_OFFSET) + buffer.getInt(base + SELL_COUNT_OFFSET);
+        if (orders < 0 || orders > maxOrders) {
+            return 0;
+        }
+        int end = base + SLOT_HEADER_SIZE + orders * ORDER_SIZE;
+        return buffer.getLong(base + CRC_OFFSET) == checksum(base, end) ? slotSeq : 0;
+    }
+
+    private long checksum(int base, int end) {
+        crc.reset();
+        crc.update(buffer.slice(base + PAYLOAD_OFFSET, end - base - PAYLOAD_OFFSET));
+        return crc.getValue();
+    }
+
+    private void putOrder(int pos, OrderInfo info) {
+        buffer.putLong(pos, info.orderId());
+        buffer.putLong(pos + 8, info.priceTicks());
+        buffer.putLong(pos + 16, info.qtyTicks());
+        buffer.putLong(pos + 24, info.avgBuyPriceTicks());
+    }
+
+    private OrderInfo getOrder(int pos) {
+        return new OrderInfo(
+                buffer.getLong(pos),
+                buffer.getLong(pos + 8),
+                buffer.getLong(pos + 16),
+                buffer.getLong(pos + 24)
+        );
+    }
+
+    private void putDecimal(int pos, BigDecimal value) {
+        BigDecimal scaled = value;
+        if (value.unscaledValue().bitLength() >= Long.SIZE) {
+            scaled = value.setScale(DECIMAL_SCALE, RoundingMode.HALF_UP);
+        }
+        buffer.putLong(pos, scaled.unscaledValue().longValue());
+        buffer.putInt(pos + 8, scaled.scale());
+    }
+
+    private BigDecimal getDecimal(int pos) {
+        return new BigDecimal(BigInteger.valueOf(buffer.getLong(pos)), buffer.getInt(pos + 8));
+    }
+}
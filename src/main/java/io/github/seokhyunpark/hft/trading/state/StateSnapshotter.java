@@ -0,0 +1,106 @@
+package io.github.seokhyunpark.hft.trading.state;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import io.github.seokhyunpark.hft.trading.config.StateProperties;
+import io.github.seokhyunpark.hft.trading.config.TradingProperties;
+import io.github.seokhyunpark.hft.trading.dto.StateSnapshot;
+import io.github.seokhyunpark.hft.trading.journal.EventJournal;
+import io.github.seokhyunpark.hft.trading.manager.OrderManager;
+import io.github.seokhyunpark.hft.trading.manager.PositionManager;
+import io.github.seokhyunpark.hft.trading.manager.RateLimitManager;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StateSnapshotter {
+    private static final String SNAPSHOT_FILE = "state-snapshot.dat";
+
+    private final TradingProperties props;
+    private final StateProperties stateProps;
+    private final OrderManager orderManager;
+    private final PositionManager positionManager;
+    private final RateLimitManager rateLimitManager;
+    private final EventJournal eventJournal;
+
+    // 시작 시 복구가 끝나기 전에 빈 상태로 스냅샷을 덮어쓰지 않도록 한다.
+    private final AtomicBoolean enabled = new AtomicBoolean(false);
+
+    private StateSnapshotFile file;
+
+    @PostConstruct
+    public void open() {
+        try {
+            file = StateSnapshotFile.open(stateProps.resolve(SNAPSHOT_FILE), props.risk().maxOpenOrders() * 2);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public Optional<StateSnapshot> load() {
+        return file.read();
+    }
+
+    public void enable() {
+        enabled.set(true);
+    }
+
+    @Scheduled(fixedDelayString = "${hft.state.snapshot-interval-ms}")
+    public void snapshot() {
+        if (!enabled.get()) {
+            return;
+        }
+
+        // 저널 위치를 먼저 읽어, 스냅샷에 반영되지 않았을 수 있는 레코드가 재생 범위에 포함되도록 한다.
+        long journalPosition = eventJournal.position();
+        StateSnapshot snapshot = new StateSnapshot(
+                System.currentTimeMillis(),
+                orderManager.getBuyOrders(),
+                orderManager.getSellOrders(),
+                positionManager.getPosition(),
+                rateLimitManager.getOrderCount(),
+                rateLimitManager.getWindowId(),
+                journalPosition
+        );
+
+        int dropped = file.write(snapshot);
+        if (dropped > 0) {
+            log.warn("[STATE-SNAPSHOT] 용량 초과 | DROPPED: {}", dropped);
+        }
+        orderManager.flushCanceledOrders();
+        deleteCoveredJournalSegments(journalPosition);
+    }
+
+    // 스냅샷을 디스크에 반영한 뒤에만, 그 저널 위치보다 앞선 세그먼트를 지운다.
+    // 다음 스냅샷은 다른 슬롯에 쓰이므로, 그 기록이 깨져도 이 스냅샷으로 되돌아가 재생할 수 있다.
+    private void deleteCoveredJournalSegments(long journalPosition) {
+        if (!eventJournal.hasSegmentsBefore(journalPosition)) {
+            return;
+        }
+        try {
+            file.force();
+            int deleted = eventJournal.deleteSegmentsBefore(journalPosition);
+            log.info("[STATE-SNAPSHOT] 저널 세그먼트 정리 | DELETED: {} | POSITION: {}", deleted, journalPosition);
+        } catch (IOException e) {
+            log.warn("⚠️[STATE-SNAPSHOT] 저널 세그먼트 정리 실패 | REASON: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        snapshot();
+        file.close();
+    }
+}
@@ -0,0 +1,236 @@
+package io.github.seokhyunpark.hft.trading.store;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import io.github.seokhyunpark.hft.trading.dto.OrderInfo;
+
+public final class CanceledLadder implements AutoCloseable {
+    public static final long NO_ORDER_ID = 0L;
+
+    // 파일 구조: [MAGIC, VERSION, CAPACITY] 헤더 + [PRICE, QTY, AVG_BUY_PRICE, STATE] 레코드 * CAPACITY
+    private static final int MAGIC = 0x4846544C;
+    private static final int VERSION = 1;
+    private static final int HEADER_SIZE = 64;
+    private static final int RECORD_SIZE = 32;
+    private static final int PRICE_OFFSET = 0;
+    private static final int QTY_OFFSET = 8;
+    private static final int AVG_BUY_PRICE_OFFSET = 16;
+    private static final int STATE_OFFSET = 24;
+    private static final long FREE = 0L;
+    private static final long LIVE = 1L;
+    private static final int NIL = -1;
+
+    private final FileChannel channel;
+    private final MappedByteBuffer buffer;
+    private final int capacity;
+
+    private final LongIntHashIndex priceIndex;
+    private final int[] heap;
+    private final int[] nextFree;
+    private int freeHead = NIL;
+    private volatile int size;
+    private volatile long totalQtyTicks;
+
+    private CanceledLadder(FileChannel channel, MappedByteBuffer buffer, int capacity) {
+        this.channel = channel;
+        this.buffer = buffer;
+        this.capacity = capacity;
+        this.priceIndex = new LongIntHashIndex(capacity);
+        this.heap = new int[capacity];
+        this.nextFree = new int[capacity];
+    }
+
+    public static CanceledLadder open(Path path, int capacity) throws IOException {
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+
+        int fileCapacity = readCapacity(channel);
+        int mappedCapacity = Math.max(capacity, fileCapacity);
+        MappedByteBuffer buffer = channel.map(
+                FileChannel.MapMode.READ_WRITE, 0, HEADER_SIZE + (long) mappedCapacity * RECORD_SIZE
+        );
+        buffer.putInt(0, MAGIC);
+        buffer.putInt(4, VERSION);
+        buffer.putInt(8, mappedCapacity);
+
+        CanceledLadder ladder = new CanceledLadder(channel, buffer, mappedCapacity);
+        ladder.recover();
+        return ladder;
+    }
+
+    // ----------------------------------------------------------------------------------------------------
+    // 가격 레벨 추가/추출
+    // ----------------------------------------------------------------------------------------------------
+    public synchronized boolean offer(long priceTicks, long qtyTicks, long avgBuyPriceTicks) {
+        if (qtyTicks <= 0) {
+            return true;
+        }
+
+        int slot = priceIndex.get(priceTicks);
+        if (slot != LongIntHashIndex.MISSING) {
+            long qty = qty(slot);
+            long mergedQty = qty + qtyTicks;
+            long mergedAvgBuyPrice = (avgBuyPrice(slot) * qty + avgBuyPriceTicks * qtyTicks) / mergedQty;
+            buffer.putLong(position(slot) + AVG_BUY_PRICE_OFFSET, mergedAvgBuyPrice);
+            buffer.putLong(position(slot) + QTY_OFFSET, mergedQty);
+            totalQtyTicks += qtyTicks;
+            return true;
+        }
+
+        if (freeHead == NIL) {
+            return false;
+        }
+        slot = freeHead;
+        freeHead = nextFree[slot];
+
+        int pos = position(slot);
+        buffer.putLong(pos + PRICE_OFFSET, priceTicks);
+        buffer.putLong(pos + QTY_OFFSET, qtyTicks);
+        buffer.putLong(pos + AVG_BUY_PRICE_OFFSET, avgBuyPriceTicks);
+        buffer.putLong(pos + STATE_OFFSET, LIVE);
+
+        priceIndex.put(priceTicks, slot);
+        siftUp(size, slot);
+        size++;
+        totalQtyTicks += qtyTicks;
+        return true;
+    }
+
+    public synchronized OrderInfo poll() {
+        if (size == 0) {
+            return null;
+        }
+
+        int slot = heap[0];
+        size--;
+        if (size > 0) {
+            siftDown(0, heap[size]);
+        }
+
+        OrderInfo info = new OrderInfo(NO_ORDER_ID, price(slot), qty(slot), avgBuyPrice(slot));
+        buffer.putLong(position(slot) + STATE_OFFSET, FREE);
+        priceIndex.remove(info.priceTicks());
+        totalQtyTicks -= info.qtyTicks();
+        nextFree[slot] = freeHead;
+        freeHead = slot;
+        return info;
+    }
+
+    public synchronized List<OrderInfo> poll(int maxLevels) {
+        List<OrderInfo> polled = new ArrayList<>(Math.min(maxLevels, size));
+        while (polled.size() < maxLevels && size > 0) {
+            polled.add(poll());
+        }
+        return polled;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public long totalQtyTicks() {
+        return totalQtyTicks;
+    }
+
+    public synchronized void force() {
+        buffer.force();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        buffer.force();
+        channel.close();
+    }
+
+    // ----------------------------------------------------------------------------------------------------
+    // 파일 복구
+    // ----------------------------------------------------------------------------------------------------
+    private void recover() {
+        for (int slot = capacity - 1; slot >= 0; slot--) {
+            if (buffer.getLong(position(slot) + STATE_OFFSET) != LIVE) {
+                nextFree[slot] = freeHead;
+                freeHead = slot;
+                continue;
+            }
+            priceIndex.put(price(slot), slot);
+            siftUp(size, slot);
+            size++;
+            totalQtyTicks += qty(slot);
+        }
+    }
+
+    private static int readCapacity(FileChannel channel) throws IOException {
+        if (channel.size() < HEADER_SIZE) {
+            return 0;
+        }
+        MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, HEADER_SIZE);
+        if (header.getInt(0) != MAGIC || header.getInt(4) != VERSION) {
+            throw new IOException("손상된 취소 주문 파일");
+        }
+        return header.getInt(8);
+    }
+
+    // ----------------------------------------------------------------------------------------------------
+    // 최소 힙 (가격 오름차순)
+    // ----------------------------------------------------------------------------------------------------
+    private void siftUp(int index, int slot) {
+        long price = price(slot);
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (price(heap[parent]) <= price) {
+                break;
+            }
+            heap[index] = heap[parent];
+            index = parent;
+        }
+        heap[index] = slot;
+    }
+
+    private void siftDown(int index, int slot) {
+        long price = price(slot);
+        int half = size >>> 1;
+        while (index < half) {
+            int child = (index << 1) + 1;
+            int right = child + 1;
+            if (right < size && price(heap[right]) < price(heap[child])) {
+                child = right;
+            }
+            if (price <= price(heap[child])) {
+                break;
+            }
+            heap[index] = heap[child];
+            index = child;
+        }
+        heap[index] = slot;
+    }
+
+    private long price(int slot) {
+        return buffer.getLong(position(slot) + PRICE_OFFSET);
+    }
+
+    private long qty(int slot) {
+        return buffer.getLong(position(slot) + QTY_OFFSET);
+    }
+
+    private long avgBuyPrice(int slot) {
+        return buffer.getLong(position(slot) + AVG_BUY_PRICE_OFFSET);
+    }
+
+    private static int position(int slot) {
+        return HEADER_SIZE + slot * RECORD_SIZE;
+    }
+}
@@ -0,0 +1,77 @@
+package io.github.seokhyunpark.hft.trading.store;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+public final class ClosedOrderFilter {
+    // 최근 window 개의 종료 주문은 반드시 조회된다 (동시 추가 스레드 수 < window 가정).
+    // 링 버퍼는 window 의 두 배로 잡아 동시 추가 중인 슬롯이 조회 구간을 덮어쓰지 않게 한다.
+    private static final long NIL = -1L;
+
+    private final int ringMask;
+    private final int bucketMask;
+    private final long ringCapacity;
+
+    private final AtomicLongArray ids;
+    private final AtomicLongArray links;
+    private final AtomicLongArray heads;
+    private final AtomicLong cursor = new AtomicLong();
+
+    public ClosedOrderFilter(int window) {
+        int capacity = tableSizeFor(Math.max(2, window) * 2);
+        this.ringCapacity = capacity;
+        this.ringMask = capacity - 1;
+        this.bucketMask = capacity * 2 - 1;
+        this.ids = new AtomicLongArray(capacity);
+        this.links = new AtomicLongArray(capacity);
+        this.heads = new AtomicLongArray(capacity * 2);
+        for (int i = 0; i < heads.length(); i++) {
+            heads.set(i, NIL);
+        }
+    }
+
+    public void add(long orderId) {
+        long seq = cursor.getAndIncrement();
+        int slot = (int) (seq & ringMask);
+        int bucket = bucket(orderId);
+
+        ids.set(slot, orderId);
+        while (true) {
+            long head = heads.get(bucket);
+            links.set(slot, head);
+            if (heads.compareAndSet(bucket, head, seq)) {
+                return;
+            }
+        }
+    }
+
+    public boolean contains(long orderId) {
+        long seq = heads.get(bucket(orderId));
+        while (seq != NIL && isLive(seq)) {
+            int slot = (int) (seq & ringMask);
+            long id = ids.get(slot);
+            long previous = links.get(slot);
+            if (!isLive(seq)) {
+                return false;
+            }
+            if (id == orderId) {
+                return true;
+            }
+            seq = previous;
+        }
+        return false;
+    }
+
+    private boolean isLive(long seq) {
+        return cursor.get() - seq <= ringCapacity;
+    }
+
+    private int bucket(long orderId) {
+        long h = orderId * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & bucketMask;
+    }
+
+    private static int tableSizeFor(int n) {
+        return Integer.highestOneBit(n - 1) << 1;
+    }
+}
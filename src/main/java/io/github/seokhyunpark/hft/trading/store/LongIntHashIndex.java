@@ -0,0 +1,125 @@
+package io.github.seokhyunpark.hft.trading.store;
+
+import java.util.Arrays;
+
+public final class LongIntHashIndex {
+    public static final int MISSING = -1;
+
+    private static final long EMPTY = Long.MIN_VALUE;
+    private static final int MIN_CAPACITY = 16;
+
+    private long[] keys;
+    private int[] values;
+    private int mask;
+    private int size;
+
+    public LongIntHashIndex(int expectedSize) {
+        allocate(tableSizeFor(Math.max(MIN_CAPACITY, expectedSize * 2)));
+    }
+
+    public int get(long key) {
+        int idx = mix(key) & mask;
+        while (true) {
+            long k = keys[idx];
+            if (k == EMPTY) {
+                return MISSING;
+            }
+            if (k == key) {
+                return values[idx];
+            }
+            idx = (idx + 1) & mask;
+        }
+    }
+
+    public void put(long key, int value) {
+        if (key == EMPTY) {
+            throw new IllegalArgumentException("지원하지 않는 키: " + key);
+        }
+        if ((size + 1) * 2 > keys.length) {
+            rehash(keys.length * 2);
+        }
+
+        int idx = mix(key) & mask;
+        while (true) {
+            long k = keys[idx];
+            if (k == EMPTY) {
+                keys[idx] = key;
+                values[idx] = value;
+                size++;
+                return;
+            }
+            if (k == key) {
+                values[idx] = value;
+                return;
+            }
+            idx = (idx + 1) & mask;
+        }
+    }
+
+    public int remove(long key) {
+        int idx = mix(key) & mask;
+        while (true) {
+            long k = keys[idx];
+            if (k == EMPTY) {
+                return MISSING;
+            }
+            if (k == key) {
+                break;
+            }
+            idx = (idx + 1) & mask;
+        }
+
+        int removed = values[idx];
+        int gap = idx;
+        int i = (idx + 1) & mask;
+        while (keys[i] != EMPTY) {
+            int home = mix(keys[i]) & mask;
+            if (((i - home) & mask) >= ((i - gap) & mask)) {
+                keys[gap] = keys[i];
+                values[gap] = values[i];
+                gap = i;
+            }
+            i = (i + 1) & mask;
+        }
+        keys[gap] = EMPTY;
+        size--;
+        return removed;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void clear() {
+        Arrays.fill(keys, EMPTY);
+        size = 0;
+    }
+
+    private void rehash(int capacity) {
+        long[] oldKeys = keys;
+        int[] oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != EMPTY) {
+                put(oldKeys[i], oldValues[i]);
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        values = new int[capacity];
+        mask = capacity - 1;
+        size = 0;
+        Arrays.fill(keys, EMPTY);
+    }
+
+    private static int mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    private static int tableSizeFor(int n) {
+        return Integer.highestOneBit(n - 1) << 1;
+    }
+}
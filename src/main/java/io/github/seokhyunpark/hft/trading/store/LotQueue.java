@@ -0,0 +1,103 @@
+package io.github.seokhyunpark.hft.trading.store;
+
+import java.util.Arrays;
+
+public final class LotQueue {
+    // 매수 체결 단위(lot)를 FIFO 링 버퍼에 보관한다. 원가는 가격 틱 * 수량 틱 단위의 고정소수점이다.
+    private long[] qtyTicks;
+    private long[] costTicks;
+    private int head;
+    private int count;
+
+    private long totalQtyTicks;
+    private long totalCostTicks;
+
+    public LotQueue(int initialCapacity) {
+        int capacity = Integer.highestOneBit(Math.max(2, initialCapacity - 1) << 1);
+        this.qtyTicks = new long[capacity];
+        this.costTicks = new long[capacity];
+    }
+
+    public void add(long priceTicks, long qty) {
+        addCost(qty, priceTicks * qty);
+    }
+
+    public void addCost(long qty, long cost) {
+        if (qty <= 0) {
+            return;
+        }
+        if (count == qtyTicks.length) {
+            grow();
+        }
+
+        int tail = (head + count) & (qtyTicks.length - 1);
+        qtyTicks[tail] = qty;
+        costTicks[tail] = cost;
+        count++;
+
+        totalQtyTicks += qty;
+        totalCostTicks += cost;
+    }
+
+    // 가장 오래된 lot 부터 qty 만큼 꺼내고, 꺼낸 수량의 원가를 반환한다.
+    public long consume(long qty) {
+        long remaining = Math.min(qty, totalQtyTicks);
+        long consumedCost = 0;
+
+        while (remaining > 0) {
+            long lotQty = qtyTicks[head];
+            long lotCost = costTicks[head];
+
+            if (lotQty <= remaining) {
+                consumedCost += lotCost;
+                remaining -= lotQty;
+                head = (head + 1) & (qtyTicks.length - 1);
+                count--;
+                continue;
+            }
+
+            long partialCost = lotCost <= Long.MAX_VALUE / remaining
+                    ? lotCost * remaining / lotQty
+                    : (long) ((double) lotCost * remaining / lotQty);
+            qtyTicks[head] = lotQty - remaining;
+            costTicks[head] = lotCost - partialCost;
+            consumedCost += partialCost;
+            remaining = 0;
+        }
+
+        long consumedQty = Math.min(qty, totalQtyTicks);
+        totalQtyTicks -= consumedQty;
+        totalCostTicks -= consumedCost;
+        return consumedCost;
+    }
+
+    public long totalQtyTicks() {
+        return totalQtyTicks;
+    }
+
+    public long totalCostTicks() {
+        return totalCostTicks;
+    }
+
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    public void clear() {
+        head = 0;
+        count = 0;
+        totalQtyTicks = 0;
+        totalCostTicks = 0;
+    }
+
+    private void grow() {
+        int capacity = qtyTicks.length;
+        long[] newQty = Arrays.copyOf(qtyTicks, capacity << 1);
+        long[] newCost = Arrays.copyOf(costTicks, capacity << 1);
+        // 감긴(wrap) 구간을 뒤쪽으로 옮겨 연속되게 한다.
+        System.arraycopy(qtyTicks, 0, newQty, capacity, head);
+        System.arraycopy(costTicks, 0, newCost, capacity, head);
+        qtyTicks = newQty;
+        costTicks = newCost;
+    }
+}
@@ -0,0 +1,206 @@
+package io.github.seokhyunpark.hft.trading.store;
+
+import java.util.Arrays;
+
+import io.github.seokhyunpark.hft.trading.dto.OrderInfo;
+
+public final class OrderStore {
+    public static final long RATE_SCALE = 1_000_000_000L;
+
+    private static final byte FREE = 0;
+    private static final byte LIVE = 1;
+    private static final int NIL = -1;
+
+    private final LongIntHashIndex index;
+    private final OrderView cursor = new OrderView(this);
+
+    long[] orderIds;
+    long[] priceTicks;
+    long[] qtyTicks;
+    long[] avgBuyPriceTicks;
+    byte[] states;
+    private int[] nextFree;
+
+    private int freeHead = NIL;
+    private int highWater;
+    private volatile int size;
+    private volatile long totalQtyTicks;
+
+    public OrderStore(int initialCapacity) {
+        int capacity = Math.max(1, initialCapacity);
+        this.index = new LongIntHashIndex(capacity);
+        this.orderIds = new long[capacity];
+        this.priceTicks = new long[capacity];
+        this.qtyTicks = new long[capacity];
+        this.avgBuyPriceTicks = new long[capacity];
+        this.states = new byte[capacity];
+        this.nextFree = new int[capacity];
+    }
+
+    // ----------------------------------------------------------------------------------------------------
+    // 주문 추가/삭제
+    // ----------------------------------------------------------------------------------------------------
+    public synchronized void put(long orderId, long price, long qty, long avgBuyPrice) {
+        int slot = index.get(orderId);
+        if (slot == LongIntHashIndex.MISSING) {
+            slot = allocateSlot();
+            index.put(orderId, slot);
+            states[slot] = LIVE;
+            size = index.size();
+        } else {
+            totalQtyTicks -= qtyTicks[slot];
+        }
+        totalQtyTicks += qty;
+        orderIds[slot] = orderId;
+        priceTicks[slot] = price;
+        qtyTicks[slot] = qty;
+        avgBuyPriceTicks[slot] = avgBuyPrice;
+    }
+
+    // 남은 수량을 줄인다. 이미 제거된 주문은 되살리지 않는다.
+    public synchronized boolean reduceQty(long orderId, long qty) {
+        int slot = index.get(orderId);
+        if (slot == LongIntHashIndex.MISSING) {
+            return false;
+        }
+        long reduced = Math.min(qty, qtyTicks[slot]);
+        qtyTicks[slot] -= reduced;
+        totalQtyTicks -= reduced;
+        return true;
+    }
+
+    public synchronized boolean remove(long orderId) {
+        int slot = index.remove(orderId);
+        if (slot == LongIntHashIndex.MISSING) {
+            return false;
+        }
+        states[slot] = FREE;
+        nextFree[slot] = freeHead;
+        freeHead = slot;
+        size = index.size();
+        totalQtyTicks -= qtyTicks[slot];
+        return true;
+    }
+
+    public synchronized void clear() {
+        index.clear();
+        Arrays.fill(states, FREE);
+        freeHead = NIL;
+        highWater = 0;
+        size = 0;
+        totalQtyTicks = 0;
+    }
+
+    // ----------------------------------------------------------------------------------------------------
+    // 주문 조회
+    // ----------------------------------------------------------------------------------------------------
+    public int size() {
+        return size;
+    }
+
+    public long totalQtyTicks() {
+        return totalQtyTicks;
+    }
+
+    public synchronized boolean contains(long orderId) {
+        return index.get(orderId) != LongIntHashIndex.MISSING;
+    }
+
+    public synchronized OrderInfo get(long orderId) {
+        int slot = index.get(orderId);
+        return slot == LongIntHashIndex.MISSING ? null : toOrderInfo(slot);
+    }
+
+    public synchronized long getAvgBuyPriceTicks(long orderId, long defaultValue) {
+        int slot = index.get(orderId);
+        return slot == LongIntHashIndex.MISSING ? defaultValue : avgBuyPriceTicks[slot];
+    }
+
+    public synchronized boolean containsPrice(long price) {
+        for (int slot = 0; slot < highWater; slot++) {
+            if (states[slot] == LIVE && priceTicks[slot] == price) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public synchronized OrderInfo getLowestOrderId() {
+        int found = NIL;
+        for (int slot = 0; slot < highWater; slot++) {
+            if (states[slot] == LIVE && (found == NIL || orderIds[slot] < orderIds[found])) {
+                found = slot;
+            }
+        }
+        return found == NIL ? null : toOrderInfo(found);
+    }
+
+    public synchronized OrderInfo getHighestPrice() {
+        int found = NIL;
+        for (int slot = 0; slot < highWater; slot++) {
+            if (states[slot] == LIVE && (found == NIL || priceTicks[slot] > priceTicks[found])) {
+                found = slot;
+            }
+        }
+        return found == NIL ? null : toOrderInfo(found);
+    }
+
+    public synchronized OrderInfo findPriceWithinTolerance(long price, long toleranceRate) {
+        int found = findWithinTolerance(priceTicks, price, toleranceRate);
+        return found == NIL ? null : toOrderInfo(found);
+    }
+
+    public synchronized boolean hasAvgBuyPriceWithinTolerance(long price, long toleranceRate) {
+        return findWithinTolerance(avgBuyPriceTicks, price, toleranceRate) != NIL;
+    }
+
+    public synchronized void forEach(OrderVisitor visitor) {
+        for (int slot = 0; slot < highWater; slot++) {
+            if (states[slot] == LIVE) {
+                cursor.slot = slot;
+                visitor.visit(cursor);
+            }
+        }
+    }
+
+    // ----------------------------------------------------------------------------------------------------
+    // 내부 슬롯 관리
+    // ----------------------------------------------------------------------------------------------------
+    private int findWithinTolerance(long[] column, long price, long toleranceRate) {
+        for (int slot = 0; slot < highWater; slot++) {
+            if (states[slot] != LIVE) {
+                continue;
+            }
+            long existing = column[slot];
+            if (Math.abs(existing - price) * RATE_SCALE < existing * toleranceRate) {
+                return slot;
+            }
+        }
+        return NIL;
+    }
+
+    private OrderInfo toOrderInfo(int slot) {
+        return new OrderInfo(orderIds[slot], priceTicks[slot], qtyTicks[slot], avgBuyPriceTicks[slot]);
+    }
+
+    private int allocateSlot() {
+        if (freeHead != NIL) {
+            int slot = freeHead;
+            freeHead = nextFree[slot];
+            return slot;
+        }
+        if (highWater == states.length) {
+            grow(states.length * 2);
+        }
+        return highWater++;
+    }
+
+    private void grow(int capacity) {
+        orderIds = Arrays.copyOf(orderIds, capacity);
+        priceTicks = Arrays.copyOf(priceTicks, capacity);
+        qtyTicks = Arrays.copyOf(qtyTicks, capacity);
+        avgBuyPriceTicks = Arrays.copyOf(avgBuyPriceTicks, capacity);
+        states = Arrays.copyOf(states, capacity);
+        nextFree = Arrays.copyOf(nextFree, capacity);
+    }
+}
@@ -0,0 +1,32 @@
+package io.github.seokhyunpark.hft.trading.store;
+
+import io.github.seokhyunpark.hft.trading.dto.OrderInfo;
+
+public final class OrderView {
+    private final OrderStore store;
+    int slot;
+
+    OrderView(OrderStore store) {
+        this.store = store;
+    }
+
+    public long orderId() {
+        return store.orderIds[slot];
+    }
+
+    public long priceTicks() {
+        return store.priceTicks[slot];
+    }
+
+    public long qtyTicks() {
+        return store.qtyTicks[slot];
+    }
+
+    public long avgBuyPriceTicks() {
+        return store.avgBuyPriceTicks[slot];
+    }
+
+    public OrderInfo toOrderInfo() {
+        return new OrderInfo(orderId(), priceTicks(), qtyTicks(), avgBuyPriceTicks());
+    }
+}
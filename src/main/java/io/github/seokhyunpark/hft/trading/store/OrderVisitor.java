@@ -0,0 +1,6 @@
+package io.github.seokhyunpark.hft.trading.store;
+
+@FunctionalInterface
+public interface OrderVisitor {
+    void visit(OrderView order);
+}
@@ -0,0 +1,172 @@
+package io.github.seokhyunpark.hft.trading.strategy;
+
+import java.math.BigDecimal;
+
+import io.github.seokhyunpark.hft.trading.config.StrategyProperties;
+import io.github.seokhyunpark.hft.trading.config.TradingProperties;
+import io.github.seokhyunpark.hft.trading.store.OrderStore;
+
+// 중간가 변동성, 실현 스프레드, 매도 체결 빈도로 목표 배수와 매수벽 기준 금액을 조정한다.
+// 목표 마크업(배수 - 1)은 max(변동성 * 계수, 스프레드 / 2) + 체결 피드백이며, 범위로 제한하고
+// 현재 값과의 차이가 히스테리시스를 넘을 때만 반영한다. 매수벽 기준은 마크업에 비례해 움직인다.
+public final class AdaptiveTuner {
+    private static final long RATE_SCALE = OrderStore.RATE_SCALE;
+    // EWMA 는 틱 * SAMPLE_SCALE 단위로 누적한다.
+    private static final long SAMPLE_SCALE = 1_000L;
+    private static final long FACTOR_SCALE = 100L;
+
+    private final boolean enabled;
+    private final int ewmaShift;
+    private final long warmupSamples;
+    private final long volatilityFactor;
+    private final long baseMarkupRate;
+    private final long minMarkupRate;
+    private final long maxMarkupRate;
+    private final long hysteresisRate;
+    private final long baseWallThresholdTicks;
+    private final long minWallThresholdTicks;
+    private final long maxWallThresholdTicks;
+    private final int targetFillsPerWindow;
+    private final long fillWindowMs;
+    private final long fillFeedbackStepRate;
+
+    private long lastMidX2;
+    private long samples;
+    private long ewmaMidChange;
+    private long ewmaSpread;
+
+    private int windowFills;
+    private long windowStartMillis;
+    private long feedbackRate;
+
+    private long markupRate;
+    private long wallThresholdTicks;
+
+    public AdaptiveTuner(TradingProperties props, StrategyProperties.Adaptive adaptive) {
+        this.baseMarkupRate = toRate(props.risk().targetMultiplier()) - RATE_SCALE;
+        this.baseWallThresholdTicks = props.toNotionalTicks(props.risk().buyWallThresholdUsd());
+        this.markupRate = baseMarkupRate;
+        this.wallThresholdTicks = baseWallThresholdTicks;
+
+        this.enabled = adaptive != null && adaptive.enabled();
+        if (!enabled) {
+            this.ewmaShift = 0;
+            this.warmupSamples = 0L;
+            this.volatilityFactor = 0L;
+            this.minMarkupRate = baseMarkupRate;
+            this.maxMarkupRate = baseMarkupRate;
+            this.hysteresisRate = 0L;
+            this.minWallThresholdTicks = baseWallThresholdTicks;
+            this.maxWallThresholdTicks = baseWallThresholdTicks;
+            this.targetFillsPerWindow = 0;
+            this.fillWindowMs = 0L;
+            this.fillFeedbackStepRate = 0L;
+            return;
+        }
+
+        this.ewmaShift = adaptive.ewmaShift();
+        this.warmupSamples = 1L << adaptive.ewmaShift();
+        this.volatilityFactor = adaptive.volatilityFactor().multiply(BigDecimal.valueOf(FACTOR_SCALE)).longValue();
+        this.minMarkupRate = toRate(adaptive.minTargetMultiplier()) - RATE_SCALE;
+        this.maxMarkupRate = toRate(adaptive.maxTargetMultiplier()) - RATE_SCALE;
+        this.hysteresisRate = toRate(adaptive.hysteresisRate());
+        this.minWallThresholdTicks = props.toNotionalTicks(adaptive.minBuyWallThresholdUsd());
+        this.maxWallThresholdTicks = props.toNotionalTicks(adaptive.maxBuyWallThresholdUsd());
+        this.targetFillsPerWindow = adaptive.targetFillsPerWindow();
+        this.fillWindowMs = adaptive.fillWindowMs();
+        this.fillFeedbackStepRate = toRate(adaptive.fillFeedbackStepRate());
+        if (minMarkupRate > maxMarkupRate || minWallThresholdTicks > maxWallThresholdTicks) {
+            throw new IllegalStateException("hft.strategy.adaptive min bounds must not exceed max bounds");
+        }
+    }
+
+    private static long toRate(BigDecimal value) {
+        return value.multiply(BigDecimal.valueOf(RATE_SCALE)).longValue();
+    }
+
+    // ----------------------------------------------------------------------------------------------------
+    // 입력 (호가 갱신마다 O(1))
+    // ----------------------------------------------------------------------------------------------------
+    public void onBook(long bestBidPriceTicks, long bestAskPriceTicks) {
+        if (!enabled || bestBidPriceTicks <= 0 || bestAskPriceTicks <= bestBidPriceTicks) {
+            return;
+        }
+        long midX2 = bestBidPriceTicks + bestAskPriceTicks;
+        long spreadSample = (bestAskPriceTicks - bestBidPriceTicks) * SAMPLE_SCALE;
+        if (lastMidX2 == 0L) {
+            ewmaSpread = spreadSample;
+        } else {
+            long changeSample = Math.abs(midX2 - lastMidX2) * SAMPLE_SCALE / 2;
+            ewmaMidChange += (changeSample - ewmaMidChange) >> ewmaShift;
+            ewmaSpread += (spreadSample - ewmaSpread) >> ewmaShift;
+            samples++;
+        }
+        lastMidX2 = midX2;
+
+        if (samples >= warmupSamples) {
+            retune(midX2);
+        }
+    }
+
+    public void onSellFill() {
+        windowFills++;
+    }
+
+    // 창마다 목표 체결 수보다 적으면 마크업을 줄이고, 많으면 늘린다.
+    public void onTimer(long nowMillis) {
+        if (!enabled) {
+            return;
+        }
+        if (windowStartMillis == 0L) {
+            windowStartMillis = nowMillis;
+            return;
+        }
+        if (nowMillis - windowStartMillis < fillWindowMs) {
+            return;
+        }
+
+        if (windowFills < targetFillsPerWindow) {
+            feedbackRate -= fillFeedbackStepRate;
+        } else if (windowFills > targetFillsPerWindow) {
+            feedbackRate += fillFeedbackStepRate;
+        }
+        feedbackRate = clamp(feedbackRate, minMarkupRate - maxMarkupRate, maxMarkupRate - minMarkupRate);
+        windowFills = 0;
+        windowStartMillis = nowMillis;
+    }
+
+    private void retune(long midX2) {
+        // 틱 * SAMPLE_SCALE 를 중간가 대비 비율(RATE_SCALE)로 변환한다.
+        long volatilityRate = ewmaMidChange * (2 * RATE_SCALE / SAMPLE_SCALE) / midX2;
+        long halfSpreadRate = ewmaSpread * (RATE_SCALE / SAMPLE_SCALE) / midX2;
+        long candidate = Math.max(volatilityRate * volatilityFactor / FACTOR_SCALE, halfSpreadRate) + feedbackRate;
+        candidate = clamp(candidate, minMarkupRate, maxMarkupRate);
+
+        if (Math.abs(candidate - markupRate) <= hysteresisRate) {
+            return;
+        }
+        markupRate = candidate;
+        wallThresholdTicks = baseMarkupRate > 0
+                ? clamp(baseWallThresholdTicks * markupRate / baseMarkupRate, minWallThresholdTicks, maxWallThresholdTicks)
+                : baseWallThresholdTicks;
+    }
+
+    private static long clamp(long value, long min, long max) {
+        return Math.max(min, Math.min(max, value));
+    }
+
+    // ----------------------------------------------------------------------------------------------------
+    // 출력
+    // ----------------------------------------------------------------------------------------------------
+    public long getTargetMultiplierRate() {
+        return RATE_SCALE + markupRate;
+    }
+
+    public long getBuyWallThresholdTicks() {
+        return wallThresholdTicks;
+    }
+
+    public long getVolatilityRate() {
+        return lastMidX2 > 0 ? ewmaMidChange * (2 * RATE_SCALE / SAMPLE_SCALE) / lastMidX2 : 0L;
+    }
+}
@@ -0,0 +1,64 @@
+package io.github.seokhyunpark.hft.trading.strategy;
+
+import io.github.seokhyunpark.hft.trading.store.OrderView;
+import io.github.seokhyunpark.hft.trading.store.OrderVisitor;
+
+// 목표 매수 레벨 집합을 걸려 있는 매수 주문과 비교해 필요한 최소한의 취소/신규 의도만 기록한다.
+public final class BuyLadder implements OrderVisitor {
+    private final long[] targetPriceTicks;
+    private final long[] targetQtyTicks;
+    private final boolean[] matched;
+
+    private int size;
+    private OrderIntents intents;
+
+    public BuyLadder(int maxLevels) {
+        this.targetPriceTicks = new long[maxLevels];
+        this.targetQtyTicks = new long[maxLevels];
+        this.matched = new boolean[maxLevels];
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    public boolean addTarget(long priceTicks, long qtyTicks) {
+        if (size == targetPriceTicks.length) {
+            return false;
+        }
+        targetPriceTicks[size] = priceTicks;
+        targetQtyTicks[size] = qtyTicks;
+        matched[size] = false;
+        size++;
+        return true;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // 취소 의도를 신규보다 먼저 기록하지만 취소는 비동기로 나가므로, 취소가 반영되기 전에 신규가 접수되면
+    // 매수 주문 수가 잠시 한도를 넘을 수 있다. 넘친 주문은 MarketEventProcessor 의 용량 관리가 가장 오래된 것부터 내린다.
+    public void diff(OwnOrdersView orders, OrderIntents intents) {
+        this.intents = intents;
+        orders.forEachBuyOrder(this);
+        this.intents = null;
+
+        for (int i = 0; i < size; i++) {
+            if (!matched[i]) {
+                intents.placeBuy(targetPriceTicks[i], targetQtyTicks[i]);
+            }
+        }
+    }
+
+    @Override
+    public void visit(OrderView order) {
+        for (int i = 0; i < size; i++) {
+            if (!matched[i] && targetPriceTicks[i] == order.priceTicks()) {
+                matched[i] = true;
+                return;
+            }
+        }
+        intents.cancelBuy(order.orderId());
+    }
+}
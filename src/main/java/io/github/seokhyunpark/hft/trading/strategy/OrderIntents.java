@@ -0,0 +1,73 @@
+package io.github.seokhyunpark.hft.trading.strategy;
+
+public final class OrderIntents {
+    public enum Type {
+        PLACE_BUY,
+        CANCEL_BUY
+    }
+
+    private final Type[] types;
+    private final long[] orderIds;
+    private final long[] priceTicks;
+    private final long[] qtyTicks;
+
+    private int size;
+    private long droppedCount;
+
+    public OrderIntents(int capacity) {
+        this.types = new Type[capacity];
+        this.orderIds = new long[capacity];
+        this.priceTicks = new long[capacity];
+        this.qtyTicks = new long[capacity];
+    }
+
+    public void clear() {
+        size = 0;
+    }
+
+    // 버퍼가 가득 차면 의도를 버리고 false 를 반환한다.
+    public boolean placeBuy(long priceTicks, long qtyTicks) {
+        return add(Type.PLACE_BUY, 0L, priceTicks, qtyTicks);
+    }
+
+    public boolean cancelBuy(long orderId) {
+        return add(Type.CANCEL_BUY, orderId, 0L, 0L);
+    }
+
+    private boolean add(Type type, long orderId, long price, long qty) {
+        if (size == types.length) {
+            droppedCount++;
+            return false;
+        }
+        types[size] = type;
+        orderIds[size] = orderId;
+        priceTicks[size] = price;
+        qtyTicks[size] = qty;
+        size++;
+        return true;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public Type type(int index) {
+        return types[index];
+    }
+
+    public long orderId(int index) {
+        return orderIds[index];
+    }
+
+    public long priceTicks(int index) {
+        return priceTicks[index];
+    }
+
+    public long qtyTicks(int index) {
+        return qtyTicks[index];
+    }
+
+    public long getDroppedCount() {
+        return droppedCount;
+    }
+}
@@ -0,0 +1,6 @@
+package io.github.seokhyunpark.hft.trading.strategy;
+
+public enum OrderSide {
+    BUY,
+    SELL
+}
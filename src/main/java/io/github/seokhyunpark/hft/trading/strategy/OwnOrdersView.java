@@ -0,0 +1,20 @@
+package io.github.seokhyunpark.hft.trading.strategy;
+
+import io.github.seokhyunpark.hft.trading.dto.OrderInfo;
+import io.github.seokhyunpark.hft.trading.store.OrderVisitor;
+
+// 전략에 노출되는 자기 주문의 읽기 전용 뷰
+public interface OwnOrdersView {
+    int getBuyOrderCount();
+
+    int getSellOrderCount();
+
+    boolean hasBuyOrderAt(long priceTicks);
+
+    // 가격 충돌 허용 범위 안의 매수 주문 (없으면 null)
+    OrderInfo findConflictingBuyOrder(long priceTicks);
+
+    void forEachBuyOrder(OrderVisitor visitor);
+
+    void forEachSellOrder(OrderVisitor visitor);
+}
@@ -0,0 +1,160 @@
+package io.github.seokhyunpark.hft.trading.strategy;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+import io.github.seokhyunpark.hft.exchange.dto.stream.PartialBookDepth;
+import io.github.seokhyunpark.hft.exchange.dto.stream.TradeEvent;
+import io.github.seokhyunpark.hft.jfr.StrategyDecisionEvent;
+import io.github.seokhyunpark.hft.trading.book.BookSignals;
+import io.github.seokhyunpark.hft.trading.book.BookView;
+import io.github.seokhyunpark.hft.trading.book.OrderBook;
+import io.github.seokhyunpark.hft.trading.book.TradeFlow;
+import io.github.seokhyunpark.hft.trading.config.StrategyProperties;
+import io.github.seokhyunpark.hft.trading.config.TradingProperties;
+import io.github.seokhyunpark.hft.trading.dto.NewOrderParams;
+import io.github.seokhyunpark.hft.trading.dto.PositionInfo;
+import io.github.seokhyunpark.hft.trading.executor.OrderIntentExecutor;
+import io.github.seokhyunpark.hft.trading.manager.OrderManager;
+import io.github.seokhyunpark.hft.trading.risk.OrderFlowControl;
+
+// 심볼에 설정된 전략 하나를 골라 시장/체결 스레드의 콜백을 직렬화하고, 기록된 의도를 실행기로 넘긴다.
+@Slf4j
+@Component
+public class StrategyDispatcher {
+    private static final int INTENT_CAPACITY = 32;
+
+    private final TradingProperties props;
+    private final OrderManager orderManager;
+    private final OrderIntentExecutor intentExecutor;
+    private final OrderFlowControl flowControl;
+    private final TradingStrategy strategy;
+
+    private final OrderBook book;
+    private final OrderIntents intents = new OrderIntents(INTENT_CAPACITY);
+
+    public StrategyDispatcher(
+            TradingProperties props,
+            StrategyProperties strategyProps,
+            List<TradingStrategy> strategies,
+            OrderManager orderManager,
+            OrderIntentExecutor intentExecutor,
+            OrderFlowControl flowControl
+    ) {
+        this.props = props;
+        this.orderManager = orderManager;
+        this.intentExecutor = intentExecutor;
+        this.flowControl = flowControl;
+        this.strategy = select(strategies, strategyProps.resolve(props.symbol()));
+        StrategyProperties.Signals signals = strategyProps.signals();
+        this.book = new OrderBook(props, new BookSignals(
+                signals.imbalanceLevels(),
+                signals.depthBandBps(),
+                signals.wideSpreadTicks()
+        ), new TradeFlow(signals.tradeWindowMs(), signals.tradeBuckets()));
+        log.info("[STRATEGY] {} | SYMBOL: {}", strategy.name(), props.symbol());
+    }
+
+    private static TradingStrategy select(List<TradingStrategy> strategies, String name) {
+        for (TradingStrategy candidate : strategies) {
+            if (candidate.name().equals(name)) {
+                return candidate;
+            }
+        }
+        throw new IllegalStateException("Unknown strategy: " + name + " (available: "
+                + strategies.stream().map(TradingStrategy::name).toList() + ")");
+    }
+
+    public String getStrategyName() {
+        return strategy.name();
+    }
+
+    // ----------------------------------------------------------------------------------------------------
+    // 호가창
+    // ----------------------------------------------------------------------------------------------------
+    public synchronized boolean updateBook(PartialBookDepth depth, long nowMillis) {
+        book.trades().advance(nowMillis);
+        return book.update(depth);
+    }
+
+    public synchronized void updateTrade(TradeEvent trade, long nowMillis) {
+        book.trades().onTrade(nowMillis, trade.priceTicks(), trade.qtyTicks(), trade.buyerMaker());
+    }
+
+    public BookView getBook() {
+        return book;
+    }
+
+    // ----------------------------------------------------------------------------------------------------
+    // 전략 콜백
+    // ----------------------------------------------------------------------------------------------------
+    public synchronized void dispatchBookUpdate() {
+        if (flowControl.isHalted()) {
+            return;
+        }
+        StrategyDecisionEvent decision = new StrategyDecisionEvent();
+        decision.begin();
+        intents.clear();
+        strategy.onBookUpdate(book, orderManager, intents);
+        execute(decision, "BOOK");
+    }
+
+    public synchronized void dispatchFill(OrderSide side, long orderId, long priceTicks, long qtyTicks) {
+        if (flowControl.isHalted()) {
+            return;
+        }
+        StrategyDecisionEvent decision = new StrategyDecisionEvent();
+        decision.begin();
+        intents.clear();
+        strategy.onFill(side, orderId, priceTicks, qtyTicks, intents);
+        execute(decision, "FILL");
+    }
+
+    public synchronized void dispatchCancel(OrderSide side, long orderId) {
+        if (flowControl.isHalted()) {
+            return;
+        }
+        StrategyDecisionEvent decision = new StrategyDecisionEvent();
+        decision.begin();
+        intents.clear();
+        strategy.onCancel(side, orderId, intents);
+        execute(decision, "CANCEL");
+    }
+
+    @Scheduled(fixedDelayString = "${hft.strategy.timer-interval-ms}")
+    public synchronized void dispatchTimer() {
+        if (flowControl.isHalted() || book.lastUpdateId() == 0L) {
+            return;
+        }
+        StrategyDecisionEvent decision = new StrategyDecisionEvent();
+        decision.begin();
+        intents.clear();
+        strategy.onTimer(System.currentTimeMillis(), book, orderManager, intents);
+        execute(decision, "TIMER");
+    }
+
+    private void execute(StrategyDecisionEvent decision, String trigger) {
+        decision.complete(strategy.name(), trigger, intents.size(), book.lastUpdateId());
+        if (intents.size() > 0) {
+            intentExecutor.execute(intents);
+        }
+    }
+
+    // ----------------------------------------------------------------------------------------------------
+    // 매도 가격
+    // ----------------------------------------------------------------------------------------------------
+    public NewOrderParams calculateSellOrderParams(PositionInfo info) {
+        long avgBuyPriceTicks = props.toPriceTicks(info.getAvgPrice(props.priceTickSize().scale()));
+        return calculateSellOrderParams(info.totalQty(), avgBuyPriceTicks);
+    }
+
+    public synchronized NewOrderParams calculateSellOrderParams(BigDecimal qty, long avgBuyPriceTicks) {
+        long priceTicks = strategy.sellPriceTicks(avgBuyPriceTicks, book);
+        return new NewOrderParams(props.scaleQty(qty), props.fromPriceTicks(priceTicks));
+    }
+}
@@ -0,0 +1,117 @@
+package io.github.seokhyunpark.hft.trading.strategy;
+
+import org.springframework.stereotype.Component;
+
+import io.github.seokhyunpark.hft.trading.book.BookSignals;
+import io.github.seokhyunpark.hft.trading.book.BookView;
+import io.github.seokhyunpark.hft.trading.config.StrategyProperties;
+import io.github.seokhyunpark.hft.trading.config.TradingProperties;
+import io.github.seokhyunpark.hft.trading.store.OrderStore;
+
+// 가장 큰 매수벽 바로 위부터 spacing 틱 간격으로 매수 레벨을 유지하고, 평균 매수가 * 목표 배수 이상에서 매도한다.
+@Component
+public class WallFollowStrategy implements TradingStrategy {
+    public static final String NAME = "wall-follow";
+
+    // 시작 시 한 번 고정소수점으로 변환해 둔 파라미터
+    private final long minOrderNotionalTicks;
+    private final int ladderLevels;
+    private final int ladderSpacingTicks;
+
+    private final BuyLadder ladder;
+    // 목표 배수와 매수벽 기준 금액 (비활성화 시 설정값 고정)
+    private final AdaptiveTuner tuner;
+
+    public WallFollowStrategy(TradingProperties props, StrategyProperties strategyProps) {
+        this.minOrderNotionalTicks = props.toNotionalTicks(props.minOrderSize());
+        this.tuner = new AdaptiveTuner(props, strategyProps.adaptive());
+
+        StrategyProperties.Ladder ladderProps = strategyProps.ladder();
+        if (ladderProps.levels() < 1 || ladderProps.levels() > props.risk().maxBuyOrders()) {
+            throw new IllegalStateException("hft.strategy.ladder.levels must be between 1 and max-buy-orders");
+        }
+        this.ladderLevels = ladderProps.levels();
+        this.ladderSpacingTicks = Math.max(1, ladderProps.spacingTicks());
+        this.ladder = new BuyLadder(ladderLevels);
+    }
+
+    @Override
+    public String name() {
+        return NAME;
+    }
+
+    // ----------------------------------------------------------------------------------------------------
+    // 매수 주문 전략
+    // ----------------------------------------------------------------------------------------------------
+    // 매수벽이 사라지면 걸려 있는 매수 주문은 그대로 두고 용량 관리에 맡긴다.
+    @Override
+    public void onBookUpdate(BookView book, OwnOrdersView orders, OrderIntents intents) {
+        tuner.onBook(book.bestBidPriceTicks(), book.bestAskPriceTicks());
+
+        long topPriceTicks = calculateBuyPriceTicks(book);
+        if (topPriceTicks <= 0) {
+            return;
+        }
+
+        ladder.clear();
+        for (int i = 0; i < ladderLevels; i++) {
+            long priceTicks = topPriceTicks - (long) i * ladderSpacingTicks;
+            if (priceTicks <= 0) {
+                break;
+            }
+            ladder.addTarget(priceTicks, calculateBuyQtyTicks(priceTicks));
+        }
+        ladder.diff(orders, intents);
+    }
+
+    // 수량이 가장 큰 매수 호가가 매수벽 기준 금액 이상이면 한 틱 위 가격
+    private long calculateBuyPriceTicks(BookView book) {
+        BookSignals signals = book.signals();
+        if (signals.getBidWallPriceTicks() <= 0 || signals.getBidWallNotionalTicks() < tuner.getBuyWallThresholdTicks()) {
+            return 0L;
+        }
+        return signals.getBidWallPriceTicks() + 1;
+    }
+
+    // 최소 주문 금액을 만족하는 최소 수량 (올림)
+    private long calculateBuyQtyTicks(long priceTicks) {
+        return (minOrderNotionalTicks + priceTicks - 1) / priceTicks;
+    }
+
+    // ----------------------------------------------------------------------------------------------------
+    // 매도 주문 전략
+    // ----------------------------------------------------------------------------------------------------
+    // 목표가와 최우선 매도호가 한 틱 아래 중 높은 가격.
+    // 스프레드가 한 틱이면 한 틱 아래가 최우선 매수호가와 맞닿아 LIMIT_MAKER 가 거부되므로 최우선 매도호가에 붙는다.
+    @Override
+    public long sellPriceTicks(long avgBuyPriceTicks, BookView book) {
+        long targetPriceTicks = avgBuyPriceTicks * tuner.getTargetMultiplierRate() / OrderStore.RATE_SCALE;
+        long bestAskPriceTicks = book.bestAskPriceTicks();
+        if (bestAskPriceTicks <= 0) {
+            return targetPriceTicks;
+        }
+        long makerPriceTicks = bestAskPriceTicks - 1 > book.bestBidPriceTicks()
+                ? bestAskPriceTicks - 1
+                : bestAskPriceTicks;
+        return Math.max(targetPriceTicks, makerPriceTicks);
+    }
+
+    // ----------------------------------------------------------------------------------------------------
+    // 적응형 파라미터 피드백
+    // ----------------------------------------------------------------------------------------------------
+    @Override
+    public void onFill(OrderSide side, long orderId, long priceTicks, long qtyTicks, OrderIntents intents) {
+        if (side == OrderSide.SELL) {
+            tuner.onSellFill();
+        }
+    }
+
+    @Override
+    public void onTimer(long nowMillis, BookView book, OwnOrdersView orders, OrderIntents intents) {
+        tuner.onTimer(nowMillis);
+    }
+
+    public AdaptiveTuner getTuner() {
+        return tuner;
+    }
+}
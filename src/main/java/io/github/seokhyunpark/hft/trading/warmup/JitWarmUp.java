@@ -0,0 +1,97 @@
+package io.github.seokhyunpark.hft.trading.warmup;
+
+import java.io.IOException;
+import java.lang.management.CompilationMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+import io.github.seokhyunpark.hft.trading.config.StateProperties;
+import io.github.seokhyunpark.hft.trading.config.StrategyProperties;
+import io.github.seokhyunpark.hft.trading.config.TradingProperties;
+import io.github.seokhyunpark.hft.trading.config.WarmUpProperties;
+
+// 실거래 연결 전에 합성 이벤트로 핫 패스를 돌려 JIT 컴파일을 끝내 둔다.
+// 최소 이벤트 수를 넘긴 뒤 라운드당 JIT 누적 시간이 연속으로 정체되면 멈추고, 최대 시간을 넘겨도 멈춘다.
+// 워밍업 주문은 NullOrderGateway 로만 나가므로 첫 실주문에서 게이트웨이 호출 지점은 한 번 재컴파일될 수 있다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JitWarmUp {
+    private static final long QUIET_JIT_MILLIS = 2L;
+
+    private final WarmUpProperties warmUpProps;
+    private final TradingProperties props;
+    private final StrategyProperties strategyProps;
+    private final StateProperties stateProps;
+    private final ObjectMapper objectMapper;
+
+    public void run() {
+        if (!warmUpProps.enabled()) {
+            return;
+        }
+
+        long startedAt = System.nanoTime();
+        long deadline = startedAt + TimeUnit.MILLISECONDS.toNanos(warmUpProps.maxDurationMs());
+        CompilationMXBean compiler = ManagementFactory.getCompilationMXBean();
+        boolean jitTimed = compiler != null && compiler.isCompilationTimeMonitoringSupported();
+        long jitStartMillis = jitTimed ? compiler.getTotalCompilationTime() : 0L;
+
+        Path directory = null;
+        long events = 0L;
+        long executionReports = 0L;
+        int rounds = 0;
+        try {
+            directory = Files.createTempDirectory("hft-warm-up-");
+            try (WarmUpHarness harness = new WarmUpHarness(props, strategyProps, stateProps, objectMapper, directory)) {
+                long lastJitMillis = jitStartMillis;
+                int quietRounds = 0;
+                while (System.nanoTime() < deadline) {
+                    events += harness.runRound(warmUpProps.roundEvents());
+                    rounds++;
+                    if (!jitTimed || events < warmUpProps.minEvents()) {
+                        continue;
+                    }
+
+                    long jitMillis = compiler.getTotalCompilationTime();
+                    quietRounds = jitMillis - lastJitMillis <= QUIET_JIT_MILLIS ? quietRounds + 1 : 0;
+                    lastJitMillis = jitMillis;
+                    if (quietRounds >= warmUpProps.quietRounds()) {
+                        break;
+                    }
+                }
+                executionReports = harness.getExecutionReportCount();
+            }
+            long jitMillis = jitTimed ? compiler.getTotalCompilationTime() - jitStartMillis : -1L;
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt);
+            log.info("[WARM-UP] 완료 | EVENTS: {} | EXECUTION_REPORTS: {} | ROUNDS: {} | JIT: {}ms | ELAPSED: {}ms",
+                    events, executionReports, rounds, jitMillis, elapsedMillis);
+
+        } catch (Exception e) {
+            log.warn("⚠️[WARM-UP] FAIL | EVENTS: {} | REASON: {}", events, e.getMessage());
+        } finally {
+            deleteRecursively(directory);
+        }
+    }
+
+    private void deleteRecursively(Path directory) {
+        if (directory == null) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(directory)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        } catch (IOException e) {
+            log.warn("⚠️[WARM-UP] 임시 디렉터리 삭제 실패 | PATH: {} | REASON: {}", directory, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,290 @@
+package io.github.seokhyunpark.hft.trading.warmup;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.github.seokhyunpark.hft.backtest.MarketTapeRecorder;
+import io.github.seokhyunpark.hft.exchange.client.NullOrderGateway;
+import io.github.seokhyunpark.hft.exchange.stream.MarketDataStream;
+import io.github.seokhyunpark.hft.exchange.stream.TradeDecoder;
+import io.github.seokhyunpark.hft.exchange.stream.TradeStream;
+import io.github.seokhyunpark.hft.exchange.stream.UserDataStream;
+import io.github.seokhyunpark.hft.threading.MarketEventPipeline;
+import io.github.seokhyunpark.hft.threading.WaitStrategy;
+import io.github.seokhyunpark.hft.trading.book.QueuePositionTracker;
+import io.github.seokhyunpark.hft.trading.config.CommissionProperties;
+import io.github.seokhyunpark.hft.trading.config.StateProperties;
+import io.github.seokhyunpark.hft.trading.config.StrategyProperties;
+import io.github.seokhyunpark.hft.trading.config.TapeProperties;
+import io.github.seokhyunpark.hft.trading.config.ThreadingProperties;
+import io.github.seokhyunpark.hft.trading.config.TradingProperties;
+import io.github.seokhyunpark.hft.trading.dto.OrderInfo;
+import io.github.seokhyunpark.hft.trading.eventlog.EventLog;
+import io.github.seokhyunpark.hft.trading.eventlog.EventLogHandler;
+import io.github.seokhyunpark.hft.trading.executor.OrderExecutor;
+import io.github.seokhyunpark.hft.trading.executor.OrderIntentExecutor;
+import io.github.seokhyunpark.hft.trading.journal.EventJournal;
+import io.github.seokhyunpark.hft.trading.manager.CommissionManager;
+import io.github.seokhyunpark.hft.trading.manager.OrderManager;
+import io.github.seokhyunpark.hft.trading.manager.PnlManager;
+import io.github.seokhyunpark.hft.trading.manager.PositionManager;
+import io.github.seokhyunpark.hft.trading.manager.QuoteAssetManager;
+import io.github.seokhyunpark.hft.trading.manager.RateLimitManager;
+import io.github.seokhyunpark.hft.trading.metrics.TradingMetrics;
+import io.github.seokhyunpark.hft.trading.processor.MarketEventProcessor;
+import io.github.seokhyunpark.hft.trading.processor.UserEventProcessor;
+import io.github.seokhyunpark.hft.trading.risk.OrderFlowControl;
+import io.github.seokhyunpark.hft.trading.risk.PreTradeRiskGate;
+import io.github.seokhyunpark.hft.trading.strategy.StrategyDispatcher;
+import io.github.seokhyunpark.hft.trading.strategy.WallFollowStrategy;
+
+// 워밍업 전용 객체 그래프. 실거래 빈과 같은 클래스를 별도 인스턴스로 엮어 JIT 프로파일만 공유하고,
+// 상태는 임시 디렉터리와 이 객체 안에만 남긴다. 합성 JSON 을 스트림의 onMessage 에 직접 넣어
+// 디코딩부터 전략, 위험 점검, 주문 실행(NullOrderGateway), 체결 처리까지 실거래와 같은 경로를 탄다.
+final class WarmUpHarness implements AutoCloseable {
+    private static final URI OFFLINE_URI = URI.create("ws://warm-up.invalid");
+    private static final ThreadingProperties INLINE = new ThreadingProperties(
+            false, WaitStrategy.PARK, 0L, 2, new ThreadingProperties.Cpus("", "", "", ""));
+    private static final int EVENT_LOG_CAPACITY = 4096;
+    private static final int JOURNAL_SEGMENT_RECORDS = 1 << 16;
+    private static final EventLogHandler DISCARD = (type, timestampMillis, field0, field1, field2) -> {
+    };
+
+    // 합성 시장: 중간가 주변 5단계 호가, 3번째 매수 호가에 매수벽
+    private static final String MID_PRICE = "100000";
+    private static final int LEVELS = 5;
+    private static final int WALL_LEVEL = 2;
+    private static final String QUOTE_BALANCE = "1000000";
+    private static final int BALANCE_SYNC_FRAMES = 100;
+
+    private final TradingProperties props;
+    private final EventLog eventLog;
+    private final EventJournal journal;
+    private final OrderManager orderManager;
+
+    private final MarketDataStream marketStream;
+    private final TradeStream tradeStream;
+    private final UserDataStream userStream;
+
+    private final SplittableRandom random = new SplittableRandom(20240101L);
+    private final StringBuilder json = new StringBuilder(1024);
+    private final long wallQtyTicks;
+    private long midPriceTicks;
+    private long updateId;
+    private long tradeId;
+    private long frames;
+    private long executionReports;
+
+    WarmUpHarness(
+            TradingProperties props,
+            StrategyProperties strategyProps,
+            StateProperties stateProps,
+            ObjectMapper objectMapper,
+            Path directory
+    ) throws IOException {
+        this.props = props;
+        this.eventLog = new EventLog(EVENT_LOG_CAPACITY);
+        this.journal = EventJournal.open(directory.resolve("journal"), JOURNAL_SEGMENT_RECORDS);
+
+        QueuePositionTracker queueTracker = new QueuePositionTracker();
+        StateProperties warmUpState = new StateProperties(
+                directory.toString(), stateProps.canceledLadderCapacity(), JOURNAL_SEGMENT_RECORDS);
+        this.orderManager = new OrderManager(props, warmUpState, journal, queueTracker);
+        PositionManager positionManager = new PositionManager(props, journal);
+        PnlManager pnlManager = new PnlManager(props, eventLog);
+        QuoteAssetManager quoteAssetManager = new QuoteAssetManager(props, journal, eventLog);
+        RateLimitManager rateLimitManager = new RateLimitManager(eventLog);
+        OrderFlowControl flowControl = new OrderFlowControl();
+        PreTradeRiskGate riskGate = new PreTradeRiskGate(
+                props, orderManager, positionManager, quoteAssetManager, rateLimitManager);
+        TradingMetrics metrics = new TradingMetrics(orderManager, rateLimitManager, riskGate, eventLog);
+        metrics.disableStartupLog();
+
+        OrderExecutor orderExecutor = new OrderExecutor(objectMapper, new NullOrderGateway(1L), props,
+                orderManager, positionManager, rateLimitManager, flowControl, metrics);
+        OrderIntentExecutor intentExecutor = new OrderIntentExecutor(
+                props, orderExecutor, riskGate, rateLimitManager, quoteAssetManager, orderManager, flowControl);
+        StrategyDispatcher dispatcher = new StrategyDispatcher(props, strategyProps,
+                List.of(new WallFollowStrategy(props, strategyProps)), orderManager, intentExecutor, flowControl);
+
+        MarketEventProcessor marketProcessor = new MarketEventProcessor(props, orderExecutor, orderManager,
+                pnlManager, rateLimitManager, dispatcher, riskGate, flowControl, queueTracker,
+                new MarketTapeRecorder(new TapeProperties(false, null)), metrics);
+        CommissionManager commissionManager = new CommissionManager(props, new CommissionProperties(Map.of()));
+        UserEventProcessor userProcessor = new UserEventProcessor(props, orderExecutor, orderManager,
+                positionManager, commissionManager, pnlManager, quoteAssetManager, rateLimitManager,
+                dispatcher, flowControl, queueTracker, eventLog, metrics);
+        MarketEventPipeline pipeline = new MarketEventPipeline(marketProcessor, INLINE, metrics);
+
+        this.marketStream = new MarketDataStream(OFFLINE_URI, pipeline, metrics.marketStream());
+        this.tradeStream = new TradeStream(OFFLINE_URI,
+                new TradeDecoder(props.priceTickSize(), props.qtyTickSize()), pipeline, metrics.tradeStream());
+        this.userStream = new UserDataStream(OFFLINE_URI, userProcessor, metrics.userStream());
+
+        this.midPriceTicks = props.toPriceTicks(new BigDecimal(MID_PRICE));
+        this.wallQtyTicks = props.toQtyTicks(new BigDecimal("0.5"));
+    }
+
+    // 호가 프레임 하나마다 체결과 실행 보고를 섞어 넣는다. 메시지 수가 주어진 값을 넘으면 멈추고 그 수를 돌려준다.
+    long runRound(int messageCount) {
+        long messages = 0;
+        while (messages < messageCount) {
+            if (frames++ % BALANCE_SYNC_FRAMES == 0) {
+                userStream.onMessage(accountUpdate());
+                messages++;
+            }
+
+            midPriceTicks += random.nextInt(-2, 3);
+            marketStream.onMessage(depth());
+            messages++;
+
+            if (random.nextInt(2) == 0) {
+                tradeStream.onMessage(trade());
+                messages++;
+            }
+            messages += fillOrders();
+            eventLog.drain(DISCARD, Integer.MAX_VALUE);
+        }
+        return messages;
+    }
+
+    // 매수 주문은 접수 후 절반 확률로 전량 체결, 매도 주문은 하나를 골라 체결하거나 가끔 취소한다.
+    private int fillOrders() {
+        int messages = 0;
+        for (OrderInfo buy : orderManager.getBuyOrders()) {
+            userStream.onMessage(executionReport("BUY", "NEW", "NEW", buy, 0L));
+            messages++;
+            if (random.nextInt(2) == 0) {
+                userStream.onMessage(executionReport("BUY", "TRADE", "FILLED", buy, buy.qtyTicks()));
+                messages++;
+            }
+        }
+
+        List<OrderInfo> sells = orderManager.getSellOrders();
+        if (!sells.isEmpty() && random.nextInt(3) == 0) {
+            OrderInfo sell = sells.get(random.nextInt(sells.size()));
+            if (random.nextInt(10) == 0) {
+                userStream.onMessage(executionReport("SELL", "CANCELED", "CANCELED", sell, 0L));
+            } else {
+                userStream.onMessage(executionReport("SELL", "TRADE", "FILLED", sell, sell.qtyTicks()));
+            }
+            messages++;
+        }
+        executionReports += messages;
+        return messages;
+    }
+
+    long getExecutionReportCount() {
+        return executionReports;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            orderManager.close();
+        } finally {
+            journal.close();
+        }
+    }
+
+    // ----------------------------------------------------------------------------------------------------
+    // 합성 메시지 (거래소 JSON 형식)
+    // ----------------------------------------------------------------------------------------------------
+    private String depth() {
+        json.setLength(0);
+        json.append("{\"lastUpdateId\":").append(++updateId).append(",\"bids\":[");
+        for (int level = 0; level < LEVELS; level++) {
+            long qty = level == WALL_LEVEL ? wallQtyTicks : randomQtyTicks();
+            appendLevel(level, midPriceTicks - 1 - level, qty);
+        }
+        json.append("],\"asks\":[");
+        for (int level = 0; level < LEVELS; level++) {
+            appendLevel(level, midPriceTicks + 1 + level, randomQtyTicks());
+        }
+        return json.append("]}").toString();
+    }
+
+    private void appendLevel(int level, long priceTicks, long qtyTicks) {
+        if (level > 0) {
+            json.append(',');
+        }
+        json.append("[\"").append(price(priceTicks)).append("\",\"").append(qty(qtyTicks)).append("\"]");
+    }
+
+    private String trade() {
+        long now = System.currentTimeMillis();
+        long id = ++tradeId;
+        json.setLength(0);
+        json.append("{\"e\":\"aggTrade\",\"E\":").append(now)
+                .append(",\"s\":\"").append(props.symbol())
+                .append("\",\"a\":").append(id)
+                .append(",\"p\":\"").append(price(midPriceTicks + random.nextInt(-1, 2)))
+                .append("\",\"q\":\"").append(qty(randomQtyTicks()))
+                .append("\",\"f\":").append(id)
+                .append(",\"l\":").append(id)
+                .append(",\"T\":").append(now)
+                .append(",\"m\":").append(random.nextBoolean())
+                .append(",\"M\":true}");
+        return json.toString();
+    }
+
+    private String executionReport(
+            String side, String executionType, String status, OrderInfo order, long filledQtyTicks
+    ) {
+        long now = System.currentTimeMillis();
+        BigDecimal lastQty = props.fromQtyTicks(filledQtyTicks);
+        BigDecimal lastPrice = filledQtyTicks > 0 ? props.fromPriceTicks(order.priceTicks()) : BigDecimal.ZERO;
+        String commissionAsset = "BUY".equals(side) ? props.baseAsset() : props.quoteAsset();
+        json.setLength(0);
+        json.append("{\"subscriptionId\":0,\"event\":{\"e\":\"executionReport\",\"E\":").append(now)
+                .append(",\"s\":\"").append(props.symbol())
+                .append("\",\"c\":\"warm-up\",\"S\":\"").append(side)
+                .append("\",\"o\":\"LIMIT_MAKER\",\"f\":\"GTC\",\"q\":\"").append(qty(order.qtyTicks()))
+                .append("\",\"p\":\"").append(price(order.priceTicks()))
+                .append("\",\"x\":\"").append(executionType)
+                .append("\",\"X\":\"").append(status)
+                .append("\",\"r\":\"NONE\",\"i\":").append(order.orderId())
+                .append(",\"l\":\"").append(lastQty.toPlainString())
+                .append("\",\"z\":\"").append(lastQty.toPlainString())
+                .append("\",\"L\":\"").append(lastPrice.toPlainString())
+                .append("\",\"n\":\"0\",\"N\":\"").append(commissionAsset)
+                .append("\",\"T\":").append(now)
+                .append(",\"t\":").append(filledQtyTicks > 0 ? ++tradeId : -1L)
+                .append(",\"w\":").append(filledQtyTicks == 0)
+                .append(",\"m\":true,\"O\":").append(now)
+                .append(",\"Z\":\"").append(lastPrice.multiply(lastQty).toPlainString())
+                .append("\",\"Y\":\"").append(lastPrice.multiply(lastQty).toPlainString())
+                .append("\"}}");
+        return json.toString();
+    }
+
+    private String accountUpdate() {
+        long now = System.currentTimeMillis();
+        json.setLength(0);
+        json.append("{\"subscriptionId\":0,\"event\":{\"e\":\"outboundAccountPosition\",\"E\":").append(now)
+                .append(",\"u\":").append(now)
+                .append(",\"B\":[{\"a\":\"").append(props.quoteAsset())
+                .append("\",\"f\":\"").append(QUOTE_BALANCE)
+                .append("\",\"l\":\"0\"}]}}");
+        return json.toString();
+    }
+
+    private long randomQtyTicks() {
+        return props.toQtyTicks(new BigDecimal("0.001")) * random.nextInt(1, 50);
+    }
+
+    private String price(long ticks) {
+        return props.fromPriceTicks(ticks).toPlainString();
+    }
+
+    private String qty(long ticks) {
+        return props.fromQtyTicks(ticks).toPlainString();
+    }
+}
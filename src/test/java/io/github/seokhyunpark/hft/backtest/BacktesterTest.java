@@ -0,0 +1,77 @@
+package io.github.seokhyunpark.hft.backtest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Properties;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class BacktesterTest {
+    private static final long[] BIDS = {10_000L, 2_000_000L};
+    private static final long[] ASKS = {10_005L, 100_000L};
+
+    // 매수벽(100.00 x 20) 한 틱 위 매수 → 매도 주도 체결 → 최우선 매도호가 한 틱 아래 매도 → 매수 주도 체결
+    private final MarketTape tape = new MarketTape.Builder()
+            .book(0L, BIDS, ASKS)
+            .book(10L, BIDS, ASKS)
+            .trade(20L, 10_001L, 5_000L, true)
+            .book(30L, BIDS, ASKS)
+            .trade(40L, 10_004L, 5_000L, false)
+            .build();
+
+    private final BacktestSettings settings = Backtester.settings(new Properties());
+
+    @Test
+    @DisplayName("매수 체결 후 매도까지 왕복하면 가격 차이만큼 실현 손익이 나야 한다.")
+    void roundTrip() {
+        BacktestResult result = new BacktestRun(tape, settings, params("1.0001", 1)).run();
+
+        assertThat(result.buyFills()).isEqualTo(1L);
+        assertThat(result.sellFills()).isEqualTo(1L);
+        // (100.04 - 100.01) * 0.05 = 0.0015 USD
+        assertThat(result.realizedPnlTicks()).isEqualTo(15_000L);
+        assertThat(result.unrealizedPnlTicks()).isZero();
+        assertThat(result.finalInventoryQtyTicks()).isZero();
+        assertThat(result.maxInventoryQtyTicks()).isEqualTo(5_000L);
+        assertThat(result.ordersPlaced()).isEqualTo(3L);
+        assertThat(result.ordersFilled()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("격자의 모든 유효한 조합을 만들어야 한다.")
+    void combinations() {
+        Properties grid = new Properties();
+        grid.setProperty("target-multiplier", "1.0001, 1.0002");
+        grid.setProperty("max-buy-orders", "1,3");
+        grid.setProperty("ladder-levels", "1,3");
+
+        // 사다리 레벨이 최대 매수 주문 수를 넘는 (1, 3) 조합은 제외된다.
+        assertThat(Backtester.combinations(grid)).hasSize(6);
+    }
+
+    @Test
+    @DisplayName("병렬 스윕 결과는 조합별 순차 실행 결과와 같아야 한다.")
+    void parallelMatchesSequential() {
+        List<BacktestParams> combinations = List.of(
+                params("1.0001", 1),
+                params("1.0002", 1),
+                params("1.0005", 3),
+                params("1.00005", 3)
+        );
+
+        BacktestResult[] results = Backtester.sweep(tape, settings, combinations, 4);
+
+        for (int i = 0; i < combinations.size(); i++) {
+            assertThat(results[i]).isEqualTo(new BacktestRun(tape, settings, combinations.get(i)).run());
+        }
+    }
+
+    private static BacktestParams params(String targetMultiplier, int maxBuyOrders) {
+        return new BacktestParams(
+                new BigDecimal(targetMultiplier), new BigDecimal("1000"), maxBuyOrders, 100, 90, 1, 1
+        );
+    }
+}
@@ -0,0 +1,121 @@
+package io.github.seokhyunpark.hft.backtest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.github.seokhyunpark.hft.trading.book.BookSignals;
+import io.github.seokhyunpark.hft.trading.book.TradeFlow;
+import io.github.seokhyunpark.hft.trading.strategy.OrderSide;
+
+class SimulatedExchangeTest {
+    private record Fill(OrderSide side, long orderId, long priceTicks, long qtyTicks, boolean done) {
+    }
+
+    private final List<Fill> fills = new ArrayList<>();
+    private final List<Long> rejects = new ArrayList<>();
+    private final SimulatedExchange.FillListener listener = new SimulatedExchange.FillListener() {
+        @Override
+        public void onFill(OrderSide side, long orderId, long price, long qty, long avgBuy, boolean done) {
+            fills.add(new Fill(side, orderId, price, qty, done));
+        }
+
+        @Override
+        public void onReject(OrderSide side, long orderId, long price, long qty, long avgBuy) {
+            rejects.add(orderId);
+        }
+    };
+
+    @Test
+    @DisplayName("활성화 시점에 맞닿는 LIMIT_MAKER 주문은 체결이 아니라 거부되어야 한다.")
+    void rejectCrossingOnActivation() {
+        TapeBook book = book(new MarketTape.Builder()
+                .book(0L, new long[]{10_000L, 300L}, new long[]{10_001L, 300L}));
+        SimulatedExchange exchange = new SimulatedExchange(5L, 0L);
+        long buyId = exchange.placeBuy(0L, 10_001L, 10L);
+        long sellId = exchange.placeSell(0L, 10_000L, 10L, 9_999L);
+
+        exchange.onBook(5L, book, listener);
+
+        assertThat(fills).isEmpty();
+        assertThat(rejects).containsExactly(buyId, sellId);
+        assertThat(exchange.getBuyOrderCount()).isZero();
+        assertThat(exchange.getSellOrderCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("접수 시점에 맞닿았어도 활성화 시점에 떨어져 있으면 줄을 서야 한다.")
+    void restWhenBookMovesAway() {
+        TapeBook book = book(new MarketTape.Builder()
+                .book(0L, new long[]{10_000L, 300L}, new long[]{10_001L, 300L})
+                .book(5L, new long[]{9_998L, 300L}, new long[]{10_002L, 300L}));
+        SimulatedExchange exchange = new SimulatedExchange(5L, 0L);
+        exchange.placeBuy(0L, 10_001L, 10L);
+
+        book.moveTo(1);
+        exchange.onBook(5L, book, listener);
+
+        assertThat(fills).isEmpty();
+        assertThat(rejects).isEmpty();
+        assertThat(exchange.getBuyOrderCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("용량 초과 시 내릴 매도는 가격이 아니라 큐에서 가장 뒤에 선 주문이어야 한다.")
+    void slowestSellByQueuePosition() {
+        TapeBook book = book(new MarketTape.Builder()
+                .book(0L, new long[]{10_000L, 300L}, new long[]{10_002L, 300L})
+                .book(10L, new long[]{10_000L, 300L}, new long[]{10_002L, 300L}));
+        SimulatedExchange exchange = new SimulatedExchange(5L, 0L);
+        long first = exchange.placeSell(0L, 10_002L, 10L, 9_999L);
+        exchange.onBook(5L, book, listener);
+
+        // 앞선 수량이 대부분 소진된 뒤 레벨이 다시 채워지고, 두 번째 매도는 그 뒤에 선다.
+        exchange.onTrade(6L, 10_002L, 250L, false, listener);
+        long second = exchange.placeSell(6L, 10_002L, 10L, 9_999L);
+        book.moveTo(1);
+        exchange.onBook(11L, book, listener);
+
+        assertThat(fills).isEmpty();
+        assertThat(exchange.getSlowestSellOrder().orderId()).isEqualTo(second);
+        assertThat(exchange.cancelSell(second)).isNotNull();
+        assertThat(exchange.getSlowestSellOrder().orderId()).isEqualTo(first);
+    }
+
+    @Test
+    @DisplayName("지연 후 레벨 뒤에 줄을 서고, 앞선 수량이 체결로 소진된 뒤에 채워져야 한다.")
+    void queueFill() {
+        TapeBook book = book(new MarketTape.Builder()
+                .book(0L, new long[]{10_000L, 300L}, new long[]{10_002L, 300L}));
+        SimulatedExchange exchange = new SimulatedExchange(5L, 0L);
+        long orderId = exchange.placeBuy(0L, 10_000L, 100L);
+
+        // 활성화 전 체결은 무시된다.
+        exchange.onTrade(1L, 10_000L, 500L, true, listener);
+        assertThat(fills).isEmpty();
+
+        exchange.onBook(5L, book, listener);
+        exchange.onTrade(6L, 10_000L, 200L, true, listener);
+        assertThat(fills).isEmpty();
+
+        exchange.onTrade(7L, 10_000L, 150L, true, listener);
+        assertThat(fills).hasSize(1);
+        assertThat(fills.getFirst()).isEqualTo(new Fill(OrderSide.BUY, orderId, 10_000L, 50L, false));
+
+        // 우리 가격 아래까지 체결되면 남은 수량 전부 채워진다.
+        exchange.onTrade(8L, 9_999L, 1L, true, listener);
+        assertThat(fills).hasSize(2);
+        assertThat(fills.get(1)).isEqualTo(new Fill(OrderSide.BUY, orderId, 10_000L, 50L, true));
+        assertThat(exchange.getBuyOrderCount()).isZero();
+    }
+
+    private static TapeBook book(MarketTape.Builder builder) {
+        TapeBook book = new TapeBook(builder.build(), new BookSignals(5, 5, 10), new TradeFlow(10_000L, 100));
+        book.moveTo(0);
+        return book;
+    }
+}
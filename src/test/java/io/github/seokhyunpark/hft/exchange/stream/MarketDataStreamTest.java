@@ -9,6 +9,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import io.github.seokhyunpark.hft.exchange.dto.stream.PartialBookDepth;
+import io.github.seokhyunpark.hft.exchange.dto.stream.TradeEvent;
 import io.github.seokhyunpark.hft.exchange.listener.MarketEventListener;
 
 public class MarketDataStreamTest {
@@ -19,6 +20,10 @@ public class MarketDataStreamTest {
         public void onPartialBookDepthReceived(PartialBookDepth partialBookDepth) {
             this.receivedData = partialBookDepth;
         }
+
+        @Override
+        public void onTradeReceived(TradeEvent trade) {
+        }
     }
 
     @Test
@@ -27,7 +32,7 @@ public class MarketDataStreamTest {
         URI uri = new URI("wss://test.com");
         TestListener listener = new TestListener();
 
-        MarketDataStream stream = new MarketDataStream(uri, listener);
+        MarketDataStream stream = new MarketDataStream(uri, listener, new StreamMetrics());
 
         String data = """
                 {
@@ -58,11 +63,14 @@ public class MarketDataStreamTest {
         URI uri = new URI("wss://test.com");
         TestListener listener = new TestListener();
 
-        MarketDataStream stream = new MarketDataStream(uri, listener);
+        StreamMetrics metrics = new StreamMetrics();
+        MarketDataStream stream = new MarketDataStream(uri, listener, metrics);
 
         String data = "{Invalid Data}";
 
         stream.onMessage(data);
         assertThat(listener.receivedData).isNull();
+        assertThat(metrics.getMessageCount()).isEqualTo(1L);
+        assertThat(metrics.getErrorCount()).isEqualTo(1L);
     }
 }
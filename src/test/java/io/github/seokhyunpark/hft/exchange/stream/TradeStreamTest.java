@@ -0,0 +1,84 @@
+package io.github.seokhyunpark.hft.exchange.stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.URISyntaxException;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.github.seokhyunpark.hft.exchange.dto.stream.PartialBookDepth;
+import io.github.seokhyunpark.hft.exchange.dto.stream.TradeEvent;
+import io.github.seokhyunpark.hft.exchange.listener.MarketEventListener;
+
+public class TradeStreamTest {
+    static class TestListener implements MarketEventListener {
+        int received;
+        long priceTicks;
+        long qtyTicks;
+        long tradeId;
+        long tradeTime;
+        boolean buyerMaker;
+
+        @Override
+        public void onPartialBookDepthReceived(PartialBookDepth partialBookDepth) {
+        }
+
+        @Override
+        public void onTradeReceived(TradeEvent trade) {
+            received++;
+            priceTicks = trade.priceTicks();
+            qtyTicks = trade.qtyTicks();
+            tradeId = trade.tradeId();
+            tradeTime = trade.tradeTime();
+            buyerMaker = trade.buyerMaker();
+        }
+    }
+
+    private final TestListener listener = new TestListener();
+    private final TradeStream stream;
+
+    TradeStreamTest() throws URISyntaxException {
+        TradeDecoder decoder = new TradeDecoder(new BigDecimal("0.01"), new BigDecimal("0.00001"));
+        stream = new TradeStream(new URI("wss://test.com"), decoder, listener, new StreamMetrics());
+    }
+
+    @Test
+    @DisplayName("aggTrade 메시지를 틱 단위 체결로 디코딩해야 한다.")
+    void aggTrade() {
+        stream.onMessage("{\"e\":\"aggTrade\",\"E\":1672515782136,\"s\":\"BTCFDUSD\",\"a\":12345,"
+                + "\"p\":\"90994.23000000\",\"q\":\"0.05930000\",\"f\":100,\"l\":105,"
+                + "\"T\":1672515782134,\"m\":true,\"M\":true}");
+
+        assertThat(listener.received).isEqualTo(1);
+        assertThat(listener.tradeId).isEqualTo(12345L);
+        assertThat(listener.priceTicks).isEqualTo(9_099_423L);
+        assertThat(listener.qtyTicks).isEqualTo(5_930L);
+        assertThat(listener.tradeTime).isEqualTo(1_672_515_782_134L);
+        assertThat(listener.buyerMaker).isTrue();
+    }
+
+    @Test
+    @DisplayName("결합 스트림으로 감싼 trade 메시지도 디코딩해야 한다.")
+    void combinedTrade() {
+        stream.onMessage("{\"stream\":\"btcfdusd@trade\",\"data\":{\"e\":\"trade\",\"E\":1,\"s\":\"BTCFDUSD\","
+                + "\"t\":777,\"p\":\"100.50\",\"q\":\"0.001\",\"T\":2,\"m\":false,\"M\":true}}");
+
+        assertThat(listener.received).isEqualTo(1);
+        assertThat(listener.tradeId).isEqualTo(777L);
+        assertThat(listener.priceTicks).isEqualTo(10_050L);
+        assertThat(listener.qtyTicks).isEqualTo(100L);
+        assertThat(listener.buyerMaker).isFalse();
+    }
+
+    @Test
+    @DisplayName("체결이 아닌 메시지는 리스너에게 넘기지 말아야 한다.")
+    void ignoreNonTrade() {
+        stream.onMessage("{\"result\":null,\"id\":1}");
+        stream.onMessage("{Invalid Data}");
+
+        assertThat(listener.received).isZero();
+    }
+}
@@ -50,7 +50,8 @@ public class UserDataStreamTest {
 
     public UserDataStreamTest() throws Exception {
         StubSignatureUtil stubUtil = new StubSignatureUtil();
-        this.stream = new UserDataStream(URI.create("wss://test.com"), listener, "dummyKey", "dummyPath", stubUtil);
+        this.stream = new UserDataStream(URI.create("wss://test.com"), listener, "dummyKey", "dummyPath", stubUtil,
+                new StreamMetrics());
     }
 
     @Test
@@ -0,0 +1,27 @@
+package io.github.seokhyunpark.hft.exchange.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class DecimalParserTest {
+    @Test
+    @DisplayName("소수 문자열을 BigDecimal 변환과 같은 틱 값으로 파싱해야 한다.")
+    void parseScaled() {
+        assertThat(DecimalParser.parseScaled("90994.23000000", 2)).isEqualTo(9_099_423L);
+        assertThat(DecimalParser.parseScaled("0.05930000", 5)).isEqualTo(5_930L);
+        assertThat(DecimalParser.parseScaled("0.00000999", 5)).isEqualTo(0L);
+        assertThat(DecimalParser.parseScaled("12", 2)).isEqualTo(1_200L);
+        assertThat(DecimalParser.parseScaled("1.5", 3)).isEqualTo(1_500L);
+    }
+
+    @Test
+    @DisplayName("문자열의 지정한 구간만 파싱해야 한다.")
+    void parseScaledRange() {
+        String message = "\"p\":\"0.001\",\"T\":1672515782136";
+
+        assertThat(DecimalParser.parseScaled(message, 5, 10, 5)).isEqualTo(100L);
+        assertThat(DecimalParser.parseScaled(message, 16, message.length(), 0)).isEqualTo(1_672_515_782_136L);
+    }
+}
@@ -0,0 +1,76 @@
+package io.github.seokhyunpark.hft.jfr;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.github.seokhyunpark.hft.trading.config.StateProperties;
+import io.github.seokhyunpark.hft.trading.strategy.OrderSide;
+
+class FlightRecordingServiceTest {
+    @TempDir
+    Path tempDir;
+
+    private FlightRecordingService service;
+
+    @AfterEach
+    void tearDown() {
+        if (service != null) {
+            service.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("녹화 중 발생한 주문 이벤트는 중단 시 파일에 필드와 함께 남아야 한다.")
+    void recordOrderEvents() throws Exception {
+        service = new FlightRecordingService(new StateProperties(tempDir.toString(), 16, 1024));
+
+        FlightRecordingService.Status started = service.start(Duration.ofMinutes(1), "default");
+        OrderSubmitEvent submit = new OrderSubmitEvent();
+        submit.begin();
+        submit.complete(OrderSide.BUY, 42L, 9_000_000L, 60L, OrderOutcome.ACK, null);
+        FlightRecordingService.Status stopped = service.stop();
+
+        assertThat(started.recording()).isTrue();
+        assertThat(stopped.recording()).isFalse();
+        Path file = Path.of(stopped.file());
+        assertThat(Files.exists(file)).isTrue();
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file).stream()
+                .filter(event -> event.getEventType().getName().equals("io.github.seokhyunpark.hft.OrderSubmit"))
+                .toList();
+        assertThat(events).hasSize(1);
+        assertThat(events.get(0).getLong("orderId")).isEqualTo(42L);
+        assertThat(events.get(0).getLong("priceTicks")).isEqualTo(9_000_000L);
+        assertThat(events.get(0).getString("side")).isEqualTo("BUY");
+        assertThat(events.get(0).getString("outcome")).isEqualTo("ACK");
+    }
+
+    @Test
+    @DisplayName("녹화 중에는 새 녹화를 시작할 수 없고, 허용 범위를 벗어난 시간은 거부되어야 한다.")
+    void rejectOverlapAndInvalidDuration() throws Exception {
+        service = new FlightRecordingService(new StateProperties(tempDir.toString(), 16, 1024));
+
+        assertThatThrownBy(() -> service.start(Duration.ZERO, "default"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> service.start(Duration.ofHours(2), "default"))
+                .isInstanceOf(IllegalArgumentException.class);
+
+        service.start(Duration.ofMinutes(1), "default");
+        assertThatThrownBy(() -> service.start(Duration.ofMinutes(1), "default"))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(service.status().recording()).isTrue();
+    }
+}
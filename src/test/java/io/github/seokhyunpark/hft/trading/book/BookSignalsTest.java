@@ -0,0 +1,103 @@
+package io.github.seokhyunpark.hft.trading.book;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.github.seokhyunpark.hft.exchange.dto.stream.PartialBookDepth;
+import io.github.seokhyunpark.hft.trading.config.TradingProperties;
+
+class BookSignalsTest {
+    private final TradingProperties props = new TradingProperties(
+            "BTCFDUSD", "BTC", "FDUSD", "USDT",
+            new BigDecimal("5"), new BigDecimal("0.01"), new BigDecimal("0.00001"),
+            null
+    );
+
+    private final BookSignals signals = new BookSignals(2, 1, 5);
+    private final OrderBook book = new OrderBook(props, signals, new TradeFlow(10_000L, 100));
+
+    @Test
+    @DisplayName("최우선 호가와 다중 레벨 불균형을 고정소수점으로 계산해야 한다.")
+    void imbalance() {
+        book.update(depth(
+                List.of(level("100.00", "0.00300"), level("99.99", "0.00100"), level("99.98", "0.01000")),
+                List.of(level("100.01", "0.00100"), level("100.02", "0.00100"))
+        ));
+
+        // (300 - 100) / 400
+        assertThat(signals.getTopImbalance()).isEqualTo(5_000L);
+        // 2 레벨: (400 - 200) / 600
+        assertThat(signals.getLevelImbalance()).isEqualTo(3_333L);
+    }
+
+    @Test
+    @DisplayName("마이크로프라이스는 잔량이 적은 쪽 호가에 가까워야 한다.")
+    void microprice() {
+        book.update(depth(
+                List.of(level("100.00", "0.00300")),
+                List.of(level("100.04", "0.00100"))
+        ));
+
+        // 10000 + 4 * 300 / 400 = 10003 틱
+        assertThat(signals.getMicropriceScaled()).isEqualTo(10_003_000L);
+    }
+
+    @Test
+    @DisplayName("중간가에서 밴드 이내의 누적 잔량만 합산해야 한다.")
+    void depthWithinBand() {
+        // 중간가 10000 틱, 1bps = 1 틱
+        book.update(depth(
+                List.of(level("99.99", "0.00100"), level("99.98", "0.00200")),
+                List.of(level("100.01", "0.00100"), level("100.02", "0.00200"))
+        ));
+
+        assertThat(signals.getBidDepthQtyTicks()).isEqualTo(100L);
+        assertThat(signals.getAskDepthQtyTicks()).isEqualTo(100L);
+    }
+
+    @Test
+    @DisplayName("같은 가격에 벽이 유지되면 지속 횟수가 늘고, 가격이 바뀌면 초기화되어야 한다.")
+    void wallPersistence() {
+        List<List<String>> asks = List.of(level("100.05", "0.00100"));
+        book.update(depth(List.of(level("100.00", "0.00100"), level("99.90", "0.05000")), asks));
+        book.update(depth(List.of(level("100.01", "0.00100"), level("99.90", "0.06000")), asks));
+
+        assertThat(signals.getBidWallPriceTicks()).isEqualTo(9_990L);
+        assertThat(signals.getBidWallQtyTicks()).isEqualTo(6_000L);
+        assertThat(signals.getBidWallNotionalTicks()).isEqualTo(9_990L * 6_000L);
+        assertThat(signals.getBidWallPersistence()).isEqualTo(2);
+
+        book.update(depth(List.of(level("100.00", "0.00100"), level("99.91", "0.07000")), asks));
+        assertThat(signals.getBidWallPersistence()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("스프레드 틱 수에 따라 구간을 분류하고 구간 지속 횟수를 세야 한다.")
+    void spreadRegime() {
+        List<List<String>> bids = List.of(level("100.00", "0.00100"));
+        book.update(depth(bids, List.of(level("100.01", "0.00100"))));
+        assertThat(signals.getSpreadRegime()).isEqualTo(SpreadRegime.TIGHT);
+
+        book.update(depth(bids, List.of(level("100.03", "0.00100"))));
+        book.update(depth(bids, List.of(level("100.04", "0.00100"))));
+        assertThat(signals.getSpreadRegime()).isEqualTo(SpreadRegime.NORMAL);
+        assertThat(signals.getSpreadRegimePersistence()).isEqualTo(2);
+
+        book.update(depth(bids, List.of(level("100.05", "0.00100"))));
+        assertThat(signals.getSpreadTicks()).isEqualTo(5L);
+        assertThat(signals.getSpreadRegime()).isEqualTo(SpreadRegime.WIDE);
+    }
+
+    private static List<String> level(String price, String qty) {
+        return List.of(price, qty);
+    }
+
+    private static PartialBookDepth depth(List<List<String>> bids, List<List<String>> asks) {
+        return new PartialBookDepth(1L, bids, asks);
+    }
+}
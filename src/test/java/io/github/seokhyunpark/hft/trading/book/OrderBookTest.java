@@ -0,0 +1,50 @@
+package io.github.seokhyunpark.hft.trading.book;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.github.seokhyunpark.hft.exchange.dto.stream.PartialBookDepth;
+import io.github.seokhyunpark.hft.trading.config.TradingProperties;
+
+class OrderBookTest {
+    private final TradingProperties props = new TradingProperties(
+            "BTCFDUSD", "BTC", "FDUSD", "USDT",
+            new BigDecimal("5"), new BigDecimal("0.01"), new BigDecimal("0.00001"),
+            null
+    );
+
+    @Test
+    @DisplayName("호가 스냅샷이 틱 단위 레벨로 복사되어야 한다.")
+    void update() {
+        OrderBook book = new OrderBook(props, new BookSignals(5, 5, 10), new TradeFlow(10_000L, 100));
+        PartialBookDepth depth = new PartialBookDepth(
+                42L,
+                List.of(List.of("90994.23000000", "0.05930000"), List.of("90994.09000000", "0.00027000")),
+                List.of(List.of("90994.24000000", "0.10000000"))
+        );
+
+        assertThat(book.update(depth)).isTrue();
+        assertThat(book.lastUpdateId()).isEqualTo(42L);
+        assertThat(book.bidLevels()).isEqualTo(2);
+        assertThat(book.askLevels()).isEqualTo(1);
+        assertThat(book.bestBidPriceTicks()).isEqualTo(9_099_423L);
+        assertThat(book.bidQtyTicks(1)).isEqualTo(27L);
+        assertThat(book.bestAskPriceTicks()).isEqualTo(9_099_424L);
+        assertThat(book.askQtyTicks(0)).isEqualTo(10_000L);
+    }
+
+    @Test
+    @DisplayName("한쪽 호가가 비어 있으면 유효하지 않은 스냅샷이어야 한다.")
+    void rejectOneSidedBook() {
+        OrderBook book = new OrderBook(props, new BookSignals(5, 5, 10), new TradeFlow(10_000L, 100));
+        PartialBookDepth depth = new PartialBookDepth(1L, List.of(List.of("1.00", "1.0")), List.of());
+
+        assertThat(book.update(depth)).isFalse();
+        assertThat(book.bestAskPriceTicks()).isEqualTo(0L);
+    }
+}
@@ -0,0 +1,100 @@
+package io.github.seokhyunpark.hft.trading.book;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.github.seokhyunpark.hft.exchange.dto.stream.PartialBookDepth;
+import io.github.seokhyunpark.hft.trading.config.TradingProperties;
+
+class QueuePositionTrackerTest {
+    private final TradingProperties props = new TradingProperties(
+            "BTCFDUSD", "BTC", "FDUSD", "USDT",
+            new BigDecimal("5"), new BigDecimal("0.01"), new BigDecimal("0.00001"),
+            null
+    );
+
+    private final OrderBook book = new OrderBook(props, new BookSignals(5, 5, 10), new TradeFlow(10_000L, 100));
+    private final QueuePositionTracker tracker = new QueuePositionTracker();
+
+    @Test
+    @DisplayName("합류 시점의 레벨 수량과 더 낮은 가격 레벨이 앞선 수량이 되어야 한다.")
+    void join() {
+        onBook(0L, "100.00", "0.00100", "100.01", "0.00200");
+        tracker.track(1L, 10_001L, 10L);
+        tracker.track(2L, 9_999L, 10L);
+        tracker.track(3L, 10_100L, 10L);
+
+        assertThat(tracker.getVolumeAheadTicks(1L)).isEqualTo(300L);
+        assertThat(tracker.getVolumeAheadTicks(2L)).isEqualTo(0L);
+        assertThat(tracker.getVolumeAheadTicks(3L)).isEqualTo(QueuePositionTracker.UNKNOWN);
+        assertThat(tracker.findSlowestOrderId()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("레벨 감소분은 앞뒤 대기 수량에 비례해 차감되고, 체결은 그대로 차감되어야 한다.")
+    void decreaseAndTrade() {
+        onBook(0L, "100.00", "0.00100");
+        tracker.track(1L, 10_000L, 10L);
+        onBook(1L, "100.00", "0.00110");
+        onBook(2L, "100.00", "0.00130");
+
+        // 감소 50 중 앞선 100 / 다른 대기 120 비율만큼 차감
+        onBook(3L, "100.00", "0.00080");
+        assertThat(tracker.getVolumeAheadTicks(1L)).isEqualTo(59L);
+
+        tracker.onTrade(10_000L, 30L);
+        assertThat(tracker.getVolumeAheadTicks(1L)).isEqualTo(29L);
+
+        tracker.onTrade(10_001L, 1L);
+        assertThat(tracker.getVolumeAheadTicks(1L)).isEqualTo(0L);
+    }
+
+    @Test
+    @DisplayName("같은 가격에서는 나중에 합류한 주문이 체결까지 더 멀어야 한다.")
+    void slowestWithinLevel() {
+        onBook(0L, "100.00", "0.00100");
+        tracker.track(1L, 10_000L, 10L);
+        onBook(1L, "100.00", "0.00110");
+        tracker.track(2L, 10_000L, 10L);
+
+        assertThat(tracker.findSlowestOrderId()).isEqualTo(2L);
+
+        tracker.untrack(2L);
+        assertThat(tracker.findSlowestOrderId()).isEqualTo(1L);
+
+        tracker.onFill(1L, 5L);
+        assertThat(tracker.getVolumeAheadTicks(1L)).isEqualTo(0L);
+
+        tracker.untrack(1L);
+        assertThat(tracker.findSlowestOrderId()).isEqualTo(QueuePositionTracker.NONE);
+    }
+
+    @Test
+    @DisplayName("최우선 매도 호가 소진 속도로 예상 체결 시간을 계산해야 한다.")
+    void expectedTimeToFill() {
+        onBook(0L, "100.00", "0.00100");
+        tracker.track(1L, 10_001L, 10L);
+        assertThat(tracker.getExpectedTimeToFillMillis(1L)).isEqualTo(QueuePositionTracker.UNKNOWN);
+
+        onBook(1_000L, "100.00", "0.00050", "100.01", "0.00040");
+        assertThat(tracker.getDepletionRateTicksPerSecond()).isEqualTo(50L);
+
+        // (낮은 레벨 50 + 같은 레벨 40 + 자기 수량 10) / 초당 50
+        assertThat(tracker.getExpectedTimeToFillMillis(1L)).isEqualTo(2_000L);
+    }
+
+    private void onBook(long nowMillis, String... asks) {
+        List<List<String>> askLevels = new ArrayList<>();
+        for (int i = 0; i < asks.length; i += 2) {
+            askLevels.add(List.of(asks[i], asks[i + 1]));
+        }
+        book.update(new PartialBookDepth(nowMillis + 1, List.of(List.of("99.00", "1.00000")), askLevels));
+        tracker.onBook(book, nowMillis);
+    }
+}
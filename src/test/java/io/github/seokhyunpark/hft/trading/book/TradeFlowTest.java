@@ -0,0 +1,41 @@
+package io.github.seokhyunpark.hft.trading.book;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class TradeFlowTest {
+    private final TradeFlow flow = new TradeFlow(1_000L, 10);
+
+    @Test
+    @DisplayName("창 안의 체결로 VWAP, 불균형, 체결 속도를 계산해야 한다.")
+    void aggregate() {
+        flow.onTrade(0L, 100L, 30L, false);
+        flow.onTrade(50L, 103L, 10L, true);
+
+        // (100*30 + 103*10) / 40 = 100.75
+        assertThat(flow.getVwapScaled()).isEqualTo(100_750L);
+        assertThat(flow.getImbalance()).isEqualTo(5_000L);
+        assertThat(flow.getTradeCount()).isEqualTo(2L);
+        assertThat(flow.getTradesPerSecond()).isEqualTo(2L);
+        assertThat(flow.getVolumePerSecondTicks()).isEqualTo(40L);
+    }
+
+    @Test
+    @DisplayName("창을 벗어난 버킷은 합계에서 빠져야 한다.")
+    void evict() {
+        flow.onTrade(0L, 100L, 30L, false);
+        flow.onTrade(500L, 110L, 10L, true);
+
+        flow.advance(1_050L);
+        assertThat(flow.getBuyQtyTicks()).isZero();
+        assertThat(flow.getSellQtyTicks()).isEqualTo(10L);
+        assertThat(flow.getVwapScaled()).isEqualTo(110_000L);
+
+        flow.advance(10_000L);
+        assertThat(flow.getTradeCount()).isZero();
+        assertThat(flow.getImbalance()).isZero();
+        assertThat(flow.getVwapScaled()).isEqualTo(110_000L);
+    }
+}
@@ -0,0 +1,101 @@
+package io.github.seokhyunpark.hft.trading.dashboard;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.github.seokhyunpark.hft.trading.dto.DashboardSnapshot;
+
+class DashboardFileTest {
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("기록한 스냅샷이 다른 매핑에서 그대로 읽혀야 한다.")
+    void roundTrip() throws Exception {
+        Path path = tempDir.resolve("dashboard.mmap");
+        DashboardFile writer = DashboardFile.create(path);
+        DashboardFile reader = DashboardFile.open(path);
+        assertThat(reader.read()).isEmpty();
+
+        DashboardSnapshot written = snapshot(7L);
+        writer.write(written);
+
+        assertThat(reader.read().orElseThrow()).isEqualTo(written);
+    }
+
+    @Test
+    @DisplayName("다시 열어도 시퀀스가 이어지고 마지막 스냅샷이 남아 있어야 한다.")
+    void reopen() throws Exception {
+        Path path = tempDir.resolve("dashboard.mmap");
+        DashboardFile.create(path).write(snapshot(1L));
+
+        DashboardFile reopened = DashboardFile.create(path);
+        assertThat(DashboardFile.open(path).read().orElseThrow()).isEqualTo(snapshot(1L));
+
+        reopened.write(snapshot(2L));
+        assertThat(DashboardFile.open(path).read().orElseThrow()).isEqualTo(snapshot(2L));
+    }
+
+    @Test
+    @DisplayName("쓰는 도중에 읽어도 필드가 섞인 스냅샷을 받지 않아야 한다.")
+    void consistentUnderConcurrentWrites() throws Exception {
+        Path path = tempDir.resolve("dashboard.mmap");
+        DashboardFile writer = DashboardFile.create(path);
+        DashboardFile reader = DashboardFile.open(path);
+        writer.write(snapshot(1L));
+
+        AtomicBoolean running = new AtomicBoolean(true);
+        Thread writerThread = new Thread(() -> {
+            for (long n = 2L; running.get(); n++) {
+                writer.write(snapshot(n));
+            }
+        });
+        writerThread.start();
+        try {
+            for (int i = 0; i < 20_000; i++) {
+                Optional<DashboardSnapshot> read = reader.read();
+                if (read.isEmpty()) {
+                    continue;
+                }
+                long n = read.get().bestBidPriceTicks();
+                assertThat(read.get()).isEqualTo(snapshot(n));
+            }
+        } finally {
+            running.set(false);
+            writerThread.join();
+        }
+    }
+
+    // 모든 필드를 n 에서 파생해 한 스냅샷 안의 값이 서로 맞는지 확인할 수 있게 한다.
+    private static DashboardSnapshot snapshot(long n) {
+        return new DashboardSnapshot(
+                new BigDecimal("0.01"),
+                new BigDecimal("0.00001"),
+                1_700_000_000_000L + n,
+                1_700_000_000_000L + n - 5L,
+                n,
+                n + 1L,
+                (int) (n % 7),
+                (int) (n % 11),
+                (int) (n % 13),
+                n * 3L,
+                n * 5L,
+                n * 7L,
+                n * 9L,
+                (int) (n % 100),
+                100,
+                (int) (n % 6000),
+                n % 2 == 0,
+                new DashboardSnapshot.Latency(n, n + 1L, n + 2L, n + 3L, n + 4L),
+                new DashboardSnapshot.Latency(n * 2L, n * 2L + 1L, n * 2L + 2L, n * 2L + 3L, n * 2L + 4L)
+        );
+    }
+}
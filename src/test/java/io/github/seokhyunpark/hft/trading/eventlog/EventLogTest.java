@@ -0,0 +1,138 @@
+package io.github.seokhyunpark.hft.trading.eventlog;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.github.seokhyunpark.hft.trading.config.TradingProperties;
+
+class EventLogTest {
+    @TempDir
+    Path tempDir;
+
+    private final TradingProperties props = new TradingProperties(
+            "BTCFDUSD", "BTC", "FDUSD", "USDT",
+            new BigDecimal("5"), new BigDecimal("0.01"), new BigDecimal("0.00001"),
+            null
+    );
+
+    @Test
+    @DisplayName("기록한 순서대로 필드가 그대로 전달되어야 한다.")
+    void drainInOrder() {
+        EventLog eventLog = new EventLog(8);
+        eventLog.log(EventLogType.NEW_BUY, 1L, 9_000_000L, 60L);
+        eventLog.log(EventLogType.CANCELED_BUY, 1L);
+
+        List<EventLogType> types = new ArrayList<>();
+        List<Long> fields = new ArrayList<>();
+        int drained = eventLog.drain((type, timestampMillis, field0, field1, field2) -> {
+            types.add(type);
+            fields.add(field0);
+            fields.add(field1);
+            fields.add(field2);
+        }, 16);
+
+        assertThat(drained).isEqualTo(2);
+        assertThat(types).containsExactly(EventLogType.NEW_BUY, EventLogType.CANCELED_BUY);
+        assertThat(fields).containsExactly(1L, 9_000_000L, 60L, 1L, 0L, 0L);
+        assertThat(eventLog.getPendingCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("버퍼가 가득 차면 기다리지 않고 버린 뒤 개수를 세고, 비운 자리는 다시 써야 한다.")
+    void dropWhenFull() {
+        EventLog eventLog = new EventLog(4);
+        for (long id = 1; id <= 6; id++) {
+            eventLog.log(EventLogType.CANCELED_SELL, id);
+        }
+        assertThat(eventLog.getDroppedCount()).isEqualTo(2L);
+
+        List<Long> ids = new ArrayList<>();
+        eventLog.drain((type, timestampMillis, field0, field1, field2) -> ids.add(field0), 2);
+        eventLog.log(EventLogType.CANCELED_SELL, 7L);
+        eventLog.drain((type, timestampMillis, field0, field1, field2) -> ids.add(field0), 16);
+
+        assertThat(ids).containsExactly(1L, 2L, 3L, 4L, 7L);
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 기록해도 누락 없이 스레드별 순서대로 꺼내져야 한다.")
+    void multipleProducers() throws Exception {
+        int producers = 4;
+        int perProducer = 10_000;
+        EventLog eventLog = new EventLog(1 << 16);
+
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            long producer = p;
+            Thread thread = new Thread(() -> {
+                for (long i = 0; i < perProducer; i++) {
+                    eventLog.log(EventLogType.RATE_LIMIT_NEW, producer, i);
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        long[] next = new long[producers];
+        boolean[] ordered = {true};
+        int drained = eventLog.drain((type, timestampMillis, field0, field1, field2) -> {
+            int producer = (int) field0;
+            ordered[0] &= next[producer] == field1;
+            next[producer] = field1 + 1;
+        }, Integer.MAX_VALUE);
+
+        assertThat(drained).isEqualTo(producers * perProducer);
+        assertThat(ordered[0]).isTrue();
+        assertThat(eventLog.getDroppedCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("텍스트 포맷은 틱을 가격/수량/금액으로 되돌려 기존 로그 형식을 따라야 한다.")
+    void formatText() {
+        EventLogFormatter formatter = new EventLogFormatter(props);
+
+        assertThat(formatter.format(EventLogType.TRADE_SELL, 42L, 9_000_012L, 60L))
+                .isEqualTo("🟥[TRADE-SELL] ID: 42 | PRICE: 90000.12 | QTY: 0.00060");
+        assertThat(formatter.format(EventLogType.CANCELED_BUY, 7L, 0L, 0L))
+                .isEqualTo("🟧[CANCELED-BUY] ID: 7");
+        assertThat(formatter.format(EventLogType.PNL, 1_500_000L, -20_000L, 120L))
+                .isEqualTo("[PNL] REALIZED: 0.15 | UNREALIZED: -0.002 | INVENTORY: 0.00120");
+    }
+
+    @Test
+    @DisplayName("바이너리 파일에 쓴 레코드는 그대로 다시 읽혀야 한다.")
+    void binaryRoundTrip() throws Exception {
+        Path path = tempDir.resolve("events.bin");
+        try (EventLogFile file = EventLogFile.open(path)) {
+            for (long id = 1; id <= 3_000; id++) {
+                file.onEvent(EventLogType.NEW_SELL, 1_000L + id, id, 9_000_000L + id, 60L);
+            }
+        }
+
+        List<Long> ids = new ArrayList<>();
+        boolean[] intact = {true};
+        long read = EventLogFile.read(path, (type, timestampMillis, field0, field1, field2) -> {
+            ids.add(field0);
+            intact[0] &= type == EventLogType.NEW_SELL
+                    && timestampMillis == 1_000L + field0
+                    && field1 == 9_000_000L + field0
+                    && field2 == 60L;
+        });
+
+        assertThat(read).isEqualTo(3_000L);
+        assertThat(ids.get(0)).isEqualTo(1L);
+        assertThat(ids.get(ids.size() - 1)).isEqualTo(3_000L);
+        assertThat(intact[0]).isTrue();
+    }
+}
@@ -0,0 +1,98 @@
+package io.github.seokhyunpark.hft.trading.journal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class EventJournalTest {
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("기록한 순서대로 재생되어야 한다.")
+    void replayInOrder() throws Exception {
+        try (EventJournal journal = EventJournal.open(tempDir, 16)) {
+            journal.append(JournalEventType.BUY_PLACED, 1L, 9_000_000L, 100L, 0L);
+            journal.append(JournalEventType.BUY_CLOSED, 1L, 0L, 0L, 0L);
+
+            List<JournalEventType> types = new ArrayList<>();
+            List<Long> orderIds = new ArrayList<>();
+            long replayed = journal.replay(0L, entry -> {
+                types.add(entry.type());
+                orderIds.add(entry.orderId());
+            });
+
+            assertThat(replayed).isEqualTo(2L);
+            assertThat(types).containsExactly(JournalEventType.BUY_PLACED, JournalEventType.BUY_CLOSED);
+            assertThat(orderIds).containsExactly(1L, 1L);
+        }
+    }
+
+    @Test
+    @DisplayName("소수 값은 스케일을 유지한 채 복원되어야 한다.")
+    void decimalRoundTrip() throws Exception {
+        try (EventJournal journal = EventJournal.open(tempDir, 16)) {
+            journal.appendDecimals(JournalEventType.POSITION_SYNCED, new BigDecimal("0.00123"), new BigDecimal("110.7"));
+
+            List<BigDecimal> values = new ArrayList<>();
+            journal.replay(0L, entry -> {
+                values.add(entry.firstDecimal());
+                values.add(entry.secondDecimal());
+            });
+
+            assertThat(values).containsExactly(new BigDecimal("0.00123"), new BigDecimal("110.7"));
+        }
+    }
+
+    @Test
+    @DisplayName("세그먼트를 넘어가도 재시작 후 이어서 기록하고 지정한 위치부터 재생해야 한다.")
+    void rollAndRecover() throws Exception {
+        try (EventJournal journal = EventJournal.open(tempDir, 4)) {
+            for (long id = 1; id <= 10; id++) {
+                journal.append(JournalEventType.SELL_PLACED, id, 0L, 0L, 0L);
+            }
+        }
+
+        try (EventJournal journal = EventJournal.open(tempDir, 4)) {
+            assertThat(journal.position()).isEqualTo(10L);
+            journal.append(JournalEventType.SELL_CLOSED, 11L, 0L, 0L, 0L);
+
+            List<Long> orderIds = new ArrayList<>();
+            journal.replay(7L, entry -> orderIds.add(entry.orderId()));
+
+            assertThat(orderIds).containsExactly(8L, 9L, 10L, 11L);
+        }
+    }
+
+    @Test
+    @DisplayName("지정한 위치보다 완전히 앞선 세그먼트만 지우고, 남은 범위는 재시작 후에도 재생되어야 한다.")
+    void deleteSegmentsBefore() throws Exception {
+        try (EventJournal journal = EventJournal.open(tempDir, 4)) {
+            for (long id = 1; id <= 10; id++) {
+                journal.append(JournalEventType.SELL_PLACED, id, 0L, 0L, 0L);
+            }
+            journal.flush();
+
+            assertThat(journal.hasSegmentsBefore(9L)).isTrue();
+            assertThat(journal.deleteSegmentsBefore(9L)).isEqualTo(2);
+            assertThat(journal.hasSegmentsBefore(9L)).isFalse();
+        }
+
+        try (EventJournal journal = EventJournal.open(tempDir, 4)) {
+            assertThat(journal.position()).isEqualTo(10L);
+            assertThat(journal.hasSegmentsBefore(9L)).isFalse();
+
+            List<Long> orderIds = new ArrayList<>();
+            journal.replay(0L, entry -> orderIds.add(entry.orderId()));
+
+            assertThat(orderIds).containsExactly(9L, 10L);
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package io.github.seokhyunpark.hft.trading.manager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.github.seokhyunpark.hft.trading.config.CommissionProperties;
+import io.github.seokhyunpark.hft.trading.config.TradingProperties;
+import io.github.seokhyunpark.hft.trading.dto.FillInfo;
+
+class CommissionManagerTest {
+    private final TradingProperties props = new TradingProperties(
+            "BTCFDUSD", "BTC", "FDUSD", "USDT",
+            new BigDecimal("5"), new BigDecimal("0.01"), new BigDecimal("0.00001"),
+            null
+    );
+    private final CommissionManager commissionManager = new CommissionManager(
+            props, new CommissionProperties(Map.of("BNB", new BigDecimal("600")))
+    );
+
+    @Test
+    @DisplayName("기초 자산 수수료는 매수 체결 수량에서 차감되어야 한다.")
+    void baseCommissionReducesQty() {
+        FillInfo fill = commissionManager.applyBuyFill(
+                new BigDecimal("0.00100"), new BigDecimal("90"), "BTC", "0.00000100"
+        );
+
+        assertThat(fill.netQty()).isEqualByComparingTo("0.000999");
+        assertThat(fill.netUsdValue()).isEqualByComparingTo("90");
+    }
+
+    @Test
+    @DisplayName("견적 자산 수수료는 매수 원가에 더해지고 매도 수령액에서 차감되어야 한다.")
+    void quoteCommissionAdjustsValue() {
+        FillInfo buy = commissionManager.applyBuyFill(
+                new BigDecimal("0.001"), new BigDecimal("90"), "FDUSD", "0.09"
+        );
+        FillInfo sell = commissionManager.applySellFill(
+                new BigDecimal("0.001"), new BigDecimal("91"), "FDUSD", "0.091"
+        );
+
+        assertThat(buy.netUsdValue()).isEqualByComparingTo("90.09");
+        assertThat(sell.netUsdValue()).isEqualByComparingTo("90.909");
+        assertThat(commissionManager.getPaidCommission("FDUSD")).isEqualByComparingTo("0.181");
+    }
+
+    @Test
+    @DisplayName("BNB 수수료는 환산 가격으로 견적 자산으로 바꿔 매수 원가에 더하고 매도 수령액에서 빼야 한다.")
+    void bnbCommissionConvertedToQuote() {
+        FillInfo buy = commissionManager.applyBuyFill(
+                new BigDecimal("0.001"), new BigDecimal("90"), "BNB", "0.0001"
+        );
+        FillInfo sell = commissionManager.applySellFill(
+                new BigDecimal("0.001"), new BigDecimal("91"), "BNB", "0.0001"
+        );
+
+        assertThat(buy.netQty()).isEqualByComparingTo("0.001");
+        assertThat(buy.netUsdValue()).isEqualByComparingTo("90.06");
+        assertThat(sell.netQty()).isEqualByComparingTo("0.001");
+        assertThat(sell.netUsdValue()).isEqualByComparingTo("90.94");
+        assertThat(commissionManager.getPaidCommission("BNB")).isEqualByComparingTo("0.0002");
+    }
+
+    @Test
+    @DisplayName("환산 가격이 없는 수수료 자산은 체결 값을 바꾸지 않고 별도로 집계되어야 한다.")
+    void unratedCommissionTrackedSeparately() {
+        FillInfo fill = commissionManager.applyBuyFill(
+                new BigDecimal("0.001"), new BigDecimal("90"), "ETH", "0.00002"
+        );
+
+        assertThat(fill.netQty()).isEqualByComparingTo("0.001");
+        assertThat(fill.netUsdValue()).isEqualByComparingTo("90");
+        assertThat(commissionManager.getPaidCommission("ETH")).isEqualByComparingTo("0.00002");
+    }
+}
@@ -0,0 +1,45 @@
+package io.github.seokhyunpark.hft.trading.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class LatencyHistogramTest {
+    @Test
+    @DisplayName("기록이 없으면 모든 백분위가 0이어야 한다.")
+    void empty() {
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        assertThat(histogram.getCount()).isZero();
+        assertThat(histogram.percentile(0.99)).isZero();
+    }
+
+    @Test
+    @DisplayName("백분위는 실제 값 이상이면서 상대 오차 1/16 이내여야 한다.")
+    void percentileWithinBucketError() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long micros = 1; micros <= 1_000; micros++) {
+            histogram.record(micros * 1_000L);
+        }
+
+        assertThat(histogram.getCount()).isEqualTo(1_000L);
+        assertThat(histogram.getMax()).isEqualTo(1_000_000L);
+        assertThat(histogram.percentile(0.5)).isBetween(500_000L, 500_000L + 500_000L / 16);
+        assertThat(histogram.percentile(0.99)).isBetween(990_000L, 990_000L + 990_000L / 16);
+        assertThat(histogram.percentile(1.0)).isEqualTo(1_000_000L);
+    }
+
+    @Test
+    @DisplayName("버킷 경계는 빈틈 없이 이어져야 한다.")
+    void contiguousBuckets() {
+        for (long value = 0; value < 100_000; value++) {
+            int index = LatencyHistogram.indexOf(value);
+            assertThat(LatencyHistogram.upperBoundOf(index)).isGreaterThanOrEqualTo(value);
+            if (index > 0) {
+                assertThat(LatencyHistogram.upperBoundOf(index - 1)).isLessThan(value);
+            }
+        }
+        assertThat(LatencyHistogram.upperBoundOf(LatencyHistogram.indexOf(Long.MAX_VALUE))).isEqualTo(Long.MAX_VALUE);
+    }
+}
@@ -0,0 +1,70 @@
+package io.github.seokhyunpark.hft.trading.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class MetricsRegistryTest {
+    private final MetricsRegistry registry = new MetricsRegistry();
+
+    @Test
+    @DisplayName("같은 이름의 샘플은 HELP/TYPE 한 번 아래에 레이블별로 묶여 출력되어야 한다.")
+    void writePrometheusText() {
+        registry.counter("hft_orders_placed_total", "placed", "side", "buy").add(3);
+        registry.counter("hft_orders_placed_total", "placed", "side", "sell").increment();
+        AtomicLong open = new AtomicLong(7);
+        registry.gauge("hft_open_orders", "open", open::get);
+
+        StringBuilder out = new StringBuilder();
+        registry.write(out);
+
+        assertThat(out.toString()).isEqualTo("""
+                # HELP hft_orders_placed_total placed
+                # TYPE hft_orders_placed_total counter
+                hft_orders_placed_total{side="buy"} 3
+                hft_orders_placed_total{side="sell"} 1
+                # HELP hft_open_orders open
+                # TYPE hft_open_orders gauge
+                hft_open_orders 7
+                """);
+    }
+
+    @Test
+    @DisplayName("같은 이름과 레이블이면 같은 카운터를 돌려주고, 게이지는 수집 시점의 값을 읽어야 한다.")
+    void sameCounterAndLiveGauge() {
+        LongAdder first = registry.counter("hft_order_rejects_total", "rejects", "code", "-2010");
+        LongAdder second = registry.counter("hft_order_rejects_total", "rejects", "code", "-2010");
+        AtomicLong weight = new AtomicLong(1);
+        registry.gauge("hft_rate_limit_used_weight", "weight", weight::get);
+
+        first.increment();
+        second.increment();
+        weight.set(42);
+
+        StringBuilder out = new StringBuilder();
+        registry.write(out);
+
+        assertThat(second).isSameAs(first);
+        assertThat(out.toString())
+                .contains("hft_order_rejects_total{code=\"-2010\"} 2\n")
+                .contains("hft_rate_limit_used_weight 42\n");
+    }
+
+    @Test
+    @DisplayName("레이블 값의 따옴표와 역슬래시는 이스케이프되고, 타입이 다른 재등록은 거부되어야 한다.")
+    void escapeAndTypeMismatch() {
+        registry.counter("hft_stream_errors_total", "errors", "stream", "a\"b\\c").increment();
+
+        StringBuilder out = new StringBuilder();
+        registry.write(out);
+
+        assertThat(out.toString()).contains("hft_stream_errors_total{stream=\"a\\\"b\\\\c\"} 1");
+        assertThatThrownBy(() -> registry.gauge("hft_stream_errors_total", "errors", () -> 0L))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,59 @@
+package io.github.seokhyunpark.hft.trading.risk;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class OrderFlowControlTest {
+    private final OrderFlowControl flowControl = new OrderFlowControl();
+
+    @Test
+    @DisplayName("정지 후에는 새 요청이 진입하지 못하고 진행 중 카운트도 늘지 않아야 한다.")
+    void rejectAfterHalt() {
+        assertThat(flowControl.tryEnter()).isTrue();
+        assertThat(flowControl.halt()).isTrue();
+
+        assertThat(flowControl.tryEnter()).isFalse();
+        assertThat(flowControl.getInFlightCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("이미 정지된 상태에서 다시 정지하면 false 를 반환해야 한다.")
+    void haltOnce() {
+        assertThat(flowControl.halt()).isTrue();
+        assertThat(flowControl.halt()).isFalse();
+        assertThat(flowControl.resume()).isTrue();
+        assertThat(flowControl.tryEnter()).isTrue();
+    }
+
+    @Test
+    @DisplayName("진행 중 요청이 끝나면 제한 시간 전에 드레인이 완료되어야 한다.")
+    void drainCompletes() throws Exception {
+        assertThat(flowControl.tryEnter()).isTrue();
+        flowControl.halt();
+
+        Thread worker = new Thread(() -> {
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException ignored) {
+                Thread.currentThread().interrupt();
+            }
+            flowControl.exit();
+        });
+        worker.start();
+
+        assertThat(flowControl.awaitDrain(5_000)).isZero();
+        worker.join();
+    }
+
+    @Test
+    @DisplayName("제한 시간 안에 끝나지 않은 요청 수를 반환해야 한다.")
+    void drainTimeout() {
+        flowControl.tryEnter();
+        flowControl.tryEnter();
+        flowControl.halt();
+
+        assertThat(flowControl.awaitDrain(10)).isEqualTo(2);
+    }
+}
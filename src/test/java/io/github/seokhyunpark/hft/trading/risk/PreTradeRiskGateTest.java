@@ -0,0 +1,128 @@
+package io.github.seokhyunpark.hft.trading.risk;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.github.seokhyunpark.hft.trading.book.QueuePositionTracker;
+import io.github.seokhyunpark.hft.trading.config.StateProperties;
+import io.github.seokhyunpark.hft.trading.config.TradingProperties;
+import io.github.seokhyunpark.hft.trading.eventlog.EventLog;
+import io.github.seokhyunpark.hft.trading.journal.EventJournal;
+import io.github.seokhyunpark.hft.trading.manager.OrderManager;
+import io.github.seokhyunpark.hft.trading.manager.PositionManager;
+import io.github.seokhyunpark.hft.trading.manager.QuoteAssetManager;
+import io.github.seokhyunpark.hft.trading.manager.RateLimitManager;
+
+class PreTradeRiskGateTest {
+    private static final long BID = 9_000_000L;
+    private static final long ASK = 9_000_010L;
+
+    @TempDir
+    Path tempDir;
+
+    private EventJournal journal;
+    private OrderManager orderManager;
+    private PositionManager positionManager;
+    private QuoteAssetManager quoteAssetManager;
+    private PreTradeRiskGate riskGate;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        TradingProperties props = new TradingProperties(
+                "BTCFDUSD", "BTC", "FDUSD", "USDT",
+                new BigDecimal("5"), new BigDecimal("0.01"), new BigDecimal("0.00001"),
+                new TradingProperties.Risk(
+                        10, 1, 5, 3,
+                        new BigDecimal("1000"), new BigDecimal("1.0001"), new BigDecimal("0.000005"),
+                        new BigDecimal("0.001"), new BigDecimal("100"), new BigDecimal("0.002"),
+                        10, 100
+                )
+        );
+        StateProperties stateProps = new StateProperties(tempDir.toString(), 16, 1024);
+
+        EventLog eventLog = new EventLog(1024);
+        journal = EventJournal.open(tempDir.resolve("journal"), 1024);
+        orderManager = new OrderManager(props, stateProps, journal, new QueuePositionTracker());
+        positionManager = new PositionManager(props, journal);
+        quoteAssetManager = new QuoteAssetManager(props, journal, eventLog);
+        riskGate = new PreTradeRiskGate(
+                props, orderManager, positionManager, quoteAssetManager, new RateLimitManager(eventLog));
+
+        quoteAssetManager.syncQuoteBalance(new BigDecimal("1000"));
+        riskGate.updateBook(BID, ASK);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        orderManager.close();
+        journal.close();
+    }
+
+    @Test
+    @DisplayName("모든 한도 안의 주문은 통과해야 한다.")
+    void pass() {
+        assertThat(riskGate.checkBuy(BID + 1, 60L)).isNull();
+    }
+
+    @Test
+    @DisplayName("한도를 넘는 주문은 해당 검사로 거절되고 거절 횟수가 집계되어야 한다.")
+    void rejectAndCount() {
+        assertThat(riskGate.checkBuy(BID + 1, 101L)).isEqualTo(RiskCheck.MAX_ORDER_QTY);
+        assertThat(riskGate.checkBuy(BID + 1, 100L)).isNull();
+        assertThat(riskGate.checkBuy(ASK, 60L)).isEqualTo(RiskCheck.PRICE_BAND);
+        assertThat(riskGate.checkBuy(ASK, 60L)).isEqualTo(RiskCheck.PRICE_BAND);
+
+        assertThat(riskGate.getRejectCount(RiskCheck.MAX_ORDER_QTY)).isEqualTo(1L);
+        assertThat(riskGate.getRejectCount(RiskCheck.PRICE_BAND)).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("잔고와 재고 한도를 넘으면 거절해야 한다.")
+    void balanceAndInventory() {
+        quoteAssetManager.syncQuoteBalance(new BigDecimal("1"));
+        assertThat(riskGate.checkBuy(BID + 1, 60L)).isEqualTo(RiskCheck.QUOTE_BALANCE);
+
+        quoteAssetManager.syncQuoteBalance(new BigDecimal("1000"));
+        orderManager.addSellOrder(1L, ASK + 100, 180L, BID);
+        assertThat(riskGate.checkBuy(BID + 1, 60L)).isEqualTo(RiskCheck.MAX_INVENTORY);
+    }
+
+    @Test
+    @DisplayName("대기 중인 매수 주문만으로 재고 한도에 닿아도 거절해야 한다.")
+    void restingBuysReachInventory() {
+        orderManager.addBuyOrder(2L, BID - 1, 100L);
+        orderManager.addBuyOrder(3L, BID - 2, 80L);
+        assertThat(riskGate.checkBuy(BID + 1, 20L)).isNull();
+        assertThat(riskGate.checkBuy(BID + 1, 21L)).isEqualTo(RiskCheck.MAX_INVENTORY);
+    }
+
+    @Test
+    @DisplayName("매도 전 포지션과 접수 전 매수도 재고 한도에 포함해야 한다.")
+    void positionAndPendingBuysReachInventory() {
+        positionManager.addPosition(new BigDecimal("0.001"), new BigDecimal("90"));
+        orderManager.reservePendingBuyQty(60L);
+        assertThat(riskGate.checkBuy(BID + 1, 41L)).isEqualTo(RiskCheck.MAX_INVENTORY);
+
+        orderManager.releasePendingBuyQty(60L);
+        assertThat(riskGate.checkBuy(BID + 1, 41L)).isNull();
+    }
+
+    @Test
+    @DisplayName("호가가 없거나 같은 가격에 매수 주문이 있으면 거절해야 한다.")
+    void bookAndDuplicate() {
+        riskGate.updateBook(0L, 0L);
+        assertThat(riskGate.checkBuy(BID + 1, 60L)).isEqualTo(RiskCheck.STALE_BOOK);
+
+        riskGate.updateBook(BID, ASK);
+        orderManager.addBuyOrder(2L, BID + 1, 60L);
+        assertThat(riskGate.checkBuy(BID + 1, 60L)).isEqualTo(RiskCheck.DUPLICATE_PRICE);
+    }
+}
@@ -0,0 +1,184 @@
+package io.github.seokhyunpark.hft.trading.state;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.github.seokhyunpark.hft.trading.book.QueuePositionTracker;
+import io.github.seokhyunpark.hft.trading.config.StateProperties;
+import io.github.seokhyunpark.hft.trading.config.TradingProperties;
+import io.github.seokhyunpark.hft.trading.eventlog.EventLog;
+import io.github.seokhyunpark.hft.trading.dto.PositionInfo;
+import io.github.seokhyunpark.hft.trading.journal.EventJournal;
+import io.github.seokhyunpark.hft.trading.journal.JournalEventType;
+import io.github.seokhyunpark.hft.trading.manager.OrderManager;
+import io.github.seokhyunpark.hft.trading.manager.PositionManager;
+import io.github.seokhyunpark.hft.trading.manager.QuoteAssetManager;
+import io.github.seokhyunpark.hft.trading.manager.RateLimitManager;
+
+class StateRecoveryTest {
+    @TempDir
+    Path tempDir;
+
+    private final TradingProperties props = new TradingProperties(
+            "BTCFDUSD", "BTC", "FDUSD", "USDT",
+            new BigDecimal("5"), new BigDecimal("0.01"), new BigDecimal("0.00001"),
+            new TradingProperties.Risk(
+                    10, 3, 5, 3,
+                    new BigDecimal("1000"), new BigDecimal("1.0001"), new BigDecimal("0.000005"),
+                    new BigDecimal("0.001"), new BigDecimal("100"), new BigDecimal("0.002"),
+                    10, 100
+            )
+    );
+
+    // 프로세스 하나 분량의 상태 객체. close 는 종료 스냅샷 없이 내려 크래시를 흉내 낸다.
+    private final class Node implements AutoCloseable {
+        final EventJournal journal;
+        final OrderManager orderManager;
+        final PositionManager positionManager;
+        final StateSnapshotter snapshotter;
+        final StateRecovery recovery;
+
+        Node() throws Exception {
+            StateProperties stateProps = new StateProperties(tempDir.toString(), 16, 1024);
+            EventLog eventLog = new EventLog(64);
+            journal = EventJournal.open(tempDir.resolve("journal"), 1024);
+            orderManager = new OrderManager(props, stateProps, journal, new QueuePositionTracker());
+            positionManager = new PositionManager(props, journal);
+            RateLimitManager rateLimitManager = new RateLimitManager(eventLog);
+            snapshotter = new StateSnapshotter(props, stateProps, orderManager, positionManager, rateLimitManager, journal);
+            snapshotter.open();
+            recovery = new StateRecovery(snapshotter, orderManager, positionManager,
+                    new QuoteAssetManager(props, journal, eventLog), rateLimitManager, journal);
+        }
+
+        @Override
+        public void close() throws Exception {
+            orderManager.close();
+            journal.close();
+        }
+    }
+
+    @Test
+    @DisplayName("스냅샷 뒤의 체결과 주문 종료는 재시작을 두 번 거쳐도 유지돼야 한다.")
+    void snapshotThenJournalTailSurvivesRestarts() throws Exception {
+        try (Node node = new Node()) {
+            node.orderManager.addBuyOrder(1L, 9_000_000L, 100L);
+            node.orderManager.addSellOrder(2L, 9_001_000L, 100L, 9_000_000L);
+            node.positionManager.addPosition(new BigDecimal("0.001"), new BigDecimal("90"));
+            node.snapshotter.enable();
+            node.snapshotter.snapshot();
+
+            // 스냅샷 이후 저널에만 남은 변경
+            node.positionManager.addPosition(new BigDecimal("0.002"), new BigDecimal("180"));
+            node.orderManager.removeSellOrder(2L);
+            node.orderManager.addBuyOrder(3L, 8_999_000L, 200L);
+        }
+
+        for (int restart = 0; restart < 2; restart++) {
+            try (Node node = new Node()) {
+                StateRecovery.Result result = node.recovery.recover();
+
+                assertThat(result.snapshotLoaded()).isTrue();
+                assertThat(node.positionManager.getPosition().totalQty()).isEqualByComparingTo("0.003");
+                assertThat(node.positionManager.getPosition().totalUsdValue()).isEqualByComparingTo("270");
+                assertThat(node.orderManager.containsBuyOrder(1L)).isTrue();
+                assertThat(node.orderManager.containsBuyOrder(3L)).isTrue();
+                assertThat(node.orderManager.containsSellOrder(2L)).isFalse();
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("저널에 남은 부분 체결만큼 매수 주문의 남은 수량이 줄어든 채로 복구돼야 한다.")
+    void partialBuyFillIsReplayed() throws Exception {
+        try (Node node = new Node()) {
+            node.orderManager.addBuyOrder(1L, 9_000_000L, 100L);
+            node.snapshotter.enable();
+            node.snapshotter.snapshot();
+            node.orderManager.fillBuyOrder(1L, 30L);
+        }
+
+        try (Node node = new Node()) {
+            node.recovery.recover();
+
+            assertThat(node.orderManager.getBuyOrder(1L).qtyTicks()).isEqualTo(70L);
+        }
+    }
+
+    @Test
+    @DisplayName("저널에 남은 부분 체결만큼 매도 주문의 남은 수량이 줄어든 채로 복구돼야 한다.")
+    void partialSellFillIsReplayed() throws Exception {
+        try (Node node = new Node()) {
+            node.orderManager.addSellOrder(2L, 9_001_000L, 100L, 9_000_000L);
+            node.snapshotter.enable();
+            node.snapshotter.snapshot();
+            node.orderManager.fillSellOrder(2L, 40L);
+        }
+
+        try (Node node = new Node()) {
+            node.recovery.recover();
+
+            assertThat(node.orderManager.getSellOrder(2L).qtyTicks()).isEqualTo(60L);
+            assertThat(node.orderManager.getSellAvgBuyPriceTicks(2L)).isEqualTo(9_000_000L);
+        }
+    }
+
+    @Test
+    @DisplayName("포지션을 동시에 바꿔도 저널에는 반영된 변경만 반영 순서대로 남아 재시작 후 같은 상태로 복구돼야 한다.")
+    void concurrentPositionUpdatesReplayInCommitOrder() throws Exception {
+        int adders = 3;
+        int adds = 2_000;
+        int pulls = 1_000;
+        PositionInfo expected;
+        try (Node node = new Node()) {
+            node.snapshotter.enable();
+            node.snapshotter.snapshot();
+            long from = node.journal.position();
+
+            Thread[] workers = new Thread[adders + 1];
+            for (int t = 0; t < adders; t++) {
+                workers[t] = new Thread(() -> {
+                    for (int i = 0; i < adds; i++) {
+                        node.positionManager.addPosition(new BigDecimal("0.00001"), BigDecimal.ONE);
+                    }
+                });
+            }
+            // 매도 경로처럼 포지션을 꺼냈다가 되돌린다.
+            workers[adders] = new Thread(() -> {
+                for (int i = 0; i < pulls; i++) {
+                    node.positionManager.restorePosition(node.positionManager.pullPosition());
+                }
+            });
+            for (Thread worker : workers) {
+                worker.start();
+            }
+            for (Thread worker : workers) {
+                worker.join();
+            }
+            expected = node.positionManager.getPosition();
+
+            AtomicLong records = new AtomicLong();
+            node.journal.replay(from, entry -> {
+                if (entry.type() == JournalEventType.POSITION_SYNCED) {
+                    records.incrementAndGet();
+                }
+            });
+            assertThat(records.get()).isEqualTo((long) adders * adds + 2L * pulls);
+        }
+
+        try (Node node = new Node()) {
+            node.recovery.recover();
+
+            assertThat(expected.totalQty()).isEqualByComparingTo("0.06");
+            assertThat(node.positionManager.getPosition().totalQty()).isEqualByComparingTo("0.06");
+            assertThat(node.positionManager.getPosition().totalUsdValue()).isEqualByComparingTo("6000");
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package io.github.seokhyunpark.hft.trading.state;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.github.seokhyunpark.hft.trading.dto.OrderInfo;
+import io.github.seokhyunpark.hft.trading.dto.PositionInfo;
+import io.github.seokhyunpark.hft.trading.dto.StateSnapshot;
+
+class StateSnapshotFileTest {
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("새 파일에서는 스냅샷이 없어야 한다.")
+    void emptyFile() throws Exception {
+        try (StateSnapshotFile file = StateSnapshotFile.open(tempDir.resolve("snapshot.dat"), 8)) {
+            assertThat(file.read()).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("재시작 후에도 마지막으로 기록한 스냅샷을 읽어야 한다.")
+    void readLatestAfterReopen() throws Exception {
+        Path path = tempDir.resolve("snapshot.dat");
+        try (StateSnapshotFile file = StateSnapshotFile.open(path, 8)) {
+            file.write(snapshot(1L, new BigDecimal("0.00100"), 10));
+            file.write(snapshot(2L, new BigDecimal("0.00200"), 20));
+        }
+
+        try (StateSnapshotFile file = StateSnapshotFile.open(path, 8)) {
+            Optional<StateSnapshot> restored = file.read();
+
+            assertThat(restored).isPresent();
+            StateSnapshot snapshot = restored.get();
+            assertThat(snapshot.timestampMillis()).isEqualTo(2L);
+            assertThat(snapshot.buyOrders()).containsExactly(new OrderInfo(11L, 9_000_000L, 100L, 0L));
+            assertThat(snapshot.sellOrders()).containsExactly(new OrderInfo(12L, 9_001_000L, 200L, 9_000_100L));
+            assertThat(snapshot.position().totalQty()).isEqualByComparingTo("0.002");
+            assertThat(snapshot.position().totalUsdValue()).isEqualByComparingTo("180.5");
+            assertThat(snapshot.rateLimitOrderCount()).isEqualTo(20);
+            assertThat(snapshot.rateLimitWindowId()).isEqualTo(42L);
+            assertThat(snapshot.journalPosition()).isEqualTo(7L);
+        }
+    }
+
+    @Test
+    @DisplayName("용량을 넘는 주문은 잘라내고 그 개수를 반환해야 한다.")
+    void dropOverflow() throws Exception {
+        try (StateSnapshotFile file = StateSnapshotFile.open(tempDir.resolve("snapshot.dat"), 1)) {
+            int dropped = file.write(snapshot(1L, BigDecimal.ZERO, 0));
+
+            assertThat(dropped).isEqualTo(1);
+            assertThat(file.read().get().buyOrders()).hasSize(1);
+            assertThat(file.read().get().sellOrders()).isEmpty();
+        }
+    }
+
+    private static StateSnapshot snapshot(long timestamp, BigDecimal qty, int rateLimitCount) {
+        return new StateSnapshot(
+                timestamp,
+                List.of(new OrderInfo(11L, 9_000_000L, 100L, 0L)),
+                List.of(new OrderInfo(12L, 9_001_000L, 200L, 9_000_100L)),
+                new PositionInfo(qty, new BigDecimal("180.5")),
+                rateLimitCount,
+                42L,
+                7L
+        );
+    }
+}
@@ -0,0 +1,78 @@
+package io.github.seokhyunpark.hft.trading.store;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.github.seokhyunpark.hft.trading.dto.OrderInfo;
+
+class CanceledLadderTest {
+    @TempDir
+    Path tempDir;
+
+    @Test
+    @DisplayName("가장 낮은 가격부터 요청한 개수만큼 추출해야 한다.")
+    void pollLowestPrices() throws Exception {
+        try (CanceledLadder ladder = CanceledLadder.open(tempDir.resolve("ladder.dat"), 16)) {
+            ladder.offer(9_000_300L, 5L, 9_000_000L);
+            ladder.offer(9_000_100L, 5L, 8_999_800L);
+            ladder.offer(9_000_200L, 5L, 8_999_900L);
+
+            List<OrderInfo> polled = ladder.poll(2);
+
+            assertThat(polled).hasSize(2);
+            assertThat(polled.get(0).priceTicks()).isEqualTo(9_000_100L);
+            assertThat(polled.get(1).priceTicks()).isEqualTo(9_000_200L);
+            assertThat(ladder.size()).isEqualTo(1);
+        }
+    }
+
+    @Test
+    @DisplayName("같은 가격의 취소 주문은 수량 가중 평균 매수가로 합쳐져야 한다.")
+    void mergeSamePrice() throws Exception {
+        try (CanceledLadder ladder = CanceledLadder.open(tempDir.resolve("ladder.dat"), 16)) {
+            ladder.offer(9_000_000L, 1L, 8_000_000L);
+            ladder.offer(9_000_000L, 3L, 8_400_000L);
+
+            OrderInfo merged = ladder.poll();
+
+            assertThat(merged.qtyTicks()).isEqualTo(4L);
+            assertThat(merged.avgBuyPriceTicks()).isEqualTo(8_300_000L);
+            assertThat(ladder.isEmpty()).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("다시 열었을 때 파일에 남아 있던 가격 레벨이 복구되어야 한다.")
+    void recoverFromFile() throws Exception {
+        Path path = tempDir.resolve("ladder.dat");
+        try (CanceledLadder ladder = CanceledLadder.open(path, 16)) {
+            ladder.offer(9_000_300L, 3L, 9_000_000L);
+            ladder.offer(9_000_100L, 1L, 8_999_800L);
+            ladder.offer(9_000_200L, 2L, 8_999_900L);
+            ladder.poll();
+        }
+
+        try (CanceledLadder ladder = CanceledLadder.open(path, 16)) {
+            assertThat(ladder.size()).isEqualTo(2);
+            assertThat(ladder.poll()).isEqualTo(new OrderInfo(CanceledLadder.NO_ORDER_ID, 9_000_200L, 2L, 8_999_900L));
+            assertThat(ladder.poll()).isEqualTo(new OrderInfo(CanceledLadder.NO_ORDER_ID, 9_000_300L, 3L, 9_000_000L));
+        }
+    }
+
+    @Test
+    @DisplayName("용량이 가득 차면 새로운 가격 레벨을 거부해야 한다.")
+    void rejectWhenFull() throws Exception {
+        try (CanceledLadder ladder = CanceledLadder.open(tempDir.resolve("ladder.dat"), 2)) {
+            assertThat(ladder.offer(1L, 1L, 1L)).isTrue();
+            assertThat(ladder.offer(2L, 1L, 1L)).isTrue();
+            assertThat(ladder.offer(3L, 1L, 1L)).isFalse();
+            assertThat(ladder.offer(2L, 1L, 1L)).isTrue();
+        }
+    }
+}
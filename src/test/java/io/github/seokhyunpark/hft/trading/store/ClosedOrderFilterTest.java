@@ -0,0 +1,61 @@
+package io.github.seokhyunpark.hft.trading.store;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ClosedOrderFilterTest {
+    private static final int WINDOW = 1000;
+
+    private final ClosedOrderFilter filter = new ClosedOrderFilter(WINDOW);
+
+    @Test
+    @DisplayName("추가하지 않은 주문은 조회되지 않아야 한다.")
+    void notContains() {
+        filter.add(1L);
+
+        assertThat(filter.contains(1L)).isTrue();
+        assertThat(filter.contains(2L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("최근 window 개의 종료 주문은 누락 없이 조회되고, 오래된 주문은 제거되어야 한다.")
+    void window() {
+        for (long id = 1; id <= 10_000; id++) {
+            filter.add(id);
+        }
+
+        for (long id = 10_000 - WINDOW + 1; id <= 10_000; id++) {
+            assertThat(filter.contains(id)).isTrue();
+        }
+        assertThat(filter.contains(1L)).isFalse();
+        assertThat(filter.contains(5_000L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 추가해도 최근 window 개의 종료 주문은 모두 조회되어야 한다.")
+    void concurrentAdd() throws InterruptedException {
+        int threads = 4;
+        int perThread = WINDOW / threads;
+        List<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            long base = (long) t * perThread;
+            workers.add(Thread.ofPlatform().start(() -> {
+                for (long id = base + 1; id <= base + perThread; id++) {
+                    filter.add(id);
+                }
+            }));
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+
+        for (long id = 1; id <= (long) threads * perThread; id++) {
+            assertThat(filter.contains(id)).isTrue();
+        }
+    }
+}
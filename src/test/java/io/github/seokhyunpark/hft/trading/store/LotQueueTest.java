@@ -0,0 +1,52 @@
+package io.github.seokhyunpark.hft.trading.store;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class LotQueueTest {
+    @Test
+    @DisplayName("먼저 매수한 lot 부터 원가를 차감해야 한다.")
+    void consumeFifo() {
+        LotQueue lots = new LotQueue(4);
+        lots.add(100L, 10L);
+        lots.add(200L, 10L);
+
+        long cost = lots.consume(15L);
+
+        assertThat(cost).isEqualTo(100L * 10L + 200L * 5L);
+        assertThat(lots.totalQtyTicks()).isEqualTo(5L);
+        assertThat(lots.totalCostTicks()).isEqualTo(200L * 5L);
+    }
+
+    @Test
+    @DisplayName("보유 수량보다 많이 꺼내면 보유분의 원가만 반환해야 한다.")
+    void consumeMoreThanHeld() {
+        LotQueue lots = new LotQueue(4);
+        lots.add(100L, 10L);
+
+        long cost = lots.consume(30L);
+
+        assertThat(cost).isEqualTo(1_000L);
+        assertThat(lots.isEmpty()).isTrue();
+        assertThat(lots.totalQtyTicks()).isZero();
+    }
+
+    @Test
+    @DisplayName("링 버퍼가 감긴 상태에서 확장해도 FIFO 순서를 유지해야 한다.")
+    void growWhileWrapped() {
+        LotQueue lots = new LotQueue(4);
+        for (long price = 1; price <= 4; price++) {
+            lots.add(price, 1L);
+        }
+        lots.consume(2L);
+        for (long price = 5; price <= 10; price++) {
+            lots.add(price, 1L);
+        }
+
+        assertThat(lots.consume(3L)).isEqualTo(3L + 4L + 5L);
+        assertThat(lots.totalQtyTicks()).isEqualTo(5L);
+        assertThat(lots.totalCostTicks()).isEqualTo(6L + 7L + 8L + 9L + 10L);
+    }
+}
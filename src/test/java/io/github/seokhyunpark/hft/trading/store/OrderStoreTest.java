@@ -0,0 +1,95 @@
+package io.github.seokhyunpark.hft.trading.store;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.github.seokhyunpark.hft.trading.dto.OrderInfo;
+
+class OrderStoreTest {
+    private static final long RATE = 5_000L;
+
+    private final OrderStore store = new OrderStore(2);
+
+    @Test
+    @DisplayName("추가한 주문은 조회되고, 삭제한 주문은 조회되지 않아야 한다.")
+    void putAndRemove() {
+        store.put(1L, 9_000_000L, 6L, 0L);
+        store.put(2L, 9_000_100L, 7L, 8_999_000L);
+
+        assertThat(store.size()).isEqualTo(2);
+        assertThat(store.contains(1L)).isTrue();
+        assertThat(store.get(2L)).isEqualTo(new OrderInfo(2L, 9_000_100L, 7L, 8_999_000L));
+
+        assertThat(store.remove(1L)).isTrue();
+        assertThat(store.remove(1L)).isFalse();
+        assertThat(store.contains(1L)).isFalse();
+        assertThat(store.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("체결 수량만큼 남은 수량이 줄고, 제거된 주문은 되살아나지 않아야 한다.")
+    void reduceQty() {
+        store.put(1L, 9_000_000L, 10L, 0L);
+
+        assertThat(store.reduceQty(1L, 4L)).isTrue();
+        assertThat(store.get(1L).qtyTicks()).isEqualTo(6L);
+        assertThat(store.totalQtyTicks()).isEqualTo(6L);
+
+        store.remove(1L);
+        assertThat(store.reduceQty(1L, 1L)).isFalse();
+        assertThat(store.contains(1L)).isFalse();
+        assertThat(store.totalQtyTicks()).isEqualTo(0L);
+    }
+
+    @Test
+    @DisplayName("용량을 넘어서 추가해도 빈 슬롯을 재사용하며 모든 주문을 유지해야 한다.")
+    void growAndReuseSlots() {
+        for (long id = 1; id <= 100; id++) {
+            store.put(id, 1_000L + id, 1L, 0L);
+        }
+        for (long id = 1; id <= 100; id += 2) {
+            store.remove(id);
+        }
+        for (long id = 101; id <= 150; id++) {
+            store.put(id, 1_000L + id, 1L, 0L);
+        }
+
+        List<Long> visited = new ArrayList<>();
+        store.forEach(order -> visited.add(order.orderId()));
+
+        assertThat(store.size()).isEqualTo(100);
+        assertThat(visited).hasSize(100);
+        assertThat(store.contains(2L)).isTrue();
+        assertThat(store.contains(3L)).isFalse();
+        assertThat(store.contains(150L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("가장 오래된 주문과 가장 높은 가격의 주문을 찾아야 한다.")
+    void findExtremes() {
+        store.put(30L, 9_000_000L, 1L, 0L);
+        store.put(10L, 9_000_300L, 1L, 0L);
+        store.put(20L, 9_000_200L, 1L, 0L);
+
+        assertThat(store.getLowestOrderId().orderId()).isEqualTo(10L);
+        assertThat(store.getHighestPrice().orderId()).isEqualTo(10L);
+        assertThat(store.containsPrice(9_000_200L)).isTrue();
+        assertThat(store.containsPrice(9_000_201L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("허용 오차 범위 안의 가격을 가진 주문만 충돌로 판단해야 한다.")
+    void toleranceConflict() {
+        store.put(1L, 9_000_000L, 1L, 8_999_000L);
+
+        assertThat(store.findPriceWithinTolerance(9_000_044L, RATE)).isNotNull();
+        assertThat(store.findPriceWithinTolerance(9_000_045L, RATE)).isNull();
+        assertThat(store.hasAvgBuyPriceWithinTolerance(8_999_010L, RATE)).isTrue();
+        assertThat(store.hasAvgBuyPriceWithinTolerance(9_000_000L, RATE)).isFalse();
+    }
+}
@@ -0,0 +1,95 @@
+package io.github.seokhyunpark.hft.trading.strategy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import io.github.seokhyunpark.hft.trading.config.StrategyProperties;
+import io.github.seokhyunpark.hft.trading.config.TradingProperties;
+
+class AdaptiveTunerTest {
+    private static final long BID = 9_000_000L;
+
+    private final TradingProperties props = new TradingProperties(
+            "BTCFDUSD", "BTC", "FDUSD", "USDT",
+            new BigDecimal("5"), new BigDecimal("0.01"), new BigDecimal("0.00001"),
+            new TradingProperties.Risk(
+                    10, 1, 5, 3,
+                    new BigDecimal("1000"), new BigDecimal("1.0001"), new BigDecimal("0.000005"),
+                    new BigDecimal("0.001"), new BigDecimal("100"), new BigDecimal("0.002"),
+                    10, 100
+            )
+    );
+
+    private final StrategyProperties.Adaptive adaptive = new StrategyProperties.Adaptive(
+            true, 2, new BigDecimal("4"),
+            new BigDecimal("1.00001"), new BigDecimal("1.0005"), new BigDecimal("0.000005"),
+            new BigDecimal("500"), new BigDecimal("5000"),
+            2, 1_000L, new BigDecimal("0.00002")
+    );
+
+    @Test
+    @DisplayName("비활성화되면 설정된 목표 배수와 매수벽 기준을 그대로 사용해야 한다.")
+    void disabled() {
+        AdaptiveTuner tuner = new AdaptiveTuner(props, null);
+        for (int i = 0; i < 100; i++) {
+            tuner.onBook(BID + (i % 2) * 100, BID + (i % 2) * 100 + 1);
+        }
+
+        assertThat(tuner.getTargetMultiplierRate()).isEqualTo(1_000_100_000L);
+        assertThat(tuner.getBuyWallThresholdTicks()).isEqualTo(10_000_000_000L);
+    }
+
+    @Test
+    @DisplayName("조용한 시장에서는 하한까지 배수를 낮추고 매수벽 기준도 하한으로 내려야 한다.")
+    void quietMarket() {
+        AdaptiveTuner tuner = new AdaptiveTuner(props, adaptive);
+        feedQuiet(tuner, 1L, 10);
+
+        assertThat(tuner.getTargetMultiplierRate()).isEqualTo(1_000_010_000L);
+        assertThat(tuner.getBuyWallThresholdTicks()).isEqualTo(5_000_000_000L);
+    }
+
+    @Test
+    @DisplayName("변동성이 커지면 범위 안에서 배수를 높여야 한다.")
+    void volatileMarket() {
+        AdaptiveTuner tuner = new AdaptiveTuner(props, adaptive);
+        for (int i = 0; i < 40; i++) {
+            long bid = BID + (i % 2) * 100;
+            tuner.onBook(bid, bid + 1);
+        }
+
+        // 중간가 변동 100 틱 / 90000 틱 * 4 = 약 0.000044
+        assertThat(tuner.getTargetMultiplierRate()).isBetween(1_000_040_000L, 1_000_045_000L);
+        assertThat(tuner.getVolatilityRate()).isPositive();
+    }
+
+    @Test
+    @DisplayName("체결이 목표보다 많으면 배수를 높이고, 히스테리시스 이내의 변화는 무시해야 한다.")
+    void fillFeedbackWithHysteresis() {
+        AdaptiveTuner tuner = new AdaptiveTuner(props, adaptive);
+        feedQuiet(tuner, 1L, 10);
+
+        tuner.onTimer(1_000L);
+        tuner.onSellFill();
+        tuner.onSellFill();
+        tuner.onSellFill();
+        tuner.onTimer(2_100L);
+        feedQuiet(tuner, 1L, 1);
+
+        // 반 스프레드 55 + 피드백 20000
+        assertThat(tuner.getTargetMultiplierRate()).isEqualTo(1_000_020_055L);
+
+        feedQuiet(tuner, 3L, 10);
+        assertThat(tuner.getTargetMultiplierRate()).isEqualTo(1_000_020_055L);
+    }
+
+    private static void feedQuiet(AdaptiveTuner tuner, long spreadTicks, int count) {
+        for (int i = 0; i < count; i++) {
+            tuner.onBook(BID, BID + spreadTicks);
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package io.github.seokhyunpark.hft.trading.strategy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import io.github.seokhyunpark.hft.exchange.dto.stream.PartialBookDepth;
+import io.github.seokhyunpark.hft.trading.book.BookSignals;
+import io.github.seokhyunpark.hft.trading.book.OrderBook;
+import io.github.seokhyunpark.hft.trading.book.QueuePositionTracker;
+import io.github.seokhyunpark.hft.trading.book.TradeFlow;
+import io.github.seokhyunpark.hft.trading.config.StateProperties;
+import io.github.seokhyunpark.hft.trading.config.StrategyProperties;
+import io.github.seokhyunpark.hft.trading.config.TradingProperties;
+import io.github.seokhyunpark.hft.trading.journal.EventJournal;
+import io.github.seokhyunpark.hft.trading.manager.OrderManager;
+
+class WallFollowStrategyTest {
+    @TempDir
+    Path tempDir;
+
+    private EventJournal journal;
+    private OrderManager orderManager;
+    private OrderBook book;
+    private TradingProperties props;
+    private WallFollowStrategy strategy;
+    private final OrderIntents intents = new OrderIntents(8);
+
+    @BeforeEach
+    void setUp() throws Exception {
+        props = new TradingProperties(
+                "BTCFDUSD", "BTC", "FDUSD", "USDT",
+                new BigDecimal("5"), new BigDecimal("0.01"), new BigDecimal("0.00001"),
+                new TradingProperties.Risk(
+                        10, 3, 5, 3,
+                        new BigDecimal("1000"), new BigDecimal("1.0001"), new BigDecimal("0.000005"),
+                        new BigDecimal("0.001"), new BigDecimal("100"), new BigDecimal("0.002"),
+                        10, 100
+                )
+        );
+        journal = EventJournal.open(tempDir.resolve("journal"), 1024);
+        orderManager = new OrderManager(
+                props,
+                new StateProperties(tempDir.toString(), 16, 1024),
+                journal,
+                new QueuePositionTracker()
+        );
+        book = new OrderBook(props, new BookSignals(5, 5, 10), new TradeFlow(10_000L, 100));
+        strategy = createStrategy(1);
+    }
+
+    private WallFollowStrategy createStrategy(int ladderLevels) {
+        return new WallFollowStrategy(props, new StrategyProperties(
+                WallFollowStrategy.NAME,
+                Map.of(),
+                new StrategyProperties.Signals(5, 5, 10, 10_000L, 100),
+                new StrategyProperties.Ladder(ladderLevels, 10),
+                null
+        ));
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        orderManager.close();
+        journal.close();
+    }
+
+    @Test
+    @DisplayName("가장 큰 매수벽이 기준 금액 이상이면 한 틱 위에 최소 주문 수량으로 매수해야 한다.")
+    void placeAboveWall() {
+        book.update(depth("90000.00", "0.00100000", "89999.00", "0.02000000"));
+
+        strategy.onBookUpdate(book, orderManager, intents);
+
+        assertThat(intents.size()).isEqualTo(1);
+        assertThat(intents.type(0)).isEqualTo(OrderIntents.Type.PLACE_BUY);
+        assertThat(intents.priceTicks(0)).isEqualTo(8_999_901L);
+        // 5 / 89999.01 = 0.0000555... -> 6 틱 (올림)
+        assertThat(intents.qtyTicks(0)).isEqualTo(6L);
+    }
+
+    @Test
+    @DisplayName("매수벽이 기준 금액 미만이면 의도를 기록하지 않아야 한다.")
+    void skipWeakWall() {
+        book.update(depth("90000.00", "0.00100000", "89999.00", "0.01000000"));
+
+        strategy.onBookUpdate(book, orderManager, intents);
+
+        assertThat(intents.size()).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("가격 충돌 범위 안의 기존 매수 주문은 취소 의도가 먼저 기록되어야 한다.")
+    void cancelConflictingBuy() {
+        orderManager.addBuyOrder(7L, 8_999_900L, 6L);
+        book.update(depth("90000.00", "0.00100000", "89999.00", "0.02000000"));
+
+        strategy.onBookUpdate(book, orderManager, intents);
+
+        assertThat(intents.size()).isEqualTo(2);
+        assertThat(intents.type(0)).isEqualTo(OrderIntents.Type.CANCEL_BUY);
+        assertThat(intents.orderId(0)).isEqualTo(7L);
+        assertThat(intents.type(1)).isEqualTo(OrderIntents.Type.PLACE_BUY);
+    }
+
+    @Test
+    @DisplayName("래더 모드에서는 목표 레벨과 다른 매수만 취소하고 빠진 레벨만 신규 주문해야 한다.")
+    void ladderDiff() {
+        strategy = createStrategy(3);
+        orderManager.addBuyOrder(1L, 8_999_891L, 6L);
+        orderManager.addBuyOrder(2L, 8_999_500L, 6L);
+        book.update(depth("90000.00", "0.00100000", "89999.00", "0.02000000"));
+
+        strategy.onBookUpdate(book, orderManager, intents);
+
+        // 목표: 8_999_901, 8_999_891, 8_999_881
+        assertThat(intents.size()).isEqualTo(3);
+        assertThat(intents.type(0)).isEqualTo(OrderIntents.Type.CANCEL_BUY);
+        assertThat(intents.orderId(0)).isEqualTo(2L);
+        assertThat(intents.type(1)).isEqualTo(OrderIntents.Type.PLACE_BUY);
+        assertThat(intents.priceTicks(1)).isEqualTo(8_999_901L);
+        assertThat(intents.type(2)).isEqualTo(OrderIntents.Type.PLACE_BUY);
+        assertThat(intents.priceTicks(2)).isEqualTo(8_999_881L);
+    }
+
+    @Test
+    @DisplayName("목표 레벨에 이미 매수 주문이 있으면 의도를 기록하지 않아야 한다.")
+    void ladderUnchanged() {
+        orderManager.addBuyOrder(1L, 8_999_901L, 6L);
+        book.update(depth("90000.00", "0.00100000", "89999.00", "0.02000000"));
+
+        strategy.onBookUpdate(book, orderManager, intents);
+
+        assertThat(intents.size()).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("매도 가격은 목표가와 최우선 매도호가 한 틱 아래 중 높은 값이어야 한다.")
+    void sellPrice() {
+        book.update(depth("90000.00", "0.00100000", "89999.00", "0.02000000"));
+
+        // 목표가 80000.00 * 1.0001 = 80008.00 < 최우선 매도호가 - 1틱
+        assertThat(strategy.sellPriceTicks(8_000_000L, book)).isEqualTo(9_000_009L);
+        // 목표가 90000.00 * 1.0001 = 90009.00
+        assertThat(strategy.sellPriceTicks(9_000_000L, book)).isEqualTo(9_000_900L);
+    }
+
+    @Test
+    @DisplayName("스프레드가 한 틱이면 매수호가와 맞닿지 않도록 최우선 매도호가에 매도해야 한다.")
+    void sellPriceOnOneTickSpread() {
+        book.update(new PartialBookDepth(
+                1L,
+                List.of(List.of("90000.00", "0.00100000")),
+                List.of(List.of("90000.01", "0.00100000"))
+        ));
+
+        assertThat(strategy.sellPriceTicks(8_000_000L, book)).isEqualTo(9_000_001L);
+    }
+
+    @Test
+    @DisplayName("매도 호가가 없으면 목표가로 매도해야 한다.")
+    void sellPriceWithoutAsks() {
+        assertThat(strategy.sellPriceTicks(8_000_000L, book)).isEqualTo(8_000_800L);
+    }
+
+    private static PartialBookDepth depth(String bid1, String qty1, String bid2, String qty2) {
+        return new PartialBookDepth(
+                1L,
+                List.of(List.of(bid1, qty1), List.of(bid2, qty2)),
+                List.of(List.of("90000.10", "0.00100000"))
+        );
+    }
+}
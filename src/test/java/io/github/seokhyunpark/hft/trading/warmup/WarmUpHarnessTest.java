@@ -0,0 +1,60 @@
+package io.github.seokhyunpark.hft.trading.warmup;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.github.seokhyunpark.hft.trading.config.StateProperties;
+import io.github.seokhyunpark.hft.trading.config.StrategyProperties;
+import io.github.seokhyunpark.hft.trading.config.TradingProperties;
+import io.github.seokhyunpark.hft.trading.strategy.WallFollowStrategy;
+
+class WarmUpHarnessTest {
+    @TempDir
+    Path tempDir;
+
+    private final TradingProperties props = new TradingProperties(
+            "BTCFDUSD", "BTC", "FDUSD", "USDT",
+            new BigDecimal("5"), new BigDecimal("0.01"), new BigDecimal("0.00001"),
+            new TradingProperties.Risk(
+                    10, 3, 5, 3,
+                    new BigDecimal("1000"), new BigDecimal("1.0001"), new BigDecimal("0.000005"),
+                    new BigDecimal("0.001"), new BigDecimal("100"), new BigDecimal("0.002"),
+                    10, 100
+            )
+    );
+    private final StrategyProperties strategyProps = new StrategyProperties(
+            WallFollowStrategy.NAME,
+            Map.of(),
+            new StrategyProperties.Signals(5, 5, 10, 10_000L, 100),
+            new StrategyProperties.Ladder(1, 10),
+            null
+    );
+
+    @Test
+    @DisplayName("합성 호가로 주문이 나가고 그 주문의 실행 보고까지 처리돼야 한다.")
+    void runRoundDrivesOrderPath() throws Exception {
+        Path liveState = tempDir.resolve("live");
+        Path warmUpState = tempDir.resolve("warm-up");
+        Files.createDirectories(warmUpState);
+
+        try (WarmUpHarness harness = new WarmUpHarness(
+                props, strategyProps, new StateProperties(liveState.toString(), 16, 1024),
+                new ObjectMapper(), warmUpState)) {
+            long messages = harness.runRound(2_000);
+
+            assertThat(messages).isGreaterThanOrEqualTo(2_000L);
+            assertThat(harness.getExecutionReportCount()).isGreaterThan(0L);
+        }
+        assertThat(Files.exists(liveState)).isFalse();
+    }
+}